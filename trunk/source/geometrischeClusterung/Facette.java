@@ -1,6 +1,6 @@
 /*
  * Datei          : Facette.java
- * Letzte nderung: August 2002
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Haiyi Peng, Jing Jing Wei, Yang Zhou
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2002
@@ -93,9 +93,11 @@ public class Facette extends Hyperebene {
    *                                        liegt in der Facetten
    * @param referenzpunkt eine auf der unterseite der Facette liegt Punkt
    * @param erzeugendePunkte eine menge von Punkte , die die Facette erzeugen
+   * @param genauigkeit  Die Grenzwerte fr die Genauigkeit der Berechnungen
    */
-  public Facette(Punkt referenzpunkt, ArrayList erzeugendePunkte){
-    super(referenzpunkt, erzeugendePunkte);
+  public Facette(Punkt referenzpunkt, ArrayList erzeugendePunkte,
+                 Genauigkeit genauigkeit){
+    super(referenzpunkt, erzeugendePunkte, genauigkeit);
     this.erzeugendePunkte = (ArrayList)erzeugendePunkte.clone();
     this.angrenzendeFacetten = new HashMap();
     this.oberhalbPunkte = new HashSet();
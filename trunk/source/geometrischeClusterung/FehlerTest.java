@@ -1,6 +1,6 @@
 /*
  * Datei          : FehlerTest.java
- * Letzte nderung: August 2002
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Haiyi Peng, Jing Jing Wei, Yang Zhou
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2002
@@ -71,9 +71,8 @@ public class FehlerTest {
     }
     allePunkte.add(referenzpunkt);
 
-    Genauigkeit.setzeGrenzwerte(allePunkte);
-
-    Facette testFacette = new Facette(referenzpunkt, erzeugendePunkte);
+    Facette testFacette = new Facette(referenzpunkt, erzeugendePunkte,
+                                      new Genauigkeit(allePunkte));
     for(int size=0; size<testFacette.erzeugendePunkte().size(); size++)
            System.out.println("erzeugendePunkt von altFacette " + size + "=" + testFacette.erzeugendePunkte()
                                .get(size));
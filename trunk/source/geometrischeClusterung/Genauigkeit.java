@@ -1,6 +1,6 @@
 /*
  * Datei          : Genauigkeit.java
- * Letzte nderung: August 2002
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Haiyi Peng, Jing Jing Wei, Yang Zhou
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2002
@@ -27,15 +27,14 @@ package geometrischeClusterung;
 import java.util.ArrayList;
 
 /**
- * Beinhaltet Werte und Methoden zur Berechnung der Genauigkit fr alle Klassen
- * das packages. Vor der ersten Benutzung der Grenzwerte mu die Methode
- * <CODE>setzeGrenzwerte(ArrayList)</CODE> oder die Methode
- * <CODE>aktualisiereGrenzwerte(ArrayList)</CODE> aufgerufen werden.<P>
+ * Beinhaltet die Grenzwerte fr die Genauigkeit der Berechnungen zu einer
+ * Punktmenge. Eine Instanz wird zu den Punkten erzeugt, aus denen eine
+ * konvexe Hlle erzeugt werden soll, und an alle Objekte weitergegeben, die
+ * bei der Erzeugung der konvexen Hlle entstehen.<P>
  *
- * Achtung: Da die Grenzwerte in static-Attributen gespeichert werden, sind
- * diese fr mehrere gleichzeitige Berechnungen der konvexen Hlle (in
- * mehreren Threads) von verschiedenen Punktmengen gleich. Fr den Fall ist
- * die Methode <CODE>aktualisiereGrenzwerte(ArrayList)</CODE> zu verwenden.
+ * Da eine Instanz nach ihrer Erzeugung nicht mehr gendert wird, knnen
+ * mehrere konvexe Hllen zu verschiedenen Punktmengen gleichzeitig (in
+ * mehreren Threads) mit jeweils eigenen Grenzwerten erzeugt werden.
  *
  * @author  Dietmar Lippold
  * @author  Haiyi Peng
@@ -44,11 +43,6 @@ import java.util.ArrayList;
  */
 public class Genauigkeit {
 
-  /**
-   * Gibt an, ob die Werte der Grenzwerte berechnet wurden.
-   */
-  private static boolean berechnet = false;
-
   /**
    * Die Genauigkeit der Darstellung einer double-Zahl, d.h. die kleinste
    * Stelle, die noch exakt dargestelt wird.
@@ -64,7 +58,54 @@ public class Genauigkeit {
   /**
    * Der maximale Fehler fr ein Diagonalelement im Gau-Verfahren.
    */
-  private static double maxDiagonalFehler = 0;
+  private final double maxDiagonalFehler;
+
+  /**
+   * Der maximale Fehler bei der Berechnung des Abstands aufgrund der
+   * Wert- und Rechenungenauigkeit.
+   */
+  private final double maxAbstandFehler;
+
+  /**
+   * Erzeugt eine Instanz mit den bergebenen Grenzwerten.
+   *
+   * @param maxDiagonalFehler  Der maximale Fehler fr ein Diagonalelement
+   *                           im Gau-Verfahren.
+   * @param maxAbstandFehler   Der maximale Fehler bei der Berechnung des
+   *                           Abstands.
+   */
+  public Genauigkeit(double maxDiagonalFehler, double maxAbstandFehler) {
+    this.maxDiagonalFehler = maxDiagonalFehler;
+    this.maxAbstandFehler = maxAbstandFehler;
+  }
+
+  /**
+   * Berechnet die Grenzwerte aufgrund der Punkte, aus denen die konvexe
+   * Hlle erzeugt werden soll. Wenn die Liste keinen Punkt enthlt, sind
+   * beide Grenzwerte Null.
+   *
+   * @param punkte  Eine Liste von Elementen vom Typ <CODE>Punkt</CODE>.
+   */
+  public Genauigkeit(ArrayList punkte) {
+    if (punkte.size() > 0) {
+      double maxMaxNorm = maxDiffMaxNorm(punkte);
+      Punkt punkt = (Punkt)punkte.get(0);
+      int dimension = punkt.dimension();
+
+      // Der maximale Fehler fr ein Diagonalelement im Gau-Verfahren ist
+      // das Produkt aus der Wertgenauigkeit und der Dimension der Vektoren.
+      maxDiagonalFehler = WERTGENAUIGKEIT * dimension;
+
+      // Der minimale Abstand wird als zulssige Ungenauigkeit bei der
+      // Abstandsberechnung aus der Wertgenauigkeit, dem Faktor der
+      // zulssigen Ungenauigkeit, der maximalen Gre der Norm der
+      // Differenzvektoren und dem Quadrat ihrer Dimension berechnet.
+      maxAbstandFehler = WERTGENAUIGKEIT * UNGENAUIGKEIT * dimension * maxMaxNorm * maxMaxNorm;
+    } else {
+      maxDiagonalFehler = 0;
+      maxAbstandFehler = 0;
+    }
+  }
 
   /**
    * Der maximale Fehler fr ein Diagonalelement im Gau-Verfahren. Er kann
@@ -73,30 +114,33 @@ public class Genauigkeit {
    * haben mu. Wenn der Wert gleich oder kleiner ist, wird er als Null
    * betrachtet. Bei einem Gleichungssystem ist dieses dann nicht lsbar.
    */
-  public static final double maxDiagonalFehler() {
-    if (! berechnet) {
-      throw new RuntimeException("Grenzwerte wurden noch nicht berechnet.");
-    } else {
-      return maxDiagonalFehler;
-    }
+  public final double maxDiagonalFehler() {
+    return maxDiagonalFehler;
   }
 
   /**
    * Der maximale Fehler bei der Berechnung des Abstands aufgrund der
    * Wert- und Rechenungenauigkeit.
    */
-  private static double maxAbstandFehler = 0;
+  public final double maxAbstandFehler() {
+    return maxAbstandFehler;
+  }
 
   /**
-   * Der maximale Fehler bei der Berechnung des Abstands aufgrund der
-   * Wert- und Rechenungenauigkeit.
+   * Liefert eine Instanz, deren Grenzwerte jeweils das Maximum der Werte
+   * dieser und der bergebenen Instanz sind. Sie ist fr die Berechnungen
+   * zu beiden Punktmengen sicher, wodurch es aber mit hherer
+   * Wahrscheinlichkeit passieren kann, da ein Punkt, der nur etwas
+   * auerhalb der konvexen Hlle liegt, als in der konvexen Hlle enthalten
+   * betrachtet wird.
+   *
+   * @param andere  Eine andere Instanz.
+   *
+   * @return  Eine Instanz mit den greren Grenzwerten.
    */
-  public static final double maxAbstandFehler() {
-    if (! berechnet) {
-      throw new RuntimeException("Grenzwerte wurden noch nicht berechnet.");
-    } else {
-      return maxAbstandFehler;
-    }
+  public Genauigkeit vereinigung(Genauigkeit andere) {
+    return new Genauigkeit(Math.max(maxDiagonalFehler, andere.maxDiagonalFehler),
+                           Math.max(maxAbstandFehler, andere.maxAbstandFehler));
   }
 
   /**
@@ -127,59 +171,4 @@ public class Genauigkeit {
     }
     return maxDiff;
   }
-
-  /**
-   * Berechnet die Grenzwerte aufgrund der Punkte, aus denen die konvexe
-   * Helle erzeugt werden soll.
-   */
-  private static final synchronized void berechneGrenzwerte(ArrayList punkte, boolean neu) {
-    if (punkte.size() > 0) {
-      double maxMaxNorm = maxDiffMaxNorm(punkte);
-      Punkt punkt = (Punkt)punkte.get(0);
-      int dimension = punkt.dimension();
-
-      // Der maximale Fehler fr ein Diagonalelement im Gau-Verfahren ist
-      // das Produkt aus der Wertgenauigkeit und der Dimension der Vektoren.
-      maxDiagonalFehler = WERTGENAUIGKEIT * dimension;
-
-      // Der minimale Abstand wird als zulssige Ungenauigkeit bei der
-      // Abstandsberechnung aus der Wertgenauigkeit, dem Faktor der
-      // zulssigen Ungenauigkeit, der maximalen Gre der Norm der
-      // Differenzvektoren und dem Quadrat ihrer Dimension berechnet.
-      double maxFehler = WERTGENAUIGKEIT * UNGENAUIGKEIT * dimension * maxMaxNorm * maxMaxNorm;
-      if (neu) {
-        maxAbstandFehler = maxFehler;
-      } else {
-        maxAbstandFehler = Math.max(maxAbstandFehler, maxFehler);
-      }
-
-      berechnet = true;
-    }
-  }
-
-  /**
-   * Berechnet die Grenzwerte aufgrund der Punkte, aus denen die konvexe
-   * Helle erzeugt werden soll. Da die Grenzwerte bei jedem Aufruf neu
-   * berechnet und in static-Attributen gespeichert werden, darf diese
-   * Methode nicht verwendet werden, wenn gleichzeitig mehrere konvexe
-   * Hllen fr verschiedene Punktmengen erzeugt werden. In dem Fall ist
-   * die Methode <CODE>aktualisiereGrenzwerte(ArrayList)</CODE> zu
-   * verwenden.
-   */
-  public static final void setzeGrenzwerte(ArrayList punkte) {
-    berechneGrenzwerte(punkte, true);
-  }
-
-  /**
-   * Aktualisiert die Grenzwerte aufgrund der Punkte, aus denen die konvexe
-   * Helle erzeugt werden soll. Dabei wird den Grenzwerte der sicherste
-   * Wert aus allen Aufrufen zugewiesen, wodurch es aber mit hherer
-   * Wahrscheinlichkeit passieren kann, da ein Punkt, der nur etwas
-   * auerhalb der konvexen Hlle liegt, als in der konvexen Hlle enthalten
-   * betrachtet wird.
-   */
-  public static final void aktualisiereGrenzwerte(ArrayList punkte) {
-    berechneGrenzwerte(punkte, false);
-  }
 }
-
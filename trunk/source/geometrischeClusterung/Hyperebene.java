@@ -1,6 +1,6 @@
 /*
  * Datei          : Hyperebene.java
- * Letzte nderung: August 2002
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Haiyi Peng, Jing Jing Wei, Yang Zhou
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2002
@@ -91,11 +91,13 @@ public class Hyperebene extends Unterraum {
    * @param referenzpunkt  Ein Punkt, der unter der Hyperebene liegt
    * @param enthaltenerPunkt  Ein Punkt, der auf der Hyperebene liegt
    * @param erzeugendeVektoren  Die Vektoren, die die Hyperebene erzeugen
+   * @param genauigkeit  Die Grenzwerte fr die Genauigkeit der Berechnungen
    */
   public Hyperebene(Punkt referenzpunkt,
-                    Punkt enthaltenerPunkt, Vektor[] erzeugendeVektoren) {
+                    Punkt enthaltenerPunkt, Vektor[] erzeugendeVektoren,
+                    Genauigkeit genauigkeit) {
 
-    super(enthaltenerPunkt, erzeugendeVektoren);
+    super(enthaltenerPunkt, erzeugendeVektoren, genauigkeit);
 
     int unterDim = dimensionUnterraum();
 
@@ -135,10 +137,12 @@ public class Hyperebene extends Unterraum {
    *                                        liegt in der Hyperebene.
    * @param referenzpunkt  Ein Punkt,der unter auf der Hyperebene liegt
    * @param erzeugendePunkte  Die Punkte,die die Hyperebene erzeugen
+   * @param genauigkeit  Die Grenzwerte fr die Genauigkeit der Berechnungen
    */
-  public Hyperebene(Punkt referenzpunkt, ArrayList erzeugendePunkte) {
+  public Hyperebene(Punkt referenzpunkt, ArrayList erzeugendePunkte,
+                    Genauigkeit genauigkeit) {
 
-    super(erzeugendePunkte);
+    super(erzeugendePunkte, genauigkeit);
 
     int unterDim = dimensionUnterraum();
 
@@ -206,7 +210,7 @@ public class Hyperebene extends Unterraum {
    *          hat,anderenfalls <CODE>false</CODE>.
    */
   public boolean punktLiegtUnterhalb(Punkt punkt) {
-    return (entfernung(punkt) < -1 * Genauigkeit.maxAbstandFehler());
+    return (entfernung(punkt) < -1 * genauigkeit().maxAbstandFehler());
   }
 
   /**
@@ -219,7 +223,7 @@ public class Hyperebene extends Unterraum {
    *          hat, anderenfalls <CODE>false</CODE>.
    */
   public boolean punktLiegtOberhalb(Punkt punkt) {
-    return (entfernung(punkt) > Genauigkeit.maxAbstandFehler());
+    return (entfernung(punkt) > genauigkeit().maxAbstandFehler());
   }
 
   /**
@@ -1,6 +1,6 @@
 /*
  * Datei          : KonvexeHuelle.java
- * Letzte nderung: 07. Juni 2005
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Haiyi Peng, Jing Jing Wei, Yang Zhou
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2002
@@ -58,12 +58,20 @@ public class KonvexeHuelle {
    */
   private ArrayList facetten;
 
+  /**
+   * Die Grenzwerte fr die Genauigkeit der Berechnungen, die aus den Punkten
+   * der konvexen Hlle ermittelt wurden.
+   */
+  private Genauigkeit genauigkeit;
+
   /**
    * Erzeugt eine konvexe Hlle aus der uebergebenen Liste von Punkten.<P>
    *
-   * Da die Grenzwerte in der Klasse Genauigkeit static-Attribute sind, wird
-   * die gesamte Ausfhrung synchronisiert. Der Konstruktor wird also nicht
-   * von zwei Thread gleichzeitig durchlaufen.
+   * Die Grenzwerte fr die Genauigkeit der Berechnungen werden fr jede
+   * konvexe Hlle aus ihren Punkten ermittelt. Daher knnen mehrere konvexe
+   * Hllen gleichzeitig von verschiedenen Threads erzeugt werden, sofern
+   * ihre Punktmengen keine gemeinsamen Objekte vom Typ <CODE>Punkt</CODE>
+   * enthalten, da diese bei der Erzeugung verndert werden.
    *
    * @param punkte  Eine Liste von Elementen vom Typ <CODE>Punkt</CODE>,
    *                zu denen die konvexe Huelle erzeugt werden soll.
@@ -79,9 +87,11 @@ public class KonvexeHuelle {
    * grer sein. Der Unterraum der erzeugten konvexen Hlle stimmt aber
    * mit dem Unterraum der konvexen Hlle aller Punkte berein.<P>
    *
-   * Da die Grenzwerte in der Klasse Genauigkeit static-Attribute sind, wird
-   * die gesamte Ausfhrung synchronisiert. Der Konstruktor wird also nicht
-   * von zwei Thread gleichzeitig durchlaufen.
+   * Die Grenzwerte fr die Genauigkeit der Berechnungen werden fr jede
+   * konvexe Hlle aus ihren Punkten ermittelt. Daher knnen mehrere konvexe
+   * Hllen gleichzeitig von verschiedenen Threads erzeugt werden, sofern
+   * ihre Punktmengen keine gemeinsamen Objekte vom Typ <CODE>Punkt</CODE>
+   * enthalten, da diese bei der Erzeugung verndert werden.
    *
    * @param punkte  Eine Liste von Elementen vom Typ <CODE>Punkt</CODE>,
    *                zu denen die konvexe Huelle erzeugt werden soll.
@@ -91,41 +101,38 @@ public class KonvexeHuelle {
    */
   public KonvexeHuelle(ArrayList punkte, int maxFacettenAnz) {
 
-    synchronized (getClass()) {
-
-      // Erzeugen der passenden Konstanten
-      Genauigkeit.setzeGrenzwerte(punkte);
+    // Erzeugen der passenden Grenzwerte
+    this.genauigkeit = new Genauigkeit(punkte);
 
-      // Erzeugen der initialen Punkte
-      ArrayList initialePunkte = initialePunktMenge(punkte);
+    // Erzeugen der initialen Punkte
+    ArrayList initialePunkte = initialePunktMenge(punkte);
 
-      // Enthaltenen Punkt erzeugen
-      this.enthaltenerPunkt = Punkt.schwerpunkt(initialePunkte);
+    // Enthaltenen Punkt erzeugen
+    this.enthaltenerPunkt = Punkt.schwerpunkt(initialePunkte);
 
-      // Unterraum erzeugen, in dem die konvexe Huelle liegt
-      this.unterraum = new Unterraum(initialePunkte);
+    // Unterraum erzeugen, in dem die konvexe Huelle liegt
+    this.unterraum = new Unterraum(initialePunkte, genauigkeit);
 
-      // Facetten erzeugen
-      if(unterraum.dimensionUnterraum() == 0) {
+    // Facetten erzeugen
+    if(unterraum.dimensionUnterraum() == 0) {
 
-        this.facetten = new ArrayList(0);
+      this.facetten = new ArrayList(0);
 
-      } else if (unterraum.dimensionUnterraum() == 1) {
+    } else if (unterraum.dimensionUnterraum() == 1) {
 
-        int punkteAnz = initialePunkte.size();
-        this.facetten = new ArrayList(punkteAnz);
-        for(int i = 0; i < punkteAnz; i++){
-          ArrayList erzeugendePunkt = new ArrayList(1);
-          erzeugendePunkt.add(initialePunkte.get(i));
-          this.facetten.add(new Facette(enthaltenerPunkt, erzeugendePunkt));
-        }
+      int punkteAnz = initialePunkte.size();
+      this.facetten = new ArrayList(punkteAnz);
+      for(int i = 0; i < punkteAnz; i++){
+        ArrayList erzeugendePunkt = new ArrayList(1);
+        erzeugendePunkt.add(initialePunkte.get(i));
+        this.facetten.add(new Facette(enthaltenerPunkt, erzeugendePunkt, genauigkeit));
+      }
 
-      } else {
+    } else {
 
-        ArrayList initialeFacetten = initialeFacetten(initialePunkte, punkte);
-        this.facetten = erweiterung(initialeFacetten, maxFacettenAnz);
+      ArrayList initialeFacetten = initialeFacetten(initialePunkte, punkte);
+      this.facetten = erweiterung(initialeFacetten, maxFacettenAnz);
 
-      }
     }
   }
 
@@ -149,7 +156,7 @@ public class KonvexeHuelle {
     ArrayList erzeugendePunkte = new ArrayList();
     erzeugendePunkte.add(anfangsPunkt);
 
-    Unterraum extendRaum = new Unterraum(erzeugendePunkte);
+    Unterraum extendRaum = new Unterraum(erzeugendePunkte, genauigkeit);
 
     Punkt weitererPunkt = extendRaum.punktMitMaximalemAbstand(punkte);
 
@@ -186,7 +193,7 @@ public class KonvexeHuelle {
       erzeugendePunkte.remove(i);
 
       // Erzeugen der Facetten aus den Punkten
-      Facette newFacette = new Facette(enthaltenerPunkt,erzeugendePunkte);
+      Facette newFacette = new Facette(enthaltenerPunkt, erzeugendePunkte, genauigkeit);
       initialeFacetten.add(newFacette);
       alleGrenzEbenen.put(delPunkt,newFacette);
     }
@@ -326,7 +333,8 @@ public class KonvexeHuelle {
         neueErzeugendePunkte.add(weitererPunkt);
 
         // Erzeugen einer neuen Facetten
-        neueFacetten[pnr] = new Facette(ersetztePunkte[pnr], neueErzeugendePunkte);
+        neueFacetten[pnr] = new Facette(ersetztePunkte[pnr], neueErzeugendePunkte,
+                                       genauigkeit);
         neueGrenzFacetten.put(ersetztePunkte[pnr], neueFacetten[pnr]);
         alleNewFacetten.add(neueFacetten[pnr]);
       }
@@ -492,6 +500,16 @@ public class KonvexeHuelle {
     return unterraum;
   }
 
+  /**
+   * Liefert die Grenzwerte fr die Genauigkeit der Berechnungen, die aus
+   * den Punkten der konvexen Huelle ermittelt wurden.
+   *
+   * @return  Die Grenzwerte fr die Genauigkeit der Berechnungen.
+   */
+  public Genauigkeit genauigkeit() {
+    return genauigkeit;
+  }
+
   /**
    * Liefert eine Liste von Elementen vom Typ <CODE>Facette</CODE>, die
    * zusammen mit dem Unterraum eine konvexe Hlle fr eine Teilmenge
@@ -524,7 +542,8 @@ public class KonvexeHuelle {
         hyperebenen.add(facette);
       } else {
         // enthaltenerPunkt stellt fr alle Hyperebene einen Referenzpunkt dar
-        hyperebenen.add(new Hyperebene(enthaltenerPunkt, punkt, facette.basis()));
+        hyperebenen.add(new Hyperebene(enthaltenerPunkt, punkt, facette.basis(),
+                                      genauigkeit));
       }
     }
     return hyperebenen;
@@ -1,6 +1,6 @@
 /*
  * Datei          : LinearesGleichungsSystem.java
- * Letzte nderung: August 2002
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Haiyi Peng, Jing Jing Wei, Yang Zhou
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2002
@@ -41,16 +41,17 @@ public class LinearesGleichungsSystem {
    * steht am Ende auf der rechten Seite, d.h. in der Spalte ganz rechts.
    *
    * @param matrix  Eine obere Dreiecksmatrix.
+   * @param genauigkeit  Die Grenzwerte fr die Genauigkeit der Berechnungen.
    * @exception RuntimeException  Wenn es keine Lsung oder unendliche
    *                              Lsungen gibt
    */
-  private static void substitution(double[][] matrix) {
+  private static void substitution(double[][] matrix, Genauigkeit genauigkeit) {
 
     int anz = matrix.length;  // Anzahl der Gleichungen und Variablen
 
     for(int z = anz - 1; z >= 0; z--) {
-      if(Math.abs(matrix[z][z]) <= Genauigkeit.maxDiagonalFehler()) {
-        System.err.println("Wert kleiner als Genauigkeit.minGaussWert(): " + matrix[z][z]);
+      if(Math.abs(matrix[z][z]) <= genauigkeit.maxDiagonalFehler()) {
+        System.err.println("Wert kleiner als genauigkeit.maxDiagonalFehler(): " + matrix[z][z]);
         throw new RuntimeException("Fehler beim Lsen des Gleichungssystems. Wert ist zu klein.");
       }
       for(int s = z + 1; s < anz; s++){
@@ -65,10 +66,11 @@ public class LinearesGleichungsSystem {
    * her.
    *
    * @param matrix  Die erweiterte Matrix, die gelost werden soll.
+   * @param genauigkeit  Die Grenzwerte fr die Genauigkeit der Berechnungen.
    * @exception RuntimeException  Wenn es keine Lsung oder unendlich viele
    *                              Lsungen gibt.
    */
- private static void gaussElimination(double matrix[][]) {
+ private static void gaussElimination(double matrix[][], Genauigkeit genauigkeit) {
 
     int pZeile;
     int n = matrix.length;
@@ -108,8 +110,8 @@ public class LinearesGleichungsSystem {
         zeilensumme[pZeile] = temp;
       }
 
-      if(Math.abs(matrix[i][i]) <= Genauigkeit.maxDiagonalFehler()) {
-        System.err.println("Wert kleiner als Genauigkeit.minGaussWert(): " + matrix[i][i]);
+      if(Math.abs(matrix[i][i]) <= genauigkeit.maxDiagonalFehler()) {
+        System.err.println("Wert kleiner als genauigkeit.maxDiagonalFehler(): " + matrix[i][i]);
         throw new RuntimeException("Fehler beim Lsen des Gleichungssystems. Wert ist zu klein.");
       }
 
@@ -129,9 +131,10 @@ public class LinearesGleichungsSystem {
    * der rechten Seite.
    *
    * @param matrix die gleichungsmatrix
+   * @param genauigkeit  Die Grenzwerte fr die Genauigkeit der Berechnungen.
    * @return return the last column als solution
    */
-  public static double[] loesung(double[][] matrix) {
+  public static double[] loesung(double[][] matrix, Genauigkeit genauigkeit) {
 
     int zeilenAnz = matrix.length;
     int spaltenAnz = matrix[0].length;
@@ -148,10 +151,10 @@ public class LinearesGleichungsSystem {
     }
 
     // Erzeugung einer oberen Dreiecksmatrix
-    gaussElimination(matrixKopie);
+    gaussElimination(matrixKopie, genauigkeit);
 
     // Auflsung der Gleichungen durch iterierte Substitution
-    substitution(matrixKopie);
+    substitution(matrixKopie, genauigkeit);
 
     double[] result = new double[zeilenAnz];
     for(int z = 0; z < zeilenAnz; z++) {
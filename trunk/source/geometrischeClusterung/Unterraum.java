@@ -1,6 +1,6 @@
 /*
  * Datei          : Unterraum.java
- * Letzte nderung: 07. Juni 2005
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Haiyi Peng, Jing Jing Wei, Yang Zhou
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2002
@@ -47,13 +47,19 @@ public class Unterraum {
    */
   private Vektor[] basis;
 
+  /**
+   * Die Grenzwerte fr die Genauigkeit der Berechnungen.
+   */
+  private Genauigkeit genauigkeit;
+
   /**
    * Erzeugt eine neue Instanz aus einem Unterraum und einem neuen Punkt,
    * der nicht im Unterraum enthalten ist, indem die Basis des uebergebenen
    * Unterraums um einen Vektor von einem Punkt des Unterraums zum
    * uebergebenen Punkt ergaenzt wird. Ist der uebergebene Punkt im
    * Unterraum enthalten, wird eine <CODE>SubspaceInclusionException</CODE>
-   * ausgeloesst.
+   * ausgeloesst. Die Grenzwerte der Genauigkeit werden vom uebergebenen
+   * Unterraum uebernommen.
    *
    * @exception SubspaceInclusionException  Der uebergebene Punkt ist im
    *                                        uebergebenen Unterraum enthalten.
@@ -67,6 +73,7 @@ public class Unterraum {
       throw new SubspaceInclusionException("Der neue Punkt ist im Unterraum enthalten");
 
     this.enthaltenerPunkt = unterraum.enthaltenerPunkt();
+    this.genauigkeit = unterraum.genauigkeit;
     int unterDim = unterraum.dimensionUnterraum();
     this.basis = new Vektor[unterDim + 1];
 
@@ -91,14 +98,17 @@ public class Unterraum {
    *
    * @param enthaltenerPunkt  Ein Punkt, der im Unterraum enthalten ist
    * @param erzeugendeVektoren  Die erzeugenden Vektoren des Unterraums
+   * @param genauigkeit  Die Grenzwerte fr die Genauigkeit der Berechnungen
    */
-  public Unterraum(Punkt enthaltenerPunkt, Vektor[] erzeugendeVektoren) {
+  public Unterraum(Punkt enthaltenerPunkt, Vektor[] erzeugendeVektoren,
+                   Genauigkeit genauigkeit) {
 
     int vektorAnz = erzeugendeVektoren.length;
     this.enthaltenerPunkt = enthaltenerPunkt;
+    this.genauigkeit = genauigkeit;
     this.basis = new Vektor[vektorAnz];
 
-    VektorMenge vm = new VektorMenge(erzeugendeVektoren);
+    VektorMenge vm = new VektorMenge(erzeugendeVektoren, genauigkeit);
     if (vektorAnz != vm.numRang())
       throw new LinearlyDependentException("Die bergegebenen Vektoren sind lineal abhngig");
 
@@ -119,11 +129,13 @@ public class Unterraum {
    *                                        Vektoren.
    *
    * @param erzeugendePunkte  Die Punkte, die den Unterraum erzeugen
+   * @param genauigkeit  Die Grenzwerte fr die Genauigkeit der Berechnungen
    */
-  public Unterraum(ArrayList erzeugendePunkte) {
+  public Unterraum(ArrayList erzeugendePunkte, Genauigkeit genauigkeit) {
 
     int punkteAnz = erzeugendePunkte.size();
     this.enthaltenerPunkt = (Punkt)erzeugendePunkte.get(0);
+    this.genauigkeit = genauigkeit;
     this.basis = new Vektor[punkteAnz - 1];
 
     if (punkteAnz > 1) {
@@ -134,13 +146,22 @@ public class Unterraum {
         this.basis[i-1] = diffVektor.multipliziertMitSkalar(1.0 / diffVektor.laenge());
       }
 
-      VektorMenge vm = new VektorMenge(basis);
+      VektorMenge vm = new VektorMenge(basis, genauigkeit);
       if (punkteAnz - 1 != vm.numRang()) {
         throw new LinearlyDependentException("Die bergegebenen Punkte spannen keinen Raum maximaler Dimension auf.");
       }
     }
   }
 
+  /**
+   * Liefert die Grenzwerte fr die Genauigkeit der Berechnungen.
+   *
+   * @return  Die Grenzwerte fr die Genauigkeit der Berechnungen.
+   */
+  public Genauigkeit genauigkeit() {
+    return genauigkeit;
+  }
+
   /**
    * Liefert einen im Unterraum enthaltenen Punkt.
    *
@@ -238,7 +259,7 @@ public class Unterraum {
 
     // Loesen des Gleichungsystems
     double[] loesung = new double[unterDim];
-    loesung = LinearesGleichungsSystem.loesung(glSystem);
+    loesung = LinearesGleichungsSystem.loesung(glSystem, genauigkeit);
 
     // Summenvektor von den mit Faktoren multiplizierten Basis-Vektoren
     // ermitteln
@@ -290,7 +311,7 @@ public class Unterraum {
    *          <CODE>false</CODE>.
    */
   public boolean enthaelt(Punkt punkt) {
-    return (abstand(punkt) <= Genauigkeit.maxAbstandFehler());
+    return (abstand(punkt) <= genauigkeit.maxAbstandFehler());
   }
 
   /**
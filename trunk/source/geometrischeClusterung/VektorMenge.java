@@ -1,6 +1,6 @@
 /*
  * Datei          : VektorMenge.java
- * Letzte nderung: August 2002
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Haiyi Peng, Jing Jing Wei, Yang Zhou
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2002
@@ -46,17 +46,24 @@ public class VektorMenge{
    */
   private int rang;
 
+  /**
+   * Die Grenzwerte fr die Genauigkeit der Berechnungen.
+   */
+  private Genauigkeit genauigkeit;
+
   /**
    * Berechnet zu einer Menge von Vektoren deren Rang. Es wird vorausgesetzt,
    * da alle Vektoren die gleiche Dimension haben.
    *
    * @param vektoren  Eine Menge von Vektoren
+   * @param genauigkeit  Die Grenzwerte fr die Genauigkeit der Berechnungen
    */
-  public VektorMenge(Vektor[] vektoren){
+  public VektorMenge(Vektor[] vektoren, Genauigkeit genauigkeit){
 
     int vektorAnz = vektoren.length;
     int vektorDim = vektoren[0].dimension();
 
+    this.genauigkeit = genauigkeit;
     this.vektorMatrix = new double[vektorAnz][vektorDim];
     for (int i = 0; i < vektorAnz; i++) {
       for (int j = 0; j < vektorDim; j++) {
@@ -72,13 +79,15 @@ public class VektorMenge{
    * vorausgesetzt, da alle Vektoren die gleiche Dimension haben.
    *
    * @param punkteArray  Eine Menge von Punkten
+   * @param genauigkeit  Die Grenzwerte fr die Genauigkeit der Berechnungen
    */
-  public VektorMenge(ArrayList punkteArray){
+  public VektorMenge(ArrayList punkteArray, Genauigkeit genauigkeit){
 
     int punkteAnz = punkteArray.size();
     Punkt ersterPunkt = (Punkt)punkteArray.get(0);
     int punkteDim = ersterPunkt.dimension();
 
+    this.genauigkeit = genauigkeit;
     Vektor[] vektorMenge = new Vektor[punkteAnz - 1];
 
     for(int i = 1; i < punkteAnz; i++){
@@ -180,7 +189,7 @@ public class VektorMenge{
       // Wenn das Diagonalelement betragsmig grer als ein Mindestwert ist,
       // werden die Elemente unter diesem durch Subtraktion von Zeilen
       // eleminiert. Ansonsten wird zur nchsten Zeile bergegangen.
-      if (Math.abs(quadMatrix[i][i]) > Genauigkeit.maxDiagonalFehler()) {
+      if (Math.abs(quadMatrix[i][i]) > genauigkeit.maxDiagonalFehler()) {
 
         // GaussElimination
         for (int z = i + 1; z < quadGroesse; z++) {
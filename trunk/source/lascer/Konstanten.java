@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konstanten.java
- * Letzte nderung: 18. Dezember 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -215,6 +215,13 @@ public class Konstanten {
      */
     public static final float LOKAL_GRENZWERT = 0.0f;
 
+    /**
+     * Gibt an, ob bei einer lokalen Klassifikation die Formel nach Hinzunahme
+     * des Testbeispiels zum Datensatz inkrementell aus der vorhandenen Formel
+     * erzeugt wird. Andernfalls wird sie vollstndig neu erzeugt.
+     */
+    public static final boolean LOKAL_INKREMENTELL = false;
+
     /**
      * Fr eine verteilte Berechnung der Port des Class-File-Servers. Bei
      * einer lokalen Berechnung hat dieser Wert keine Bedeutung.
@@ -443,6 +450,13 @@ public class Konstanten {
      */
     public static final boolean NUR_HALB_REAL_ITV = false;
 
+    /**
+     * Gibt die maximale Anzahl der besten allgemeinen Intervalle an, die zu
+     * einer Funktion erzeugt werden sollen. Der Wert Null steht fr eine
+     * unbeschrnkte Anzahl.
+     */
+    public static final int MAX_ALG_ITV_ANZ = 0;
+
     /**
      * Gibt an, ob Prdikate mittels Hyperebenen zu den real-Attributen
      * erzeugt werden sollen.
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : PraedErzParameter.java
- * Letzte nderung: 19. Dezember 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -96,6 +96,13 @@ public class PraedErzParameter {
      */
     private boolean nurHalbRealItv = Konstanten.NUR_HALB_REAL_ITV;
 
+    /**
+     * Gibt die maximale Anzahl der besten allgemeinen Intervalle an, die zu
+     * einer Funktion erzeugt werden sollen. Der Wert Null steht fr eine
+     * unbeschrnkte Anzahl.
+     */
+    private int maxAlgItvAnz = Konstanten.MAX_ALG_ITV_ANZ;
+
     /**
      * Gibt an, ob Prdikate mittels Hyperebenen zu den real-Attributen
      * erzeugt werden sollen.
@@ -223,6 +230,18 @@ public class PraedErzParameter {
         nurHalbRealItv = wert;
     }
 
+    /**
+     * Legt die maximale Anzahl der besten allgemeinen Intervalle fest, die
+     * zu einer Funktion erzeugt werden sollen. Der Wert Null steht fr eine
+     * unbeschrnkte Anzahl.
+     *
+     * @param wert  Die maximale Anzahl der besten allgemeinen Intervalle, die
+     *              zu einer Funktion erzeugt werden sollen.
+     */
+    void setMaxAlgItvAnz(int wert) {
+        maxAlgItvAnz = wert;
+    }
+
     /**
      * Legt fest, ob Prdikate mittels Hyperebenen zu den real-Attributen
      * erzeugt werden sollen.
@@ -353,6 +372,18 @@ public class PraedErzParameter {
         return nurHalbRealItv;
     }
 
+    /**
+     * Liefert die maximale Anzahl der besten allgemeinen Intervalle, die zu
+     * einer Funktion erzeugt werden sollen. Der Wert Null steht fr eine
+     * unbeschrnkte Anzahl.
+     *
+     * @return  Die maximale Anzahl der besten allgemeinen Intervalle, die zu
+     *          einer Funktion erzeugt werden sollen.
+     */
+    public int getMaxAlgItvAnz() {
+        return maxAlgItvAnz;
+    }
+
     /**
      * Gibt an, ob Prdikate mittels Hyperebenen zu den real-Attributen
      * erzeugt werden sollen.
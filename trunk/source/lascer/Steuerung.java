@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Steuerung.java
- * Letzte nderung: 19. Dezember 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -87,6 +87,7 @@ public class Steuerung {
         Option          boolWertPraedNrOption;
         Option          nomNomOption, intIntOption, realRealOption;
         Option          halbIntItvOption, halbRealItvOption;
+        Option          maxAlgItvAnzOption;
         Option          hypEbenOption;
         Option          ergRealVonIntOption, zusatzKonzErzOption;
         Option          maxHypEbenAnzOption;
@@ -263,6 +264,20 @@ public class Steuerung {
                                              + Konstanten.NUR_HALB_REAL_ITV + ")");
         parser.addOption(halbRealItvOption);
 
+        maxAlgItvAnzOption = new Option("maxAlgItvAnz");
+        maxAlgItvAnzOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        maxAlgItvAnzOption.setParamDescription("integer");
+        maxAlgItvAnzOption.setFullDescription("Gibt die maximale Anzahl der"
+                                              + " besten allgemeinen Intervalle"
+                                              + " an, die zu einer Funktion"
+                                              + " erzeugt werden sollen. Der"
+                                              + " Wert Null steht fr eine"
+                                              + " unbeschrnkte Anzahl."
+                                              + " (default: "
+                                              + Konstanten.MAX_ALG_ITV_ANZ
+                                              + ")");
+        parser.addOption(maxAlgItvAnzOption);
+
         hypEbenOption = new Option("hypEbenPraedErz");
         hypEbenOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
         hypEbenOption.setParamDescription("[ja|nein]");
@@ -662,6 +677,7 @@ public class Steuerung {
         Option            realRealOption;
         Option            halbIntItvOption;
         Option            halbRealItvOption;
+        Option            maxAlgItvAnzOption;
         Option            hypEbenOption;
         Option            ergRealVonIntOption;
         Option            maxHypEbenAnzOption;
@@ -740,6 +756,18 @@ public class Steuerung {
             }
         }
 
+        maxAlgItvAnzOption = parser.getOption("maxAlgItvAnz");
+        if (parser.isEnabled(maxAlgItvAnzOption)) {
+            int maxAlgItvAnz = parser.getParameterAsInt(maxAlgItvAnzOption);
+            if (maxAlgItvAnz >= 0) {
+                praedErzParameter.setMaxAlgItvAnz(maxAlgItvAnz);
+            } else {
+                message = "Wert der Option maxAlgItvAnz unzulssig\n";
+                message += "Zulssig: " + maxAlgItvAnzOption.toString() + "\n";
+                throw (new IllegalArgumentException(message));
+            }
+        }
+
         hypEbenOption = parser.getOption("hypEbenPraedErz");
         if (parser.isEnabled(hypEbenOption)) {
             optionWert = parser.getParameter(hypEbenOption);
@@ -1378,7 +1406,8 @@ public class Steuerung {
 
         // Erzeugung des Erzeugers der Prdikate der int-Funktionen.
         praedErzeuger.add(new IntFunkPraedErzeugung(datensatz, intFunkErzeugung,
-                                                    parameter.getNurHalbIntItv()));
+                                                    parameter.getNurHalbIntItv(),
+                                                    parameter.getMaxAlgItvAnz()));
 
         // Erzeugung der real-Funktionssammlung.
         realZweiFunkErzeugerNamen = Konstanten.REAL_ZWEI_FUNK_ERZEUGER_NAMEN;
@@ -1395,7 +1424,8 @@ public class Steuerung {
 
         // Erzeugung des Erzeugers der Prdikate der real-Funktionen.
         praedErzeuger.add(new RealFunkPraedErzeugung(datensatz, realFunkErzeugung,
-                                                     parameter.getNurHalbRealItv()));
+                                                     parameter.getNurHalbRealItv(),
+                                                     parameter.getMaxAlgItvAnz()));
 
         return praedErzeuger;
     }
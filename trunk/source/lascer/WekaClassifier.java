@@ -1,6 +1,6 @@
 /*
  * Dateiname      : WekaClassifier.java
- * Letzte nderung: 02. Juni 2009
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -47,6 +47,7 @@ import lascer.konzepte.Konzept;
 import lascer.konzepte.KonzeptErzeugungFacade;
 import lascer.konzepte.einzelne.Disjunktion;
 import lascer.konzepte.einzelne.Konjunktion;
+import lascer.konzepte.einzelne.FormelAuswertung;
 
 /**
  * Classifier for Weka by using Lascer.<P>
@@ -96,6 +97,13 @@ public class WekaClassifier extends Classifier implements OptionHandler {
      */
     private Konzept negFormel = null;
 
+    /**
+     * Die bersetzte Formel zur gemeinsamen Klassifikation mehrerer
+     * Instanzen, wenn nur eine Formel vorhanden ist. Sie wird bei der ersten
+     * Verwendung erzeugt und nicht serialisiert.
+     */
+    private transient FormelAuswertung formelAuswertung = null;
+
     /**
      * Die Nummer der Klasse <EM>true</EM> im <CODE>Instances</CODE>-Objekt
      * von Weka. Wird in Methode <CODE>buildClassifier</CODE> gesetzt.
@@ -120,6 +128,7 @@ public class WekaClassifier extends Classifier implements OptionHandler {
         de.unistuttgart.commandline.Option formelnArtOption;
         de.unistuttgart.commandline.Option formelnKlasseOption;
         de.unistuttgart.commandline.Option lokalGrenzwertOption;
+        de.unistuttgart.commandline.Option lokalInkrementellSwitch;
         de.unistuttgart.commandline.Option loggingSwitch;
         int paramCheck;
 
@@ -161,6 +170,19 @@ public class WekaClassifier extends Classifier implements OptionHandler {
                                                 + ")");
         parser.addOption(lokalGrenzwertOption);
 
+        lokalInkrementellSwitch = new de.unistuttgart.commandline.Option("lokalInkrementell");
+        paramCheck = de.unistuttgart.commandline.Option.ZERO_PARAMETERS_CHECK;
+        lokalInkrementellSwitch.setParameterNumberCheck(paramCheck);
+        lokalInkrementellSwitch.setFullDescription("Erzeugt bei einer lokalen"
+                                                   + " Klassifikation die Formel"
+                                                   + " zum Testbeispiel"
+                                                   + " inkrementell aus der"
+                                                   + " vorhandenen Formel."
+                                                   + " (default: "
+                                                   + Konstanten.LOKAL_INKREMENTELL
+                                                   + ")");
+        parser.addOption(lokalInkrementellSwitch);
+
         loggingSwitch = new de.unistuttgart.commandline.Option("logging");
         paramCheck = de.unistuttgart.commandline.Option.ZERO_PARAMETERS_CHECK;
         loggingSwitch.setParameterNumberCheck(paramCheck);
@@ -445,6 +467,7 @@ public class WekaClassifier extends Classifier implements OptionHandler {
         }
 
         // Erzeugung der Datenstze.
+        formelAuswertung = null;
         posDatensatz = ArffDateiEinlesen.beispieldaten(extendedInstances,
                                                        unbekannteWertBsp);
         negDatensatz = posDatensatz.kopie(true);
@@ -509,7 +532,10 @@ public class WekaClassifier extends Classifier implements OptionHandler {
 
     /**
      * Returns a new generated formula after adding the test example to a copy
-     * of the data set.
+     * of the data set. If the incremental mode is enabled, the formula is
+     * adapted from the always generated formula, i.e. only the errors caused
+     * by the test example are repaired. Otherwise the formula is generated
+     * from scratch.
      *
      * @param erzeugungsDatensatz  The data, for which the formula shall be
      *                             generated.
@@ -531,8 +557,12 @@ public class WekaClassifier extends Classifier implements OptionHandler {
                                         Konzept  vorhandeneFormel,
                                         Beispiel testbeispiel,
                                         boolean posTestBeispiel) {
-        Beispieldaten datensatzKopie;
-        String        formelArt;
+        de.unistuttgart.commandline.Option lokalInkrementellSwitch;
+        KonzeptErzeugungFacade konzeptErzeugung;
+        Beispieldaten          datensatzKopie;
+        ArrayList              praedErzeuger;
+        String                 formelArt;
+        boolean                inkrementell;
 
         // Die Art der erzeugten Formel ermitteln.
         if (vorhandeneFormel instanceof Disjunktion) {
@@ -544,11 +574,38 @@ public class WekaClassifier extends Classifier implements OptionHandler {
                                        + vorhandeneFormel);
         }
 
+        inkrementell = Konstanten.LOKAL_INKREMENTELL;
+        lokalInkrementellSwitch = parser.getOption("lokalInkrementell");
+        if (parser.isEnabled(lokalInkrementellSwitch)) {
+            inkrementell = true;
+        }
+
+        // Die Indices der vorhandenen Beispiele bleiben in der Kopie
+        // erhalten, da das Testbeispiel am Ende aufgenommen wird.
         datensatzKopie = erzeugungsDatensatz.kopie(false);
         datensatzKopie.beispielAufnehmen(testbeispiel, posTestBeispiel);
 
-        return generatedFormula(datensatzKopie, praedErzParameter,
-                                konzErzParameter, formelArt);
+        if (!inkrementell) {
+            return generatedFormula(datensatzKopie, praedErzParameter,
+                                    konzErzParameter, formelArt);
+        }
+
+        // Erzeugung der Prdikat-Erzeuger.
+        praedErzeuger = Steuerung.praedikatErzeuger(datensatzKopie,
+                                                    praedErzParameter);
+
+        // Erzeugung des Konzept-Erzeugers.
+        konzeptErzeugung = new KonzeptErzeugungFacade(datensatzKopie,
+                                                      konzErzParameter);
+
+        // Anpassung der vorhandenen Formel.
+        if (formelArt.equals("dis")) {
+            konzeptErzeugung.passeKorrFormelAn(praedErzeuger, vorhandeneFormel);
+            return konzeptErzeugung.besteKorrFormel();
+        } else {
+            konzeptErzeugung.passeVollFormelAn(praedErzeuger, vorhandeneFormel);
+            return konzeptErzeugung.besteVollFormel();
+        }
     }
 
     /**
@@ -971,6 +1028,86 @@ public class WekaClassifier extends Classifier implements OptionHandler {
         }
     }
 
+    /**
+     * Classifies all instances of the given data set at once. The instances
+     * are converted only once into a block of examples. If only one formula
+     * is present and no local classification shall be done, this formula is
+     * compiled once and evaluated for all examples of the block together.
+     * Otherwise every instance is classified by
+     * <CODE>classifyInstance</CODE>.
+     *
+     * @param data  the instances to be classified.
+     *
+     * @return  the classifications of the instances in their order.
+     */
+    public double[] classifyInstances(Instances data) {
+        weka.coreExtended.Instance         extendedInstance;
+        de.unistuttgart.commandline.Option lokalGrenzwertOption;
+        AttributSammlung attributSammlung;
+        Beispieldaten    testDatensatz;
+        Beispiel         testbeispiel;
+        Instance         inst;
+        Konzept          formel;
+        boolean[]        zutreffend;
+        double[]         klassen;
+        double           zutreffendKlasse, nichtZutreffendKlasse;
+        float            lokalGrenzwert;
+
+        klassen = new double[data.numInstances()];
+
+        lokalGrenzwert = Konstanten.LOKAL_GRENZWERT;
+        lokalGrenzwertOption = parser.getOption("lokalGrenzwert");
+        if (parser.isEnabled(lokalGrenzwertOption)) {
+            lokalGrenzwert = parser.getParameterAsFloat(lokalGrenzwertOption);
+        }
+
+        if ((lokalGrenzwert != 0)
+            || ((posFormel == null) == (negFormel == null))) {
+
+            // Die Instanzen einzeln klassifizieren.
+            for (int instNr = 0; instNr < klassen.length; instNr++) {
+                klassen[instNr] = classifyInstance(data.instance(instNr));
+            }
+            return klassen;
+        }
+
+        if (negFormel == null) {
+            formel = posFormel;
+            zutreffendKlasse = wekaClassTrue;
+            nichtZutreffendKlasse = wekaClassFalse;
+        } else {
+            formel = negFormel;
+            zutreffendKlasse = wekaClassFalse;
+            nichtZutreffendKlasse = wekaClassTrue;
+        }
+        if (formelAuswertung == null) {
+            formelAuswertung = new FormelAuswertung(formel);
+        }
+
+        // Die Instanzen als positive Beispiele in einen Datensatz aufnehmen.
+        attributSammlung = posDatensatz.attributSammlung();
+        testDatensatz = new Beispieldaten(posDatensatz.name(), attributSammlung);
+        for (int instNr = 0; instNr < klassen.length; instNr++) {
+            inst = data.instance(instNr);
+            extendedInstance = new weka.coreExtended.BasicInstance(inst.weight(),
+                                                                   inst.toDoubleArray());
+            testbeispiel = ArffDateiEinlesen.instanzBeispiel(extendedInstance,
+                                                             attributListe,
+                                                             attributSammlung);
+            testDatensatz.beispielAufnehmen(testbeispiel, true);
+        }
+
+        zutreffend = formelAuswertung.trifftZu(testDatensatz);
+        for (int instNr = 0; instNr < klassen.length; instNr++) {
+            if (zutreffend[instNr]) {
+                klassen[instNr] = zutreffendKlasse;
+            } else {
+                klassen[instNr] = nichtZutreffendKlasse;
+            }
+        }
+        return klassen;
+    }
+
     /**
      * Returns a description of the classifier.
      *
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : IntFunktion.java
- * Letzte nderung: 09. Juni 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -58,8 +58,9 @@ public interface IntFunktion {
      * @param beispieldaten  Die Beispieldaten, fr deren positive Beispiele
      *                       die Werte der Funktion ermittelt werden sollen.
      *
-     * @return  Ein neu erzeugtes Array mit den Werten, die sich bei Anwendung
-     *          der Funktion auf die positiven Beispiele ergeben.
+     * @return  Ein Array mit den Werten, die sich bei Anwendung der Funktion
+     *          auf die positiven Beispiele ergeben. Das Array darf nicht
+     *          verndert werden.
      */
     public int[] posBspWerte(Beispieldaten beispieldaten);
 
@@ -70,8 +71,9 @@ public interface IntFunktion {
      * @param beispieldaten  Die Beispieldaten, fr deren negativen Beispiele
      *                       die Werte der Funktion ermittelt werden sollen.
      *
-     * @return  Ein neu erzeugtes Array mit den Werten, die sich bei Anwendung
-     *          der Funktion auf die negativen Beispiele ergeben.
+     * @return  Ein Array mit den Werten, die sich bei Anwendung der Funktion
+     *          auf die negativen Beispiele ergeben. Das Array darf nicht
+     *          verndert werden.
      */
     public int[] negBspWerte(Beispieldaten beispieldaten);
 
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : AbstEinStellIntFunk.java
- * Letzte nderung: 12. Juni 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -133,6 +133,38 @@ public abstract class AbstEinStellIntFunk implements EinStellIntFunk {
      */
     protected abstract int funkWert(int funkWert);
 
+    /**
+     * Liefert den hashCode dieser Funktion.
+     *
+     * @return  Den hashCode dieser Funktion.
+     */
+    public int hashCode() {
+        return (getClass().hashCode() + 31 * argFunktion.hashCode());
+    }
+
+    /**
+     * Ermittelt, ob das bergebene Objekt gleich ist zu dieser Funktion. Das
+     * ist der Fall, wenn es eine Funktion der gleichen Klasse mit gleicher
+     * Argumentfunktion ist.
+     *
+     * @param objekt  Das Objekt, das mit dieser Funktion verglichen werden
+     *                soll.
+     *
+     * @return  <CODE>true</CODE>, wenn das bergebene Objekt gleich ist zu
+     *          dieser Funktion, sonst <CODE>false</CODE>.
+     */
+    public boolean equals(Object objekt) {
+
+        if (objekt == this) {
+            return true;
+        }
+        if ((objekt == null) || (objekt.getClass() != getClass())) {
+            return false;
+        }
+
+        return argFunktion.equals(((AbstEinStellIntFunk) objekt).argFunktion);
+    }
+
     /**
      * Liefert den Wert der Funktion fr das bergebene Beispiel.
      *
@@ -188,16 +220,23 @@ public abstract class AbstEinStellIntFunk implements EinStellIntFunk {
      * @param beispieldaten  Die Beispieldaten, fr deren positive Beispiele
      *                       die Werte der Funktion ermittelt werden sollen.
      *
-     * @return  Ein neu erzeugtes Array mit den Werten, die sich bei Anwendung
-     *          der Funktion auf die positiven Beispiele ergeben.
+     * @return  Ein Array mit den Werten, die sich bei Anwendung der Funktion
+     *          auf die positiven Beispiele ergeben. Das Array wird in den
+     *          Beispieldaten gespeichert und darf nicht verndert werden.
      */
     public int[] posBspWerte(Beispieldaten beispieldaten) {
         int[] argFunkWerte;
         int[] ergebnisWerte;
 
+        ergebnisWerte = (int[]) beispieldaten.gespeicherteWerte(this, true);
+        if (ergebnisWerte != null) {
+            return ergebnisWerte;
+        }
+
         argFunkWerte = argFunktion.posBspWerte(beispieldaten);
         ergebnisWerte = funkWerte(argFunkWerte);
         korrekturUnbekWerte(ergebnisWerte, argFunkWerte);
+        beispieldaten.werteSpeichern(this, true, ergebnisWerte);
 
         return ergebnisWerte;
     }
@@ -209,16 +248,23 @@ public abstract class AbstEinStellIntFunk implements EinStellIntFunk {
      * @param beispieldaten  Die Beispieldaten, fr deren negative Beispiele
      *                       die Werte der Funktion ermittelt werden sollen.
      *
-     * @return  Ein neu erzeugtes Array mit den Werten, die sich bei Anwendung
-     *          der Funktion auf die negativen Beispiele ergeben.
+     * @return  Ein Array mit den Werten, die sich bei Anwendung der Funktion
+     *          auf die negativen Beispiele ergeben. Das Array wird in den
+     *          Beispieldaten gespeichert und darf nicht verndert werden.
      */
     public int[] negBspWerte(Beispieldaten beispieldaten) {
         int[] argFunkWerte;
         int[] ergebnisWerte;
 
+        ergebnisWerte = (int[]) beispieldaten.gespeicherteWerte(this, false);
+        if (ergebnisWerte != null) {
+            return ergebnisWerte;
+        }
+
         argFunkWerte = argFunktion.negBspWerte(beispieldaten);
         ergebnisWerte = funkWerte(argFunkWerte);
         korrekturUnbekWerte(ergebnisWerte, argFunkWerte);
+        beispieldaten.werteSpeichern(this, false, ergebnisWerte);
 
         return ergebnisWerte;
     }
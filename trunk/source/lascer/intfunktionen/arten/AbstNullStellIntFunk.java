@@ -1,6 +1,6 @@
 /*
  * Dateiname      : AbstNullStellIntFunk.java
- * Letzte nderung: 09. Juni 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -106,6 +106,29 @@ public abstract class AbstNullStellIntFunk implements NullStellIntFunk {
      */
     protected abstract int funkWert();
 
+    /**
+     * Liefert den hashCode dieser Funktion.
+     *
+     * @return  Den hashCode dieser Funktion.
+     */
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    /**
+     * Ermittelt, ob das bergebene Objekt gleich ist zu dieser Funktion. Das
+     * ist der Fall, wenn es eine Funktion der gleichen Klasse ist.
+     *
+     * @param objekt  Das Objekt, das mit dieser Funktion verglichen werden
+     *                soll.
+     *
+     * @return  <CODE>true</CODE>, wenn das bergebene Objekt gleich ist zu
+     *          dieser Funktion, sonst <CODE>false</CODE>.
+     */
+    public boolean equals(Object objekt) {
+        return ((objekt != null) && (objekt.getClass() == getClass()));
+    }
+
     /**
      * Liefert den Wert der Funktion fr das bergebene Beispiel.
      *
@@ -125,20 +148,27 @@ public abstract class AbstNullStellIntFunk implements NullStellIntFunk {
      * @param beispieldaten  Die Beispieldaten, fr deren positive Beispiele
      *                       die Werte der Funktion ermittelt werden sollen.
      *
-     * @return  Ein neu erzeugtes Array mit den Werten der Funktion fr die
-     *          positiven Beispiele.
+     * @return  Ein Array mit den Werten der Funktion fr die positiven
+     *          Beispiele. Das Array wird in den Beispieldaten gespeichert und
+     *          darf nicht verndert werden.
      */
     public int[] posBspWerte(Beispieldaten beispieldaten) {
         int[] funkWerte;
         int   funkWert;
         int   funkWertAnz;
 
+        funkWerte = (int[]) beispieldaten.gespeicherteWerte(this, true);
+        if (funkWerte != null) {
+            return funkWerte;
+        }
+
         funkWert = funkWert();
         funkWertAnz = beispieldaten.posBspAnz();
         funkWerte = new int[funkWertAnz];
         for (int i = 0; i < funkWertAnz; i++) {
             funkWerte[i] = funkWert;
         }
+        beispieldaten.werteSpeichern(this, true, funkWerte);
         return funkWerte;
     }
 
@@ -149,20 +179,27 @@ public abstract class AbstNullStellIntFunk implements NullStellIntFunk {
      * @param beispieldaten  Die Beispieldaten, fr deren negative Beispiele
      *                       die Werte der Funktion ermittelt werden sollen.
      *
-     * @return  Ein neu erzeugtes Array mit den Werten der Funktion fr die
-     *          negativen Beispiele.
+     * @return  Ein Array mit den Werten der Funktion fr die negativen
+     *          Beispiele. Das Array wird in den Beispieldaten gespeichert und
+     *          darf nicht verndert werden.
      */
     public int[] negBspWerte(Beispieldaten beispieldaten) {
         int[] funkWerte;
         int   funkWert;
         int   funkWertAnz;
 
+        funkWerte = (int[]) beispieldaten.gespeicherteWerte(this, false);
+        if (funkWerte != null) {
+            return funkWerte;
+        }
+
         funkWert = funkWert();
         funkWertAnz = beispieldaten.negBspAnz();
         funkWerte = new int[funkWertAnz];
         for (int i = 0; i < funkWertAnz; i++) {
             funkWerte[i] = funkWert;
         }
+        beispieldaten.werteSpeichern(this, false, funkWerte);
         return funkWerte;
     }
 
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : IntProjektFunk.java
- * Letzte nderung: 09. September 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -132,8 +132,9 @@ public class IntProjektFunk implements ErzeugbareIntFunk, Serializable {
      * @param beispieldaten  Die Beispieldaten, fr deren positive Beispiele
      *                       die Werte der Funktion ermittelt werden sollen.
      *
-     * @return  Ein neu erzeugtes Array mit den Werten, die sich bei Anwendung
-     *          der Funktion auf die positiven Beispiele ergeben.
+     * @return  Ein Array mit den Werten, die sich bei Anwendung der Funktion
+     *          auf die positiven Beispiele ergeben. Das Array wird von den
+     *          Beispieldaten verwendet und darf nicht verndert werden.
      */
     public int[] posBspWerte(Beispieldaten beispieldaten) {
         return beispieldaten.getIntWerte(attribut, true);
@@ -146,8 +147,9 @@ public class IntProjektFunk implements ErzeugbareIntFunk, Serializable {
      * @param beispieldaten  Die Beispieldaten, fr deren negativen Beispiele
      *                       die Werte der Funktion ermittelt werden sollen.
      *
-     * @return  Ein neu erzeugtes Array mit den Werten, die sich bei Anwendung
-     *          der Funktion auf die negativen Beispiele ergeben.
+     * @return  Ein Array mit den Werten, die sich bei Anwendung der Funktion
+     *          auf die negativen Beispiele ergeben. Das Array wird von den
+     *          Beispieldaten verwendet und darf nicht verndert werden.
      */
     public int[] negBspWerte(Beispieldaten beispieldaten) {
         return beispieldaten.getIntWerte(attribut, false);
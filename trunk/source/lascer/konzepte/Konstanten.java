@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konstanten.java
- * Letzte nderung: 06. November 2005
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2005
  *
@@ -52,5 +52,19 @@ public class Konstanten {
      * Grenzwert, bis zu dem der Kostenfaktor erhht wird.
      */
     public static final float KOSTEN_FAKTOR_GRENZE = 30.0f;
+
+    /**
+     * Die maximale Anzahl der Threads, in denen die Literale zu den
+     * Prdikaten erzeugt werden. Beim Wert Null werden sie im aufrufenden
+     * Thread erzeugt.
+     */
+    public static final int LITERAL_ERZ_THREAD_ANZ
+        = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Die maximale Anzahl der Literale, die ein Thread zur Erzeugung von
+     * Literalen im Voraus erzeugt.
+     */
+    public static final int LITERAL_PUFFER_GROESSE = 1000;
 }
 
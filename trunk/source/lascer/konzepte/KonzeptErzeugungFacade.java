@@ -1,6 +1,6 @@
 /*
  * Dateiname      : KonzeptErzeugungFacade.java
- * Letzte nderung: 21. November 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -39,11 +39,11 @@ import de.unistuttgart.architeuthis.facade.ProblemComputation;
 import de.unistuttgart.architeuthis.remotestore.hashsetnew.RemoteHashSetNewGenerator;
 
 import lascer.KonzErzParameter;
-import lascer.praedikate.Praedikat;
 import lascer.praedikate.PraedikatErzeugung;
 import lascer.problemdaten.Beispieldaten;
 import lascer.konzepte.einzelne.Disjunktion;
 import lascer.konzepte.einzelne.Konjunktion;
+import lascer.konzepte.einzelne.Literal;
 
 /**
  * Erzeugt aus Prdikaten der verschiedenen Arten Konzepte. Die verschiedenen
@@ -540,14 +540,13 @@ public class KonzeptErzeugungFacade {
                                           boolean korrKonzErzeugung) {
         KonzeptErzeugungTeilprob konzErz;
         KonzeptVerwaltung  neueKonzVerwalt;
-        PraedikatErzeugung erzeuger;
+        LiteralStrom       literalStrom;
         KonzeptOptimierung konzOpt;
         HashSet            vorhandeneSpezKonz;
         HashSet            vorhandeneAlgKonz;
         ArrayList          optPraedErzeuger;
-        Iterator           praedIter;
         Iterator           konzIter;
-        Praedikat          praedikat;
+        Literal            literal;
         KombiKonzept       erzeugtesKonzept;
         Konzept            allgemeinesKonzept;
         float              kostenFaktor;
@@ -591,46 +590,17 @@ public class KonzeptErzeugungFacade {
             // enthlt wahrscheinlich nicht alle erzeugten allgemeinen
             // Konzepte. Daher die allgemeinen Konzepte neu aus den Prdikaten
             // erzeugen.
-            for (int praedErzNr = 0;
-                 praedErzNr < praedikatErzeuger.size();
-                 praedErzNr++) {
-                erzeuger = (PraedikatErzeugung) praedikatErzeuger.get(praedErzNr);
-
-                if (korrKonzErzeugung) {
-                    praedIter = erzeuger.posVollPraedIter();
-                } else {
-                    praedIter = erzeuger.posKorrPraedIter();
-                }
-                while (praedIter.hasNext()) {
-                    praedikat = (Praedikat) praedIter.next();
-                    neueKonzVerwalt.praedikatAufnehmen(praedikat, false,
-                                                       posBspIndex, negBspIndex);
-                }
-
-                if (korrKonzErzeugung) {
-                    praedIter = erzeuger.negKorrPraedIter();
-                } else {
-                    praedIter = erzeuger.negVollPraedIter();
-                }
-                while (praedIter.hasNext()) {
-                    praedikat = (Praedikat) praedIter.next();
-                    neueKonzVerwalt.praedikatAufnehmen(praedikat, true,
-                                                       posBspIndex, negBspIndex);
-                }
-
-                praedIter = erzeuger.posAlgPraedIter();
-                while (praedIter.hasNext()) {
-                    praedikat = (Praedikat) praedIter.next();
-                    neueKonzVerwalt.praedikatAufnehmen(praedikat, false,
-                                                       posBspIndex, negBspIndex);
-                }
-
-                praedIter = erzeuger.negAlgPraedIter();
-                while (praedIter.hasNext()) {
-                    praedikat = (Praedikat) praedIter.next();
-                    neueKonzVerwalt.praedikatAufnehmen(praedikat, true,
-                                                       posBspIndex, negBspIndex);
+            literalStrom = new LiteralStrom(praedikatErzeuger, beispieldaten,
+                                            !korrKonzErzeugung, true,
+                                            negBoolPraedErz);
+            try {
+                while (literalStrom.hasNext()) {
+                    literal = (Literal) literalStrom.next();
+                    neueKonzVerwalt.konzeptAufnehmen(literal,
+                                                     posBspIndex, negBspIndex);
                 }
+            } finally {
+                literalStrom.beenden();
             }
         } else {
             // Die Menge der vorhandenen allgemeinen Konzepte enthlt alle
@@ -681,9 +651,8 @@ public class KonzeptErzeugungFacade {
      */
     private void erzPraedKorrKonzepte(ArrayList praedikatErzeuger,
                                       KorrKonzeptVerwaltung konzeptVerwaltung) {
-        PraedikatErzeugung erzeuger;
-        Iterator     praedIter;
-        Praedikat    praedikat;
+        LiteralStrom literalStrom;
+        Literal      literal;
         KombiKonzept besteFormel, letzteFormel;
         float        kostenFaktor;
         int          aeussereNochAnz;
@@ -717,22 +686,15 @@ public class KonzeptErzeugungFacade {
                 // Die Menge der vorhandenen korrekten Konzepte enthlt
                 // wahrscheinlich nicht alle erzeugbaren korrekten Konzepte.
                 LOGGER.log(Level.CONFIG, "Erzeugung korrekter Prdikate");
-                for (int praedErzNr = 0;
-                     praedErzNr < praedikatErzeuger.size();
-                     praedErzNr++) {
-                    erzeuger = (PraedikatErzeugung) praedikatErzeuger.get(praedErzNr);
-
-                    praedIter = erzeuger.posKorrPraedIter();
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, false);
-                    }
-
-                    praedIter = erzeuger.negVollPraedIter();
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, true);
+                literalStrom = new LiteralStrom(praedikatErzeuger, beispieldaten,
+                                                true, false, negBoolPraedErz);
+                try {
+                    while (literalStrom.hasNext()) {
+                        literal = (Literal) literalStrom.next();
+                        aufnahme |= konzeptVerwaltung.konzeptAufnehmen(literal);
                     }
+                } finally {
+                    literalStrom.beenden();
                 }
                 LOGGER.log(Level.CONFIG, "Prdikat aufgenommen: " + aufnahme);
             } else {
@@ -954,9 +916,8 @@ public class KonzeptErzeugungFacade {
      */
     private void erzPraedVollKonzepte(ArrayList praedikatErzeuger,
                                       VollKonzeptVerwaltung konzeptVerwaltung) {
-        PraedikatErzeugung erzeuger;
-        Iterator     praedIter;
-        Praedikat    praedikat;
+        LiteralStrom literalStrom;
+        Literal      literal;
         KombiKonzept besteFormel, letzteFormel;
         float        kostenFaktor;
         int          aeussereNochAnz;
@@ -991,22 +952,15 @@ public class KonzeptErzeugungFacade {
                 // wahrscheinlich nicht alle erzeugbaren vollstndigen
                 // Konzepte.
                 LOGGER.log(Level.CONFIG, "Erzeugung vollstndiger Prdikate");
-                for (int praedErzNr = 0;
-                     praedErzNr < praedikatErzeuger.size();
-                     praedErzNr++) {
-                    erzeuger = (PraedikatErzeugung) praedikatErzeuger.get(praedErzNr);
-
-                    praedIter = erzeuger.posVollPraedIter();
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, false);
-                    }
-
-                    praedIter = erzeuger.negKorrPraedIter();
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, true);
+                literalStrom = new LiteralStrom(praedikatErzeuger, beispieldaten,
+                                                false, false, negBoolPraedErz);
+                try {
+                    while (literalStrom.hasNext()) {
+                        literal = (Literal) literalStrom.next();
+                        aufnahme |= konzeptVerwaltung.konzeptAufnehmen(literal);
                     }
+                } finally {
+                    literalStrom.beenden();
                 }
                 LOGGER.log(Level.CONFIG, "Prdikat aufgenommen: " + aufnahme);
             } else {
@@ -1266,6 +1220,254 @@ public class KonzeptErzeugungFacade {
         erzeugeKonzepte(praedErzeuger);
     }
 
+    /**
+     * Liefert ein Konzept zu den Beispieldaten dieser Instanz, das die
+     * gleiche Struktur wie das bergebene Konzept hat. Die Literale werden
+     * dazu aus ihren Prdikaten neu erzeugt.
+     *
+     * @param konzept  Das zu bertragende Konzept, das zu anderen
+     *                 Beispieldaten erzeugt wurde.
+     *
+     * @return  Das auf die Beispieldaten dieser Instanz bertragene Konzept.
+     *
+     * @throws IllegalArgumentException  Wenn die Art des Konzepts oder eines
+     *                                   seiner Teilkonzepte unbekannt ist.
+     */
+    private Konzept uebertragenesKonzept(Konzept konzept) {
+        KombiKonzept kombiKonzept;
+        Literal      literal;
+        Iterator     konzIter;
+
+        if (konzept instanceof Literal) {
+            literal = (Literal) konzept;
+            return (new Literal(literal.praedikat(), beispieldaten,
+                                literal.istInvertiert()));
+        } else {
+            if (konzept instanceof Konjunktion) {
+                kombiKonzept = new Konjunktion(beispieldaten);
+            } else if (konzept instanceof Disjunktion) {
+                kombiKonzept = new Disjunktion(beispieldaten);
+            } else {
+                throw new IllegalArgumentException("Art des Konzepts"
+                                                   + " unbekannt: " + konzept);
+            }
+
+            konzIter = konzept.teilkonzepte().iterator();
+            while (konzIter.hasNext()) {
+                kombiKonzept.aufnehmen(uebertragenesKonzept((Konzept) konzIter.next()));
+            }
+            return kombiKonzept;
+        }
+    }
+
+    /**
+     * Pat eine korrekte Formel, die zu einem Teil der Beispiele dieser
+     * Instanz erzeugt wurde, an die Beispieldaten dieser Instanz an, ohne die
+     * Konzepte vollstndig neu zu erzeugen. Von der bertragenen Formel
+     * werden die korrekt gebliebenen Teilkonzepte bernommen. Nur zu den
+     * positiven Beispielen, die dadurch neu nicht berdeckt werden, werden
+     * sequentiell korrekte Konzepte erzeugt, wobei die berdeckung jeweils
+     * ausgehend von der bisher besten Formel bestimmt wird.
+     * <P>
+     * Es wird vorausgesetzt, da die Beispiele, zu denen die bekannte Formel
+     * erzeugt wurde, mit gleichem Index auch in den Beispieldaten dieser
+     * Instanz enthalten sind. Das ist der Fall, wenn weitere Beispiele in
+     * eine Kopie der Beispieldaten aufgenommen wurden.
+     *
+     * @param praedikatErzeuger  Erzeuger von Prdikaten.
+     * @param bekannteFormel     Die bekannte korrekte Formel.
+     *
+     * @throws IllegalArgumentException  Wenn die bekannte Formel keine
+     *                                   Disjunktion ist.
+     */
+    public void passeKorrFormelAn(ArrayList praedikatErzeuger,
+                                  Konzept bekannteFormel) {
+        KorrKonzeptVerwaltung konzeptVerwaltung;
+        Disjunktion           angepassteFormel;
+        KombiKonzept          erweiterteFormel;
+        KombiKonzept          erzeugtesKonzept;
+        KombiKonzept          neueFormel;
+        BitMathIntSet         neueFehler;
+        HashSet               korrTeilkonzepte;
+        Iterator              konzIter;
+        Konzept               teilkonzept;
+        float                 formelKomplex;
+
+        if (!(bekannteFormel instanceof Disjunktion)) {
+            throw new IllegalArgumentException("Die bekannte Formel ist keine"
+                                               + " Disjunktion: "
+                                               + bekannteFormel);
+        }
+
+        // Die korrekt gebliebenen Teilkonzepte der bekannten Formel
+        // bernehmen.
+        korrTeilkonzepte = new HashSet();
+        konzIter = bekannteFormel.teilkonzepte().iterator();
+        while (konzIter.hasNext()) {
+            teilkonzept = uebertragenesKonzept((Konzept) konzIter.next());
+            if (teilkonzept.negFalschAnz() == 0) {
+                korrTeilkonzepte.add(teilkonzept);
+            }
+        }
+        angepassteFormel = new Disjunktion(beispieldaten);
+        angepassteFormel.aufnehmen(korrTeilkonzepte);
+        if (angepassteFormel.istBesser(besteKorrFormelGesamt)) {
+            besteKorrFormelGesamt = angepassteFormel;
+        }
+
+        // Nur die Fehler beseitigen, die bei der bekannten Formel noch
+        // nicht vorhanden waren.
+        neueFehler = besteKorrFormelGesamt.posFalschBsp();
+        neueFehler = neueFehler.difference(bekannteFormel.posFalschBsp());
+        if (neueFehler.isEmpty()) {
+            return;
+        }
+
+        LOGGER.log(Level.CONFIG,
+                   "Anpassung einer korrekten Formel zu " + neueFehler.size()
+                   + " neuen Fehlern");
+
+        formelKomplex = bekannteFormel.komplexitaet();
+        konzeptVerwaltung = new KorrKonzeptVerwaltung(rand, beispieldaten,
+                                                      Konstanten.KOSTEN_FAKTOR_INIT,
+                                                      formelKomplex,
+                                                      algSpezItmAnz,
+                                                      spezFormItmAnz,
+                                                      maxLiteralAnz,
+                                                      speicherEffizienz,
+                                                      negBoolPraedErz);
+        konzeptVerwaltung.konzepteAufnehmen(korrTeilkonzepte);
+
+        for (int fehlIndex = neueFehler.getMinimum();
+             fehlIndex >= 0;
+             fehlIndex = neueFehler.getNext(fehlIndex + 1)) {
+
+            // Prfen, ob der Fehler-Index noch ein Fehler ist.
+            if (besteKorrFormelGesamt.posFalschBsp().contains(fehlIndex)) {
+
+                // Neues korrektes Konzept erzeugen und aufnehmen.
+                erzeugtesKonzept = praedSpezKonzept(praedikatErzeuger,
+                                                    konzeptVerwaltung,
+                                                    formelKomplex,
+                                                    fehlIndex, -1, true);
+                if (erzeugtesKonzept != null) {
+                    konzeptVerwaltung.konzeptAufnehmen(erzeugtesKonzept);
+                    erweiterteFormel = (KombiKonzept) besteKorrFormelGesamt.clone();
+                    erweiterteFormel.aufnehmen(erzeugtesKonzept);
+                    neueFormel = konzeptVerwaltung.besteFormel(erzFormScpIterAnz,
+                                                               erweiterteFormel);
+                    if (neueFormel.istBesser(besteKorrFormelGesamt)) {
+                        besteKorrFormelGesamt = neueFormel;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Pat eine vollstndige Formel, die zu einem Teil der Beispiele dieser
+     * Instanz erzeugt wurde, an die Beispieldaten dieser Instanz an, ohne die
+     * Konzepte vollstndig neu zu erzeugen. Von der bertragenen Formel
+     * werden die vollstndig gebliebenen Teilkonzepte bernommen. Nur zu den
+     * negativen Beispielen, die dadurch neu nicht ausgeschlossen werden,
+     * werden sequentiell vollstndige Konzepte erzeugt, wobei die berdeckung
+     * jeweils ausgehend von der bisher besten Formel bestimmt wird.
+     * <P>
+     * Es wird vorausgesetzt, da die Beispiele, zu denen die bekannte Formel
+     * erzeugt wurde, mit gleichem Index auch in den Beispieldaten dieser
+     * Instanz enthalten sind. Das ist der Fall, wenn weitere Beispiele in
+     * eine Kopie der Beispieldaten aufgenommen wurden.
+     *
+     * @param praedikatErzeuger  Erzeuger von Prdikaten.
+     * @param bekannteFormel     Die bekannte vollstndige Formel.
+     *
+     * @throws IllegalArgumentException  Wenn die bekannte Formel keine
+     *                                   Konjunktion ist.
+     */
+    public void passeVollFormelAn(ArrayList praedikatErzeuger,
+                                  Konzept bekannteFormel) {
+        VollKonzeptVerwaltung konzeptVerwaltung;
+        Konjunktion           angepassteFormel;
+        KombiKonzept          erweiterteFormel;
+        KombiKonzept          erzeugtesKonzept;
+        KombiKonzept          neueFormel;
+        BitMathIntSet         neueFehler;
+        HashSet               vollTeilkonzepte;
+        Iterator              konzIter;
+        Konzept               teilkonzept;
+        float                 formelKomplex;
+
+        if (!(bekannteFormel instanceof Konjunktion)) {
+            throw new IllegalArgumentException("Die bekannte Formel ist keine"
+                                               + " Konjunktion: "
+                                               + bekannteFormel);
+        }
+
+        // Die vollstndig gebliebenen Teilkonzepte der bekannten Formel
+        // bernehmen.
+        vollTeilkonzepte = new HashSet();
+        konzIter = bekannteFormel.teilkonzepte().iterator();
+        while (konzIter.hasNext()) {
+            teilkonzept = uebertragenesKonzept((Konzept) konzIter.next());
+            if (teilkonzept.posFalschAnz() == 0) {
+                vollTeilkonzepte.add(teilkonzept);
+            }
+        }
+        angepassteFormel = new Konjunktion(beispieldaten);
+        angepassteFormel.aufnehmen(vollTeilkonzepte);
+        if (angepassteFormel.istBesser(besteVollFormelGesamt)) {
+            besteVollFormelGesamt = angepassteFormel;
+        }
+
+        // Nur die Fehler beseitigen, die bei der bekannten Formel noch
+        // nicht vorhanden waren.
+        neueFehler = besteVollFormelGesamt.negFalschBsp();
+        neueFehler = neueFehler.difference(bekannteFormel.negFalschBsp());
+        if (neueFehler.isEmpty()) {
+            return;
+        }
+
+        LOGGER.log(Level.CONFIG,
+                   "Anpassung einer vollstndigen Formel zu "
+                   + neueFehler.size() + " neuen Fehlern");
+
+        formelKomplex = bekannteFormel.komplexitaet();
+        konzeptVerwaltung = new VollKonzeptVerwaltung(rand, beispieldaten,
+                                                      Konstanten.KOSTEN_FAKTOR_INIT,
+                                                      formelKomplex,
+                                                      algSpezItmAnz,
+                                                      spezFormItmAnz,
+                                                      maxLiteralAnz,
+                                                      speicherEffizienz,
+                                                      negBoolPraedErz);
+        konzeptVerwaltung.konzepteAufnehmen(vollTeilkonzepte);
+
+        for (int fehlIndex = neueFehler.getMinimum();
+             fehlIndex >= 0;
+             fehlIndex = neueFehler.getNext(fehlIndex + 1)) {
+
+            // Prfen, ob der Fehler-Index noch ein Fehler ist.
+            if (besteVollFormelGesamt.negFalschBsp().contains(fehlIndex)) {
+
+                // Neues vollstndiges Konzept erzeugen und aufnehmen.
+                erzeugtesKonzept = praedSpezKonzept(praedikatErzeuger,
+                                                    konzeptVerwaltung,
+                                                    formelKomplex,
+                                                    -1, fehlIndex, false);
+                if (erzeugtesKonzept != null) {
+                    konzeptVerwaltung.konzeptAufnehmen(erzeugtesKonzept);
+                    erweiterteFormel = (KombiKonzept) besteVollFormelGesamt.clone();
+                    erweiterteFormel.aufnehmen(erzeugtesKonzept);
+                    neueFormel = konzeptVerwaltung.besteFormel(erzFormScpIterAnz,
+                                                               erweiterteFormel);
+                    if (neueFormel.istBesser(besteVollFormelGesamt)) {
+                        besteVollFormelGesamt = neueFormel;
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Liefert die beste korrekte Formel. Das ist die, die primr die
      * geringste Anzahl positiver Fehler und sekundr eine mglichst geringe
@@ -1319,9 +1521,8 @@ public class KonzeptErzeugungFacade {
     public Konzept effizientKorrKonzept(ArrayList praedikatErzeuger,
                                         int posBspIndex) {
         KorrKonzeptVerwaltung konzeptVerwaltung;
-        PraedikatErzeugung    erzeuger;
-        Iterator              praedIter;
-        Praedikat             praedikat;
+        LiteralStrom          literalStrom;
+        Literal               literal;
         KombiKonzept          erzeugtesKonzept;
         float                 kostenFaktor;
         boolean               aufnahme;
@@ -1373,24 +1574,16 @@ public class KonzeptErzeugungFacade {
 
         LOGGER.log(Level.CONFIG, "Erzeugung korrekter Prdikate");
         aufnahme = false;
-        for (int praedErzNr = 0;
-             praedErzNr < praedikatErzeuger.size();
-             praedErzNr++) {
-            erzeuger = (PraedikatErzeugung) praedikatErzeuger.get(praedErzNr);
-
-            praedIter = erzeuger.posKorrPraedIter();
-            while (praedIter.hasNext()) {
-                praedikat = (Praedikat) praedIter.next();
-                aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, false,
-                                                                 posBspIndex, -1);
-            }
-
-            praedIter = erzeuger.negVollPraedIter();
-            while (praedIter.hasNext()) {
-                praedikat = (Praedikat) praedIter.next();
-                aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, true,
-                                                                 posBspIndex, -1);
+        literalStrom = new LiteralStrom(praedikatErzeuger, beispieldaten,
+                                        true, false, negBoolPraedErz);
+        try {
+            while (literalStrom.hasNext()) {
+                literal = (Literal) literalStrom.next();
+                aufnahme |= konzeptVerwaltung.konzeptAufnehmen(literal,
+                                                               posBspIndex, -1);
             }
+        } finally {
+            literalStrom.beenden();
         }
         LOGGER.log(Level.CONFIG, "Korr. Prdikat aufgenommen: " + aufnahme);
 
@@ -1413,9 +1606,8 @@ public class KonzeptErzeugungFacade {
     public Konzept effizientVollKonzept(ArrayList praedikatErzeuger,
                                         int negBspIndex) {
         VollKonzeptVerwaltung konzeptVerwaltung;
-        PraedikatErzeugung    erzeuger;
-        Iterator              praedIter;
-        Praedikat             praedikat;
+        LiteralStrom          literalStrom;
+        Literal               literal;
         KombiKonzept          erzeugtesKonzept;
         float                 kostenFaktor;
         boolean               aufnahme;
@@ -1467,24 +1659,16 @@ public class KonzeptErzeugungFacade {
 
         LOGGER.log(Level.CONFIG, "Erzeugung vollstndiger Prdikate");
         aufnahme = false;
-        for (int praedErzNr = 0;
-             praedErzNr < praedikatErzeuger.size();
-             praedErzNr++) {
-            erzeuger = (PraedikatErzeugung) praedikatErzeuger.get(praedErzNr);
-
-            praedIter = erzeuger.posVollPraedIter();
-            while (praedIter.hasNext()) {
-                praedikat = (Praedikat) praedIter.next();
-                aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, false,
-                                                                 -1, negBspIndex);
-            }
-
-            praedIter = erzeuger.negKorrPraedIter();
-            while (praedIter.hasNext()) {
-                praedikat = (Praedikat) praedIter.next();
-                aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, true,
-                                                                 -1, negBspIndex);
+        literalStrom = new LiteralStrom(praedikatErzeuger, beispieldaten,
+                                        false, false, negBoolPraedErz);
+        try {
+            while (literalStrom.hasNext()) {
+                literal = (Literal) literalStrom.next();
+                aufnahme |= konzeptVerwaltung.konzeptAufnehmen(literal,
+                                                               -1, negBspIndex);
             }
+        } finally {
+            literalStrom.beenden();
         }
         LOGGER.log(Level.CONFIG, "Voll. Prdikat aufgenommen: " + aufnahme);
 
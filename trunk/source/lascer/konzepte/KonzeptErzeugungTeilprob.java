@@ -1,6 +1,6 @@
 /*
  * Dateiname      : KonzeptErzeugungTeilprob.java
- * Letzte nderung: 21. November 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -25,7 +25,6 @@ package lascer.konzepte;
 
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Random;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -39,9 +38,8 @@ import de.unistuttgart.architeuthis.abstractproblems.ContainerPartialSolution;
 import de.unistuttgart.architeuthis.remotestore.hashsetnew.UserRemoteHashSetNew;
 
 import lascer.KonzErzParameter;
-import lascer.praedikate.Praedikat;
-import lascer.praedikate.PraedikatErzeugung;
 import lascer.problemdaten.Beispieldaten;
+import lascer.konzepte.einzelne.Literal;
 
 /**
  * Erzeugt aus Prdikaten der verschiedenen Arten Konzepte. Die verschiedenen
@@ -447,9 +445,8 @@ public class KonzeptErzeugungTeilprob implements CommunicationPartialProblem {
                                          boolean korrKonzErzeugung)
         throws RemoteException {
 
-        PraedikatErzeugung erzeuger;
-        Iterator     praedIter;
-        Praedikat    praedikat;
+        LiteralStrom literalStrom;
+        Literal      literal;
         KombiKonzept besteFormel, letzteFormel;
         int          mittlereNochAnz;
         int          mittlereIstAnz;
@@ -501,42 +498,16 @@ public class KonzeptErzeugungTeilprob implements CommunicationPartialProblem {
                 }
 
                 // Neue Konzepte erzeugen.
-                for (int praedErzNr = 0;
-                     praedErzNr < praedikatErzeuger.size();
-                     praedErzNr++) {
-                    erzeuger = (PraedikatErzeugung) praedikatErzeuger.get(praedErzNr);
-
-                    if (korrKonzErzeugung) {
-                        praedIter = erzeuger.posVollPraedIter();
-                    } else {
-                        praedIter = erzeuger.posKorrPraedIter();
-                    }
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, false);
-                    }
-
-                    if (korrKonzErzeugung) {
-                        praedIter = erzeuger.negKorrPraedIter();
-                    } else {
-                        praedIter = erzeuger.negVollPraedIter();
-                    }
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, true);
-                    }
-
-                    praedIter = erzeuger.posAlgPraedIter();
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, false);
-                    }
-
-                    praedIter = erzeuger.negAlgPraedIter();
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        aufnahme |= konzeptVerwaltung.praedikatAufnehmen(praedikat, true);
+                literalStrom = new LiteralStrom(praedikatErzeuger, beispieldaten,
+                                                !korrKonzErzeugung, true,
+                                                negBoolPraedErz);
+                try {
+                    while (literalStrom.hasNext()) {
+                        literal = (Literal) literalStrom.next();
+                        aufnahme |= konzeptVerwaltung.konzeptAufnehmen(literal);
                     }
+                } finally {
+                    literalStrom.beenden();
                 }
                 LOGGER.log(Level.CONFIG,
                            "Allgemeine Prdikat aufgenommen: " + aufnahme);
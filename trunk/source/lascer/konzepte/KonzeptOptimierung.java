@@ -1,6 +1,6 @@
 /*
  * Dateiname      : KonzeptOptimierung.java
- * Letzte nderung: 21. November 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -35,9 +35,8 @@ import java.io.Serializable;
 import mathCollection.BitMathIntSet;
 
 import lascer.KonzErzParameter;
-import lascer.praedikate.Praedikat;
-import lascer.praedikate.PraedikatErzeugung;
 import lascer.problemdaten.Beispieldaten;
+import lascer.konzepte.einzelne.Literal;
 
 /**
  * Bietet Methoden zur Optimierung eines speziellen Konzepts oder einer
@@ -178,13 +177,13 @@ public class KonzeptOptimierung implements Serializable {
                                                float kostenFaktor,
                                                boolean korrKonzErzeugung) {
         KonzeptVerwaltung  konzeptVerwaltung;
-        PraedikatErzeugung erzeuger;
+        LiteralStrom       literalStrom;
         HashSet            teilkonzepte;
         Konzept            teilkonzept, allgemeinesKonzept;
         KombiKonzept       reduziertesKonzept, neuesKonzept;
-        Praedikat          praedikat;
+        Literal            literal;
         BitMathIntSet      redKonzPosFehler, redKonzNegFehler;
-        Iterator           teilKonzIter, vhKonzIter, praedIter;
+        Iterator           teilKonzIter, vhKonzIter;
         float              teilKonzKomplex;
         int                teilKonzPosFehlAnz, teilKonzNegFehlAnz;
 
@@ -243,62 +242,21 @@ public class KonzeptOptimierung implements Serializable {
             if (praedikatErzeuger != null) {
                 // Es sollen die allgemeinen Konzepte neu aus den Prdikaten
                 // erzeugen werden.
-                for (int praedErzNr = 0;
-                     praedErzNr < praedikatErzeuger.size();
-                     praedErzNr++) {
-                    erzeuger = (PraedikatErzeugung) praedikatErzeuger.get(praedErzNr);
-
-                    if (korrKonzErzeugung) {
-                        praedIter = erzeuger.posVollPraedIter();
-                    } else {
-                        praedIter = erzeuger.posKorrPraedIter();
-                    }
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        konzeptVerwaltung.praedikatAufnehmen(praedikat, false,
-                                                             redKonzPosFehler,
-                                                             redKonzNegFehler,
-                                                             teilKonzKomplex,
-                                                             teilKonzPosFehlAnz,
-                                                             teilKonzNegFehlAnz);
-                    }
-
-                    if (korrKonzErzeugung) {
-                        praedIter = erzeuger.negKorrPraedIter();
-                    } else {
-                        praedIter = erzeuger.negVollPraedIter();
-                    }
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        konzeptVerwaltung.praedikatAufnehmen(praedikat, true,
-                                                             redKonzPosFehler,
-                                                             redKonzNegFehler,
-                                                             teilKonzKomplex,
-                                                             teilKonzPosFehlAnz,
-                                                             teilKonzNegFehlAnz);
-                    }
-
-                    praedIter = erzeuger.posAlgPraedIter();
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        konzeptVerwaltung.praedikatAufnehmen(praedikat, false,
-                                                             redKonzPosFehler,
-                                                             redKonzNegFehler,
-                                                             teilKonzKomplex,
-                                                             teilKonzPosFehlAnz,
-                                                             teilKonzNegFehlAnz);
-                    }
-
-                    praedIter = erzeuger.negAlgPraedIter();
-                    while (praedIter.hasNext()) {
-                        praedikat = (Praedikat) praedIter.next();
-                        konzeptVerwaltung.praedikatAufnehmen(praedikat, true,
-                                                             redKonzPosFehler,
-                                                             redKonzNegFehler,
-                                                             teilKonzKomplex,
-                                                             teilKonzPosFehlAnz,
-                                                             teilKonzNegFehlAnz);
+                literalStrom = new LiteralStrom(praedikatErzeuger, beispieldaten,
+                                                !korrKonzErzeugung, true,
+                                                negBoolPraedErz);
+                try {
+                    while (literalStrom.hasNext()) {
+                        literal = (Literal) literalStrom.next();
+                        konzeptVerwaltung.konzeptAufnehmen(literal,
+                                                           redKonzPosFehler,
+                                                           redKonzNegFehler,
+                                                           teilKonzKomplex,
+                                                           teilKonzPosFehlAnz,
+                                                           teilKonzNegFehlAnz);
                     }
+                } finally {
+                    literalStrom.beenden();
                 }
             } else {
                 // Es sollen die vorhandenen allgemeinen Konzepte verwendet
@@ -364,15 +322,15 @@ public class KonzeptOptimierung implements Serializable {
                                               float formelKomplex,
                                               boolean korrKonzErzeugung) {
         KonzeptVerwaltung  konzeptVerwaltung;
-        PraedikatErzeugung erzeuger;
+        LiteralStrom       literalStrom;
         HashSet            konzepte;
         Konzept            naechstesKonzept, vorhandenesKonzept;
         KombiKonzept       letzteFormel, besteFormel;
         KombiKonzept       redKonzept;
-        Praedikat          praedikat;
+        Literal            literal;
         BitMathIntSet      bestePosFehler, besteNegFehler;
         BitMathIntSet      redKonzPosFehler, redKonzNegFehler;
-        Iterator           bfKonzIter, vhKonzIter, praedIter;
+        Iterator           bfKonzIter, vhKonzIter;
 
         // Prfen, ob eine Optimierung stattfinden soll.
         if (optFinItmAnz == 0) {
@@ -428,34 +386,18 @@ public class KonzeptOptimierung implements Serializable {
                 if (praedikatErzeuger != null) {
                     // Die speziellen Konzepte sollen aus den Prdikaten neu
                     // erzeugt werden.
-                    for (int praedErzNr = 0;
-                         praedErzNr < praedikatErzeuger.size();
-                         praedErzNr++) {
-                        erzeuger = (PraedikatErzeugung) praedikatErzeuger.get(praedErzNr);
-
-                        if (korrKonzErzeugung) {
-                            praedIter = erzeuger.posKorrPraedIter();
-                        } else {
-                            praedIter = erzeuger.posVollPraedIter();
-                        }
-                        while (praedIter.hasNext()) {
-                            praedikat = (Praedikat) praedIter.next();
-                            konzeptVerwaltung.praedikatAufnehmen(praedikat, false,
-                                                                 redKonzPosFehler,
-                                                                 redKonzNegFehler);
-                        }
-
-                        if (korrKonzErzeugung) {
-                            praedIter = erzeuger.negVollPraedIter();
-                        } else {
-                            praedIter = erzeuger.negKorrPraedIter();
-                        }
-                        while (praedIter.hasNext()) {
-                            praedikat = (Praedikat) praedIter.next();
-                            konzeptVerwaltung.praedikatAufnehmen(praedikat, true,
-                                                                 redKonzPosFehler,
-                                                                 redKonzNegFehler);
+                    literalStrom = new LiteralStrom(praedikatErzeuger, beispieldaten,
+                                                    korrKonzErzeugung, false,
+                                                    negBoolPraedErz);
+                    try {
+                        while (literalStrom.hasNext()) {
+                            literal = (Literal) literalStrom.next();
+                            konzeptVerwaltung.konzeptAufnehmen(literal,
+                                                               redKonzPosFehler,
+                                                               redKonzNegFehler);
                         }
+                    } finally {
+                        literalStrom.beenden();
                     }
                 }
 
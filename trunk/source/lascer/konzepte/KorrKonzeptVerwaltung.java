@@ -1,6 +1,6 @@
 /*
  * Dateiname      : KorrKonzeptVerwaltung.java
- * Letzte nderung: 21. November 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -35,6 +35,7 @@ import mathCollection.BitMathIntSet;
 
 import lascer.praedikate.einzelne.BoolWertPraedikat;
 import lascer.konzepte.einzelne.Literal;
+import lascer.konzepte.einzelne.AbdeckungsMatrix;
 import lascer.konzepte.mengen.KorrekteKonzepte;
 import lascer.konzepte.mengen.AlgKorrErzKonzepte;
 import lascer.praedikate.Praedikat;
@@ -69,6 +70,12 @@ public class KorrKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
      */
     private transient AlgKorrErzKonzepte algKorrErzKonzepte = null;
 
+    /**
+     * Die Matrix, in der die erfllten Beispiele der aufgenommenen Literale
+     * gespeichert werden.
+     */
+    private transient AbdeckungsMatrix abdeckungsMatrix;
+
     /**
      * Faktor, mit dem die Summe der Kosten der berdeckten Indices
      * multipliziert wird, um die Kosten fr einen nicht berdeckten Index zu
@@ -151,6 +158,7 @@ public class KorrKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
         this.random = random;
         this.beispieldaten = konzeptVerwaltung.beispieldaten;
         this.korrekteKonzepte = konzeptVerwaltung.korrekteKonzepte;
+        this.abdeckungsMatrix = konzeptVerwaltung.abdeckungsMatrix;
         this.algKorrErzKonzepte = konzeptVerwaltung.algKorrErzKonzepte;
         this.kostenFaktor = konzeptVerwaltung.kostenFaktor;
         this.gesamtKomplex = konzeptVerwaltung.gesamtKomplex;
@@ -213,6 +221,8 @@ public class KorrKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
         this.korrekteKonzepte = new KorrekteKonzepte(random, beispieldaten,
                                                      gesamtKomplex, maxLiteralAnz,
                                                      spezItmAnz, speicherEffizienz);
+        this.abdeckungsMatrix = new AbdeckungsMatrix(beispieldaten.posBspAnz(),
+                                                     beispieldaten.negBspAnz());
     }
 
     /**
@@ -259,6 +269,10 @@ public class KorrKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
         // Lesen der serialisierbaren Attribute.
         stream.defaultReadObject();
 
+        // Rekonstruktion vom Wert des Attributs abdeckungsMatrix.
+        abdeckungsMatrix = new AbdeckungsMatrix(beispieldaten.posBspAnz(),
+                                                beispieldaten.negBspAnz());
+
         // Rekonstruktion vom Wert des Attributs korrekteKonzepte.
         korrKonzepte = (HashSet) stream.readObject();
         korrekteKonzepte = new KorrekteKonzepte(random, beispieldaten,
@@ -330,7 +344,8 @@ public class KorrKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
      * Nimmt das bergebene Konzept in die passende Konzeptmenge auf. Wenn es
      * sich um ein allgemeines Konzept handelt und die Menge fr die
      * allgemeinen Konzepte wurde noch nicht erzeugt, wird das Konzept nicht
-     * aufgenommen.
+     * aufgenommen. Wenn ein Literal aufgenommen wird, werden seine erfllten
+     * Beispiele in die Abdeckungsmatrix bertragen.
      *
      * @param konzept  Das aufzunehmende Konzept.
      *
@@ -349,6 +364,12 @@ public class KorrKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
                 }
             }
         }
+
+        if (aufgenommen) {
+            // Die erfllten Beispiele eines Literals werden nur noch in der
+            // Matrix gespeichert.
+            abdeckungsMatrix.aufnehmen(konzept);
+        }
         return aufgenommen;
     }
 
@@ -418,10 +439,24 @@ public class KorrKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
      */
     public boolean konzeptAufnehmen(Konzept konzept,
                                     int posIndex, int negIndex) {
+        Literal literal;
+        boolean posEnthalten, negEnthalten;
+
+        if (konzept instanceof Literal) {
+            // Die Mengen des Literals werden nicht erzeugt.
+            literal = (Literal) konzept;
+            posEnthalten = ((posIndex < 0)
+                            || literal.posErfuelltEnthaelt(posIndex));
+            negEnthalten = ((negIndex >= 0)
+                            && literal.negErfuelltEnthaelt(negIndex));
+        } else {
+            posEnthalten = ((posIndex < 0)
+                            || konzept.posErfuelltBsp().contains(posIndex));
+            negEnthalten = ((negIndex >= 0)
+                            && konzept.negErfuelltBsp().contains(negIndex));
+        }
 
-        if (((posIndex < 0) || konzept.posErfuelltBsp().contains(posIndex))
-            && ((negIndex < 0) || !konzept.negErfuelltBsp().contains(negIndex))) {
-
+        if (posEnthalten && !negEnthalten) {
             return konzeptAufnehmen(konzept);
         } else {
             return false;
@@ -486,7 +521,7 @@ public class KorrKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
                                     BitMathIntSet redKonzNegFehler) {
 
         if (konzept.istKorrekt()
-                && konzept.posFalschBsp().isDisjoint(redKonzPosFehler)) {
+                && posFalschDisjunkt(konzept, redKonzPosFehler)) {
             return konzeptAufnehmen(konzept);
         } else {
             return false;
@@ -563,7 +598,7 @@ public class KorrKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
 
         if (((konzept.komplexitaet() < komplex)
              || (konzept.posFalschAnz() < posFehlAnz))
-            && (konzept.negFalschBsp().isDisjoint(redKonzNegFehler))) {
+            && negFalschDisjunkt(konzept, redKonzNegFehler)) {
 
             return konzeptAufnehmen(konzept);
         } else {
@@ -617,6 +652,51 @@ public class KorrKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
         }
     }
 
+    /**
+     * Ermittelt, ob das bergebene Konzept keines der positiven Beispiele mit
+     * den Indices der bergebenen Menge flschlicher Weise nicht abdeckt.
+     * Bei einem Literal wird dazu keine Menge seiner Beispiele erzeugt.
+     *
+     * @param konzept  Das zu prfende Konzept.
+     * @param indices  Die Indices der zu prfenden positiven Beispiele.
+     *
+     * @return  <CODE>true</CODE>, wenn die Menge der flschlicher Weise nicht
+     *          abgedeckten positiven Beispiele zur bergebenen Menge disjunkt
+     *          ist, anderenfalls <CODE>false</CODE>.
+     */
+    private static boolean posFalschDisjunkt(Konzept konzept,
+                                             BitMathIntSet indices) {
+
+        if (konzept instanceof Literal) {
+            return (((Literal) konzept).posErfuelltSchnittAnz(indices)
+                    == indices.size());
+        } else {
+            return konzept.posFalschBsp().isDisjoint(indices);
+        }
+    }
+
+    /**
+     * Ermittelt, ob das bergebene Konzept keines der negativen Beispiele mit
+     * den Indices der bergebenen Menge flschlicher Weise abdeckt. Bei einem
+     * Literal wird dazu keine Menge seiner Beispiele erzeugt.
+     *
+     * @param konzept  Das zu prfende Konzept.
+     * @param indices  Die Indices der zu prfenden negativen Beispiele.
+     *
+     * @return  <CODE>true</CODE>, wenn die Menge der flschlicher Weise
+     *          abgedeckten negativen Beispiele zur bergebenen Menge
+     *          disjunkt ist, anderenfalls <CODE>false</CODE>.
+     */
+    private static boolean negFalschDisjunkt(Konzept konzept,
+                                             BitMathIntSet indices) {
+
+        if (konzept instanceof Literal) {
+            return (((Literal) konzept).negErfuelltSchnittAnz(indices) == 0);
+        } else {
+            return konzept.negFalschBsp().isDisjoint(indices);
+        }
+    }
+
     /**
      * Liefert eine neue Menge der allgemeinen Konzepte. Dies geschieht mit
      * Bezug auf den aktuellen Inhalt der Menge der korrekten Konzepte. Wenn
@@ -0,0 +1,558 @@
+/*
+ * Dateiname      : LiteralStrom.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package lascer.konzepte;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import lascer.praedikate.Praedikat;
+import lascer.praedikate.PraedikatErzeugung;
+import lascer.praedikate.einzelne.BoolWertPraedikat;
+import lascer.konzepte.einzelne.Literal;
+import lascer.problemdaten.Beispieldaten;
+
+/**
+ * Liefert die Literale zu den Prdikaten einer Liste von Prdikat-Erzeugern.
+ * Jeder Erzeuger kann dabei in einem eigenen Thread ausgefhrt werden, der
+ * die Prdikate erzeugt, daraus die Literale erzeugt und diese ber einen
+ * beschrnkten Puffer bergibt. Dadurch berschneidet sich die Erzeugung der
+ * Literale mit ihrer Aufnahme in eine Konzeptverwaltung.<P>
+ *
+ * Die Literale werden unabhngig von der Anzahl der Threads in der gleichen
+ * Reihenfolge geliefert wie bei einer sequentiellen Erzeugung, d.h. zuerst
+ * alle Literale des ersten Erzeugers, dann alle des zweiten usw.<P>
+ *
+ * Ein Literal zu einem invertierten boolschen Prdikat wird nur geliefert,
+ * wenn solche Literale erzeugt werden sollen. Die Literale knnen daher mit
+ * den Methoden <CODE>konzeptAufnehmen</CODE> einer Konzeptverwaltung
+ * aufgenommen werden statt die Prdikate mit den entsprechenden Methoden
+ * <CODE>praedikatAufnehmen</CODE>.<P>
+ *
+ * Wenn nicht alle Literale abgefragt werden, mu am Ende die Methode
+ * <CODE>beenden</CODE> aufgerufen werden.
+ *
+ * @author  Dietmar Lippold
+ */
+public class LiteralStrom implements Iterator {
+
+    /**
+     * Die Klasse reprsentiert einen Iterator ber die Literale zu den
+     * Prdikaten eines einzelnen Erzeugers.
+     */
+    class ErzeugerIterator implements Iterator {
+
+        /**
+         * Die Iteratoren ber die Prdikate des Erzeugers.
+         */
+        private Iterator[] praedIteratoren;
+
+        /**
+         * Zu jedem Iterator in <CODE>praedIteratoren</CODE> die Angabe, ob
+         * seine Prdikate invertiert werden sollen.
+         */
+        private boolean[] invertiert;
+
+        /**
+         * Der Index des aktuellen Iterators in <CODE>praedIteratoren</CODE>.
+         */
+        private int iterNr = 0;
+
+        /**
+         * Das nchste zu liefernde Literal oder <CODE>null</CODE>, wenn es
+         * noch nicht ermittelt wurde.
+         */
+        private Literal naechstesLiteral = null;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param erzeuger  Der Erzeuger der Prdikate.
+         */
+        public ErzeugerIterator(PraedikatErzeugung erzeuger) {
+
+            if (algKonzepte) {
+                praedIteratoren = new Iterator[4];
+            } else {
+                praedIteratoren = new Iterator[2];
+            }
+            invertiert = new boolean[praedIteratoren.length];
+
+            if (korrKonzepte) {
+                praedIteratoren[0] = erzeuger.posKorrPraedIter();
+                praedIteratoren[1] = erzeuger.negVollPraedIter();
+            } else {
+                praedIteratoren[0] = erzeuger.posVollPraedIter();
+                praedIteratoren[1] = erzeuger.negKorrPraedIter();
+            }
+            invertiert[0] = false;
+            invertiert[1] = true;
+
+            if (algKonzepte) {
+                praedIteratoren[2] = erzeuger.posAlgPraedIter();
+                invertiert[2] = false;
+                praedIteratoren[3] = erzeuger.negAlgPraedIter();
+                invertiert[3] = true;
+            }
+        }
+
+        /**
+         * Ermittelt, ob ein weiteres Literal geliefert werden kann.
+         *
+         * @return  Den Wert <CODE>true</CODE>, wenn der Iterator ein weiteres
+         *          Literal liefern kann, sonst <CODE>false</CODE>.
+         */
+        public boolean hasNext() {
+            Praedikat praedikat;
+
+            while ((naechstesLiteral == null)
+                   && (iterNr < praedIteratoren.length)) {
+
+                if (praedIteratoren[iterNr].hasNext()) {
+                    praedikat = (Praedikat) praedIteratoren[iterNr].next();
+                    if (!(praedikat instanceof BoolWertPraedikat)
+                        || !invertiert[iterNr] || negBoolPraedErz) {
+                        naechstesLiteral = new Literal(praedikat, beispieldaten,
+                                                       invertiert[iterNr]);
+                    }
+                } else {
+                    iterNr++;
+                }
+            }
+
+            return (naechstesLiteral != null);
+        }
+
+        /**
+         * Liefert das nchste Literal.
+         *
+         * @return  Das nchste Literal.
+         *
+         * @throws NoSuchElementException  Wenn kein Literal mehr erzeugt
+         *                                 werden konnte.
+         */
+        public Object next() {
+            Literal literal;
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            literal = naechstesLiteral;
+            naechstesLiteral = null;
+            return literal;
+        }
+
+        /**
+         * Diese Methode ist nicht implementiert und darf nicht aufgerufen
+         * werden.
+         *
+         * @throws UnsupportedOperationException  Bei jedem Aufruf.
+         */
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Die Klasse erzeugt die Threads des Pools als Daemon-Threads. Ein
+     * Thread, der trotz <CODE>beenden</CODE> nicht endet, verhindert dadurch
+     * nicht das Ende der JVM.
+     */
+    static class DaemonThreadFactory implements ThreadFactory {
+
+        /**
+         * Die Factory, die die Threads erzeugt.
+         */
+        private ThreadFactory standardFactory = Executors.defaultThreadFactory();
+
+        /**
+         * Erzeugt einen neuen Daemon-Thread.
+         *
+         * @param aufgabe  Die vom Thread auszufhrende Aufgabe.
+         *
+         * @return  Den erzeugten Thread.
+         */
+        public Thread newThread(Runnable aufgabe) {
+            Thread thread;
+
+            thread = standardFactory.newThread(aufgabe);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Die Klasse reprsentiert die Aufgabe, die Literale eines einzelnen
+     * Erzeugers zu erzeugen und in einen Puffer einzustellen. Nach dem
+     * letzten Literal wird <CODE>ENDE</CODE> eingestellt, auch wenn bei der
+     * Erzeugung eine Ausnahme aufgetreten ist. Wenn der Thread jedoch durch
+     * <CODE>beenden</CODE> unterbrochen wurde, wird <CODE>ENDE</CODE> nicht
+     * eingestellt, da es nicht mehr abgefragt wird und das Einstellen in
+     * einen vollen Puffer nicht enden wrde.
+     */
+    class LiteralErzeugung implements Callable {
+
+        /**
+         * Der Erzeuger der Prdikate.
+         */
+        private PraedikatErzeugung erzeuger;
+
+        /**
+         * Der Puffer, in den die Literale eingestellt werden.
+         */
+        private ArrayBlockingQueue puffer;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param erzeuger  Der Erzeuger der Prdikate.
+         * @param puffer    Der Puffer, in den die Literale eingestellt
+         *                  werden.
+         */
+        public LiteralErzeugung(PraedikatErzeugung erzeuger,
+                                ArrayBlockingQueue puffer) {
+            this.erzeuger = erzeuger;
+            this.puffer = puffer;
+        }
+
+        /**
+         * Erzeugt die Literale und stellt sie in den Puffer ein.
+         *
+         * @return  Den Wert <CODE>null</CODE>.
+         *
+         * @throws InterruptedException  Wenn der Thread beim Warten auf
+         *                               freien Platz im Puffer unterbrochen
+         *                               wurde.
+         */
+        public Object call() throws InterruptedException {
+            Iterator literalIter;
+            boolean  unterbrochen;
+
+            unterbrochen = false;
+            try {
+                literalIter = new ErzeugerIterator(erzeuger);
+                while (literalIter.hasNext()) {
+                    puffer.put(literalIter.next());
+                }
+            } catch (InterruptedException e) {
+                unterbrochen = true;
+                throw e;
+            } finally {
+                if (!unterbrochen) {
+                    puffer.put(ENDE);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Das Objekt, das in einen Puffer nach dem letzten Literal eingestellt
+     * wird.
+     */
+    private static final Object ENDE = new Object();
+
+    /**
+     * Die Erzeuger der Prdikate.
+     */
+    private ArrayList praedikatErzeuger;
+
+    /**
+     * Die Beispieldaten, zu denen die Literale erzeugt werden.
+     */
+    private Beispieldaten beispieldaten;
+
+    /**
+     * Gibt an, ob die Prdikate zu korrekten Konzepten erzeugt werden. Falls
+     * nicht, werden die Prdikate zu vollstndigen Konzepten erzeugt.
+     */
+    private boolean korrKonzepte;
+
+    /**
+     * Gibt an, ob auch die Prdikate zu allgemeinen Konzepten erzeugt werden.
+     */
+    private boolean algKonzepte;
+
+    /**
+     * Gibt an, ob Literale zu invertierten boolschen Prdikaten geliefert
+     * werden.
+     */
+    private boolean negBoolPraedErz;
+
+    /**
+     * Der Pool der Threads oder <CODE>null</CODE>, wenn die Literale im
+     * aufrufenden Thread erzeugt werden.
+     */
+    private ExecutorService pool = null;
+
+    /**
+     * Zu jedem Erzeuger der Puffer, ber den seine Literale bergeben werden.
+     */
+    private ArrayBlockingQueue[] puffer;
+
+    /**
+     * Zu jedem Erzeuger das Ergebnis der Erzeugung seiner Literale.
+     */
+    private Future[] ergebnisse;
+
+    /**
+     * Der Iterator ber die Literale des aktuellen Erzeugers, wenn die
+     * Literale im aufrufenden Thread erzeugt werden.
+     */
+    private Iterator aktuellerIter = null;
+
+    /**
+     * Der Index des aktuellen Erzeugers in <CODE>praedikatErzeuger</CODE>.
+     */
+    private int erzNr = 0;
+
+    /**
+     * Das nchste zu liefernde Literal oder <CODE>null</CODE>, wenn es noch
+     * nicht ermittelt wurde.
+     */
+    private Literal naechstesLiteral = null;
+
+    /**
+     * Erzeugt eine neue Instanz, die die Literale mit der in
+     * <CODE>Konstanten.LITERAL_ERZ_THREAD_ANZ</CODE> angegebenen Anzahl von
+     * Threads erzeugt.
+     *
+     * @param praedikatErzeuger  Die Erzeuger der Prdikate.
+     * @param beispieldaten      Die Beispieldaten, zu denen die Literale
+     *                           erzeugt werden.
+     * @param korrKonzepte       Gibt an, ob die Prdikate zu korrekten
+     *                           Konzepten erzeugt werden sollen, d.h. die
+     *                           positiven korrekten und die invertierten
+     *                           negativen vollstndigen Prdikate. Falls
+     *                           nicht, werden die positiven vollstndigen
+     *                           und die invertierten negativen korrekten
+     *                           Prdikate erzeugt.
+     * @param algKonzepte        Gibt an, ob auerdem die positiven und die
+     *                           invertierten negativen allgemeinen Prdikate
+     *                           erzeugt werden sollen.
+     * @param negBoolPraedErz    Gibt an, ob Literale zu invertierten
+     *                           boolschen Prdikaten geliefert werden
+     *                           sollen.
+     */
+    public LiteralStrom(ArrayList praedikatErzeuger,
+                        Beispieldaten beispieldaten, boolean korrKonzepte,
+                        boolean algKonzepte, boolean negBoolPraedErz) {
+
+        this(praedikatErzeuger, beispieldaten, korrKonzepte, algKonzepte,
+             negBoolPraedErz, Konstanten.LITERAL_ERZ_THREAD_ANZ);
+    }
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param praedikatErzeuger  Die Erzeuger der Prdikate.
+     * @param beispieldaten      Die Beispieldaten, zu denen die Literale
+     *                           erzeugt werden.
+     * @param korrKonzepte       Gibt an, ob die Prdikate zu korrekten
+     *                           Konzepten erzeugt werden sollen, d.h. die
+     *                           positiven korrekten und die invertierten
+     *                           negativen vollstndigen Prdikate. Falls
+     *                           nicht, werden die positiven vollstndigen
+     *                           und die invertierten negativen korrekten
+     *                           Prdikate erzeugt.
+     * @param algKonzepte        Gibt an, ob auerdem die positiven und die
+     *                           invertierten negativen allgemeinen Prdikate
+     *                           erzeugt werden sollen.
+     * @param negBoolPraedErz    Gibt an, ob Literale zu invertierten
+     *                           boolschen Prdikaten geliefert werden
+     *                           sollen.
+     * @param threadAnz          Die maximale Anzahl der Threads, in denen
+     *                           die Literale erzeugt werden. Beim Wert Null
+     *                           werden sie im aufrufenden Thread erzeugt.
+     */
+    public LiteralStrom(ArrayList praedikatErzeuger,
+                        Beispieldaten beispieldaten, boolean korrKonzepte,
+                        boolean algKonzepte, boolean negBoolPraedErz,
+                        int threadAnz) {
+        PraedikatErzeugung erzeuger;
+        int                erzAnz;
+
+        this.praedikatErzeuger = praedikatErzeuger;
+        this.beispieldaten = beispieldaten;
+        this.korrKonzepte = korrKonzepte;
+        this.algKonzepte = algKonzepte;
+        this.negBoolPraedErz = negBoolPraedErz;
+
+        erzAnz = praedikatErzeuger.size();
+        if ((threadAnz > 0) && (erzAnz > 0)) {
+            // Die Aufgaben werden in der Reihenfolge ihrer bergabe
+            // ausgefhrt. Ein Erzeuger, der auf Platz in seinem Puffer
+            // wartet, kann daher nicht die Ausfhrung eines vorangehenden
+            // Erzeugers verhindern.
+            pool = Executors.newFixedThreadPool(Math.min(threadAnz, erzAnz),
+                                                new DaemonThreadFactory());
+            puffer = new ArrayBlockingQueue[erzAnz];
+            ergebnisse = new Future[erzAnz];
+            for (int i = 0; i < erzAnz; i++) {
+                erzeuger = (PraedikatErzeugung) praedikatErzeuger.get(i);
+                puffer[i] = new ArrayBlockingQueue(Konstanten.LITERAL_PUFFER_GROESSE);
+                ergebnisse[i] = pool.submit(new LiteralErzeugung(erzeuger,
+                                                                 puffer[i]));
+            }
+        }
+    }
+
+    /**
+     * Lst die Ausnahme erneut aus, die bei der Erzeugung der Literale des
+     * Erzeugers mit dem bergebenen Index aufgetreten ist.
+     *
+     * @param nr  Der Index des Erzeugers, dessen Literale vollstndig
+     *            bergeben wurden.
+     *
+     * @throws InterruptedException  Wenn der Thread beim Warten auf das
+     *                               Ergebnis unterbrochen wurde.
+     */
+    private void ergebnisPruefen(int nr) throws InterruptedException {
+        Throwable ursache;
+
+        try {
+            ergebnisse[nr].get();
+        } catch (ExecutionException e) {
+            ursache = e.getCause();
+            if (ursache instanceof RuntimeException) {
+                throw (RuntimeException) ursache;
+            } else if (ursache instanceof Error) {
+                throw (Error) ursache;
+            } else {
+                throw new RuntimeException(ursache);
+            }
+        }
+    }
+
+    /**
+     * Ermittelt, ob ein weiteres Literal geliefert werden kann. Wenn das
+     * nicht der Fall ist, werden die Threads beendet.
+     *
+     * @return  Den Wert <CODE>true</CODE>, wenn ein weiteres Literal
+     *          geliefert werden kann, sonst <CODE>false</CODE>.
+     */
+    public boolean hasNext() {
+        PraedikatErzeugung erzeuger;
+        Object             element;
+
+        try {
+            while ((naechstesLiteral == null)
+                   && (erzNr < praedikatErzeuger.size())) {
+
+                if (pool != null) {
+                    element = puffer[erzNr].take();
+                    if (element == ENDE) {
+                        ergebnisPruefen(erzNr);
+                        puffer[erzNr] = null;
+                        erzNr++;
+                    } else {
+                        naechstesLiteral = (Literal) element;
+                    }
+                } else {
+                    if (aktuellerIter == null) {
+                        erzeuger = (PraedikatErzeugung) praedikatErzeuger.get(erzNr);
+                        aktuellerIter = new ErzeugerIterator(erzeuger);
+                    }
+                    if (aktuellerIter.hasNext()) {
+                        naechstesLiteral = (Literal) aktuellerIter.next();
+                    } else {
+                        aktuellerIter = null;
+                        erzNr++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            beenden();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Unterbrechung bei der Erzeugung der"
+                                       + " Literale", e);
+        } catch (RuntimeException e) {
+            beenden();
+            throw e;
+        } catch (Error e) {
+            beenden();
+            throw e;
+        }
+
+        if (naechstesLiteral == null) {
+            beenden();
+            return false;
+        } else {
+            return true;
+        }
+    }
+
+    /**
+     * Liefert das nchste Literal.
+     *
+     * @return  Das nchste Literal.
+     *
+     * @throws NoSuchElementException  Wenn kein Literal mehr geliefert
+     *                                 werden kann.
+     */
+    public Object next() {
+        Literal literal;
+
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        literal = naechstesLiteral;
+        naechstesLiteral = null;
+        return literal;
+    }
+
+    /**
+     * Diese Methode ist nicht implementiert und darf nicht aufgerufen
+     * werden.
+     *
+     * @throws UnsupportedOperationException  Bei jedem Aufruf.
+     */
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Beendet die Erzeugung der Literale und die dazu verwendeten Threads.
+     * Danach werden keine weiteren Literale geliefert. Die Methode kann
+     * mehrfach aufgerufen werden.
+     */
+    public void beenden() {
+
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+        erzNr = praedikatErzeuger.size();
+        naechstesLiteral = null;
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : VollKonzeptVerwaltung.java
- * Letzte nderung: 21. November 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -35,6 +35,7 @@ import mathCollection.BitMathIntSet;
 
 import lascer.praedikate.einzelne.BoolWertPraedikat;
 import lascer.konzepte.einzelne.Literal;
+import lascer.konzepte.einzelne.AbdeckungsMatrix;
 import lascer.konzepte.mengen.VollstaendigeKonzepte;
 import lascer.konzepte.mengen.AlgVollErzKonzepte;
 import lascer.praedikate.Praedikat;
@@ -70,6 +71,12 @@ public class VollKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
      */
     private transient AlgVollErzKonzepte algVollErzKonzepte = null;
 
+    /**
+     * Die Matrix, in der die erfllten Beispiele der aufgenommenen Literale
+     * gespeichert werden.
+     */
+    private transient AbdeckungsMatrix abdeckungsMatrix;
+
     /**
      * Faktor, mit dem die Summe der Kosten der ausgeschlossenen Indices
      * multipliziert wird, um die Kosten fr einen nicht ausgeschlossenen
@@ -152,6 +159,7 @@ public class VollKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
         this.random = random;
         this.beispieldaten = konzeptVerwaltung.beispieldaten;
         this.vollstaendigeKonzepte = konzeptVerwaltung.vollstaendigeKonzepte;
+        this.abdeckungsMatrix = konzeptVerwaltung.abdeckungsMatrix;
         this.algVollErzKonzepte = konzeptVerwaltung.algVollErzKonzepte;
         this.kostenFaktor = konzeptVerwaltung.kostenFaktor;
         this.gesamtKomplex = konzeptVerwaltung.gesamtKomplex;
@@ -217,6 +225,8 @@ public class VollKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
                                                                maxLiteralAnz,
                                                                spezItmAnz,
                                                                speicherEffizienz);
+        this.abdeckungsMatrix = new AbdeckungsMatrix(beispieldaten.posBspAnz(),
+                                                     beispieldaten.negBspAnz());
     }
 
     /**
@@ -263,6 +273,10 @@ public class VollKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
         // Lesen der serialisierbaren Attribute.
         stream.defaultReadObject();
 
+        // Rekonstruktion vom Wert des Attributs abdeckungsMatrix.
+        abdeckungsMatrix = new AbdeckungsMatrix(beispieldaten.posBspAnz(),
+                                                beispieldaten.negBspAnz());
+
         // Rekonstruktion vom Wert des Attributs vollstaendigeKonzepte.
         vollKonzepte = (HashSet) stream.readObject();
         vollstaendigeKonzepte = new VollstaendigeKonzepte(random, beispieldaten,
@@ -336,7 +350,8 @@ public class VollKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
      * Nimmt das bergebene Konzept in die passende Konzeptmenge auf. Wenn es
      * sich um ein allgemeines Konzept handelt und die Menge fr die
      * allgemeinen Konzepte wurde noch nicht erzeugt, wird das Konzept nicht
-     * aufgenommen.
+     * aufgenommen. Wenn ein Literal aufgenommen wird, werden seine erfllten
+     * Beispiele in die Abdeckungsmatrix bertragen.
      *
      * @param konzept  Das aufzunehmende Konzept.
      *
@@ -355,6 +370,12 @@ public class VollKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
                 }
             }
         }
+
+        if (aufgenommen) {
+            // Die erfllten Beispiele eines Literals werden nur noch in der
+            // Matrix gespeichert.
+            abdeckungsMatrix.aufnehmen(konzept);
+        }
         return aufgenommen;
     }
 
@@ -425,10 +446,24 @@ public class VollKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
      */
     public boolean konzeptAufnehmen(Konzept konzept,
                                     int posIndex, int negIndex) {
+        Literal literal;
+        boolean posEnthalten, negEnthalten;
+
+        if (konzept instanceof Literal) {
+            // Die Mengen des Literals werden nicht erzeugt.
+            literal = (Literal) konzept;
+            posEnthalten = ((posIndex < 0)
+                            || literal.posErfuelltEnthaelt(posIndex));
+            negEnthalten = ((negIndex >= 0)
+                            && literal.negErfuelltEnthaelt(negIndex));
+        } else {
+            posEnthalten = ((posIndex < 0)
+                            || konzept.posErfuelltBsp().contains(posIndex));
+            negEnthalten = ((negIndex >= 0)
+                            && konzept.negErfuelltBsp().contains(negIndex));
+        }
 
-        if (((posIndex < 0) || konzept.posErfuelltBsp().contains(posIndex))
-            && ((negIndex < 0) || !konzept.negErfuelltBsp().contains(negIndex))) {
-
+        if (posEnthalten && !negEnthalten) {
             return konzeptAufnehmen(konzept);
         } else {
             return false;
@@ -493,7 +528,7 @@ public class VollKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
                                     BitMathIntSet redKonzNegFehler) {
 
         if (konzept.istVollstaendig()
-                && konzept.negFalschBsp().isDisjoint(redKonzNegFehler)) {
+                && negFalschDisjunkt(konzept, redKonzNegFehler)) {
             return konzeptAufnehmen(konzept);
         } else {
             return false;
@@ -571,7 +606,7 @@ public class VollKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
 
         if (((konzept.komplexitaet() < komplex)
              || (konzept.negFalschAnz() < negFehlAnz))
-            && (konzept.posFalschBsp().isDisjoint(redKonzPosFehler))) {
+            && posFalschDisjunkt(konzept, redKonzPosFehler)) {
 
             return konzeptAufnehmen(konzept);
         } else {
@@ -625,6 +660,51 @@ public class VollKonzeptVerwaltung implements KonzeptVerwaltung, Serializable {
         }
     }
 
+    /**
+     * Ermittelt, ob das bergebene Konzept keines der positiven Beispiele mit
+     * den Indices der bergebenen Menge flschlicher Weise nicht abdeckt.
+     * Bei einem Literal wird dazu keine Menge seiner Beispiele erzeugt.
+     *
+     * @param konzept  Das zu prfende Konzept.
+     * @param indices  Die Indices der zu prfenden positiven Beispiele.
+     *
+     * @return  <CODE>true</CODE>, wenn die Menge der flschlicher Weise nicht
+     *          abgedeckten positiven Beispiele zur bergebenen Menge disjunkt
+     *          ist, anderenfalls <CODE>false</CODE>.
+     */
+    private static boolean posFalschDisjunkt(Konzept konzept,
+                                             BitMathIntSet indices) {
+
+        if (konzept instanceof Literal) {
+            return (((Literal) konzept).posErfuelltSchnittAnz(indices)
+                    == indices.size());
+        } else {
+            return konzept.posFalschBsp().isDisjoint(indices);
+        }
+    }
+
+    /**
+     * Ermittelt, ob das bergebene Konzept keines der negativen Beispiele mit
+     * den Indices der bergebenen Menge flschlicher Weise abdeckt. Bei einem
+     * Literal wird dazu keine Menge seiner Beispiele erzeugt.
+     *
+     * @param konzept  Das zu prfende Konzept.
+     * @param indices  Die Indices der zu prfenden negativen Beispiele.
+     *
+     * @return  <CODE>true</CODE>, wenn die Menge der flschlicher Weise
+     *          abgedeckten negativen Beispiele zur bergebenen Menge
+     *          disjunkt ist, anderenfalls <CODE>false</CODE>.
+     */
+    private static boolean negFalschDisjunkt(Konzept konzept,
+                                             BitMathIntSet indices) {
+
+        if (konzept instanceof Literal) {
+            return (((Literal) konzept).negErfuelltSchnittAnz(indices) == 0);
+        } else {
+            return konzept.negFalschBsp().isDisjoint(indices);
+        }
+    }
+
     /**
      * Liefert eine neue Menge der allgemeinen Konzepte. Dies geschieht mit
      * Bezug auf den aktuellen Inhalt der Menge der vollstndigen Konzepte.
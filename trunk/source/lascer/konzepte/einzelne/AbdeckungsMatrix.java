@@ -0,0 +1,253 @@
+/*
+ * Dateiname      : AbdeckungsMatrix.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package lascer.konzepte.einzelne;
+
+import mathCollection.BitMathIntSet;
+
+import lascer.konzepte.Konzept;
+
+/**
+ * Speichert die von Literalen erfllten Beispiele zeilenweise in groen
+ * Blcken von Worten vom Typ <CODE>long</CODE>. Jede Zeile enthlt zuerst
+ * die Worte zu den positiven und danach die Worte zu den negativen
+ * Beispielen eines Literals. Ein in die Matrix aufgenommenes Literal
+ * verweist nur noch auf seine Zeile und besitzt keine eigenen Mengen der
+ * erfllten Beispiele mehr. Dadurch entfllt der Speicherbedarf fr die
+ * einzelnen Objekte der Mengen und die Zeilen knnen sequentiell durchlaufen
+ * werden.<P>
+ *
+ * Die Zeilen eines Blocks werden nicht wieder freigegeben, auch wenn das
+ * zugehrige Literal nicht mehr bentigt wird. Ein Block wird erst dann
+ * freigegeben, wenn weder die Matrix noch eines seiner Literale mehr
+ * referenziert wird.
+ *
+ * @author  Dietmar Lippold
+ */
+public class AbdeckungsMatrix {
+
+    /**
+     * Die Anzahl der positiven Beispiele.
+     */
+    private final int posBspAnz;
+
+    /**
+     * Die Anzahl der negativen Beispiele.
+     */
+    private final int negBspAnz;
+
+    /**
+     * Die Anzahl der Worte einer Zeile.
+     */
+    private final int zeilenLaenge;
+
+    /**
+     * Die Anzahl der Zeilen eines Blocks.
+     */
+    private final int blockZeilenAnz;
+
+    /**
+     * Der Block, in den die nchsten Zeilen aufgenommen werden.
+     */
+    private long[] aktuellerBlock = null;
+
+    /**
+     * Die Anzahl der noch freien Zeilen von <CODE>aktuellerBlock</CODE>.
+     */
+    private int freieZeilenAnz = 0;
+
+    /**
+     * Die Anzahl der insgesamt belegten Zeilen.
+     */
+    private int zeilenAnz = 0;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param posBspAnz       Die Anzahl der positiven Beispiele.
+     * @param negBspAnz       Die Anzahl der negativen Beispiele.
+     * @param blockZeilenAnz  Die Anzahl der Zeilen, die jeweils zusammen in
+     *                        einem Block gespeichert werden. Der Wert mu
+     *                        grer als Null sein.
+     *
+     * @throws IllegalArgumentException  Wenn die Anzahl der Zeilen eines
+     *                                   Blocks nicht grer als Null ist.
+     */
+    public AbdeckungsMatrix(int posBspAnz, int negBspAnz, int blockZeilenAnz) {
+
+        if (blockZeilenAnz <= 0) {
+            throw new IllegalArgumentException("Die Anzahl der Zeilen eines"
+                                               + " Blocks ist nicht positiv");
+        }
+
+        this.posBspAnz = posBspAnz;
+        this.negBspAnz = negBspAnz;
+        this.zeilenLaenge = wortAnz(posBspAnz) + wortAnz(negBspAnz);
+        this.blockZeilenAnz = blockZeilenAnz;
+    }
+
+    /**
+     * Erzeugt eine neue Instanz, deren Blcke die default-Anzahl von Zeilen
+     * besitzen.
+     *
+     * @param posBspAnz  Die Anzahl der positiven Beispiele.
+     * @param negBspAnz  Die Anzahl der negativen Beispiele.
+     */
+    public AbdeckungsMatrix(int posBspAnz, int negBspAnz) {
+        this(posBspAnz, negBspAnz, Konstanten.ABDECK_BLOCK_ZEILEN_ANZ);
+    }
+
+    /**
+     * Liefert die Anzahl der Worte, die zur Speicherung der bergebenen
+     * Anzahl von Beispielen bentigt wird.
+     *
+     * @param bspAnz  Die Anzahl der Beispiele.
+     *
+     * @return  Die Anzahl der bentigten Worte.
+     */
+    public static int wortAnz(int bspAnz) {
+        return ((bspAnz + 63) >> 6);
+    }
+
+    /**
+     * Liefert ein Array von Worten, in denen die Bits zu den Indices der
+     * bergebenen Menge gesetzt sind.
+     *
+     * @param indices  Die Menge der Indices, deren Bits gesetzt sein sollen.
+     * @param bspAnz   Die Anzahl der Beispiele, zu denen die Indices gehren.
+     *
+     * @return  Ein neues Array mit den Worten zur bergebenen Menge.
+     */
+    public static long[] indexWorte(BitMathIntSet indices, int bspAnz) {
+        long[] worte;
+
+        worte = new long[wortAnz(bspAnz)];
+        worteSpeichern(indices, worte, 0);
+        return worte;
+    }
+
+    /**
+     * Setzt in den bergebenen Worten ab dem angegebenen Anfang die Bits zu
+     * den Indices der bergebenen Menge.
+     *
+     * @param indices  Die Menge der Indices, deren Bits gesetzt werden
+     *                 sollen.
+     * @param worte    Die Worte, in denen die Bits gesetzt werden sollen.
+     * @param anfang   Der Index des Wortes, das zum Index Null gehrt.
+     */
+    static void worteSpeichern(BitMathIntSet indices, long[] worte, int anfang) {
+        int index;
+
+        index = indices.getNext(0);
+        while (index >= 0) {
+            worte[anfang + (index >> 6)] |= (1L << index);
+            index = indices.getNext(index + 1);
+        }
+    }
+
+    /**
+     * Liefert die Menge der Indices, deren Bits in den bergebenen Worten ab
+     * dem angegebenen Anfang gesetzt sind.
+     *
+     * @param worte   Die Worte, in denen die Bits gesetzt sind.
+     * @param anfang  Der Index des Wortes, das zum Index Null gehrt.
+     * @param bspAnz  Die Anzahl der Beispiele, zu denen die Indices gehren.
+     *
+     * @return  Eine neue Menge der Indices der gesetzten Bits.
+     */
+    static BitMathIntSet indexMenge(long[] worte, int anfang, int bspAnz) {
+        BitMathIntSet indices;
+        long          wort;
+        int           wortAnz;
+
+        // Wegen einer ungnstigen Implementierung von java.util.BitSet in
+        // JDK 1.4 den Wert 64 zum grten Index addieren.
+        indices = new BitMathIntSet(bspAnz + 64);
+        wortAnz = wortAnz(bspAnz);
+        for (int w = 0; w < wortAnz; w++) {
+            wort = worte[anfang + w];
+            while (wort != 0) {
+                indices.add((w << 6) + Long.numberOfTrailingZeros(wort));
+                wort &= (wort - 1);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Nimmt das bergebene Konzept in die Matrix auf, wenn es ein Literal
+     * ist, das noch in keiner Matrix enthalten ist. Das Literal verweist
+     * danach auf seine Zeile in der Matrix.
+     *
+     * @param konzept  Das aufzunehmende Konzept.
+     *
+     * @return  <CODE>true</CODE>, wenn das Konzept in die Matrix aufgenommen
+     *          wurde, sonst <CODE>false</CODE>.
+     *
+     * @throws IllegalArgumentException  Wenn die Anzahl der Beispiele, die
+     *                                   dem bergebenen Konzept und der
+     *                                   Matrix zugrunde liegen, nicht
+     *                                   bereinstimmt.
+     */
+    public boolean aufnehmen(Konzept konzept) {
+        Literal literal;
+        int     zeilenAnfang;
+
+        if ((konzept.posGesamtAnz() != posBspAnz)
+            || (konzept.negGesamtAnz() != negBspAnz)) {
+
+            throw new IllegalArgumentException("Die Anzahl der zugrunde liegenden"
+                                               + " Beispiele stimmt nicht berein");
+        }
+
+        if (!(konzept instanceof Literal)) {
+            return false;
+        }
+
+        literal = (Literal) konzept;
+        if (literal.istAbgelegt()) {
+            return false;
+        }
+
+        if (freieZeilenAnz == 0) {
+            aktuellerBlock = new long[blockZeilenAnz * zeilenLaenge];
+            freieZeilenAnz = blockZeilenAnz;
+        }
+
+        zeilenAnfang = (blockZeilenAnz - freieZeilenAnz) * zeilenLaenge;
+        literal.abdeckungAblegen(aktuellerBlock, zeilenAnfang);
+        freieZeilenAnz--;
+        zeilenAnz++;
+
+        return true;
+    }
+
+    /**
+     * Liefert die Anzahl der belegten Zeilen der Matrix.
+     *
+     * @return  Die Anzahl der belegten Zeilen.
+     */
+    public int zeilenAnz() {
+        return zeilenAnz;
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : AbstraktesKonzept.java
- * Letzte nderung: 21. September 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -146,6 +146,101 @@ public abstract class AbstraktesKonzept implements Konzept {
         return alleNegBeispiele.difference(erfuelltBsp);
     }
 
+    /**
+     * ndert zu jedem in der bergebenen Menge enthaltenen Beispiel die
+     * Anzahl der Teilkonzepte um den bergebenen Wert. Wenn auerdem eine
+     * Menge von Beispielen bergeben wird, wird diese nur fr die Beispiele
+     * angepat, deren Anzahl den Wert Null erreicht oder verlt.
+     *
+     * @param anzahlen          Zu jedem Beispiel eine Anzahl von
+     *                          Teilkonzepten.
+     * @param aenderungBsp      Die Indices der Beispiele, deren Anzahl zu
+     *                          ndern ist, als aufsteigend sortiertes Array.
+     * @param aenderung         Der Wert, um den die Anzahlen zu ndern sind.
+     * @param beispiele         Die anzupassende Menge von Beispielen oder der
+     *                          Wert <CODE>null</CODE>.
+     * @param beiNullEnthalten  Gibt an, ob ein Beispiel in der anzupassenden
+     *                          Menge enthalten ist, wenn seine Anzahl Null
+     *                          ist. Anderenfalls ist es genau dann enthalten,
+     *                          wenn seine Anzahl grer als Null ist.
+     */
+    protected static void anzahlenAendern(int[] anzahlen,
+                                          int[] aenderungBsp,
+                                          int aenderung,
+                                          BitMathIntSet beispiele,
+                                          boolean beiNullEnthalten) {
+        int bspIndex;
+
+        for (int i = 0; i < aenderungBsp.length; i++) {
+            bspIndex = aenderungBsp[i];
+            if ((beispiele != null) && (anzahlen[bspIndex] == 0)) {
+                // Die Anzahl verlt den Wert Null.
+                if (beiNullEnthalten) {
+                    beispiele.remove(bspIndex);
+                } else {
+                    beispiele.add(bspIndex);
+                }
+            }
+            anzahlen[bspIndex] += aenderung;
+            if ((beispiele != null) && (anzahlen[bspIndex] == 0)) {
+                // Die Anzahl hat den Wert Null erreicht.
+                if (beiNullEnthalten) {
+                    beispiele.add(bspIndex);
+                } else {
+                    beispiele.remove(bspIndex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Liefert die Indices der vom bergebenen Konzept erfllten bzw. nicht
+     * erfllten positiven Beispiele. Bei einem Literal werden diese direkt
+     * aus seiner Zeile der Abdeckungsmatrix ermittelt.
+     *
+     * @param konzept   Das Konzept, dessen Beispiele geliefert werden.
+     * @param erfuellt  Gibt an, ob die Indices der erfllten Beispiele
+     *                  geliefert werden sollen. Anderenfalls werden die
+     *                  Indices der nicht erfllten Beispiele geliefert.
+     *
+     * @return  Ein neues, aufsteigend sortiertes Array mit den Indices.
+     */
+    protected static int[] posBspIndices(Konzept konzept, boolean erfuellt) {
+
+        if (konzept instanceof Literal) {
+            return ((Literal) konzept).posIndices(erfuellt);
+        } else if (erfuellt) {
+            return konzept.posErfuelltBsp().toArray();
+        } else {
+            return posBspInvertiert(konzept.posGesamtAnz(),
+                                    konzept.posErfuelltBsp()).toArray();
+        }
+    }
+
+    /**
+     * Liefert die Indices der vom bergebenen Konzept erfllten bzw. nicht
+     * erfllten negativen Beispiele. Bei einem Literal werden diese direkt
+     * aus seiner Zeile der Abdeckungsmatrix ermittelt.
+     *
+     * @param konzept   Das Konzept, dessen Beispiele geliefert werden.
+     * @param erfuellt  Gibt an, ob die Indices der erfllten Beispiele
+     *                  geliefert werden sollen. Anderenfalls werden die
+     *                  Indices der nicht erfllten Beispiele geliefert.
+     *
+     * @return  Ein neues, aufsteigend sortiertes Array mit den Indices.
+     */
+    protected static int[] negBspIndices(Konzept konzept, boolean erfuellt) {
+
+        if (konzept instanceof Literal) {
+            return ((Literal) konzept).negIndices(erfuellt);
+        } else if (erfuellt) {
+            return konzept.negErfuelltBsp().toArray();
+        } else {
+            return negBspInvertiert(konzept.negGesamtAnz(),
+                                    konzept.negErfuelltBsp()).toArray();
+        }
+    }
+
     /**
      * Erzeugt eine neue Instanz.
      *
@@ -212,7 +307,7 @@ public abstract class AbstraktesKonzept implements Konzept {
      *          negativen Beispiele.
      */
     public BitMathIntSet negRichtigBsp() {
-        return negBspInvertiert(negGesamtAnz, negErfuelltBsp);
+        return negBspInvertiert(negGesamtAnz, negErfuelltBsp());
     }
 
     /**
@@ -223,7 +318,7 @@ public abstract class AbstraktesKonzept implements Konzept {
      *          positiven Beispiele.
      */
     public BitMathIntSet posFalschBsp() {
-        return posBspInvertiert(posGesamtAnz, posErfuelltBsp);
+        return posBspInvertiert(posGesamtAnz, posErfuelltBsp());
     }
 
     /**
@@ -287,7 +382,7 @@ public abstract class AbstraktesKonzept implements Konzept {
      *          richtiger Weise erfllt ist.
      */
     public int posRichtigAnz() {
-        return posErfuelltBsp.size();
+        return posErfuelltAnz();
     }
 
     /**
@@ -298,7 +393,7 @@ public abstract class AbstraktesKonzept implements Konzept {
      *          richtiger Weise nicht erfllt ist.
      */
     public int negRichtigAnz() {
-        return (negGesamtAnz - negErfuelltBsp.size());
+        return (negGesamtAnz - negErfuelltAnz());
     }
 
     /**
@@ -309,7 +404,7 @@ public abstract class AbstraktesKonzept implements Konzept {
      *          flschlicher Weise nicht erfllt ist.
      */
     public int posFalschAnz() {
-        return (posGesamtAnz - posErfuelltBsp.size());
+        return (posGesamtAnz - posErfuelltAnz());
     }
 
     /**
@@ -320,7 +415,7 @@ public abstract class AbstraktesKonzept implements Konzept {
      *          flschlicher Weise erfllt ist.
      */
     public int negFalschAnz() {
-        return negErfuelltBsp.size();
+        return negErfuelltAnz();
     }
 
     /**
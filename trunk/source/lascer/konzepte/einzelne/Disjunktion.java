@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Disjunktion.java
- * Letzte nderung: 21. September 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -48,6 +48,24 @@ public class Disjunktion extends AbstraktesKonzept implements KombiKonzept {
      */
     private HashSet konzepte = new HashSet();
 
+    /**
+     * Zu jedem positiven Beispiel die Anzahl der Teilkonzepte, von denen es
+     * erfllt wird. Das Beispiel wird von der Disjunktion erfllt, wenn es
+     * von mindestens einem Teilkonzept erfllt wird. Da die Anzahlen viermal
+     * so viele Bytes wie die Menge der erfllten Beispiele Bits bentigen,
+     * werden sie erst beim ersten Entfernen eines Teilkonzepts ermittelt. Bis
+     * dahin ist der Wert <CODE>null</CODE>.
+     */
+    private int[] posErfuelltAnz = null;
+
+    /**
+     * Zu jedem negativen Beispiel die Anzahl der Teilkonzepte, von denen es
+     * erfllt wird. Das Beispiel wird von der Disjunktion erfllt, wenn es
+     * von mindestens einem Teilkonzept erfllt wird. Die Anzahlen werden
+     * zusammen mit denen der positiven Beispiele ermittelt.
+     */
+    private int[] negErfuelltAnz = null;
+
     /**
      * Die Komplexitt des Konzepts.
      */
@@ -84,7 +102,9 @@ public class Disjunktion extends AbstraktesKonzept implements KombiKonzept {
     }
 
     /**
-     * Liefert eine flache Kopie dieser Disjunktion.
+     * Liefert eine flache Kopie dieser Disjunktion. Die Anzahlen der
+     * erfllenden Teilkonzepte werden nur kopiert, wenn sie schon ermittelt
+     * wurden.
      *
      * @return  Eine flache Kopie dieser Disjunktion.
      */
@@ -95,6 +115,10 @@ public class Disjunktion extends AbstraktesKonzept implements KombiKonzept {
         kopie.setzeErfuellteBsp((BitMathIntSet) posErfuelltBsp().clone(),
                                 (BitMathIntSet) negErfuelltBsp().clone());
         kopie.konzepte.addAll(konzepte);
+        if (posErfuelltAnz != null) {
+            kopie.posErfuelltAnz = posErfuelltAnz.clone();
+            kopie.negErfuelltAnz = negErfuelltAnz.clone();
+        }
         kopie.komplexitaet = komplexitaet;
 
         return kopie;
@@ -152,6 +176,7 @@ public class Disjunktion extends AbstraktesKonzept implements KombiKonzept {
      *                                   nicht bereinstimmt.
      */
     public void aufnehmen(Konzept konzept) {
+        Literal literal;
 
         if ((konzept.posGesamtAnz() != posGesamtAnz())
             || (konzept.negGesamtAnz() != negGesamtAnz())) {
@@ -161,8 +186,17 @@ public class Disjunktion extends AbstraktesKonzept implements KombiKonzept {
         }
 
         if (!konzepte.contains(konzept)) {
-            setzeErfuellteBsp(posErfuelltBsp().union(konzept.posErfuelltBsp()),
-                              negErfuelltBsp().union(konzept.negErfuelltBsp()));
+            if ((posErfuelltAnz == null) && (konzept instanceof Literal)) {
+                // Die Mengen des Literals werden nicht erzeugt.
+                literal = (Literal) konzept;
+                setzeErfuellteBsp(literal.posErfuelltVereinigung(posErfuelltBsp()),
+                                  literal.negErfuelltVereinigung(negErfuelltBsp()));
+            } else if (posErfuelltAnz == null) {
+                setzeErfuellteBsp(posErfuelltBsp().union(konzept.posErfuelltBsp()),
+                                  negErfuelltBsp().union(konzept.negErfuelltBsp()));
+            } else {
+                erfuelltAnzAendern(konzept, 1);
+            }
             komplexitaet += konzept.komplexitaet();
             konzepte.add(konzept);
         }
@@ -199,9 +233,8 @@ public class Disjunktion extends AbstraktesKonzept implements KombiKonzept {
      *                                   nicht bereinstimmt.
      */
     public void entfernen(Konzept konzept) {
-        BitMathIntSet posErfuelltBsp, negErfuelltBsp;
-        Konzept       naechstesKonzept;
-        Iterator      konzIter;
+        Konzept  naechstesKonzept;
+        Iterator konzIter;
 
         if ((konzept.posGesamtAnz() != posGesamtAnz())
             || (konzept.negGesamtAnz() != negGesamtAnz())) {
@@ -210,19 +243,69 @@ public class Disjunktion extends AbstraktesKonzept implements KombiKonzept {
                                                + " Beispiele stimmt nicht berein");
         }
 
-        konzepte.remove(konzept);
+        if (konzepte.contains(konzept)) {
+            if (posErfuelltAnz == null) {
+                erfuelltAnzErmitteln();
+            }
 
-        posErfuelltBsp = new BitMathIntSet();
-        negErfuelltBsp = new BitMathIntSet();
-        komplexitaet = Konstanten.INIT_DIS_KOMPLEX;
+            // Aus den Mengen der erfllten Beispiele werden nur die Beispiele
+            // entfernt, die von keinem verbliebenen Teilkonzept erfllt
+            // werden, so da die verbliebenen Teilkonzepte nicht erneut
+            // vereinigt werden mssen.
+            erfuelltAnzAendern(konzept, -1);
+            konzepte.remove(konzept);
+
+            // Die Komplexitt wird in der gleichen Weise wie bei der Aufnahme
+            // der Teilkonzepte ermittelt, damit sich kein Rundungsfehler
+            // ergibt.
+            komplexitaet = Konstanten.INIT_DIS_KOMPLEX;
+            konzIter = konzepte.iterator();
+            while (konzIter.hasNext()) {
+                naechstesKonzept = (Konzept) konzIter.next();
+                komplexitaet += naechstesKonzept.komplexitaet();
+            }
+        }
+    }
 
+    /**
+     * Ermittelt zu jedem Beispiel die Anzahl der enthaltenen Teilkonzepte,
+     * von denen es erfllt wird.
+     */
+    private void erfuelltAnzErmitteln() {
+        Konzept  naechstesKonzept;
+        Iterator konzIter;
+
+        posErfuelltAnz = new int[posGesamtAnz()];
+        negErfuelltAnz = new int[negGesamtAnz()];
         konzIter = konzepte.iterator();
         while (konzIter.hasNext()) {
             naechstesKonzept = (Konzept) konzIter.next();
-            posErfuelltBsp = posErfuelltBsp.union(naechstesKonzept.posErfuelltBsp());
-            negErfuelltBsp = negErfuelltBsp.union(naechstesKonzept.negErfuelltBsp());
-            komplexitaet += naechstesKonzept.komplexitaet();
+            anzahlenAendern(posErfuelltAnz, posBspIndices(naechstesKonzept, true),
+                            1, null, false);
+            anzahlenAendern(negErfuelltAnz, negBspIndices(naechstesKonzept, true),
+                            1, null, false);
         }
+    }
+
+    /**
+     * ndert die Anzahlen der erfllenden Teilkonzepte fr die vom
+     * bergebenen Teilkonzept erfllten Beispiele und pat die Mengen der
+     * erfllten Beispiele fr die Beispiele an, deren Anzahl den Wert Null
+     * erreicht oder verlt. Die Mengen werden dazu einmal kopiert, da sie
+     * auerhalb der Disjunktion verwendet werden knnen.
+     *
+     * @param konzept    Das aufgenommene oder entfernte Teilkonzept.
+     * @param aenderung  Der Wert, um den die Anzahlen zu ndern sind.
+     */
+    private void erfuelltAnzAendern(Konzept konzept, int aenderung) {
+        BitMathIntSet posErfuelltBsp, negErfuelltBsp;
+
+        posErfuelltBsp = (BitMathIntSet) posErfuelltBsp().clone();
+        negErfuelltBsp = (BitMathIntSet) negErfuelltBsp().clone();
+        anzahlenAendern(posErfuelltAnz, posBspIndices(konzept, true),
+                        aenderung, posErfuelltBsp, false);
+        anzahlenAendern(negErfuelltAnz, negBspIndices(konzept, true),
+                        aenderung, negErfuelltBsp, false);
         setzeErfuellteBsp(posErfuelltBsp, negErfuelltBsp);
     }
 
@@ -0,0 +1,398 @@
+/*
+ * Dateiname      : FormelAuswertung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package lascer.konzepte.einzelne;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import lascer.konzepte.Konzept;
+import lascer.problemdaten.Beispieldaten;
+
+/**
+ * Wertet eine Formel fr viele Beispiele gemeinsam aus. Die Formel wird dazu
+ * einmalig in ein flaches Programm bersetzt, dessen Knoten in Arrays
+ * gespeichert sind. Gleiche Literale werden dabei nur einmal aufgenommen und
+ * bei der Auswertung nur einmal und nur bei Bedarf spaltenweise ber alle
+ * Beispiele ausgewertet. Die Ergebnisse werden als Worte vom Typ
+ * <CODE>long</CODE> verknpft. Sobald eine Konjunktion fr kein Beispiel
+ * mehr bzw. eine Disjunktion fr alle Beispiele erfllt ist, werden ihre
+ * weiteren Teilkonzepte nicht mehr ausgewertet.
+ *
+ * @author  Dietmar Lippold
+ */
+public class FormelAuswertung {
+
+    /**
+     * Die Art eines Knotens, der ein Literal darstellt.
+     */
+    private static final int LITERAL = 0;
+
+    /**
+     * Die Art eines Knotens, der eine Konjunktion darstellt.
+     */
+    private static final int KONJUNKTION = 1;
+
+    /**
+     * Die Art eines Knotens, der eine Disjunktion darstellt.
+     */
+    private static final int DISJUNKTION = 2;
+
+    /**
+     * Die verschiedenen Literale der Formel.
+     */
+    private Literal[] literale;
+
+    /**
+     * Die Art jedes Knotens.
+     */
+    private int[] knotenArt;
+
+    /**
+     * Zu einem Literal-Knoten die Nummer des Literals und zu einem anderen
+     * Knoten der Index in <CODE>kinder</CODE>, ab dem die Nummern seiner
+     * Kind-Knoten stehen.
+     */
+    private int[] knotenWert;
+
+    /**
+     * Die Anzahl der Kind-Knoten jedes Knotens.
+     */
+    private int[] kindAnz;
+
+    /**
+     * Die Nummern der Kind-Knoten aller Knoten. Die Kind-Knoten eines Knotens
+     * stehen zusammenhngend, wobei Literal-Knoten zuerst kommen.
+     */
+    private int[] kinder;
+
+    /**
+     * Die Nummer des Knotens der gesamten Formel.
+     */
+    private int wurzel;
+
+    /**
+     * Erzeugt eine neue Instanz, die die bergebene Formel bersetzt.
+     *
+     * @param formel  Die auszuwertende Formel. Sie darf nur aus Literalen,
+     *                Konjunktionen und Disjunktionen bestehen.
+     *
+     * @throws IllegalArgumentException  Wenn die Art der Formel oder eines
+     *                                   ihrer Teilkonzepte unbekannt ist.
+     */
+    public FormelAuswertung(Konzept formel) {
+        HashMap   literalNummern;
+        ArrayList literalListe;
+        ArrayList knotenListe;
+        ArrayList kinderListe;
+        int[]     knoten;
+
+        literalNummern = new HashMap();
+        literalListe = new ArrayList();
+        knotenListe = new ArrayList();
+        kinderListe = new ArrayList();
+
+        wurzel = knotenAufnehmen(formel, literalNummern, literalListe,
+                                 knotenListe, kinderListe);
+
+        literale = new Literal[literalListe.size()];
+        literalListe.toArray(literale);
+
+        knotenArt = new int[knotenListe.size()];
+        knotenWert = new int[knotenListe.size()];
+        kindAnz = new int[knotenListe.size()];
+        for (int knotenNr = 0; knotenNr < knotenListe.size(); knotenNr++) {
+            knoten = (int[]) knotenListe.get(knotenNr);
+            knotenArt[knotenNr] = knoten[0];
+            knotenWert[knotenNr] = knoten[1];
+            kindAnz[knotenNr] = knoten[2];
+        }
+
+        kinder = new int[kinderListe.size()];
+        for (int i = 0; i < kinder.length; i++) {
+            kinder[i] = ((Integer) kinderListe.get(i)).intValue();
+        }
+    }
+
+    /**
+     * Nimmt zum bergebenen Konzept und rekursiv zu seinen Teilkonzepten
+     * Knoten in die bergebenen Listen auf.
+     *
+     * @param konzept         Das aufzunehmende Konzept.
+     * @param literalNummern  Die Abbildung der bereits aufgenommenen Literale
+     *                        auf ihre Nummern.
+     * @param literalListe    Die Liste der bereits aufgenommenen Literale.
+     * @param knotenListe     Die Liste der Knoten. Ein Knoten ist ein Array
+     *                        aus seiner Art, seinem Wert und der Anzahl
+     *                        seiner Kind-Knoten.
+     * @param kinderListe     Die Liste der Nummern der Kind-Knoten.
+     *
+     * @return  Die Nummer des Knotens zum bergebenen Konzept.
+     *
+     * @throws IllegalArgumentException  Wenn die Art des Konzepts oder eines
+     *                                   seiner Teilkonzepte unbekannt ist.
+     */
+    private static int knotenAufnehmen(Konzept konzept, HashMap literalNummern,
+                                       ArrayList literalListe,
+                                       ArrayList knotenListe,
+                                       ArrayList kinderListe) {
+        Integer  literalNummer;
+        Iterator konzIter;
+        Konzept  teilkonzept;
+        int[]    literalKinder;
+        int[]    andereKinder;
+        int      literalKindAnz, andereKindAnz;
+        int      art;
+
+        if (konzept instanceof Literal) {
+            literalNummer = (Integer) literalNummern.get(konzept);
+            if (literalNummer == null) {
+                literalNummer = new Integer(literalListe.size());
+                literalNummern.put(konzept, literalNummer);
+                literalListe.add(konzept);
+            }
+            knotenListe.add(new int[] {LITERAL, literalNummer.intValue(), 0});
+            return (knotenListe.size() - 1);
+        }
+
+        if (konzept instanceof Konjunktion) {
+            art = KONJUNKTION;
+        } else if (konzept instanceof Disjunktion) {
+            art = DISJUNKTION;
+        } else {
+            throw new IllegalArgumentException("Art des Konzepts unbekannt: "
+                                               + konzept);
+        }
+
+        // Zuerst die Kind-Knoten aufnehmen, wobei Literale vorne stehen
+        // sollen.
+        literalKinder = new int[konzept.teilkonzepte().size()];
+        andereKinder = new int[konzept.teilkonzepte().size()];
+        literalKindAnz = 0;
+        andereKindAnz = 0;
+        konzIter = konzept.teilkonzepte().iterator();
+        while (konzIter.hasNext()) {
+            teilkonzept = (Konzept) konzIter.next();
+            if (teilkonzept instanceof Literal) {
+                literalKinder[literalKindAnz] = knotenAufnehmen(teilkonzept,
+                                                                literalNummern,
+                                                                literalListe,
+                                                                knotenListe,
+                                                                kinderListe);
+                literalKindAnz++;
+            } else {
+                andereKinder[andereKindAnz] = knotenAufnehmen(teilkonzept,
+                                                              literalNummern,
+                                                              literalListe,
+                                                              knotenListe,
+                                                              kinderListe);
+                andereKindAnz++;
+            }
+        }
+
+        // Die Nummern der Kind-Knoten zusammenhngend aufnehmen.
+        knotenListe.add(new int[] {art, kinderListe.size(),
+                                   literalKindAnz + andereKindAnz});
+        for (int i = 0; i < literalKindAnz; i++) {
+            kinderListe.add(new Integer(literalKinder[i]));
+        }
+        for (int i = 0; i < andereKindAnz; i++) {
+            kinderListe.add(new Integer(andereKinder[i]));
+        }
+        return (knotenListe.size() - 1);
+    }
+
+    /**
+     * Liefert Worte, in denen die Bits aller Beispiele gesetzt sind.
+     *
+     * @param bspAnz  Die Anzahl der Beispiele.
+     *
+     * @return  Ein neues Array mit den Worten.
+     */
+    private static long[] alleWorte(int bspAnz) {
+        long[] worte;
+
+        worte = new long[AbdeckungsMatrix.wortAnz(bspAnz)];
+        for (int i = 0; i < worte.length; i++) {
+            worte[i] = -1L;
+        }
+        if ((bspAnz & 63) != 0) {
+            worte[worte.length - 1] = (1L << (bspAnz & 63)) - 1;
+        }
+        return worte;
+    }
+
+    /**
+     * Ermittelt, ob die bergebenen Worte gleich sind.
+     *
+     * @param worte        Die zu prfenden Worte.
+     * @param andereWorte  Die Worte, mit denen verglichen wird.
+     *
+     * @return  <CODE>true</CODE>, wenn die Worte gleich sind, sonst
+     *          <CODE>false</CODE>.
+     */
+    private static boolean gleich(long[] worte, long[] andereWorte) {
+        int wortNr;
+
+        wortNr = 0;
+        while ((wortNr < worte.length) && (worte[wortNr] == andereWorte[wortNr])) {
+            wortNr++;
+        }
+        return (wortNr == worte.length);
+    }
+
+    /**
+     * Liefert die Worte zum Literal mit der bergebenen Nummer. Falls es
+     * noch nicht ausgewertet wurde, wird es fr die positiven Beispiele der
+     * bergebenen Beispieldaten ausgewertet.
+     *
+     * @param literalNr      Die Nummer des Literals.
+     * @param bspDaten       Die Beispieldaten.
+     * @param literalWorte   Die Worte der bereits ausgewerteten Literale. Zu
+     *                       noch nicht ausgewerteten Literalen ist der Wert
+     *                       <CODE>null</CODE> enthalten.
+     *
+     * @return  Die Worte zum Literal. Diese drfen nicht verndert werden.
+     */
+    private long[] literalWorte(int literalNr, Beispieldaten bspDaten,
+                                long[][] literalWorte) {
+        Literal   literal;
+        boolean[] werte;
+        long[]    worte;
+
+        if (literalWorte[literalNr] == null) {
+            literal = literale[literalNr];
+            werte = literal.praedikat().posBspWerte(bspDaten,
+                                                    literal.istInvertiert());
+            worte = new long[AbdeckungsMatrix.wortAnz(werte.length)];
+            for (int bspNr = 0; bspNr < werte.length; bspNr++) {
+                if (werte[bspNr]) {
+                    worte[bspNr >> 6] |= (1L << (bspNr & 63));
+                }
+            }
+            literalWorte[literalNr] = worte;
+        }
+        return literalWorte[literalNr];
+    }
+
+    /**
+     * Liefert die Worte zum bergebenen Knoten.
+     *
+     * @param knotenNr      Die Nummer des auszuwertenden Knotens.
+     * @param bspDaten      Die Beispieldaten.
+     * @param literalWorte  Die Worte der bereits ausgewerteten Literale.
+     * @param vollWorte     Die Worte, in denen die Bits aller Beispiele
+     *                      gesetzt sind.
+     *
+     * @return  Die Worte zum Knoten. Diese drfen nicht verndert werden.
+     */
+    private long[] knotenWorte(int knotenNr, Beispieldaten bspDaten,
+                               long[][] literalWorte, long[] vollWorte) {
+        long[]  ergebnis;
+        long[]  kindWorte;
+        long[]  grenzWorte;
+        boolean konjunktion;
+        int     kindIndex;
+        int     kindEnde;
+
+        if (knotenArt[knotenNr] == LITERAL) {
+            return literalWorte(knotenWert[knotenNr], bspDaten, literalWorte);
+        }
+
+        konjunktion = (knotenArt[knotenNr] == KONJUNKTION);
+        if (konjunktion) {
+            ergebnis = (long[]) vollWorte.clone();
+            grenzWorte = new long[vollWorte.length];
+        } else {
+            ergebnis = new long[vollWorte.length];
+            grenzWorte = vollWorte;
+        }
+
+        kindIndex = knotenWert[knotenNr];
+        kindEnde = kindIndex + kindAnz[knotenNr];
+        while ((kindIndex < kindEnde) && !gleich(ergebnis, grenzWorte)) {
+            kindWorte = knotenWorte(kinder[kindIndex], bspDaten,
+                                    literalWorte, vollWorte);
+            for (int i = 0; i < ergebnis.length; i++) {
+                if (konjunktion) {
+                    ergebnis[i] &= kindWorte[i];
+                } else {
+                    ergebnis[i] |= kindWorte[i];
+                }
+            }
+            kindIndex++;
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Liefert die Anzahl der verschiedenen Literale der Formel.
+     *
+     * @return  Die Anzahl der verschiedenen Literale.
+     */
+    public int literalAnz() {
+        return literale.length;
+    }
+
+    /**
+     * Liefert die Anzahl der Knoten des bersetzten Programms.
+     *
+     * @return  Die Anzahl der Knoten.
+     */
+    public int knotenAnz() {
+        return knotenArt.length;
+    }
+
+    /**
+     * Ermittelt fr alle positiven Beispiele der bergebenen Beispieldaten,
+     * ob die Formel auf sie zutrifft. Das Ergebnis stimmt fr jedes Beispiel
+     * mit dem der Methode <CODE>trifftZu</CODE> der Formel berein.
+     *
+     * @param bspDaten  Die Beispieldaten, deren positive Beispiele
+     *                  ausgewertet werden sollen. Die Attribute mssen die
+     *                  der Beispieldaten sein, zu denen die Formel erzeugt
+     *                  wurde.
+     *
+     * @return  Ein neues Array, das zu jedem positiven Beispiel angibt, ob
+     *          die Formel auf dieses zutrifft.
+     */
+    public boolean[] trifftZu(Beispieldaten bspDaten) {
+        long[][]  literalWorte;
+        long[]    vollWorte;
+        long[]    formelWorte;
+        boolean[] werte;
+        int       bspAnz;
+
+        bspAnz = bspDaten.posBspAnz();
+        literalWorte = new long[literale.length][];
+        vollWorte = alleWorte(bspAnz);
+        formelWorte = knotenWorte(wurzel, bspDaten, literalWorte, vollWorte);
+
+        werte = new boolean[bspAnz];
+        for (int bspNr = 0; bspNr < bspAnz; bspNr++) {
+            werte[bspNr] = ((formelWorte[bspNr >> 6] & (1L << (bspNr & 63))) != 0);
+        }
+        return werte;
+    }
+}
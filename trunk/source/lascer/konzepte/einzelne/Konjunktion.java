@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konjunktion.java
- * Letzte nderung: 21. September 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -48,6 +48,24 @@ public class Konjunktion extends AbstraktesKonzept implements KombiKonzept {
      */
     private HashSet konzepte = new HashSet();
 
+    /**
+     * Zu jedem positiven Beispiel die Anzahl der Teilkonzepte, von denen es
+     * nicht erfllt wird. Das Beispiel wird von der Konjunktion erfllt, wenn
+     * die Anzahl Null ist. Da die Anzahlen viermal so viele Bytes wie die
+     * Menge der erfllten Beispiele Bits bentigen, werden sie erst beim
+     * ersten Entfernen eines Teilkonzepts ermittelt. Bis dahin ist der Wert
+     * <CODE>null</CODE>.
+     */
+    private int[] posNichtErfuelltAnz = null;
+
+    /**
+     * Zu jedem negativen Beispiel die Anzahl der Teilkonzepte, von denen es
+     * nicht erfllt wird. Das Beispiel wird von der Konjunktion erfllt, wenn
+     * die Anzahl Null ist. Die Anzahlen werden zusammen mit denen der
+     * positiven Beispiele ermittelt.
+     */
+    private int[] negNichtErfuelltAnz = null;
+
     /**
      * Die Komplexitt des Konzepts.
      */
@@ -82,7 +100,9 @@ public class Konjunktion extends AbstraktesKonzept implements KombiKonzept {
     }
 
     /**
-     * Liefert eine flache Kopie dieser Konjunktion.
+     * Liefert eine flache Kopie dieser Konjunktion. Die Anzahlen der nicht
+     * erfllenden Teilkonzepte werden nur kopiert, wenn sie schon ermittelt
+     * wurden.
      *
      * @return  Eine flache Kopie dieser Konjunktion.
      */
@@ -93,6 +113,10 @@ public class Konjunktion extends AbstraktesKonzept implements KombiKonzept {
         kopie.setzeErfuellteBsp((BitMathIntSet) posErfuelltBsp().clone(),
                                 (BitMathIntSet) negErfuelltBsp().clone());
         kopie.konzepte.addAll(konzepte);
+        if (posNichtErfuelltAnz != null) {
+            kopie.posNichtErfuelltAnz = posNichtErfuelltAnz.clone();
+            kopie.negNichtErfuelltAnz = negNichtErfuelltAnz.clone();
+        }
         kopie.komplexitaet = komplexitaet;
 
         return kopie;
@@ -150,6 +174,7 @@ public class Konjunktion extends AbstraktesKonzept implements KombiKonzept {
      *                                   nicht bereinstimmt.
      */
     public void aufnehmen(Konzept konzept) {
+        Literal literal;
 
         if ((konzept.posGesamtAnz() != posGesamtAnz())
             || (konzept.negGesamtAnz() != negGesamtAnz())) {
@@ -159,8 +184,17 @@ public class Konjunktion extends AbstraktesKonzept implements KombiKonzept {
         }
 
         if (!konzepte.contains(konzept)) {
-            setzeErfuellteBsp(posErfuelltBsp().intersection(konzept.posErfuelltBsp()),
-                              negErfuelltBsp().intersection(konzept.negErfuelltBsp()));
+            if ((posNichtErfuelltAnz == null) && (konzept instanceof Literal)) {
+                // Die Mengen des Literals werden nicht erzeugt.
+                literal = (Literal) konzept;
+                setzeErfuellteBsp(literal.posErfuelltSchnitt(posErfuelltBsp()),
+                                  literal.negErfuelltSchnitt(negErfuelltBsp()));
+            } else if (posNichtErfuelltAnz == null) {
+                setzeErfuellteBsp(posErfuelltBsp().intersection(konzept.posErfuelltBsp()),
+                                  negErfuelltBsp().intersection(konzept.negErfuelltBsp()));
+            } else {
+                nichtErfuelltAnzAendern(konzept, 1);
+            }
             komplexitaet += konzept.komplexitaet();
             konzepte.add(konzept);
         }
@@ -198,9 +232,8 @@ public class Konjunktion extends AbstraktesKonzept implements KombiKonzept {
      *                                   nicht bereinstimmt.
      */
     public void entfernen(Konzept konzept) {
-        BitMathIntSet posErfuelltBsp, negErfuelltBsp;
-        Konzept       naechstesKonzept;
-        Iterator      konzIter;
+        Konzept  naechstesKonzept;
+        Iterator konzIter;
 
         if ((konzept.posGesamtAnz() != posGesamtAnz())
             || (konzept.negGesamtAnz() != negGesamtAnz())) {
@@ -209,19 +242,71 @@ public class Konjunktion extends AbstraktesKonzept implements KombiKonzept {
                                                + " Beispiele stimmt nicht berein");
         }
 
-        konzepte.remove(konzept);
+        if (konzepte.contains(konzept)) {
+            if (posNichtErfuelltAnz == null) {
+                nichtErfuelltAnzErmitteln();
+            }
 
-        posErfuelltBsp = posBspInvertiert(posGesamtAnz(), new BitMathIntSet());
-        negErfuelltBsp = negBspInvertiert(negGesamtAnz(), new BitMathIntSet());
-        komplexitaet = Konstanten.INIT_KON_KOMPLEX;
+            // In die Mengen der erfllten Beispiele werden nur die Beispiele
+            // aufgenommen, die danach von keinem Teilkonzept mehr nicht
+            // erfllt werden, so da die verbliebenen Teilkonzepte nicht
+            // erneut geschnitten werden mssen.
+            nichtErfuelltAnzAendern(konzept, -1);
+            konzepte.remove(konzept);
+
+            // Die Komplexitt wird in der gleichen Weise wie bei der Aufnahme
+            // der Teilkonzepte ermittelt, damit sich kein Rundungsfehler
+            // ergibt.
+            komplexitaet = Konstanten.INIT_KON_KOMPLEX;
+            konzIter = konzepte.iterator();
+            while (konzIter.hasNext()) {
+                naechstesKonzept = (Konzept) konzIter.next();
+                komplexitaet += naechstesKonzept.komplexitaet();
+            }
+        }
+    }
 
+    /**
+     * Ermittelt zu jedem Beispiel die Anzahl der enthaltenen Teilkonzepte,
+     * von denen es nicht erfllt wird.
+     */
+    private void nichtErfuelltAnzErmitteln() {
+        Konzept  naechstesKonzept;
+        Iterator konzIter;
+
+        posNichtErfuelltAnz = new int[posGesamtAnz()];
+        negNichtErfuelltAnz = new int[negGesamtAnz()];
         konzIter = konzepte.iterator();
         while (konzIter.hasNext()) {
             naechstesKonzept = (Konzept) konzIter.next();
-            posErfuelltBsp = posErfuelltBsp.intersection(naechstesKonzept.posErfuelltBsp());
-            negErfuelltBsp = negErfuelltBsp.intersection(naechstesKonzept.negErfuelltBsp());
-            komplexitaet += naechstesKonzept.komplexitaet();
+            anzahlenAendern(posNichtErfuelltAnz,
+                            posBspIndices(naechstesKonzept, false),
+                            1, null, true);
+            anzahlenAendern(negNichtErfuelltAnz,
+                            negBspIndices(naechstesKonzept, false),
+                            1, null, true);
         }
+    }
+
+    /**
+     * ndert die Anzahlen der nicht erfllenden Teilkonzepte fr die vom
+     * bergebenen Teilkonzept nicht erfllten Beispiele und pat die Mengen
+     * der erfllten Beispiele fr die Beispiele an, deren Anzahl den Wert
+     * Null erreicht oder verlt. Die Mengen werden dazu einmal kopiert, da
+     * sie auerhalb der Konjunktion verwendet werden knnen.
+     *
+     * @param konzept    Das aufgenommene oder entfernte Teilkonzept.
+     * @param aenderung  Der Wert, um den die Anzahlen zu ndern sind.
+     */
+    private void nichtErfuelltAnzAendern(Konzept konzept, int aenderung) {
+        BitMathIntSet posErfuelltBsp, negErfuelltBsp;
+
+        posErfuelltBsp = (BitMathIntSet) posErfuelltBsp().clone();
+        negErfuelltBsp = (BitMathIntSet) negErfuelltBsp().clone();
+        anzahlenAendern(posNichtErfuelltAnz, posBspIndices(konzept, false),
+                        aenderung, posErfuelltBsp, true);
+        anzahlenAendern(negNichtErfuelltAnz, negBspIndices(konzept, false),
+                        aenderung, negErfuelltBsp, true);
         setzeErfuellteBsp(posErfuelltBsp, negErfuelltBsp);
     }
 
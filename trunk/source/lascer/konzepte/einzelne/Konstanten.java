@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konstanten.java
- * Letzte nderung: 28. Juni 2005
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2005
  *
@@ -63,5 +63,11 @@ public class Konstanten {
      * Gibt die initiale Komplexitt einer Konjunktion an.
      */
     public static final float INIT_KON_KOMPLEX = 1.0f;
+
+    /**
+     * Gibt die Anzahl der Zeilen an, die in einer Abdeckungsmatrix jeweils
+     * zusammen in einem Block gespeichert werden.
+     */
+    public static final int ABDECK_BLOCK_ZEILEN_ANZ = 1024;
 }
 
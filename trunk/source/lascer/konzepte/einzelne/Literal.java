@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Literal.java
- * Letzte nderung: 21. September 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -23,6 +23,9 @@
 
 package lascer.konzepte.einzelne;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.HashSet;
 import mathCollection.BitMathIntSet;
 
@@ -32,7 +35,14 @@ import lascer.problemdaten.Beispiel;
 import lascer.problemdaten.Beispieldaten;
 
 /**
- * Reprsentiert ein Literal.
+ * Reprsentiert ein Literal.<P>
+ *
+ * Wenn die erfllten Beispiele in einer <CODE>AbdeckungsMatrix</CODE>
+ * gespeichert sind, erzeugen die Methoden <CODE>posErfuelltBsp</CODE> und
+ * <CODE>negErfuelltBsp</CODE> bei jedem Aufruf eine neue Menge, in die jeder
+ * Index einzeln eingefgt wird. Fr Tests einzelner Indices sowie fr
+ * Schnitte, Vereinigungen und Anzahlen sind daher die Methoden vorgesehen,
+ * die direkt auf der Zeile der Matrix arbeiten.
  *
  * @author  Dietmar Lippold
  */
@@ -58,6 +68,32 @@ public class Literal extends AbstraktesKonzept implements Konzept {
      */
     private boolean invertiert;
 
+    /**
+     * Der Block einer <CODE>AbdeckungsMatrix</CODE>, in dem die erfllten
+     * Beispiele gespeichert sind. Solange das Literal in keine Matrix
+     * aufgenommen wurde, ist der Wert <CODE>null</CODE> und die erfllten
+     * Beispiele sind als Mengen gespeichert.
+     */
+    private transient long[] abdeckBlock = null;
+
+    /**
+     * Der Index des ersten Wortes der Zeile des Literals in
+     * <CODE>abdeckBlock</CODE>.
+     */
+    private transient int zeilenAnfang;
+
+    /**
+     * Die Anzahl der erfllten positiven Beispiele, wenn diese in einer
+     * Matrix gespeichert sind.
+     */
+    private transient int posErfuelltAnz;
+
+    /**
+     * Die Anzahl der erfllten negativen Beispiele, wenn diese in einer
+     * Matrix gespeichert sind.
+     */
+    private transient int negErfuelltAnz;
+
     /**
      * Erzeugt eine neue Instanz.
      *
@@ -152,6 +188,559 @@ public class Literal extends AbstraktesKonzept implements Konzept {
         return beschreibung.equals(((Literal) anderesObjekt).beschreibung);
     }
 
+    /**
+     * Liest dieses Objekt aus dem bergebenen Stream.
+     *
+     * @param stream  Der Stream, aus dem dieses Objekt gelesen werden soll.
+     *
+     * @throws IOException             Wenn bein Lesen des serialisierten
+     *                                 Objekts eine Ausnahme auftrat.
+     * @throws ClassNotFoundException  Wenn die Klasse dieser Instanz nicht
+     *                                 gefunden werden konnte.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+
+        BitMathIntSet posErfuelltBsp, negErfuelltBsp;
+
+        // Lesen der serialisierbaren Attribute.
+        stream.defaultReadObject();
+
+        // Die erfllten Beispiele werden immer als Mengen gelesen.
+        posErfuelltBsp = (BitMathIntSet) stream.readObject();
+        negErfuelltBsp = (BitMathIntSet) stream.readObject();
+        setzeErfuellteBsp(posErfuelltBsp, negErfuelltBsp);
+    }
+
+    /**
+     * Schreibt dieses Objekt in den bergebenen Stream.
+     *
+     * @param stream  Der Stream, in den dieses Objekt geschrieben werden
+     *                soll.
+     *
+     * @throws IOException  Wenn bein Schreiben des serialisierten Objekts
+     *                      eine Ausnahme auftrat.
+     */
+    private void writeObject(ObjectOutputStream stream)
+        throws IOException {
+
+        stream.defaultWriteObject();
+
+        // Die erfllten Beispiele werden unabhngig von ihrer Speicherung in
+        // einer Matrix als Mengen geschrieben.
+        stream.writeObject(posErfuelltBsp());
+        stream.writeObject(negErfuelltBsp());
+    }
+
+    /**
+     * Ermittelt, ob die erfllten Beispiele dieses Literals in einer
+     * <CODE>AbdeckungsMatrix</CODE> gespeichert sind.
+     *
+     * @return  <CODE>true</CODE>, wenn die erfllten Beispiele in einer
+     *          Matrix gespeichert sind, sonst <CODE>false</CODE>.
+     */
+    boolean istAbgelegt() {
+        return (abdeckBlock != null);
+    }
+
+    /**
+     * Speichert die erfllten Beispiele in der Zeile eines Blocks einer
+     * <CODE>AbdeckungsMatrix</CODE> und gibt die Mengen der erfllten
+     * Beispiele frei. Die Worte der Zeile mssen den Wert Null haben.
+     *
+     * @param block         Der Block, in dem die Zeile enthalten ist.
+     * @param zeilenAnfang  Der Index des ersten Wortes der Zeile im Block.
+     */
+    void abdeckungAblegen(long[] block, int zeilenAnfang) {
+        BitMathIntSet posErfuelltBsp, negErfuelltBsp;
+
+        posErfuelltBsp = super.posErfuelltBsp();
+        negErfuelltBsp = super.negErfuelltBsp();
+        AbdeckungsMatrix.worteSpeichern(posErfuelltBsp, block, zeilenAnfang);
+        AbdeckungsMatrix.worteSpeichern(negErfuelltBsp, block,
+                                        zeilenAnfang
+                                        + AbdeckungsMatrix.wortAnz(posGesamtAnz()));
+
+        this.posErfuelltAnz = posErfuelltBsp.size();
+        this.negErfuelltAnz = negErfuelltBsp.size();
+        this.zeilenAnfang = zeilenAnfang;
+        this.abdeckBlock = block;
+        setzeErfuellteBsp(null, null);
+    }
+
+    /**
+     * Liefert die Menge der Indices der vom Konzept erfllten positiven
+     * Beispiele der zugrunde liegenden Daten. Wenn diese in einer Matrix
+     * gespeichert sind, wird die Menge bei jedem Aufruf neu erzeugt.
+     *
+     * @return  Die Menge der Indices der vom Konzept erfllten positiven
+     *          Beispiele.
+     */
+    public BitMathIntSet posErfuelltBsp() {
+
+        if (abdeckBlock == null) {
+            return super.posErfuelltBsp();
+        } else {
+            return AbdeckungsMatrix.indexMenge(abdeckBlock, zeilenAnfang,
+                                               posGesamtAnz());
+        }
+    }
+
+    /**
+     * Liefert die Menge der Indices der vom Konzept erfllten negativen
+     * Beispiele der zugrunde liegenden Daten. Wenn diese in einer Matrix
+     * gespeichert sind, wird die Menge bei jedem Aufruf neu erzeugt.
+     *
+     * @return  Die Menge der Indices der vom Konzept erfllten negativen
+     *          Beispiele.
+     */
+    public BitMathIntSet negErfuelltBsp() {
+
+        if (abdeckBlock == null) {
+            return super.negErfuelltBsp();
+        } else {
+            return AbdeckungsMatrix.indexMenge(abdeckBlock, negZeilenAnfang(),
+                                               negGesamtAnz());
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der vom Konzept erfllten positiven Beispiele.
+     *
+     * @return  Die Anzahl der vom Konzept erfllten positiven Beispiele.
+     */
+    public int posErfuelltAnz() {
+
+        if (abdeckBlock == null) {
+            return super.posErfuelltAnz();
+        } else {
+            return posErfuelltAnz;
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der vom Konzept erfllten negativen Beispiele.
+     *
+     * @return  Die Anzahl der vom Konzept erfllten negativen Beispiele.
+     */
+    public int negErfuelltAnz() {
+
+        if (abdeckBlock == null) {
+            return super.negErfuelltAnz();
+        } else {
+            return negErfuelltAnz;
+        }
+    }
+
+    /**
+     * Liefert den Index des ersten Wortes der negativen Beispiele in
+     * <CODE>abdeckBlock</CODE>.
+     *
+     * @return  Den Index des ersten Wortes der negativen Beispiele.
+     */
+    private int negZeilenAnfang() {
+        return (zeilenAnfang + AbdeckungsMatrix.wortAnz(posGesamtAnz()));
+    }
+
+    /**
+     * Ermittelt, ob in der Zeile ab dem angegebenen Anfang das Bit zum
+     * bergebenen Index gesetzt ist.
+     *
+     * @param anfang  Der Index des Wortes, das zum Index Null gehrt.
+     * @param index   Der Index des Beispiels.
+     *
+     * @return  <CODE>true</CODE>, wenn das Bit gesetzt ist, sonst
+     *          <CODE>false</CODE>.
+     */
+    private boolean bitGesetzt(int anfang, int index) {
+        return ((abdeckBlock[anfang + (index >> 6)] & (1L << index)) != 0);
+    }
+
+    /**
+     * Liefert die Menge der Indices der bergebenen Menge, deren Bits in der
+     * Zeile ab dem angegebenen Anfang gesetzt sind.
+     *
+     * @param anfang  Der Index des Wortes, das zum Index Null gehrt.
+     * @param menge   Die Menge der zu prfenden Indices.
+     * @param bspAnz  Die Anzahl der Beispiele, zu denen die Indices gehren.
+     *
+     * @return  Eine neue Menge mit den Indices, deren Bits gesetzt sind.
+     */
+    private BitMathIntSet zeilenSchnitt(int anfang, BitMathIntSet menge,
+                                        int bspAnz) {
+        BitMathIntSet schnitt;
+        int           index;
+
+        // Wegen einer ungnstigen Implementierung von java.util.BitSet in
+        // JDK 1.4 den Wert 64 zum grten Index addieren.
+        schnitt = new BitMathIntSet(bspAnz + 64);
+        index = menge.getNext(0);
+        while (index >= 0) {
+            if (bitGesetzt(anfang, index)) {
+                schnitt.add(index);
+            }
+            index = menge.getNext(index + 1);
+        }
+        return schnitt;
+    }
+
+    /**
+     * Liefert die Vereinigung der bergebenen Menge mit den Indices, deren
+     * Bits in der Zeile ab dem angegebenen Anfang gesetzt sind.
+     *
+     * @param anfang  Der Index des Wortes, das zum Index Null gehrt.
+     * @param menge   Die Menge, mit der die Indices vereinigt werden.
+     * @param bspAnz  Die Anzahl der Beispiele, zu denen die Indices gehren.
+     *
+     * @return  Eine neue Menge mit der Vereinigung.
+     */
+    private BitMathIntSet zeilenVereinigung(int anfang, BitMathIntSet menge,
+                                            int bspAnz) {
+        BitMathIntSet vereinigung;
+        long          wort;
+        int           wortAnz;
+
+        vereinigung = (BitMathIntSet) menge.clone();
+        wortAnz = AbdeckungsMatrix.wortAnz(bspAnz);
+        for (int w = 0; w < wortAnz; w++) {
+            wort = abdeckBlock[anfang + w];
+            while (wort != 0) {
+                vereinigung.add((w << 6) + Long.numberOfTrailingZeros(wort));
+                wort &= (wort - 1);
+            }
+        }
+        return vereinigung;
+    }
+
+    /**
+     * Liefert die Anzahl der Indices der bergebenen Menge, deren Bits in der
+     * Zeile ab dem angegebenen Anfang gesetzt sind.
+     *
+     * @param anfang  Der Index des Wortes, das zum Index Null gehrt.
+     * @param menge   Die Menge der zu prfenden Indices.
+     *
+     * @return  Die Anzahl der Indices, deren Bits gesetzt sind.
+     */
+    private int zeilenSchnittAnz(int anfang, BitMathIntSet menge) {
+        int anzahl;
+        int index;
+
+        anzahl = 0;
+        index = menge.getNext(0);
+        while (index >= 0) {
+            if (bitGesetzt(anfang, index)) {
+                anzahl++;
+            }
+            index = menge.getNext(index + 1);
+        }
+        return anzahl;
+    }
+
+    /**
+     * Liefert die Indices, deren Bits in der Zeile ab dem angegebenen Anfang
+     * gesetzt bzw. nicht gesetzt sind.
+     *
+     * @param anfang    Der Index des Wortes, das zum Index Null gehrt.
+     * @param bspAnz    Die Anzahl der Beispiele, zu denen die Indices
+     *                  gehren.
+     * @param gesetzt   Gibt an, ob die Indices der gesetzten Bits geliefert
+     *                  werden sollen. Anderenfalls werden die Indices der
+     *                  nicht gesetzten Bits geliefert.
+     *
+     * @return  Ein neues, aufsteigend sortiertes Array mit den Indices.
+     */
+    private int[] zeilenIndices(int anfang, int bspAnz, boolean gesetzt) {
+        int[] indices;
+        long  wort;
+        int   wortAnz;
+        int   anzahl;
+
+        wortAnz = AbdeckungsMatrix.wortAnz(bspAnz);
+        anzahl = 0;
+        for (int w = 0; w < wortAnz; w++) {
+            anzahl += Long.bitCount(abdeckBlock[anfang + w]);
+        }
+        if (!gesetzt) {
+            anzahl = bspAnz - anzahl;
+        }
+
+        indices = new int[anzahl];
+        anzahl = 0;
+        for (int w = 0; w < wortAnz; w++) {
+            wort = abdeckBlock[anfang + w];
+            if (!gesetzt) {
+                wort = ~wort;
+                if ((w == wortAnz - 1) && ((bspAnz & 63) != 0)) {
+                    // Die Bits oberhalb des letzten Beispiels ausblenden.
+                    wort &= ((1L << (bspAnz & 63)) - 1);
+                }
+            }
+            while (wort != 0) {
+                indices[anzahl] = (w << 6) + Long.numberOfTrailingZeros(wort);
+                anzahl++;
+                wort &= (wort - 1);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Ermittelt, ob das Literal das positive Beispiel mit dem bergebenen
+     * Index erfllt. Dazu wird keine Menge erzeugt.
+     *
+     * @param index  Der Index des positiven Beispiels.
+     *
+     * @return  <CODE>true</CODE>, wenn das Beispiel erfllt wird, sonst
+     *          <CODE>false</CODE>.
+     */
+    public boolean posErfuelltEnthaelt(int index) {
+
+        if (abdeckBlock == null) {
+            return super.posErfuelltBsp().contains(index);
+        } else {
+            return bitGesetzt(zeilenAnfang, index);
+        }
+    }
+
+    /**
+     * Ermittelt, ob das Literal das negative Beispiel mit dem bergebenen
+     * Index erfllt. Dazu wird keine Menge erzeugt.
+     *
+     * @param index  Der Index des negativen Beispiels.
+     *
+     * @return  <CODE>true</CODE>, wenn das Beispiel erfllt wird, sonst
+     *          <CODE>false</CODE>.
+     */
+    public boolean negErfuelltEnthaelt(int index) {
+
+        if (abdeckBlock == null) {
+            return super.negErfuelltBsp().contains(index);
+        } else {
+            return bitGesetzt(negZeilenAnfang(), index);
+        }
+    }
+
+    /**
+     * Liefert den Schnitt der bergebenen Menge mit den erfllten positiven
+     * Beispielen, ohne dafr die Menge der erfllten Beispiele zu erzeugen.
+     *
+     * @param menge  Die Menge der Indices positiver Beispiele, die mit den
+     *               erfllten Beispielen geschnitten wird.
+     *
+     * @return  Eine neue Menge mit den Indices des Schnitts.
+     */
+    public BitMathIntSet posErfuelltSchnitt(BitMathIntSet menge) {
+
+        if (abdeckBlock == null) {
+            return super.posErfuelltBsp().intersection(menge);
+        } else {
+            return zeilenSchnitt(zeilenAnfang, menge, posGesamtAnz());
+        }
+    }
+
+    /**
+     * Liefert den Schnitt der bergebenen Menge mit den erfllten negativen
+     * Beispielen, ohne dafr die Menge der erfllten Beispiele zu erzeugen.
+     *
+     * @param menge  Die Menge der Indices negativer Beispiele, die mit den
+     *               erfllten Beispielen geschnitten wird.
+     *
+     * @return  Eine neue Menge mit den Indices des Schnitts.
+     */
+    public BitMathIntSet negErfuelltSchnitt(BitMathIntSet menge) {
+
+        if (abdeckBlock == null) {
+            return super.negErfuelltBsp().intersection(menge);
+        } else {
+            return zeilenSchnitt(negZeilenAnfang(), menge, negGesamtAnz());
+        }
+    }
+
+    /**
+     * Liefert die Vereinigung der bergebenen Menge mit den erfllten
+     * positiven Beispielen, ohne dafr die Menge der erfllten Beispiele zu
+     * erzeugen.
+     *
+     * @param menge  Die Menge der Indices positiver Beispiele, die mit den
+     *               erfllten Beispielen vereinigt wird.
+     *
+     * @return  Eine neue Menge mit den Indices der Vereinigung.
+     */
+    public BitMathIntSet posErfuelltVereinigung(BitMathIntSet menge) {
+
+        if (abdeckBlock == null) {
+            return super.posErfuelltBsp().union(menge);
+        } else {
+            return zeilenVereinigung(zeilenAnfang, menge, posGesamtAnz());
+        }
+    }
+
+    /**
+     * Liefert die Vereinigung der bergebenen Menge mit den erfllten
+     * negativen Beispielen, ohne dafr die Menge der erfllten Beispiele zu
+     * erzeugen.
+     *
+     * @param menge  Die Menge der Indices negativer Beispiele, die mit den
+     *               erfllten Beispielen vereinigt wird.
+     *
+     * @return  Eine neue Menge mit den Indices der Vereinigung.
+     */
+    public BitMathIntSet negErfuelltVereinigung(BitMathIntSet menge) {
+
+        if (abdeckBlock == null) {
+            return super.negErfuelltBsp().union(menge);
+        } else {
+            return zeilenVereinigung(negZeilenAnfang(), menge, negGesamtAnz());
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der Indices der bergebenen Menge, deren positive
+     * Beispiele vom Literal erfllt werden.
+     *
+     * @param menge  Die Menge der Indices positiver Beispiele.
+     *
+     * @return  Die Anzahl der erfllten Beispiele der Menge.
+     */
+    public int posErfuelltSchnittAnz(BitMathIntSet menge) {
+
+        if (abdeckBlock == null) {
+            return super.posErfuelltBsp().intersection(menge).size();
+        } else {
+            return zeilenSchnittAnz(zeilenAnfang, menge);
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der Indices der bergebenen Menge, deren negative
+     * Beispiele vom Literal erfllt werden.
+     *
+     * @param menge  Die Menge der Indices negativer Beispiele.
+     *
+     * @return  Die Anzahl der erfllten Beispiele der Menge.
+     */
+    public int negErfuelltSchnittAnz(BitMathIntSet menge) {
+
+        if (abdeckBlock == null) {
+            return super.negErfuelltBsp().intersection(menge).size();
+        } else {
+            return zeilenSchnittAnz(negZeilenAnfang(), menge);
+        }
+    }
+
+    /**
+     * Liefert die Indices der vom Literal erfllten bzw. nicht erfllten
+     * positiven Beispiele als Array.
+     *
+     * @param erfuellt  Gibt an, ob die Indices der erfllten Beispiele
+     *                  geliefert werden sollen. Anderenfalls werden die
+     *                  Indices der nicht erfllten Beispiele geliefert.
+     *
+     * @return  Ein neues, aufsteigend sortiertes Array mit den Indices.
+     */
+    public int[] posIndices(boolean erfuellt) {
+
+        if (abdeckBlock != null) {
+            return zeilenIndices(zeilenAnfang, posGesamtAnz(), erfuellt);
+        } else if (erfuellt) {
+            return super.posErfuelltBsp().toArray();
+        } else {
+            return posBspInvertiert(posGesamtAnz(), super.posErfuelltBsp()).toArray();
+        }
+    }
+
+    /**
+     * Liefert die Indices der vom Literal erfllten bzw. nicht erfllten
+     * negativen Beispiele als Array.
+     *
+     * @param erfuellt  Gibt an, ob die Indices der erfllten Beispiele
+     *                  geliefert werden sollen. Anderenfalls werden die
+     *                  Indices der nicht erfllten Beispiele geliefert.
+     *
+     * @return  Ein neues, aufsteigend sortiertes Array mit den Indices.
+     */
+    public int[] negIndices(boolean erfuellt) {
+
+        if (abdeckBlock != null) {
+            return zeilenIndices(negZeilenAnfang(), negGesamtAnz(), erfuellt);
+        } else if (erfuellt) {
+            return super.negErfuelltBsp().toArray();
+        } else {
+            return negBspInvertiert(negGesamtAnz(), super.negErfuelltBsp()).toArray();
+        }
+    }
+
+    /**
+     * Ermittelt, ob das Literal keines der positiven Beispiele erfllt,
+     * deren Bits in den bergebenen Worten gesetzt sind.
+     *
+     * @param indexWorte  Die Worte mit den gesetzten Bits der Indices der
+     *                    positiven Beispiele, wie sie von der Methode
+     *                    <CODE>AbdeckungsMatrix.indexWorte</CODE> geliefert
+     *                    werden.
+     *
+     * @return  <CODE>true</CODE>, wenn das Literal keines der angegebenen
+     *          positiven Beispiele erfllt, sonst <CODE>false</CODE>.
+     */
+    public boolean posErfuelltDisjunkt(long[] indexWorte) {
+        BitMathIntSet posErfuelltBsp;
+        boolean       disjunkt;
+        int           index;
+
+        disjunkt = true;
+        if (abdeckBlock == null) {
+            posErfuelltBsp = super.posErfuelltBsp();
+            index = posErfuelltBsp.getNext(0);
+            while (disjunkt && (index >= 0)) {
+                disjunkt = ((indexWorte[index >> 6] & (1L << index)) == 0);
+                index = posErfuelltBsp.getNext(index + 1);
+            }
+        } else {
+            for (int w = 0; disjunkt && (w < indexWorte.length); w++) {
+                disjunkt = ((abdeckBlock[zeilenAnfang + w] & indexWorte[w]) == 0);
+            }
+        }
+        return disjunkt;
+    }
+
+    /**
+     * Ermittelt, ob das Literal alle negativen Beispiele erfllt, deren Bits
+     * in den bergebenen Worten gesetzt sind.
+     *
+     * @param indexWorte  Die Worte mit den gesetzten Bits der Indices der
+     *                    negativen Beispiele, wie sie von der Methode
+     *                    <CODE>AbdeckungsMatrix.indexWorte</CODE> geliefert
+     *                    werden.
+     *
+     * @return  <CODE>true</CODE>, wenn das Literal alle angegebenen negativen
+     *          Beispiele erfllt, sonst <CODE>false</CODE>.
+     */
+    public boolean negErfuelltUmfasst(long[] indexWorte) {
+        BitMathIntSet negErfuelltBsp;
+        boolean       umfasst;
+        long          wort;
+        int           negAnfang;
+
+        umfasst = true;
+        if (abdeckBlock == null) {
+            negErfuelltBsp = super.negErfuelltBsp();
+            for (int w = 0; umfasst && (w < indexWorte.length); w++) {
+                wort = indexWorte[w];
+                while (umfasst && (wort != 0)) {
+                    umfasst = negErfuelltBsp.contains((w << 6)
+                                                      + Long.numberOfTrailingZeros(wort));
+                    wort &= (wort - 1);
+                }
+            }
+        } else {
+            negAnfang = negZeilenAnfang();
+            for (int w = 0; umfasst && (w < indexWorte.length); w++) {
+                umfasst = ((indexWorte[w] & ~abdeckBlock[negAnfang + w]) == 0);
+            }
+        }
+        return umfasst;
+    }
+
     /**
      * Liefert das dem Literal zugrunde liegende Prdikat.
      *
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : AlgKorrErzKonzepte.java
- * Letzte nderung: 21. November 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -34,9 +34,6 @@ import mathCollection.BitMathIntSet;
 
 import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
 import mengenUeberdeckung.konvertierung.BegrenzteUeberdeckung;
-import mengenUeberdeckung.optimierung.InferiorOptimization;
-import mengenUeberdeckung.optimierung.AddOneOptimization;
-import mengenUeberdeckung.optimierung.SequenceOptimization;
 import mengenUeberdeckung.iteratedGreedyCovering.AddOneSolutionSet;
 import mengenUeberdeckung.iteratedGreedyCovering.IterEnhancedGreedyHeuristic;
 import mengenUeberdeckung.reduktion.ItmAuswahlErzeugung;
@@ -48,6 +45,8 @@ import mengenUeberdeckung.heuristiken.costs.FrequencyCosts;
 import mengenUeberdeckung.heuristiken.utility.FrequencyUtility;
 
 import lascer.konzepte.Konzept;
+import lascer.konzepte.einzelne.Literal;
+import lascer.konzepte.einzelne.AbdeckungsMatrix;
 import lascer.konzepte.einzelne.Konjunktion;
 import lascer.problemdaten.Beispieldaten;
 
@@ -87,6 +86,12 @@ public class AlgKorrErzKonzepte {
      */
     private BitMathIntSet nichtUeberdecktBsp;
 
+    /**
+     * Die Worte mit den gesetzten Bits der Indices der noch nicht
+     * berdeckten positiven Beispiele.
+     */
+    private long[] nichtUeberdecktBspWorte;
+
     /**
      * Der Faktor, mit dem die Summe der Kosten der berdeckten Indices
      * multipliziert wird, um die Kosten fr einen nicht berdeckten Index zu
@@ -152,6 +157,9 @@ public class AlgKorrErzKonzepte {
         this.random = random;
         this.beispieldaten = beispieldaten;
         this.nichtUeberdecktBsp = wertNullIndices(posUeberdeckGuete);
+        this.nichtUeberdecktBspWorte
+            = AbdeckungsMatrix.indexWorte(nichtUeberdecktBsp,
+                                          beispieldaten.posBspAnz());
         this.kostenSummenFaktor = kostenFaktor;
         this.maxLiteralAnz = maxLiteralAnz;
         this.speicherEffizienz = speicherEffizienz;
@@ -188,19 +196,25 @@ public class AlgKorrErzKonzepte {
      * Fall, wenn es noch nicht berdeckte positive Beispiele gibt aber das
      * Konzept von diesen keines berdeckt.
      *
-     * @param konzept          Das Konzept, von dem ermittelt werden soll, ob
-     *                         es nutzlos ist.
-     * @param nichtUeberdeckt  Die Indices der positiven Beispiele, die bisher
-     *                         noch nicht berdeckt sind.
+     * @param konzept               Das Konzept, von dem ermittelt werden
+     *                              soll, ob es nutzlos ist.
+     * @param nichtUeberdeckt       Die Indices der positiven Beispiele, die
+     *                              bisher noch nicht berdeckt sind.
+     * @param nichtUeberdecktWorte  Die Worte mit den gesetzten Bits der
+     *                              Indices der noch nicht berdeckten
+     *                              positiven Beispiele.
      *
      * @return  <CODE>true</CODE>, wenn das Konzept nutzlos ist, sonst
      *          <CODE>false</CODE>.
      */
     private boolean konzeptIstNutzlos(Konzept konzept,
-                                      BitMathIntSet nichtUeberdeckt) {
+                                      BitMathIntSet nichtUeberdeckt,
+                                      long[] nichtUeberdecktWorte) {
 
         if (nichtUeberdeckt.isEmpty()) {
             return false;
+        } else if (konzept instanceof Literal) {
+            return ((Literal) konzept).posErfuelltDisjunkt(nichtUeberdecktWorte);
         } else {
             return konzept.posErfuelltBsp().isDisjoint(nichtUeberdeckt);
         }
@@ -318,7 +332,12 @@ public class AlgKorrErzKonzepte {
                                                             konzept.posFalschBsp(),
                                                             konzept,
                                                             speicherEffizient);
-        konzeptDoppelTeilmenge.indicesAufnehmen(konzept.negRichtigBsp());
+        if (konzept instanceof Literal) {
+            // Die Mengen des Literals werden nicht erzeugt.
+            konzeptDoppelTeilmenge.indicesAufnehmen(((Literal) konzept).negIndices(false));
+        } else {
+            konzeptDoppelTeilmenge.indicesAufnehmen(konzept.negRichtigBsp());
+        }
         return konzeptDoppelTeilmenge;
     }
 
@@ -345,7 +364,8 @@ public class AlgKorrErzKonzepte {
                                                + " Beispiele stimmt nicht berein");
         }
 
-        if (konzeptIstNutzlos(konzept, nichtUeberdecktBsp)) {
+        if (konzeptIstNutzlos(konzept, nichtUeberdecktBsp,
+                              nichtUeberdecktBspWorte)) {
             return false;
         }
 
@@ -421,11 +441,15 @@ public class AlgKorrErzKonzepte {
                                                    BitMathIntSet nichtUeberdeckt) {
         KonzeptDoppelTeilmenge konzeptTeilmenge;
         Iterator               iter;
+        long[]                 nichtUeberdecktWorte;
 
+        nichtUeberdecktWorte = AbdeckungsMatrix.indexWorte(nichtUeberdeckt,
+                                                           beispieldaten.posBspAnz());
         iter = teilmengen.iterator();
         while (iter.hasNext()) {
             konzeptTeilmenge = (KonzeptDoppelTeilmenge) iter.next();
-            if (konzeptIstNutzlos(konzeptTeilmenge.konzept(), nichtUeberdeckt)) {
+            if (konzeptIstNutzlos(konzeptTeilmenge.konzept(), nichtUeberdeckt,
+                                  nichtUeberdecktWorte)) {
                 // Die Konzept-Teilmenge enthlt nur positive Beispiel, die
                 // bisher schon berdeckt sind.
                 iter.remove();
@@ -488,7 +512,7 @@ public class AlgKorrErzKonzepte {
                                     boolean nurEinKonzept,
                                     Konzept bekanntesKonzept) {
         UeberdeckungsOptimierung scpVerfahren;
-        SequenceOptimization     optVerfahren;
+        SCPOptErzeugung          optErzeugung;
         AddOneSolutionSet        solutionExtention;
         HashSet                  ausgewItm;
         HashSet                  loesungsMengen;
@@ -550,15 +574,13 @@ public class AlgKorrErzKonzepte {
                 bekannnteLoesung.teilmengenHinzufuegen(konzeptTeilmengen(bekanntesKonzept));
             }
 
-            optVerfahren = new SequenceOptimization();
-            if (Konstanten.SPEZ_USE_INFERIOR_OPT) {
-                optVerfahren.addOptimization(new InferiorOptimization());
-            }
-            if (Konstanten.SPEZ_USE_ADD_ONE_OPT) {
-                optVerfahren.addOptimization(new AddOneOptimization());
-            }
+            optErzeugung = new SCPOptErzeugung(Konstanten.SPEZ_USE_INFERIOR_OPT,
+                                               Konstanten.SPEZ_USE_ADD_ONE_OPT,
+                                               Konstanten.SPEZ_USE_WEIGHTED_LOCAL_SEARCH);
             scpVerfahren = new IterEnhancedGreedyHeuristic(random, scpIterAnz,
-                                                           optVerfahren);
+                                                           optErzeugung,
+                                                           Konstanten.SCP_KETTEN_ANZ,
+                                                           Konstanten.SCP_AUSTAUSCH_INTERVALL);
 
             if (maxLiteralAnz > 0) {
                 scpVerfahren = new BegrenzteUeberdeckung(scpVerfahren, maxLiteralAnz);
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : AlgVollErzKonzepte.java
- * Letzte nderung: 21. November 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -34,9 +34,6 @@ import mathCollection.BitMathIntSet;
 
 import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
 import mengenUeberdeckung.konvertierung.BegrenzteUeberdeckung;
-import mengenUeberdeckung.optimierung.InferiorOptimization;
-import mengenUeberdeckung.optimierung.AddOneOptimization;
-import mengenUeberdeckung.optimierung.SequenceOptimization;
 import mengenUeberdeckung.iteratedGreedyCovering.AddOneSolutionSet;
 import mengenUeberdeckung.iteratedGreedyCovering.IterEnhancedGreedyHeuristic;
 import mengenUeberdeckung.reduktion.ItmAuswahlErzeugung;
@@ -48,6 +45,8 @@ import mengenUeberdeckung.heuristiken.costs.FrequencyCosts;
 import mengenUeberdeckung.heuristiken.utility.FrequencyUtility;
 
 import lascer.konzepte.Konzept;
+import lascer.konzepte.einzelne.Literal;
+import lascer.konzepte.einzelne.AbdeckungsMatrix;
 import lascer.konzepte.einzelne.Disjunktion;
 import lascer.problemdaten.Beispieldaten;
 
@@ -87,6 +86,12 @@ public class AlgVollErzKonzepte {
      */
     private BitMathIntSet nichtAusgeschlosenBsp;
 
+    /**
+     * Die Worte mit den gesetzten Bits der Indices der noch nicht
+     * ausgeschlossenen negativen Beispiele.
+     */
+    private long[] nichtAusgeschlosenBspWorte;
+
     /**
      * Der Faktor, mit dem die Summe der Kosten der ausgeschlossenen Indices
      * multipliziert wird, um die Kosten fr einen nicht ausgeschlossenen
@@ -152,6 +157,9 @@ public class AlgVollErzKonzepte {
         this.random = random;
         this.beispieldaten = beispieldaten;
         this.nichtAusgeschlosenBsp = wertNullIndices(negAusschlussGuete);
+        this.nichtAusgeschlosenBspWorte
+            = AbdeckungsMatrix.indexWorte(nichtAusgeschlosenBsp,
+                                          beispieldaten.negBspAnz());
         this.kostenSummenFaktor = kostenFaktor;
         this.maxLiteralAnz = maxLiteralAnz;
         this.speicherEffizienz = speicherEffizienz;
@@ -188,19 +196,26 @@ public class AlgVollErzKonzepte {
      * Fall, wenn es noch nicht ausgeschlossene negative Beispiele gibt aber
      * das Konzept von diesen keines ausschliet.
      *
-     * @param konzept             Das Konzept, von dem ermittelt werden soll,
-     *                            ob es nutzlos ist.
-     * @param nichtAusgeschlosen  Die Indices der negativen Beispiele, die
-     *                            bisher noch nicht ausgeschlossen sind.
+     * @param konzept                  Das Konzept, von dem ermittelt werden
+     *                                 soll, ob es nutzlos ist.
+     * @param nichtAusgeschlosen       Die Indices der negativen Beispiele,
+     *                                 die bisher noch nicht ausgeschlossen
+     *                                 sind.
+     * @param nichtAusgeschlosenWorte  Die Worte mit den gesetzten Bits der
+     *                                 Indices der noch nicht ausgeschlossenen
+     *                                 negativen Beispiele.
      *
      * @return  <CODE>true</CODE>, wenn das Konzept nutzlos ist, sonst
      *          <CODE>false</CODE>.
      */
     private boolean konzeptIstNutzlos(Konzept konzept,
-                                      BitMathIntSet nichtAusgeschlosen) {
+                                      BitMathIntSet nichtAusgeschlosen,
+                                      long[] nichtAusgeschlosenWorte) {
 
         if (nichtAusgeschlosen.isEmpty()) {
             return false;
+        } else if (konzept instanceof Literal) {
+            return ((Literal) konzept).negErfuelltUmfasst(nichtAusgeschlosenWorte);
         } else {
             return konzept.negErfuelltBsp().isSuperset(nichtAusgeschlosen);
         }
@@ -318,7 +333,12 @@ public class AlgVollErzKonzepte {
                                                             konzept.negFalschBsp(),
                                                             konzept,
                                                             speicherEffizient);
-        konzeptDoppelTeilmenge.indicesAufnehmen(konzept.posRichtigBsp());
+        if (konzept instanceof Literal) {
+            // Die Mengen des Literals werden nicht erzeugt.
+            konzeptDoppelTeilmenge.indicesAufnehmen(((Literal) konzept).posIndices(true));
+        } else {
+            konzeptDoppelTeilmenge.indicesAufnehmen(konzept.posRichtigBsp());
+        }
         return konzeptDoppelTeilmenge;
     }
 
@@ -345,7 +365,8 @@ public class AlgVollErzKonzepte {
                                                + " Beispiele stimmt nicht berein");
         }
 
-        if (konzeptIstNutzlos(konzept, nichtAusgeschlosenBsp)) {
+        if (konzeptIstNutzlos(konzept, nichtAusgeschlosenBsp,
+                              nichtAusgeschlosenBspWorte)) {
             return false;
         }
 
@@ -421,11 +442,15 @@ public class AlgVollErzKonzepte {
                                                    BitMathIntSet nichtAusgeschlosen) {
         KonzeptDoppelTeilmenge konzeptTeilmenge;
         Iterator               iter;
+        long[]                 nichtAusgeschlosenWorte;
 
+        nichtAusgeschlosenWorte = AbdeckungsMatrix.indexWorte(nichtAusgeschlosen,
+                                                              beispieldaten.negBspAnz());
         iter = teilmengen.iterator();
         while (iter.hasNext()) {
             konzeptTeilmenge = (KonzeptDoppelTeilmenge) iter.next();
-            if (konzeptIstNutzlos(konzeptTeilmenge.konzept(), nichtAusgeschlosen)) {
+            if (konzeptIstNutzlos(konzeptTeilmenge.konzept(), nichtAusgeschlosen,
+                                  nichtAusgeschlosenWorte)) {
                 // Die Konzept-Teilmenge enthlt alle negativen Beispiele, die
                 // derzeit noch nicht ausgeschlossen sind.
                 iter.remove();
@@ -488,7 +513,7 @@ public class AlgVollErzKonzepte {
                                          int scpIterAnz, boolean nurEinKonzept,
                                          Konzept bekanntesKonzept) {
         UeberdeckungsOptimierung scpVerfahren;
-        SequenceOptimization     optVerfahren;
+        SCPOptErzeugung          optErzeugung;
         AddOneSolutionSet        solutionExtention;
         HashSet                  ausgewItm;
         HashSet                  loesungsMengen;
@@ -550,15 +575,13 @@ public class AlgVollErzKonzepte {
                 bekannnteLoesung.teilmengenHinzufuegen(konzeptTeilmengen(bekanntesKonzept));
             }
 
-            optVerfahren = new SequenceOptimization();
-            if (Konstanten.SPEZ_USE_INFERIOR_OPT) {
-                optVerfahren.addOptimization(new InferiorOptimization());
-            }
-            if (Konstanten.SPEZ_USE_ADD_ONE_OPT) {
-                optVerfahren.addOptimization(new AddOneOptimization());
-            }
+            optErzeugung = new SCPOptErzeugung(Konstanten.SPEZ_USE_INFERIOR_OPT,
+                                               Konstanten.SPEZ_USE_ADD_ONE_OPT,
+                                               Konstanten.SPEZ_USE_WEIGHTED_LOCAL_SEARCH);
             scpVerfahren = new IterEnhancedGreedyHeuristic(random, scpIterAnz,
-                                                           optVerfahren);
+                                                           optErzeugung,
+                                                           Konstanten.SCP_KETTEN_ANZ,
+                                                           Konstanten.SCP_AUSTAUSCH_INTERVALL);
 
             if (maxLiteralAnz > 0) {
                 scpVerfahren = new BegrenzteUeberdeckung(scpVerfahren, maxLiteralAnz);
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konstanten.java
- * Letzte nderung: 24. Juli 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -111,5 +111,44 @@ public class Konstanten {
      * <CODE>IterEnhancedGreedyHeuristic</CODE>).
      */
     public static final boolean FORM_USE_ADD_ONE_OPT = true;
+
+    /**
+     * Gibt an, ob bei der Erzeugung eines speziellen Konzepts aus den
+     * allgemeinen Konzepten eine Optimierung mit der gewichteten lokalen
+     * Suche erfolgen soll (Parameter vom Konstruktor
+     * <CODE>IterEnhancedGreedyHeuristic</CODE>).
+     */
+    public static final boolean SPEZ_USE_WEIGHTED_LOCAL_SEARCH = false;
+
+    /**
+     * Gibt an, ob bei der Erzeugung einer Formel aus den speziellen, d.h.
+     * aus den korrekten oder vollstndigen, Konzepten eine Optimierung mit
+     * der gewichteten lokalen Suche erfolgen soll (Parameter vom Konstruktor
+     * <CODE>IterEnhancedGreedyHeuristic</CODE>).
+     */
+    public static final boolean FORM_USE_WEIGHTED_LOCAL_SEARCH = false;
+
+    /**
+     * Gibt an, ob das berdeckungsproblem bei der Erzeugung einer Formel aus
+     * den speziellen, d.h. aus den korrekten oder vollstndigen, Konzepten
+     * vor der Lsung mittels <CODE>DominanzReduktion</CODE> reduziert werden
+     * soll.
+     */
+    public static final boolean FORM_USE_DOMINANZ_REDUKTION = false;
+
+    /**
+     * Die Anzahl der Ketten von Iterationen, die bei der Lsung eines
+     * berdeckungsproblems parallel ausgefhrt werden (Parameter vom
+     * Konstruktor <CODE>IterEnhancedGreedyHeuristic</CODE>).
+     */
+    public static final int SCP_KETTEN_ANZ = 1;
+
+    /**
+     * Die Anzahl der Iterationen, nach denen die parallelen Ketten bei der
+     * Lsung eines berdeckungsproblems jeweils ihre beste berdeckung
+     * austauschen. Beim Wert Null erfolgt kein Austausch (Parameter vom
+     * Konstruktor <CODE>IterEnhancedGreedyHeuristic</CODE>).
+     */
+    public static final int SCP_AUSTAUSCH_INTERVALL = 0;
 }
 
@@ -0,0 +1,110 @@
+/*
+ * Dateiname      : SCPOptErzeugung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+
+
+package lascer.konzepte.mengen;
+
+import java.util.Random;
+
+import mengenUeberdeckung.iteratedGreedyCovering.OptVerfahrenErzeugung;
+import mengenUeberdeckung.optimierung.Optimization;
+import mengenUeberdeckung.optimierung.SequenceOptimization;
+import mengenUeberdeckung.optimierung.InferiorOptimization;
+import mengenUeberdeckung.optimierung.AddOneOptimization;
+import mengenUeberdeckung.optimierung.WeightedLocalSearchOptimization;
+
+/**
+ * Erzeugt die Optimierungsverfahren, die beim SCP-Verfahren zur Erzeugung
+ * der Konzepte verwendet werden. Jeder Aufruf liefert eine neue Folge von
+ * Optimierungsverfahren, so da parallel ausgefhrte Ketten von Iterationen
+ * keine Optimierungsverfahren gemeinsam verwenden.
+ *
+ * @author  Dietmar Lippold
+ */
+public class SCPOptErzeugung implements OptVerfahrenErzeugung {
+
+    /**
+     * Gibt an, ob das Verfahren <CODE>InferiorOptimization</CODE> verwendet
+     * werden soll.
+     */
+    private boolean useInferiorOpt;
+
+    /**
+     * Gibt an, ob das Verfahren <CODE>AddOneOptimization</CODE> verwendet
+     * werden soll.
+     */
+    private boolean useAddOneOpt;
+
+    /**
+     * Gibt an, ob das Verfahren <CODE>WeightedLocalSearchOptimization</CODE>
+     * verwendet werden soll.
+     */
+    private boolean useWeightedLocalSearch;
+
+    /**
+     * Konstruktor der Klasse.
+     *
+     * @param useInferiorOpt          Gibt an, ob das Verfahren
+     *                                <CODE>InferiorOptimization</CODE>
+     *                                verwendet werden soll.
+     * @param useAddOneOpt            Gibt an, ob das Verfahren
+     *                                <CODE>AddOneOptimization</CODE>
+     *                                verwendet werden soll.
+     * @param useWeightedLocalSearch  Gibt an, ob das Verfahren
+     *                                <CODE>WeightedLocalSearchOptimization</CODE>
+     *                                verwendet werden soll.
+     */
+    public SCPOptErzeugung(boolean useInferiorOpt, boolean useAddOneOpt,
+                           boolean useWeightedLocalSearch) {
+
+        this.useInferiorOpt = useInferiorOpt;
+        this.useAddOneOpt = useAddOneOpt;
+        this.useWeightedLocalSearch = useWeightedLocalSearch;
+    }
+
+    /**
+     * Erzeugt eine neue Folge der ausgewhlten Optimierungsverfahren.
+     *
+     * @param random  Der von den Optimierungsverfahren zu verwendende
+     *                Zufallsgenerator.
+     *
+     * @return  Die neu erzeugte Folge von Optimierungsverfahren.
+     */
+    public Optimization neuesOptVerfahren(Random random) {
+        SequenceOptimization optVerfahren;
+
+        optVerfahren = new SequenceOptimization();
+        if (useInferiorOpt) {
+            optVerfahren.addOptimization(new InferiorOptimization());
+        }
+        if (useAddOneOpt) {
+            optVerfahren.addOptimization(new AddOneOptimization());
+        }
+        if (useWeightedLocalSearch) {
+            optVerfahren.addOptimization(new WeightedLocalSearchOptimization(random));
+        }
+
+        return optVerfahren;
+    }
+}
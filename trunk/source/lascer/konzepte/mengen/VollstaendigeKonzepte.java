@@ -1,6 +1,6 @@
 /*
  * Dateiname      : VollstaendigeKonzepte.java
- * Letzte nderung: 04. Januar 2008
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2008
  *
@@ -32,16 +32,15 @@ import java.util.logging.Logger;
 
 import mengenUeberdeckung.allgemein.ItmFamilie;
 import mengenUeberdeckung.konvertierung.PartielleUeberdeckung;
-import mengenUeberdeckung.optimierung.InferiorOptimization;
-import mengenUeberdeckung.optimierung.AddOneOptimization;
-import mengenUeberdeckung.optimierung.SequenceOptimization;
 import mengenUeberdeckung.reduktion.ItmAuswahlErzeugung;
+import mengenUeberdeckung.reduktion.DominanzReduktion;
 import mengenUeberdeckung.reduktion.SofortigeAuswahl;
 import mengenUeberdeckung.heuristiken.utility.FrequencyUtility;
 import mengenUeberdeckung.iteratedGreedyCovering.IterEnhancedGreedyHeuristic;
 
 import lascer.konzepte.Konzept;
 import lascer.konzepte.KombiKonzept;
+import lascer.konzepte.einzelne.Literal;
 import lascer.konzepte.einzelne.Konjunktion;
 import lascer.problemdaten.Beispieldaten;
 
@@ -162,7 +161,12 @@ public class VollstaendigeKonzepte {
         }
         konzeptTeilmenge = new KonzeptTeilmenge(konzept.negGesamtAnz(), konzept,
                                                 zusatzKomplex, speicherEffizient);
-        konzeptTeilmenge.indicesAufnehmen(konzept.negRichtigBsp());
+        if (konzept instanceof Literal) {
+            // Die Mengen des Literals werden nicht erzeugt.
+            konzeptTeilmenge.indicesAufnehmen(((Literal) konzept).negIndices(false));
+        } else {
+            konzeptTeilmenge.indicesAufnehmen(konzept.negRichtigBsp());
+        }
         return konzeptTeilmenge;
     }
 
@@ -366,7 +370,7 @@ public class VollstaendigeKonzepte {
      */
     public KombiKonzept besteFormel(int scpIterAnz, Konzept bekannteFormel) {
         IterEnhancedGreedyHeuristic scpBasicVerfahren;
-        SequenceOptimization        optVerfahren;
+        SCPOptErzeugung             optErzeugung;
         PartielleUeberdeckung       scpPartVerfahren;
         HashSet                     neueItms;
         ItmFamilie                  auswahl;
@@ -382,16 +386,18 @@ public class VollstaendigeKonzepte {
             bekannnteLoesung.teilmengenHinzufuegen(konzeptTeilmengen(bekannteFormel));
         }
 
-        optVerfahren = new SequenceOptimization();
-        if (Konstanten.FORM_USE_INFERIOR_OPT) {
-            optVerfahren.addOptimization(new InferiorOptimization());
-        }
-        if (Konstanten.FORM_USE_ADD_ONE_OPT) {
-            optVerfahren.addOptimization(new AddOneOptimization());
-        }
+        optErzeugung = new SCPOptErzeugung(Konstanten.FORM_USE_INFERIOR_OPT,
+                                           Konstanten.FORM_USE_ADD_ONE_OPT,
+                                           Konstanten.FORM_USE_WEIGHTED_LOCAL_SEARCH);
         scpBasicVerfahren = new IterEnhancedGreedyHeuristic(random, scpIterAnz,
-                                                            optVerfahren);
-        scpPartVerfahren = new PartielleUeberdeckung(scpBasicVerfahren);
+                                                            optErzeugung,
+                                                            Konstanten.SCP_KETTEN_ANZ,
+                                                            Konstanten.SCP_AUSTAUSCH_INTERVALL);
+        if (Konstanten.FORM_USE_DOMINANZ_REDUKTION) {
+            scpPartVerfahren = new PartielleUeberdeckung(new DominanzReduktion(scpBasicVerfahren));
+        } else {
+            scpPartVerfahren = new PartielleUeberdeckung(scpBasicVerfahren);
+        }
 
         auswahl = konzeptItmAuswahl.auswahl();
         LOGGER.log(Level.CONFIG,
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konstanten.java
- * Letzte nderung: 22. August 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -36,6 +36,12 @@ public class Konstanten {
     public static final String
         UNBEKANNT_NOMINAL = lascer.problemdaten.Konstanten.UNBEKANNT_NOMINAL;
 
+    /**
+     * Der Code eines unbekannten Wertes eines nominalen Attributs.
+     */
+    public static final int
+        UNBEKANNT_CODE = lascer.problemdaten.Konstanten.UNBEKANNT_CODE;
+
     /**
      * Gibt die Komplexitt eines Prdikats fr den Vergleich eines nominalen
      * Attribute mit einem Wert an.
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : NomWertPraedikat.java
- * Letzte nderung: 09. September 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -46,6 +46,11 @@ public class NomWertPraedikat implements Praedikat {
      */
     private String testWert;
 
+    /**
+     * Der Code des Wertes, gegen den das Attribut verglichen wird.
+     */
+    private int testCode;
+
     /**
      * Erzeugt eine neue Instanz.
      *
@@ -56,6 +61,7 @@ public class NomWertPraedikat implements Praedikat {
     public NomWertPraedikat(NominalAttribut attribut, String wert) {
         this.testAttribut = attribut;
         this.testWert = wert;
+        this.testCode = attribut.code(wert);
     }
 
     /**
@@ -93,9 +99,10 @@ public class NomWertPraedikat implements Praedikat {
 
     /**
      * Liefert ein neu erzeugtes Array mit den Werten, die sich bei Anwendung
-     * des Prdikats auf die bergeben Attribut-Werte der Beispiele ergeben.
+     * des Prdikats auf die bergeben Codes der Attribut-Werte der Beispiele
+     * ergeben.
      *
-     * @param attribWerte    Die Attribut-Werte der Beispiele.
+     * @param attribCodes    Die Codes der Attribut-Werte der Beispiele.
      * @param invertiert     Die Angabe, ob die Werte des Prdikats invertiert
      *                       werden sollen.
      * @param wertUnbekannt  Die Angabe, ob mindestens einer der
@@ -107,19 +114,19 @@ public class NomWertPraedikat implements Praedikat {
      *          des Prdikats auf die Attribut-Werte ergeben, gegebenenfalls
      *          invertiert.
      */
-    private boolean[] praedikatWerte(String[] attribWerte, boolean invertiert,
+    private boolean[] praedikatWerte(int[] attribCodes, boolean invertiert,
                                      boolean wertUnbekannt, boolean unbekWert) {
         boolean[] praedWerte;
 
-        praedWerte = new boolean[attribWerte.length];
-        for (int bspNr = 0; bspNr < attribWerte.length; bspNr++) {
+        praedWerte = new boolean[attribCodes.length];
+        for (int bspNr = 0; bspNr < attribCodes.length; bspNr++) {
             if (wertUnbekannt
-                    && attribWerte[bspNr].equals(Konstanten.UNBEKANNT_NOMINAL)) {
+                    && (attribCodes[bspNr] == Konstanten.UNBEKANNT_CODE)) {
                 praedWerte[bspNr] = unbekWert;
             } else if (invertiert) {
-                praedWerte[bspNr] = !attribWerte[bspNr].equals(testWert);
+                praedWerte[bspNr] = (attribCodes[bspNr] != testCode);
             } else {
-                praedWerte[bspNr] = attribWerte[bspNr].equals(testWert);
+                praedWerte[bspNr] = (attribCodes[bspNr] == testCode);
             }
         }
         return praedWerte;
@@ -140,7 +147,7 @@ public class NomWertPraedikat implements Praedikat {
      */
     public boolean[] posBspWerte(Beispieldaten beispieldaten, boolean invertiert) {
 
-        return praedikatWerte(beispieldaten.getNominalWerte(testAttribut, true),
+        return praedikatWerte(beispieldaten.getNominalCodes(testAttribut, true),
                               invertiert, beispieldaten.nominalWertUnbekannt(),
                               false);
     }
@@ -160,7 +167,7 @@ public class NomWertPraedikat implements Praedikat {
      */
     public boolean[] negBspWerte(Beispieldaten beispieldaten, boolean invertiert) {
 
-        return praedikatWerte(beispieldaten.getNominalWerte(testAttribut, false),
+        return praedikatWerte(beispieldaten.getNominalCodes(testAttribut, false),
                               invertiert, beispieldaten.nominalWertUnbekannt(),
                               true);
     }
@@ -0,0 +1,222 @@
+/*
+ * Dateiname      : BesteIntervalle.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package lascer.praedikate.erzeugung;
+
+import java.util.LinkedList;
+
+/**
+ * Sammelt von bergebenen Intervallen nur eine begrenzte Anzahl der besten.
+ * Die Gte eines Intervalls ist die Anzahl der enthaltenen inklusiven Werte
+ * pro Anzahl der enthaltenen exklusiven Werte plus Eins. Bei gleicher Gte
+ * ist ein frher bergebenes Intervall besser als ein spter bergebenes.<P>
+ *
+ * Die gesammelten Intervalle werden in einem binren Heap verwaltet, an
+ * dessen Spitze das schlechteste Intervall steht. Daher wird zu keinem
+ * Zeitpunkt mehr Speicher als fr die maximale Anzahl bentigt.
+ *
+ * @author  Dietmar Lippold
+ */
+public class BesteIntervalle {
+
+    /**
+     * Die gesammelten Intervalle in der Anordnung des Heaps.
+     */
+    private Object[] intervalle;
+
+    /**
+     * Zu jedem Intervall aus <CODE>intervalle</CODE> seine Gte.
+     */
+    private float[] guete;
+
+    /**
+     * Zu jedem Intervall aus <CODE>intervalle</CODE> die Nummer, in der
+     * Reihenfolge der bergabe.
+     */
+    private int[] nummer;
+
+    /**
+     * Die Anzahl der gesammelten Intervalle.
+     */
+    private int anzahl = 0;
+
+    /**
+     * Die Nummer, die das nchste bergebene Intervall erhlt.
+     */
+    private int naechsteNummer = 0;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param maxAnz  Die maximale Anzahl der zu sammelnden Intervalle. Der
+     *                Wert mu grer als Null sein.
+     *
+     * @throws IllegalArgumentException  Wenn der bergebene Wert nicht
+     *                                   grer als Null ist.
+     */
+    public BesteIntervalle(int maxAnz) {
+
+        if (maxAnz <= 0) {
+            throw new IllegalArgumentException("Die maximale Anzahl mu grer"
+                                               + " als Null sein");
+        }
+
+        intervalle = new Object[maxAnz];
+        guete = new float[maxAnz];
+        nummer = new int[maxAnz];
+    }
+
+    /**
+     * Ermittelt, ob das Intervall an der ersten Position schlechter ist als
+     * das an der zweiten Position.
+     *
+     * @param pos1  Die Position des ersten Intervalls.
+     * @param pos2  Die Position des zweiten Intervalls.
+     *
+     * @return  <CODE>true</CODE>, wenn das erste Intervall schlechter ist,
+     *          sonst <CODE>false</CODE>.
+     */
+    private boolean istSchlechter(int pos1, int pos2) {
+        return ((guete[pos1] < guete[pos2])
+                || ((guete[pos1] == guete[pos2])
+                    && (nummer[pos1] > nummer[pos2])));
+    }
+
+    /**
+     * Vertauscht die Intervalle an den beiden bergebenen Positionen.
+     *
+     * @param pos1  Die Position des ersten Intervalls.
+     * @param pos2  Die Position des zweiten Intervalls.
+     */
+    private void tauschen(int pos1, int pos2) {
+        Object intervall;
+        float  wert;
+        int    nr;
+
+        intervall = intervalle[pos1];
+        intervalle[pos1] = intervalle[pos2];
+        intervalle[pos2] = intervall;
+
+        wert = guete[pos1];
+        guete[pos1] = guete[pos2];
+        guete[pos2] = wert;
+
+        nr = nummer[pos1];
+        nummer[pos1] = nummer[pos2];
+        nummer[pos2] = nr;
+    }
+
+    /**
+     * Verschiebt das Intervall an der bergebenen Position so weit nach
+     * oben, bis die Ordnung des Heaps wieder hergestellt ist.
+     *
+     * @param pos  Die Position des zu verschiebenden Intervalls.
+     */
+    private void nachOben(int pos) {
+        int elternPos;
+
+        while (pos > 0) {
+            elternPos = (pos - 1) >> 1;
+            if (!istSchlechter(pos, elternPos)) {
+                break;
+            }
+            tauschen(pos, elternPos);
+            pos = elternPos;
+        }
+    }
+
+    /**
+     * Verschiebt das Intervall an der bergebenen Position so weit nach
+     * unten, bis die Ordnung des Heaps wieder hergestellt ist.
+     *
+     * @param pos  Die Position des zu verschiebenden Intervalls.
+     */
+    private void nachUnten(int pos) {
+        int kindPos;
+
+        while ((kindPos = 2 * pos + 1) < anzahl) {
+            if ((kindPos + 1 < anzahl) && istSchlechter(kindPos + 1, kindPos)) {
+                kindPos++;
+            }
+            if (!istSchlechter(kindPos, pos)) {
+                break;
+            }
+            tauschen(pos, kindPos);
+            pos = kindPos;
+        }
+    }
+
+    /**
+     * bergibt ein Intervall. Es wird nur gesammelt, wenn noch nicht die
+     * maximale Anzahl von Intervallen gesammelt wurde oder wenn es besser
+     * ist als das schlechteste bisher gesammelte Intervall, das dann
+     * entfernt wird.
+     *
+     * @param intervall  Das bergebene Intervall.
+     * @param inklAnz    Die Anzahl der im Intervall enthaltenen inklusiven
+     *                   Werte.
+     * @param exklAnz    Die Anzahl der im Intervall enthaltenen exklusiven
+     *                   Werte.
+     */
+    public void aufnehmen(Object intervall, int inklAnz, int exklAnz) {
+        float wert;
+
+        wert = inklAnz / (exklAnz + 1.0f);
+        if (anzahl < intervalle.length) {
+            intervalle[anzahl] = intervall;
+            guete[anzahl] = wert;
+            nummer[anzahl] = naechsteNummer;
+            anzahl++;
+            nachOben(anzahl - 1);
+        } else if (wert > guete[0]) {
+            // Da das bergebene Intervall eine grere Nummer hat als alle
+            // gesammelten, ist es nur bei grerer Gte besser.
+            intervalle[0] = intervall;
+            guete[0] = wert;
+            nummer[0] = naechsteNummer;
+            nachUnten(0);
+        }
+        naechsteNummer++;
+    }
+
+    /**
+     * Liefert eine Liste der gesammelten Intervalle, absteigend geordnet
+     * nach ihrer Gte. Die gesammelten Intervalle werden dabei entfernt.
+     *
+     * @return  Eine Liste der gesammelten Intervalle, das beste zuerst.
+     */
+    public LinkedList liste() {
+        LinkedList liste;
+
+        liste = new LinkedList();
+        while (anzahl > 0) {
+            liste.addFirst(intervalle[0]);
+            anzahl--;
+            tauschen(0, anzahl);
+            intervalle[anzahl] = null;
+            nachUnten(0);
+        }
+        return liste;
+    }
+}
+
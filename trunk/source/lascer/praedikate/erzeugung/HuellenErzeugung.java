@@ -0,0 +1,78 @@
+/*
+ * Dateiname      : HuellenErzeugung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+
+
+package lascer.praedikate.erzeugung;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+
+import geometrischeClusterung.KonvexeHuelle;
+
+/**
+ * Erzeugt die konvexe Hlle zu einer Liste von Punkten, wenn die Methode
+ * <CODE>call</CODE> aufgerufen wird. Die bergebenen Punkte drfen whrend
+ * der Erzeugung nicht anderweitig verwendet werden.
+ *
+ * @author  Dietmar Lippold
+ */
+public class HuellenErzeugung implements Callable {
+
+    /**
+     * Die Punkte, zu denen die konvexe Hlle erzeugt werden soll.
+     */
+    private ArrayList punkte;
+
+    /**
+     * Die Anzahl der Facetten, aus denen die konvexe Hlle maximal bestehen
+     * sollte.
+     */
+    private int maxFacettenAnz;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param punkte          Eine Liste von Elementen vom Typ
+     *                        <CODE>Punkt</CODE>, zu denen die konvexe Hlle
+     *                        erzeugt werden soll.
+     * @param maxFacettenAnz  Die Anzahl der Facetten, aus denen die konvexe
+     *                        Hlle maximal bestehen sollte. Ist der Wert
+     *                        Null, ist die Anzahl unbeschrnkt.
+     */
+    public HuellenErzeugung(ArrayList punkte, int maxFacettenAnz) {
+
+        this.punkte = punkte;
+        this.maxFacettenAnz = maxFacettenAnz;
+    }
+
+    /**
+     * Erzeugt die konvexe Hlle.
+     *
+     * @return  Die erzeugte konvexe Hlle vom Typ
+     *          <CODE>KonvexeHuelle</CODE>.
+     */
+    public Object call() {
+        return new KonvexeHuelle(punkte, maxFacettenAnz);
+    }
+}
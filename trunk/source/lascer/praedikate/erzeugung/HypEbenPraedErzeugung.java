@@ -1,6 +1,6 @@
 /*
  * Dateiname      : HypEbenPraedErzeugung.java
- * Letzte nderung: 23. August 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2007
  *
@@ -25,13 +25,15 @@ package lascer.praedikate.erzeugung;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
 import geometrischeClusterung.Punkt;
 import geometrischeClusterung.Vektor;
 import geometrischeClusterung.Facette;
 import geometrischeClusterung.Hyperebene;
 import geometrischeClusterung.Unterraum;
 import geometrischeClusterung.KonvexeHuelle;
-import geometrischeClusterung.Genauigkeit;
 
 import lascer.praedikate.PraedikatErzeugung;
 import lascer.praedikate.einzelne.HypEbenPraedikat;
@@ -79,10 +81,13 @@ public class HypEbenPraedErzeugung implements PraedikatErzeugung {
         AttributSammlung attributSammlung;
         ArrayList        posBspPunkte;
         ArrayList        negBspPunkte;
-        KonvexeHuelle    huelle;
-        ArrayList        beispiele;
-        ArrayList        punkte;
-        Beispiel         beispiel;
+        ArrayList        posHuellenPunkte;
+        ArrayList        negHuellenPunkte;
+        KonvexeHuelle    posHuelle;
+        KonvexeHuelle    negHuelle;
+        ForkJoinPool     pool;
+        Future           negErgebnis;
+        Throwable        ursache;
         double           minAbstand;
         boolean          posUnbekWertVorhand, negUnbekWertVorhand;
 
@@ -94,61 +99,101 @@ public class HypEbenPraedErzeugung implements PraedikatErzeugung {
         negBspPunkte = HypEbenPraedikat.punkte(attributSammlung,
                                                beispieldaten.negBeispiele());
 
-        // Die konvexe Hlle der positiven Beispiele ermitteln.
-        posUnbekWertVorhand = false;
-        beispiele = beispieldaten.posBeispiele();
-        punkte = new ArrayList(beispiele.size());
-        for (int bspNr = 0; bspNr < beispiele.size(); bspNr++) {
-            beispiel = (Beispiel) beispiele.get(bspNr);
-            if (!beispiel.realWertUnbekannt()) {
-                // Das Beispiel enthlt keinen unbekannten real-Wert.
-                punkte.add(HypEbenPraedikat.punkt(attributSammlung, beispiel));
+        // Die Punkte fr die konvexen Hllen der positiven und der negativen
+        // Beispiele erzeugen. Da dabei jeweils neue Punkte erzeugt werden,
+        // knnen die beiden konvexen Hllen gleichzeitig ermittelt werden.
+        posHuellenPunkte = new ArrayList(beispieldaten.posBspAnz());
+        posUnbekWertVorhand = huellenPunkte(attributSammlung,
+                                            beispieldaten.posBeispiele(),
+                                            posHuellenPunkte);
+        negHuellenPunkte = new ArrayList(beispieldaten.negBspAnz());
+        negUnbekWertVorhand = huellenPunkte(attributSammlung,
+                                            beispieldaten.negBeispiele(),
+                                            negHuellenPunkte);
+
+        // Die konvexe Hlle der negativen Beispiele in einem eigenen Thread
+        // und die der positiven Beispiele im aktuellen Thread ermitteln.
+        pool = new ForkJoinPool(1);
+        try {
+            negErgebnis = pool.submit(new HuellenErzeugung(negHuellenPunkte,
+                                                           maxPraedAnz));
+            posHuelle = new KonvexeHuelle(posHuellenPunkte, maxPraedAnz);
+            negHuelle = (KonvexeHuelle) negErgebnis.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Unterbrechung bei der Erzeugung der"
+                                       + " konvexen Hllen", e);
+        } catch (ExecutionException e) {
+            ursache = e.getCause();
+            if (ursache instanceof RuntimeException) {
+                throw (RuntimeException) ursache;
+            } else if (ursache instanceof Error) {
+                throw (Error) ursache;
             } else {
-                posUnbekWertVorhand = true;
+                throw new RuntimeException(ursache);
             }
+        } finally {
+            pool.shutdownNow();
         }
-        huelle = new KonvexeHuelle(punkte, maxPraedAnz);
-        minAbstand = Genauigkeit.maxAbstandFehler();
 
         // Die vollstndigen Prdikate zu den positiven Beispielen erzeugen.
+        minAbstand = posHuelle.genauigkeit().maxAbstandFehler();
         if (!posUnbekWertVorhand) {
             posVollPraedikate = vollPraedikate(beispieldaten, posBspPunkte,
-                                               negBspPunkte, huelle, minAbstand);
+                                               negBspPunkte, posHuelle,
+                                               minAbstand);
         } else {
             posVollPraedikate = new ArrayList(1);
         }
 
         // Die allgemeinen Prdikate zu den positiven Beispielen erzeugen.
         algPraedikate = algPraedikate(beispieldaten, posBspPunkte,
-                                      negBspPunkte, huelle, minAbstand);
-
-        // Die konvexe Hlle der negativen Beispiele ermitteln.
-        negUnbekWertVorhand = false;
-        beispiele = beispieldaten.negBeispiele();
-        punkte = new ArrayList(beispiele.size());
-        for (int bspNr = 0; bspNr < beispiele.size(); bspNr++) {
-            beispiel = (Beispiel) beispiele.get(bspNr);
-            if (!beispiel.realWertUnbekannt()) {
-                // Das Beispiel enthlt keinen unbekannten real-Wert.
-                punkte.add(HypEbenPraedikat.punkt(attributSammlung, beispiel));
-            } else {
-                negUnbekWertVorhand = true;
-            }
-        }
-        huelle = new KonvexeHuelle(punkte, maxPraedAnz);
-        minAbstand = Genauigkeit.maxAbstandFehler();
+                                      negBspPunkte, posHuelle, minAbstand);
 
         // Die vollstndigen Prdikate zu den negativen Beispielen erzeugen.
+        minAbstand = negHuelle.genauigkeit().maxAbstandFehler();
         if (!negUnbekWertVorhand) {
             negVollPraedikate = vollPraedikate(beispieldaten, posBspPunkte,
-                                               negBspPunkte, huelle, minAbstand);
+                                               negBspPunkte, negHuelle,
+                                               minAbstand);
         } else {
             negVollPraedikate = new ArrayList(1);
         }
 
         // Die allgemeinen Prdikate zu den negativen Beispielen erzeugen.
         algPraedikate.addAll(algPraedikate(beispieldaten, posBspPunkte,
-                                           negBspPunkte, huelle, minAbstand));
+                                           negBspPunkte, negHuelle, minAbstand));
+    }
+
+    /**
+     * Erzeugt zu den bergebenen Beispielen, die keinen unbekannten
+     * real-Wert enthalten, jeweils einen neuen Punkt und fgt ihn in die
+     * bergebene Liste ein.
+     *
+     * @param attributSammlung  Die Sammlung der Attribute der Beispiele.
+     * @param beispiele         Die Beispiele, zu denen Punkte erzeugt werden
+     *                          sollen.
+     * @param punkte            Die Liste, in die die Punkte eingefgt werden.
+     *
+     * @return  <CODE>true</CODE>, wenn eines der Beispiele einen unbekannten
+     *          real-Wert enthlt, sonst <CODE>false</CODE>.
+     */
+    private boolean huellenPunkte(AttributSammlung attributSammlung,
+                                  ArrayList beispiele, ArrayList punkte) {
+        Beispiel beispiel;
+        boolean  unbekWertVorhand;
+
+        unbekWertVorhand = false;
+        for (int bspNr = 0; bspNr < beispiele.size(); bspNr++) {
+            beispiel = (Beispiel) beispiele.get(bspNr);
+            if (!beispiel.realWertUnbekannt()) {
+                // Das Beispiel enthlt keinen unbekannten real-Wert.
+                punkte.add(HypEbenPraedikat.punkt(attributSammlung, beispiel));
+            } else {
+                unbekWertVorhand = true;
+            }
+        }
+        return unbekWertVorhand;
     }
 
     /**
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : IntFunkPraedErzeugung.java
- * Letzte nderung: 28. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -23,7 +23,7 @@
 
 package lascer.praedikate.erzeugung.intpraed;
 
-import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.NoSuchElementException;
@@ -77,6 +77,13 @@ public class IntFunkPraedErzeugung implements PraedikatErzeugung, Serializable {
          */
         private int[] negBspFunkWerte = null;
 
+        /**
+         * Die Werte der bisher verwendeten Funktionen als Instanzen der
+         * Klasse <CODE>IntFunkWerte</CODE>. Diese speichern nur die
+         * Funktion und einen Hash-Code der Werte, nicht die Werte selbst.
+         */
+        private HashSet bekannteFunkWerte = new HashSet();
+
         /**
          * Gibt an, ob die Prdikate mglichst viele positive Beispiele
          * abdecken sollen. Anderenfalls decken sie mglichst viele negative
@@ -125,39 +132,33 @@ public class IntFunkPraedErzeugung implements PraedikatErzeugung, Serializable {
         }
 
         /**
-         * Liefert ein neu erzeugtes Array, das alle Werte des bergebenen
-         * Arrays bis auf den unbekannten Wert enthlt.
+         * Ermittelt die nchste Funktion, deren Werte fr die Beispiele sich
+         * von denen aller bisher verwendeten Funktionen unterscheiden. Eine
+         * Funktion mit bereits bekannten Werten wrde nur die gleichen
+         * Intervalle wie eine frhere und meistens einfachere Funktion
+         * liefern und wird daher bergangen.
          *
-         * @param werte  Die Werte, die bis auf den unbekannten Wert zurck
-         *               gegeben werden sollen.
-         *
-         * @return  Ein neu erzeugtes Array, das alle Werte des bergebenen
-         *          Arrays bis auf den unbekannten Wert enthlt.
+         * @return  <CODE>true</CODE>, wenn eine solche Funktion ermittelt
+         *          wurde, <CODE>false</CODE>, wenn es keine weitere Funktion
+         *          gibt.
          */
-        private int[] bekannteWerte(int[] werte) {
-            int[] bekannteWerte;
-            int   anzBekannteWerte;
-            int   nummerBekannterWert;
-
-            // Die Anzahl der bekannten Werte ermitteln.
-            anzBekannteWerte = 0;
-            for (int i = 0; i < werte.length; i++) {
-                if (werte[i] != Konstanten.UNBEKANNT_WERT) {
-                    anzBekannteWerte++;
-                }
-            }
+        private boolean neueFunktionErmittelt() {
+            boolean neueWerte;
 
-            // Die bekannten Werte kopieren.
-            bekannteWerte = new int[anzBekannteWerte];
-            nummerBekannterWert = 0;
-            for (int i = 0; i < werte.length; i++) {
-                if (werte[i] != Konstanten.UNBEKANNT_WERT) {
-                    bekannteWerte[nummerBekannterWert] = werte[i];
-                    nummerBekannterWert++;
-                }
+            neueWerte = false;
+            while (!neueWerte && intFunkIterator.hasNext()) {
+                funktion = (IntFunktion) intFunkIterator.next();
+
+                posBspFunkWerte = funktion.posBspWerte(beispieldaten);
+                negBspFunkWerte = funktion.negBspWerte(beispieldaten);
+
+                neueWerte = bekannteFunkWerte.add(new IntFunkWerte(funktion,
+                                                                   beispieldaten,
+                                                                   posBspFunkWerte,
+                                                                   negBspFunkWerte));
             }
 
-            return bekannteWerte;
+            return neueWerte;
         }
 
         /**
@@ -172,12 +173,7 @@ public class IntFunkPraedErzeugung implements PraedikatErzeugung, Serializable {
             int[] inklBspWerte;
             int[] exklBspWerte;
 
-            while (intervalle.isEmpty() && intFunkIterator.hasNext()) {
-                funktion = (IntFunktion) intFunkIterator.next();
-
-                posBspFunkWerte = funktion.posBspWerte(beispieldaten);
-                negBspFunkWerte = funktion.negBspWerte(beispieldaten);
-
+            while (intervalle.isEmpty() && neueFunktionErmittelt()) {
                 if (posBspPraedikate) {
                     inklBspFunkWerte = posBspFunkWerte;
                     exklBspFunkWerte = negBspFunkWerte;
@@ -186,16 +182,14 @@ public class IntFunkPraedErzeugung implements PraedikatErzeugung, Serializable {
                     exklBspFunkWerte = posBspFunkWerte;
                 }
 
-                if (beispieldaten.intWertUnbekannt()) {
-                    inklBspWerte = bekannteWerte(inklBspFunkWerte);
-                    exklBspWerte = bekannteWerte(exklBspFunkWerte);
-                } else {
-                    inklBspWerte = (int[]) inklBspFunkWerte.clone();
-                    exklBspWerte = (int[]) exklBspFunkWerte.clone();
-                }
-
-                Arrays.sort(inklBspWerte);
-                Arrays.sort(exklBspWerte);
+                // Die sortierten Werte werden zu den Beispieldaten nur
+                // einmal erzeugt und von allen Iteratoren verwendet.
+                inklBspWerte = beispieldaten.sortierteIntWerte(funktion,
+                                                               inklBspFunkWerte,
+                                                               posBspPraedikate);
+                exklBspWerte = beispieldaten.sortierteIntWerte(funktion,
+                                                               exklBspFunkWerte,
+                                                               !posBspPraedikate);
 
                 if (korrPraedikate) {
                     if (!IntWertPraedErzeugung.unbekWertEnthalten(exklBspFunkWerte)) {
@@ -310,17 +304,22 @@ public class IntFunkPraedErzeugung implements PraedikatErzeugung, Serializable {
      * @param intFunkErzeugung   Die Erzeuger der Funktionen.
      * @param nurHalbIntervalle  Gibt an, ob nur Halb-Intervalle anstatt aller
      *                           Arten von Intervallen erzeugt werden sollen.
+     * @param maxAlgItvAnz       Die maximale Anzahl der besten allgemeinen
+     *                           Intervalle, die zu einer Funktion erzeugt
+     *                           werden, wenn nicht nur Halb-Intervalle
+     *                           erzeugt werden. Der Wert Null steht fr eine
+     *                           unbeschrnkte Anzahl.
      */
     public IntFunkPraedErzeugung(Beispieldaten beispieldaten,
                                  IntFunkErzeugung intFunkErzeugung,
-                                 boolean nurHalbIntervalle) {
+                                 boolean nurHalbIntervalle, int maxAlgItvAnz) {
 
         this.beispieldaten = beispieldaten;
         this.intFunkErzeugung = intFunkErzeugung;
         if (nurHalbIntervalle) {
             this.intItvErzeugung = new HalbIntIntervallErzeug();
         } else {
-            this.intItvErzeugung = new AlleIntIntervallErzeug();
+            this.intItvErzeugung = new AlleIntIntervallErzeug(maxAlgItvAnz);
         }
     }
 
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : AlleRealIntervallErzeug.java
- * Letzte nderung: 22. Mrz 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -24,18 +24,51 @@
 package lascer.praedikate.erzeugung.realpraed;
 
 import java.util.LinkedList;
+import java.util.Iterator;
+
+import lascer.praedikate.erzeugung.BesteIntervalle;
 
 /**
  * Stellt Methoden zur Erzeugung von Intervallen aus geordneten
  * Fliekomma-Werten zur Verfgung. Die Erzeugung erfolgt unter der
  * Voraussetzung, da die Komplexitt eines Einzelwert-Intervall-Prdikats
  * kleiner oder gleich ist wie die eines Halb-Intervall-Prdikats und diese
- * wiederum kleiner oder gleich ist wie die eines Voll-Intervall-Prdikats.
+ * wiederum kleiner oder gleich ist wie die eines Voll-Intervall-Prdikats.<P>
+ *
+ * Die Anzahl der allgemeinen Intervalle zu einem Paar von Arrays kann
+ * quadratisch mit deren Lnge wachsen. Sie kann daher auf die besten
+ * Intervalle begrenzt werden, die dann nach absteigender Gte geliefert
+ * werden.
  *
  * @author  Dietmar Lippold
  */
 public class AlleRealIntervallErzeug implements RealIntervallErzeugung {
 
+    /**
+     * Die maximale Anzahl der zu erzeugenden allgemeinen Intervalle. Der
+     * Wert Null steht fr eine unbeschrnkte Anzahl.
+     */
+    private int maxAlgItvAnz;
+
+    /**
+     * Erzeugt eine neue Instanz, die alle allgemeinen Intervalle erzeugt.
+     */
+    public AlleRealIntervallErzeug() {
+        this(0);
+    }
+
+    /**
+     * Erzeugt eine neue Instanz, die nur eine begrenzte Anzahl der besten
+     * allgemeinen Intervalle erzeugt.
+     *
+     * @param maxAlgItvAnz  Die maximale Anzahl der zu erzeugenden
+     *                      allgemeinen Intervalle. Der Wert Null steht fr
+     *                      eine unbeschrnkte Anzahl.
+     */
+    public AlleRealIntervallErzeug(int maxAlgItvAnz) {
+        this.maxAlgItvAnz = maxAlgItvAnz;
+    }
+
     /**
      * Liefert eine Liste mit Intervallen, die alle inklusiven Werte aber
      * nicht alle exklusiven Werte enthalten, falls so eines existiert.
@@ -318,13 +351,84 @@ public class AlleRealIntervallErzeug implements RealIntervallErzeugung {
         return intervalle;
     }
 
+    /**
+     * Liefert die Anzahl der Werte des bergebenen Arrays, die kleiner als
+     * der bergebene Wert oder, wenn angegeben, gleich ihm sind.
+     *
+     * @param werte         Ein aufsteigend sortiertes Array von Werten.
+     * @param wert          Der Wert, mit dem die Werte verglichen werden.
+     * @param gleichZaehlt  Gibt an, ob auch die Werte gezhlt werden sollen,
+     *                      die gleich dem bergebenen Wert sind.
+     *
+     * @return  Die Anzahl der kleineren bzw. kleineren oder gleichen Werte.
+     */
+    private static int kleinereWertAnz(float[] werte, float wert,
+                                       boolean gleichZaehlt) {
+        int untenIndex, obenIndex, mitteIndex;
+
+        // Es gilt stets: Alle Werte mit einem Index kleiner als untenIndex
+        // werden gezhlt und alle mit einem Index ab obenIndex nicht.
+        untenIndex = 0;
+        obenIndex = werte.length;
+        while (untenIndex < obenIndex) {
+            mitteIndex = (untenIndex + obenIndex) >>> 1;
+            if ((werte[mitteIndex] < wert)
+                    || (gleichZaehlt && (werte[mitteIndex] == wert))) {
+                untenIndex = mitteIndex + 1;
+            } else {
+                obenIndex = mitteIndex;
+            }
+        }
+        return untenIndex;
+    }
+
+    /**
+     * Nimmt das bergebene Intervall in die Liste der Intervalle oder, wenn
+     * vorhanden, in die besten Intervalle auf.
+     *
+     * @param intervall        Das aufzunehmende Intervall.
+     * @param intervalle       Die Liste, in die das Intervall aufgenommen
+     *                         wird, wenn <CODE>besteIntervalle</CODE> gleich
+     *                         <CODE>null</CODE> ist.
+     * @param besteIntervalle  Die besten Intervalle, in die das Intervall
+     *                         aufgenommen werden soll, oder
+     *                         <CODE>null</CODE>.
+     * @param inklusivWerte    Ein aufsteigend sortiertes Array der inklusiven
+     *                         Werte.
+     * @param exklusivWerte    Ein aufsteigend sortiertes Array der exklusiven
+     *                         Werte.
+     */
+    private static void aufnehmen(RealIntervall intervall, LinkedList intervalle,
+                                  BesteIntervalle besteIntervalle,
+                                  float[] inklusivWerte, float[] exklusivWerte) {
+        float untergrenze, obergrenze;
+        int   inklAnz, exklAnz;
+
+        if (besteIntervalle == null) {
+            intervalle.add(intervall);
+        } else {
+            untergrenze = intervall.untergrenze();
+            obergrenze = intervall.obergrenze();
+            inklAnz = (kleinereWertAnz(inklusivWerte, obergrenze, true)
+                       - kleinereWertAnz(inklusivWerte, untergrenze, false));
+            exklAnz = (kleinereWertAnz(exklusivWerte, obergrenze, true)
+                       - kleinereWertAnz(exklusivWerte, untergrenze, false));
+            besteIntervalle.aufnehmen(intervall, inklAnz, exklAnz);
+        }
+    }
+
     /**
      * Liefert alle mglichen Intervalle der Werte aus
      * <CODE>inklusivWerte</CODE>, ohne die vollstndigen, die korrekten und
      * die nutzlosen Intervalle. Ein Intervall ist nutzlos, wenn es ein
      * anderes Intervall mit gleicher oder geringerer Komplexitt gibt, das
      * gleich viele oder mehr Werte aus <CODE>inklusivWerte</CODE> und gleich
-     * viele oder weniger Werte aus <CODE>exklusivWerte</CODE> enthlt.
+     * viele oder weniger Werte aus <CODE>exklusivWerte</CODE> enthlt.<P>
+     *
+     * Wenn die Anzahl der allgemeinen Intervalle begrenzt ist, werden nur
+     * die besten Intervalle nach absteigender Gte geliefert. Die Gte eines
+     * Intervalls ist die Anzahl der enthaltenen inklusiven Werte pro Anzahl
+     * der enthaltenen exklusiven Werte plus Eins.
      *
      * @param inklusivWerte  Ein aufsteigend sortiertes Array der inklusiven
      *                       Werte.
@@ -336,7 +440,9 @@ public class AlleRealIntervallErzeug implements RealIntervallErzeugung {
      */
     public LinkedList allgemeineIntervalle(float[] inklusivWerte,
                                            float[] exklusivWerte) {
-        LinkedList intervalle;
+        BesteIntervalle besteIntervalle;
+        LinkedList      intervalle;
+        Iterator        ewIter;
         float      inklUnterWert, exklUnterWert;
         float      inklOberWert, exklOberWert;
         int        inklWertAnz, exklWertAnz;
@@ -344,6 +450,11 @@ public class AlleRealIntervallErzeug implements RealIntervallErzeugung {
         int        inklOberIndex, exklOberIndex;
 
         intervalle = new LinkedList();
+        if (maxAlgItvAnz > 0) {
+            besteIntervalle = new BesteIntervalle(maxAlgItvAnz);
+        } else {
+            besteIntervalle = null;
+        }
         inklWertAnz = inklusivWerte.length;
         exklWertAnz = exklusivWerte.length;
 
@@ -457,8 +568,9 @@ public class AlleRealIntervallErzeug implements RealIntervallErzeugung {
                     // gleich der Untergrenze ist, da solche
                     // Einzelwert-Intervalle alle am Ende aufgenommen werden.
                     if (inklOberWert != inklUnterWert) {
-                        intervalle.add(new RealIntervall(inklUnterWert,
-                                                         inklOberWert));
+                        aufnehmen(new RealIntervall(inklUnterWert, inklOberWert),
+                                  intervalle, besteIntervalle,
+                                  inklusivWerte, exklusivWerte);
                     }
                 }
             }
@@ -468,8 +580,10 @@ public class AlleRealIntervallErzeug implements RealIntervallErzeugung {
             if (inklusivWerte[inklWertAnz - 1] < exklusivWerte[exklWertAnz - 1]) {
                 // Prfen, ob das Intervall nicht vollstndig ist.
                 if (inklUnterWert > inklusivWerte[0]) {
-                    intervalle.add(new RealIntervall(inklUnterWert,
-                                                     Konstanten.MAX_WERT));
+                    aufnehmen(new RealIntervall(inklUnterWert,
+                                                Konstanten.MAX_WERT),
+                              intervalle, besteIntervalle,
+                              inklusivWerte, exklusivWerte);
                 }
             }
 
@@ -498,8 +612,17 @@ public class AlleRealIntervallErzeug implements RealIntervallErzeugung {
             }
         }
 
-        intervalle.addAll(algEwIntervalle(inklusivWerte, exklusivWerte));
-        return intervalle;
+        ewIter = algEwIntervalle(inklusivWerte, exklusivWerte).iterator();
+        while (ewIter.hasNext()) {
+            aufnehmen((RealIntervall) ewIter.next(), intervalle, besteIntervalle,
+                      inklusivWerte, exklusivWerte);
+        }
+
+        if (besteIntervalle == null) {
+            return intervalle;
+        } else {
+            return besteIntervalle.liste();
+        }
     }
 
     /**
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : RealFunkPraedErzeugung.java
- * Letzte nderung: 28. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -23,7 +23,7 @@
 
 package lascer.praedikate.erzeugung.realpraed;
 
-import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.NoSuchElementException;
@@ -77,6 +77,13 @@ public class RealFunkPraedErzeugung implements PraedikatErzeugung, Serializable
          */
         private float[] negBspFunkWerte = null;
 
+        /**
+         * Die Werte der bisher verwendeten Funktionen als Instanzen der
+         * Klasse <CODE>RealFunkWerte</CODE>. Diese speichern nur die
+         * Funktion und einen Hash-Code der Werte, nicht die Werte selbst.
+         */
+        private HashSet bekannteFunkWerte = new HashSet();
+
         /**
          * Gibt an, ob die Prdikate mglichst viele positive Beispiele
          * abdecken sollen. Anderenfalls decken sie mglichst viele negative
@@ -125,39 +132,33 @@ public class RealFunkPraedErzeugung implements PraedikatErzeugung, Serializable
         }
 
         /**
-         * Liefert ein neu erzeugtes Array, das alle Werte des bergebenen
-         * Arrays bis auf den unbekannten Wert enthlt.
+         * Ermittelt die nchste Funktion, deren Werte fr die Beispiele sich
+         * von denen aller bisher verwendeten Funktionen unterscheiden. Eine
+         * Funktion mit bereits bekannten Werten wrde nur die gleichen
+         * Intervalle wie eine frhere und meistens einfachere Funktion
+         * liefern und wird daher bergangen.
          *
-         * @param werte  Die Werte, die bis auf den unbekannten Wert zurck
-         *               gegeben werden sollen.
-         *
-         * @return  Ein neu erzeugtes Array, das alle Werte des bergebenen
-         *          Arrays bis auf den unbekannten Wert enthlt.
+         * @return  <CODE>true</CODE>, wenn eine solche Funktion ermittelt
+         *          wurde, <CODE>false</CODE>, wenn es keine weitere Funktion
+         *          gibt.
          */
-        private float[] bekannteWerte(float[] werte) {
-            float[] bekannteWerte;
-            int     anzBekannteWerte;
-            int     nummerBekannterWert;
-
-            // Die Anzahl der bekannten Werte ermitteln.
-            anzBekannteWerte = 0;
-            for (int i = 0; i < werte.length; i++) {
-                if (werte[i] != Konstanten.UNBEKANNT_WERT) {
-                    anzBekannteWerte++;
-                }
-            }
+        private boolean neueFunktionErmittelt() {
+            boolean neueWerte;
 
-            // Die bekannten Werte kopieren.
-            bekannteWerte = new float[anzBekannteWerte];
-            nummerBekannterWert = 0;
-            for (int i = 0; i < werte.length; i++) {
-                if (werte[i] != Konstanten.UNBEKANNT_WERT) {
-                    bekannteWerte[nummerBekannterWert] = werte[i];
-                    nummerBekannterWert++;
-                }
+            neueWerte = false;
+            while (!neueWerte && realFunkIterator.hasNext()) {
+                funktion = (RealFunktion) realFunkIterator.next();
+
+                posBspFunkWerte = funktion.posBspWerte(beispieldaten);
+                negBspFunkWerte = funktion.negBspWerte(beispieldaten);
+
+                neueWerte = bekannteFunkWerte.add(new RealFunkWerte(funktion,
+                                                                    beispieldaten,
+                                                                    posBspFunkWerte,
+                                                                    negBspFunkWerte));
             }
 
-            return bekannteWerte;
+            return neueWerte;
         }
 
         /**
@@ -172,12 +173,7 @@ public class RealFunkPraedErzeugung implements PraedikatErzeugung, Serializable
             float[] inklBspWerte;
             float[] exklBspWerte;
 
-            while (intervalle.isEmpty() && realFunkIterator.hasNext()) {
-                funktion = (RealFunktion) realFunkIterator.next();
-
-                posBspFunkWerte = funktion.posBspWerte(beispieldaten);
-                negBspFunkWerte = funktion.negBspWerte(beispieldaten);
-
+            while (intervalle.isEmpty() && neueFunktionErmittelt()) {
                 if (posBspPraedikate) {
                     inklBspFunkWerte = posBspFunkWerte;
                     exklBspFunkWerte = negBspFunkWerte;
@@ -186,16 +182,14 @@ public class RealFunkPraedErzeugung implements PraedikatErzeugung, Serializable
                     exklBspFunkWerte = posBspFunkWerte;
                 }
 
-                if (beispieldaten.realWertUnbekannt()) {
-                    inklBspWerte = bekannteWerte(inklBspFunkWerte);
-                    exklBspWerte = bekannteWerte(exklBspFunkWerte);
-                } else {
-                    inklBspWerte = (float[]) inklBspFunkWerte.clone();
-                    exklBspWerte = (float[]) exklBspFunkWerte.clone();
-                }
-
-                Arrays.sort(inklBspWerte);
-                Arrays.sort(exklBspWerte);
+                // Die sortierten Werte werden zu den Beispieldaten nur
+                // einmal erzeugt und von allen Iteratoren verwendet.
+                inklBspWerte = beispieldaten.sortierteRealWerte(funktion,
+                                                                inklBspFunkWerte,
+                                                                posBspPraedikate);
+                exklBspWerte = beispieldaten.sortierteRealWerte(funktion,
+                                                                exklBspFunkWerte,
+                                                                !posBspPraedikate);
 
                 if (korrPraedikate) {
                     if (!RealWertPraedErzeugung.unbekWertEnthalten(exklBspFunkWerte)) {
@@ -310,17 +304,22 @@ public class RealFunkPraedErzeugung implements PraedikatErzeugung, Serializable
      * @param realFunkErzeugung  Die Erzeuger der Funktionen.
      * @param nurHalbIntervalle  Gibt an, ob nur Halb-Intervalle anstatt aller
      *                           Arten von Intervallen erzeugt werden sollen.
+     * @param maxAlgItvAnz       Die maximale Anzahl der besten allgemeinen
+     *                           Intervalle, die zu einer Funktion erzeugt
+     *                           werden, wenn nicht nur Halb-Intervalle
+     *                           erzeugt werden. Der Wert Null steht fr eine
+     *                           unbeschrnkte Anzahl.
      */
     public RealFunkPraedErzeugung(Beispieldaten beispieldaten,
                                   RealFunkErzeugung realFunkErzeugung,
-                                  boolean nurHalbIntervalle) {
+                                  boolean nurHalbIntervalle, int maxAlgItvAnz) {
 
         this.beispieldaten = beispieldaten;
         this.realFunkErzeugung = realFunkErzeugung;
         if (nurHalbIntervalle) {
             this.realItvErzeugung = new HalbRealIntervallErzeug();
         } else {
-            this.realItvErzeugung = new AlleRealIntervallErzeug();
+            this.realItvErzeugung = new AlleRealIntervallErzeug(maxAlgItvAnz);
         }
     }
 
@@ -0,0 +1,125 @@
+/*
+ * Dateiname      : RealFunkWerte.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package lascer.praedikate.erzeugung.realpraed;
+
+import java.util.Arrays;
+
+import lascer.realfunktionen.RealFunktion;
+import lascer.problemdaten.Beispieldaten;
+
+/**
+ * Reprsentiert die Werte einer Funktion, die einen Fliekomma-Wert
+ * liefert, fr die positiven und die negativen Beispiele. Zwei Instanzen sind
+ * gleich, wenn ihre Funktionen die gleichen Werte liefern. Dadurch knnen Funktionen
+ * erkannt werden, die zwar unterschiedlich aufgebaut sind, aber fr alle
+ * Beispiele die gleichen Werte liefern.<P>
+ *
+ * Eine Instanz speichert nicht die Werte selbst, sondern nur die Funktion und
+ * einen aus den Werten ermittelten Hash-Code. Daher ist der Speicherbedarf
+ * unabhngig von der Anzahl der Beispiele. Nur bei gleichem Hash-Code werden
+ * die Werte zum Vergleich ber die Funktion ermittelt, wozu sie aus den
+ * Beispieldaten geholt oder, wenn sie dort nicht mehr gespeichert sind, neu
+ * berechnet werden.
+ *
+ * @author  Dietmar Lippold
+ */
+public class RealFunkWerte {
+
+    /**
+     * Die Funktion, deren Werte reprsentiert werden.
+     */
+    private RealFunktion funktion;
+
+    /**
+     * Die Beispieldaten, fr deren Beispiele die Werte der Funktion
+     * ermittelt werden.
+     */
+    private Beispieldaten beispieldaten;
+
+    /**
+     * Der aus den Werten ermittelte Hash-Code.
+     */
+    private int hashWert;
+
+    /**
+     * Erzeugt eine neue Instanz. Die bergebenen Arrays werden nur zur
+     * Ermittlung des Hash-Codes verwendet und nicht gespeichert.
+     *
+     * @param funktion       Die Funktion, deren Werte reprsentiert werden.
+     * @param beispieldaten  Die Beispieldaten, fr deren Beispiele die Werte
+     *                       der Funktion ermittelt werden.
+     * @param posBspWerte    Die Werte der Funktion fr die positiven
+     *                       Beispiele.
+     * @param negBspWerte    Die Werte der Funktion fr die negativen
+     *                       Beispiele.
+     */
+    public RealFunkWerte(RealFunktion funktion, Beispieldaten beispieldaten,
+                         float[] posBspWerte, float[] negBspWerte) {
+        this.funktion = funktion;
+        this.beispieldaten = beispieldaten;
+        this.hashWert = 31 * Arrays.hashCode(posBspWerte)
+                        + Arrays.hashCode(negBspWerte);
+    }
+
+    /**
+     * Ermittelt, ob das bergebene Objekt gleich zu diesem Objekt ist. Das
+     * ist der Fall, wenn seine Funktion die gleichen Werte fr die positiven
+     * und fr die negativen Beispiele liefert.
+     *
+     * @param anderesObjekt  Das Objekt, das mit diesem verglichen wird.
+     *
+     * @return  <CODE>true</CODE>, wenn das bergebene Objekt gleich diesem
+     *          Objekt ist, anderenfalls <CODE>false</CODE>.
+     */
+    public boolean equals(Object anderesObjekt) {
+        RealFunkWerte andereWerte;
+
+        if (!(anderesObjekt instanceof RealFunkWerte)) {
+            return false;
+        }
+
+        andereWerte = (RealFunkWerte) anderesObjekt;
+        if (hashWert != andereWerte.hashWert) {
+            return false;
+        }
+        if ((funktion == andereWerte.funktion)
+            && (beispieldaten == andereWerte.beispieldaten)) {
+            return true;
+        }
+
+        return (Arrays.equals(funktion.posBspWerte(beispieldaten),
+                              andereWerte.funktion.posBspWerte(andereWerte.beispieldaten))
+                && Arrays.equals(funktion.negBspWerte(beispieldaten),
+                                 andereWerte.funktion.negBspWerte(andereWerte.beispieldaten)));
+    }
+
+    /**
+     * Liefert den Hash-Code dieses Objekts.
+     *
+     * @return  Den Hash-Code dieses Objekts.
+     */
+    public int hashCode() {
+        return hashWert;
+    }
+}
@@ -0,0 +1,447 @@
+/*
+ * Dateiname      : BeispielSpalten.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package lascer.problemdaten;
+
+import java.util.Arrays;
+
+import lascer.problemdaten.attribute.NominalAttribut;
+
+/**
+ * Speichert die Werte einer festen Folge von Beispielen spaltenweise, d.h.
+ * zu jedem Attribut in einem eigenen Array. Die Spalte zu einem Attribut
+ * wird erst beim ersten Zugriff aus den Beispielen erzeugt und danach
+ * unverndert geliefert. Die gelieferten Arrays drfen daher nicht
+ * verndert werden. Auerdem knnen zu beliebigen Schlsseln weitere aus
+ * den Beispielen abgeleitete Werte gespeichert werden.<P>
+ *
+ * Zu den gespeicherten Werten eines Schlssels knnen auerdem die
+ * aufsteigend sortierten Werte gespeichert werden. Diese werden dann nur
+ * einmal fr die Folge der Beispiele sortiert.<P>
+ *
+ * Da die Folge der Beispiele bei der Erzeugung bernommen wird, kann eine
+ * Instanz von mehreren Datenstzen mit den gleichen Beispielen gemeinsam
+ * verwendet werden. Die Methoden drfen auch von mehreren Threads
+ * gleichzeitig aufgerufen werden.
+ *
+ * @author  Dietmar Lippold
+ */
+public class BeispielSpalten {
+
+    /**
+     * Der Schlssel, zu dem die sortierten Werte zu einem anderen Schlssel
+     * gespeichert werden.
+     */
+    private static class SortierSchluessel {
+
+        /**
+         * Der Schlssel der unsortierten Werte.
+         */
+        private Object schluessel;
+
+        /**
+         * Gibt an, ob der unbekannte Wert aus den sortierten Werten entfernt
+         * wurde.
+         */
+        private boolean unbekWertEntfernt;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param schluessel         Der Schlssel der unsortierten Werte.
+         * @param unbekWertEntfernt  Gibt an, ob der unbekannte Wert aus den
+         *                           sortierten Werten entfernt wurde.
+         */
+        SortierSchluessel(Object schluessel, boolean unbekWertEntfernt) {
+            this.schluessel = schluessel;
+            this.unbekWertEntfernt = unbekWertEntfernt;
+        }
+
+        /**
+         * Liefert den hashCode dieses Objekts.
+         *
+         * @return  Den hashCode dieses Objekts.
+         */
+        public int hashCode() {
+            if (unbekWertEntfernt) {
+                return (31 * schluessel.hashCode() + 1);
+            } else {
+                return (31 * schluessel.hashCode() + 2);
+            }
+        }
+
+        /**
+         * Ermittelt, ob das bergebene Objekt ein gleicher Schlssel ist.
+         *
+         * @param anderesObjekt  Das zu vergleichende Objekt.
+         *
+         * @return  <CODE>true</CODE>, wenn das bergebene Objekt zum
+         *          gleichen Schlssel der unsortierten Werte gehrt,
+         *          anderenfalls <CODE>false</CODE>.
+         */
+        public boolean equals(Object anderesObjekt) {
+            SortierSchluessel andererSchluessel;
+
+            if (!(anderesObjekt instanceof SortierSchluessel)) {
+                return false;
+            }
+
+            andererSchluessel = (SortierSchluessel) anderesObjekt;
+            return ((unbekWertEntfernt == andererSchluessel.unbekWertEntfernt)
+                    && schluessel.equals(andererSchluessel.schluessel));
+        }
+    }
+
+    /**
+     * Die Beispiele, deren Werte gespeichert werden.
+     */
+    private Beispiel[] beispiele;
+
+    /**
+     * Zu jedem textuellen Attribut die Spalte der Werte oder
+     * <CODE>null</CODE>, wenn die Spalte noch nicht erzeugt wurde.
+     */
+    private String[][] stringSpalten = new String[0][];
+
+    /**
+     * Zu jedem nominalen Attribut die Spalte der Werte oder
+     * <CODE>null</CODE>, wenn die Spalte noch nicht erzeugt wurde.
+     */
+    private String[][] nominalSpalten = new String[0][];
+
+    /**
+     * Zu jedem nominalen Attribut die Spalte der Codes der Werte oder
+     * <CODE>null</CODE>, wenn die Spalte noch nicht erzeugt wurde.
+     */
+    private int[][] codeSpalten = new int[0][];
+
+    /**
+     * Zu jedem nicht-ganzzahligen Attribut die Spalte der Werte oder
+     * <CODE>null</CODE>, wenn die Spalte noch nicht erzeugt wurde.
+     */
+    private float[][] realSpalten = new float[0][];
+
+    /**
+     * Zu jedem ganzzahligen Attribut die Spalte der Werte oder
+     * <CODE>null</CODE>, wenn die Spalte noch nicht erzeugt wurde.
+     */
+    private int[][] intSpalten = new int[0][];
+
+    /**
+     * Die zu beliebigen Schlsseln gespeicherten Werte der Beispiele.
+     */
+    private WerteCache werteCache;
+
+    /**
+     * Erzeugt eine neue Instanz fr die bergebenen Beispiele.
+     *
+     * @param beispiele  Ein Array der Beispiele, deren Werte gespeichert
+     *                   werden sollen. Es wird bernommen und darf danach
+     *                   nicht mehr verndert werden.
+     */
+    public BeispielSpalten(Beispiel[] beispiele) {
+        this.beispiele = beispiele;
+
+        werteCache = new WerteCache(Math.max(1, Konstanten.MAX_GESPEICHERTE_WERTE
+                                                / Math.max(1, this.beispiele.length)));
+    }
+
+    /**
+     * Liefert ein Array, das um die Spalten des bergebenen Arrays
+     * erweitert ist.
+     *
+     * @param spalten      Das Array der bisherigen Spalten.
+     * @param neueSpalten  Ein neues, greres Array fr die Spalten.
+     *
+     * @return  Das Array <CODE>neueSpalten</CODE>, in das die bisherigen
+     *          Spalten bernommen wurden.
+     */
+    private static Object[] erweitert(Object[] spalten, Object[] neueSpalten) {
+        System.arraycopy(spalten, 0, neueSpalten, 0, spalten.length);
+        return neueSpalten;
+    }
+
+    /**
+     * Liefert die Anzahl der Beispiele.
+     *
+     * @return  Die Anzahl der Beispiele.
+     */
+    public int beispielAnz() {
+        return beispiele.length;
+    }
+
+    /**
+     * Liefert die zum bergebenen Schlssel gespeicherten Werte der
+     * Beispiele.
+     *
+     * @param schluessel  Der Schlssel, zu dem die Werte gespeichert wurden.
+     *
+     * @return  Die gespeicherten Werte oder <CODE>null</CODE>, wenn zu dem
+     *          Schlssel keine Werte gespeichert sind.
+     */
+    public synchronized Object gespeicherteWerte(Object schluessel) {
+        return werteCache.get(schluessel);
+    }
+
+    /**
+     * Speichert zum bergebenen Schlssel die bergebenen Werte der
+     * Beispiele. Wenn dadurch die maximale Anzahl gespeicherter Werte
+     * berschritten wird, werden die Werte zu dem Schlssel entfernt, auf
+     * die am lngsten nicht zugegriffen wurde.
+     *
+     * @param schluessel  Der Schlssel, zu dem die Werte gespeichert werden
+     *                    sollen.
+     * @param werte       Die zu speichernden Werte, in der Regel ein Array
+     *                    mit einem Wert zu jedem Beispiel. Es darf danach
+     *                    nicht mehr verndert werden.
+     */
+    public synchronized void werteSpeichern(Object schluessel, Object werte) {
+        werteCache.put(schluessel, werte);
+    }
+
+    /**
+     * Liefert die aufsteigend sortierten ganzzahligen Werte zum bergebenen
+     * Schlssel. Sie werden nur beim ersten Aufruf zu dem Schlssel sortiert
+     * und danach gespeichert.
+     *
+     * @param schluessel         Der Schlssel der unsortierten Werte, z.B.
+     *                           eine Funktion.
+     * @param werte              Die unsortierten Werte der Beispiele zum
+     *                           Schlssel.
+     * @param unbekWertEntfernen Gibt an, ob der unbekannte Wert nicht in die
+     *                           sortierten Werte aufgenommen werden soll.
+     *
+     * @return  Die sortierten Werte. Das Array darf nicht verndert werden.
+     */
+    public int[] sortierteIntWerte(Object schluessel, int[] werte,
+                                   boolean unbekWertEntfernen) {
+        SortierSchluessel sortierSchluessel;
+        int[]             sortierteWerte;
+        int               bekannteWertAnz;
+
+        sortierSchluessel = new SortierSchluessel(schluessel, unbekWertEntfernen);
+        sortierteWerte = (int[]) gespeicherteWerte(sortierSchluessel);
+        if (sortierteWerte == null) {
+            if (unbekWertEntfernen) {
+                bekannteWertAnz = 0;
+                for (int i = 0; i < werte.length; i++) {
+                    if (werte[i] != Konstanten.UNBEKANNT_INT) {
+                        bekannteWertAnz++;
+                    }
+                }
+                sortierteWerte = new int[bekannteWertAnz];
+                bekannteWertAnz = 0;
+                for (int i = 0; i < werte.length; i++) {
+                    if (werte[i] != Konstanten.UNBEKANNT_INT) {
+                        sortierteWerte[bekannteWertAnz] = werte[i];
+                        bekannteWertAnz++;
+                    }
+                }
+            } else {
+                sortierteWerte = werte.clone();
+            }
+            Arrays.sort(sortierteWerte);
+            werteSpeichern(sortierSchluessel, sortierteWerte);
+        }
+        return sortierteWerte;
+    }
+
+    /**
+     * Liefert die aufsteigend sortierten nicht-ganzzahligen Werte zum
+     * bergebenen Schlssel. Sie werden nur beim ersten Aufruf zu dem
+     * Schlssel sortiert und danach gespeichert.
+     *
+     * @param schluessel         Der Schlssel der unsortierten Werte, z.B.
+     *                           eine Funktion.
+     * @param werte              Die unsortierten Werte der Beispiele zum
+     *                           Schlssel.
+     * @param unbekWertEntfernen Gibt an, ob der unbekannte Wert nicht in die
+     *                           sortierten Werte aufgenommen werden soll.
+     *
+     * @return  Die sortierten Werte. Das Array darf nicht verndert werden.
+     */
+    public float[] sortierteRealWerte(Object schluessel, float[] werte,
+                                      boolean unbekWertEntfernen) {
+        SortierSchluessel sortierSchluessel;
+        float[]           sortierteWerte;
+        int               bekannteWertAnz;
+
+        sortierSchluessel = new SortierSchluessel(schluessel, unbekWertEntfernen);
+        sortierteWerte = (float[]) gespeicherteWerte(sortierSchluessel);
+        if (sortierteWerte == null) {
+            if (unbekWertEntfernen) {
+                bekannteWertAnz = 0;
+                for (int i = 0; i < werte.length; i++) {
+                    if (werte[i] != Konstanten.UNBEKANNT_REAL) {
+                        bekannteWertAnz++;
+                    }
+                }
+                sortierteWerte = new float[bekannteWertAnz];
+                bekannteWertAnz = 0;
+                for (int i = 0; i < werte.length; i++) {
+                    if (werte[i] != Konstanten.UNBEKANNT_REAL) {
+                        sortierteWerte[bekannteWertAnz] = werte[i];
+                        bekannteWertAnz++;
+                    }
+                }
+            } else {
+                sortierteWerte = werte.clone();
+            }
+            Arrays.sort(sortierteWerte);
+            werteSpeichern(sortierSchluessel, sortierteWerte);
+        }
+        return sortierteWerte;
+    }
+
+    /**
+     * Liefert die Spalte der Werte des angegebenen textuellen Attributs.
+     *
+     * @param attributNr  Die Nummer des textuellen Attributs.
+     *
+     * @return  Die Werte der Beispiele fr das Attribut. Das Array darf
+     *          nicht verndert werden.
+     */
+    public synchronized String[] stringSpalte(int attributNr) {
+        String[] spalte;
+
+        if (attributNr >= stringSpalten.length) {
+            stringSpalten = (String[][]) erweitert(stringSpalten,
+                                                   new String[attributNr + 1][]);
+        }
+        if (stringSpalten[attributNr] == null) {
+            spalte = new String[beispiele.length];
+            for (int bspNr = 0; bspNr < beispiele.length; bspNr++) {
+                spalte[bspNr] = beispiele[bspNr].getStringWert(attributNr);
+            }
+            stringSpalten[attributNr] = spalte;
+        }
+        return stringSpalten[attributNr];
+    }
+
+    /**
+     * Liefert die Spalte der Werte des angegebenen nominalen Attributs.
+     *
+     * @param attributNr  Die Nummer des nominalen Attributs.
+     *
+     * @return  Die Werte der Beispiele fr das Attribut. Das Array darf
+     *          nicht verndert werden.
+     */
+    public synchronized String[] nominalSpalte(int attributNr) {
+        String[] spalte;
+
+        if (attributNr >= nominalSpalten.length) {
+            nominalSpalten = (String[][]) erweitert(nominalSpalten,
+                                                    new String[attributNr + 1][]);
+        }
+        if (nominalSpalten[attributNr] == null) {
+            spalte = new String[beispiele.length];
+            for (int bspNr = 0; bspNr < beispiele.length; bspNr++) {
+                spalte[bspNr] = beispiele[bspNr].getNominalWert(attributNr);
+            }
+            nominalSpalten[attributNr] = spalte;
+        }
+        return nominalSpalten[attributNr];
+    }
+
+    /**
+     * Liefert die Spalte der Codes der Werte des angegebenen nominalen
+     * Attributs. Der Code eines Wertes ist seine Position im Array der
+     * mglichen Werte des Attributs.
+     *
+     * @param attributNr  Die Nummer des nominalen Attributs.
+     * @param attribut    Das nominale Attribut mit der angegebenen Nummer.
+     *
+     * @return  Die Codes der Werte der Beispiele fr das Attribut. Das Array
+     *          darf nicht verndert werden.
+     */
+    public synchronized int[] codeSpalte(int attributNr,
+                                         NominalAttribut attribut) {
+        String[] werte;
+        int[]    spalte;
+
+        if (attributNr >= codeSpalten.length) {
+            codeSpalten = (int[][]) erweitert(codeSpalten,
+                                              new int[attributNr + 1][]);
+        }
+        if (codeSpalten[attributNr] == null) {
+            werte = nominalSpalte(attributNr);
+            spalte = new int[werte.length];
+            for (int bspNr = 0; bspNr < werte.length; bspNr++) {
+                spalte[bspNr] = attribut.code(werte[bspNr]);
+            }
+            codeSpalten[attributNr] = spalte;
+        }
+        return codeSpalten[attributNr];
+    }
+
+    /**
+     * Liefert die Spalte der Werte des angegebenen nicht-ganzzahligen
+     * Attributs.
+     *
+     * @param attributNr  Die Nummer des nicht-ganzzahligen Attributs.
+     *
+     * @return  Die Werte der Beispiele fr das Attribut. Das Array darf
+     *          nicht verndert werden.
+     */
+    public synchronized float[] realSpalte(int attributNr) {
+        float[] spalte;
+
+        if (attributNr >= realSpalten.length) {
+            realSpalten = (float[][]) erweitert(realSpalten,
+                                                new float[attributNr + 1][]);
+        }
+        if (realSpalten[attributNr] == null) {
+            spalte = new float[beispiele.length];
+            for (int bspNr = 0; bspNr < beispiele.length; bspNr++) {
+                spalte[bspNr] = beispiele[bspNr].getRealWert(attributNr);
+            }
+            realSpalten[attributNr] = spalte;
+        }
+        return realSpalten[attributNr];
+    }
+
+    /**
+     * Liefert die Spalte der Werte des angegebenen ganzzahligen Attributs.
+     *
+     * @param attributNr  Die Nummer des ganzzahligen Attributs.
+     *
+     * @return  Die Werte der Beispiele fr das Attribut. Das Array darf
+     *          nicht verndert werden.
+     */
+    public synchronized int[] intSpalte(int attributNr) {
+        int[] spalte;
+
+        if (attributNr >= intSpalten.length) {
+            intSpalten = (int[][]) erweitert(intSpalten,
+                                             new int[attributNr + 1][]);
+        }
+        if (intSpalten[attributNr] == null) {
+            spalte = new int[beispiele.length];
+            for (int bspNr = 0; bspNr < beispiele.length; bspNr++) {
+                spalte[bspNr] = beispiele[bspNr].getIntWert(attributNr);
+            }
+            intSpalten[attributNr] = spalte;
+        }
+        return intSpalten[attributNr];
+    }
+}
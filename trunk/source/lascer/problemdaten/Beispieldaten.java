@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Beispieldaten.java
- * Letzte nderung: 06. September 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -33,7 +33,12 @@ import lascer.problemdaten.attribute.RealAttribut;
 import lascer.problemdaten.attribute.IntAttribut;
 
 /**
- * Reprsentiert eine Menge von Beispielen und zugehrigen Attributen.
+ * Reprsentiert eine Menge von Beispielen und zugehrigen Attributen.<P>
+ *
+ * Die Werte der positiven und der negativen Beispiele werden zustzlich
+ * spaltenweise, d.h. zu jedem Attribut in einem Array, gespeichert. Die
+ * Arrays werden beim ersten Zugriff erzeugt und danach ohne Kopie
+ * geliefert.
  *
  * @author  Dietmar Lippold
  */
@@ -83,6 +88,20 @@ public class Beispieldaten implements Serializable {
      */
     private boolean intWertUnbekannt = false;
 
+    /**
+     * Die spaltenweise gespeicherten Werte der positiven Beispiele oder
+     * <CODE>null</CODE>, wenn sie noch nicht erzeugt wurden oder sich die
+     * positiven Beispiele gendert haben.
+     */
+    private transient BeispielSpalten posSpalten = null;
+
+    /**
+     * Die spaltenweise gespeicherten Werte der negativen Beispiele oder
+     * <CODE>null</CODE>, wenn sie noch nicht erzeugt wurden oder sich die
+     * negativen Beispiele gendert haben.
+     */
+    private transient BeispielSpalten negSpalten = null;
+
     /**
      * Erzeugt eine neue Instanz.
      *
@@ -110,12 +129,18 @@ public class Beispieldaten implements Serializable {
 
         kopie = new Beispieldaten(name, attributSammlung);
 
+        // Da die Spalten die Folge der Beispiele bei ihrer Erzeugung
+        // bernehmen, knnen sie gemeinsam verwendet werden.
         if (invertiert) {
             kopie.posBeispiele = new ArrayList(negBeispiele);
             kopie.negBeispiele = new ArrayList(posBeispiele);
+            kopie.posSpalten = negSpalten;
+            kopie.negSpalten = posSpalten;
         } else {
             kopie.posBeispiele = new ArrayList(posBeispiele);
             kopie.negBeispiele = new ArrayList(negBeispiele);
+            kopie.posSpalten = posSpalten;
+            kopie.negSpalten = negSpalten;
         }
 
         kopie.stringWertUnbekannt = stringWertUnbekannt;
@@ -146,8 +171,10 @@ public class Beispieldaten implements Serializable {
 
         if (positiv) {
             posBeispiele.add(beispiel);
+            posSpalten = null;
         } else {
             negBeispiele.add(beispiel);
+            negSpalten = null;
         }
 
         stringWertUnbekannt |= beispiel.stringWertUnbekannt();
@@ -181,8 +208,10 @@ public class Beispieldaten implements Serializable {
 
         if (positiv) {
             posBeispiele.remove(beispielNummer);
+            posSpalten = null;
         } else {
             negBeispiele.remove(beispielNummer);
+            negSpalten = null;
         }
 
         stringWertUnbekannt = false;
@@ -357,6 +386,37 @@ public class Beispieldaten implements Serializable {
         }
     }
 
+    /**
+     * Liefert zu dem bergebenen Wert den gleichen Wert des bergebenen
+     * nominalen Attributs.
+     *
+     * @param attribut  Das nominale Attribut.
+     * @param wert      Der Wert, zu dem der gleiche Wert des Attributs
+     *                  geliefert werden soll.
+     *
+     * @return  Den gleichen Wert des Attributs oder
+     *          <CODE>Konstanten.UNBEKANNT_NOMINAL</CODE>, wenn der Wert
+     *          unbekannt ist.
+     *
+     * @throws IllegalArgumentException  Wenn der Wert kein Wert des
+     *                                   Attributs ist.
+     */
+    private String nominalWert(NominalAttribut attribut, String wert) {
+        String attributWert;
+
+        if (wert.equals(Konstanten.UNBEKANNT_NOMINAL)) {
+            return Konstanten.UNBEKANNT_NOMINAL;
+        }
+
+        attributWert = attribut.wert(wert);
+        if (attributWert == null) {
+            throw new IllegalArgumentException("Wert des Attributs "
+                                               + attribut.name()
+                                               + " ist unzulssig: " + wert);
+        }
+        return attributWert;
+    }
+
     /**
      * Nimmt das bergebene Attribut zu den nominalen Attributen hinzu und
      * weist die bergebenen Werte den Beispielen zu.
@@ -368,9 +428,10 @@ public class Beispieldaten implements Serializable {
      *                     aufzunehmende Attribut.
      *
      * @throws IllegalArgumentException  Wenn bergebene Attribut schon
-     *                                   vorhanden ist oder die Anzahl der
+     *                                   vorhanden ist, die Anzahl der
      *                                   Werte nicht mit der Anzahl der
-     *                                   Beispiele bereinstimmt.
+     *                                   Beispiele bereinstimmt oder ein
+     *                                   Wert kein Wert des Attributs ist.
      */
     public void addNominalAttribut(NominalAttribut attribut,
                                    String[] posBspWerte, String[] negBspWerte) {
@@ -393,13 +454,13 @@ public class Beispieldaten implements Serializable {
 
         for (int bspNr = 0; bspNr < posBspWerte.length; bspNr++) {
             beispiel = (Beispiel) posBeispiele.get(bspNr);
-            bspWert = posBspWerte[bspNr];
+            bspWert = nominalWert(attribut, posBspWerte[bspNr]);
             beispiel.setNominalWert(attributNr, bspWert);
             nominalWertUnbekannt |= bspWert.equals(Konstanten.UNBEKANNT_NOMINAL);
         }
         for (int bspNr = 0; bspNr < negBspWerte.length; bspNr++) {
             beispiel = (Beispiel) negBeispiele.get(bspNr);
-            bspWert = negBspWerte[bspNr];
+            bspWert = nominalWert(attribut, negBspWerte[bspNr]);
             beispiel.setNominalWert(attributNr, bspWert);
             nominalWertUnbekannt |= bspWert.equals(Konstanten.UNBEKANNT_NOMINAL);
         }
@@ -501,6 +562,145 @@ public class Beispieldaten implements Serializable {
         }
     }
 
+    /**
+     * Liefert ein neues Array mit den positiven oder den negativen
+     * Beispielen.
+     *
+     * @param beispielAnz  Die Anzahl der positiven bzw. negativen Beispiele.
+     * @param positiv      Die Angabe, ob die positiven Beispiele geliefert
+     *                     werden sollen. Falls nein, werden die negativen
+     *                     Beispiele geliefert.
+     *
+     * @return  Ein neues Array mit den Beispielen.
+     */
+    private Beispiel[] beispielArray(int beispielAnz, boolean positiv) {
+        Beispiel[] beispiele;
+
+        beispiele = new Beispiel[beispielAnz];
+        for (int i = 0; i < beispielAnz; i++) {
+            if (positiv) {
+                beispiele[i] = (Beispiel) posBeispiele.get(i);
+            } else {
+                beispiele[i] = (Beispiel) negBeispiele.get(i);
+            }
+        }
+        return beispiele;
+    }
+
+    /**
+     * Liefert die spaltenweise gespeicherten Werte der positiven oder der
+     * negativen Beispiele. Falls sie noch nicht vorhanden sind, werden sie
+     * erzeugt.
+     *
+     * @param positiv  Die Angabe, ob die Werte der positiven Beispiele
+     *                 geliefert werden sollen. Falls nein, werden die Werte
+     *                 der negativen Beispiele geliefert.
+     *
+     * @return  Die spaltenweise gespeicherten Werte der Beispiele.
+     */
+    private synchronized BeispielSpalten spalten(boolean positiv) {
+
+        if (positiv) {
+            if (posSpalten == null) {
+                posSpalten = new BeispielSpalten(beispielArray(posBeispiele.size(),
+                                                               true));
+            }
+            return posSpalten;
+        } else {
+            if (negSpalten == null) {
+                negSpalten = new BeispielSpalten(beispielArray(negBeispiele.size(),
+                                                               false));
+            }
+            return negSpalten;
+        }
+    }
+
+    /**
+     * Liefert die zum bergebenen Schlssel gespeicherten Werte der positiven
+     * oder der negativen Beispiele. Die Werte bleiben nur gespeichert, bis
+     * sich die Beispiele ndern oder zu viele andere Werte gespeichert
+     * wurden.
+     *
+     * @param schluessel  Der Schlssel, zu dem die Werte gespeichert wurden,
+     *                    z.B. eine Funktion.
+     * @param positiv     Die Angabe, ob die Werte der positiven Beispiele
+     *                    geliefert werden sollen. Falls nein, werden die
+     *                    Werte der negativen Beispiele geliefert.
+     *
+     * @return  Die gespeicherten Werte oder <CODE>null</CODE>, wenn zu dem
+     *          Schlssel keine Werte gespeichert sind. Sie drfen nicht
+     *          verndert werden.
+     */
+    public Object gespeicherteWerte(Object schluessel, boolean positiv) {
+        return spalten(positiv).gespeicherteWerte(schluessel);
+    }
+
+    /**
+     * Speichert zum bergebenen Schlssel die bergebenen Werte der positiven
+     * oder der negativen Beispiele.
+     *
+     * @param schluessel  Der Schlssel, zu dem die Werte gespeichert werden
+     *                    sollen, z.B. eine Funktion. Gleiche Schlssel mssen
+     *                    zu gleichen Werten gehren.
+     * @param positiv     Die Angabe, ob es die Werte der positiven Beispiele
+     *                    sind. Falls nein, sind es die Werte der negativen
+     *                    Beispiele.
+     * @param werte       Die zu speichernden Werte. Sie drfen danach nicht
+     *                    mehr verndert werden.
+     */
+    public void werteSpeichern(Object schluessel, boolean positiv,
+                               Object werte) {
+        spalten(positiv).werteSpeichern(schluessel, werte);
+    }
+
+    /**
+     * Liefert die aufsteigend sortierten ganzzahligen Werte der positiven
+     * oder der negativen Beispiele zum bergebenen Schlssel. Wenn der Wert
+     * eines ganzzahligen Attributs eines Beispiels unbekannt ist, ist der
+     * unbekannte Wert darin nicht enthalten. Die Werte werden nur einmal
+     * sortiert, bis sich die Beispiele ndern oder zu viele andere Werte
+     * gespeichert wurden.
+     *
+     * @param schluessel  Der Schlssel der unsortierten Werte, z.B. eine
+     *                    Funktion. Gleiche Schlssel mssen zu gleichen
+     *                    Werten gehren.
+     * @param werte       Die unsortierten Werte der Beispiele zum Schlssel.
+     * @param positiv     Die Angabe, ob es die Werte der positiven Beispiele
+     *                    sind. Falls nein, sind es die Werte der negativen
+     *                    Beispiele.
+     *
+     * @return  Die sortierten Werte. Das Array darf nicht verndert werden.
+     */
+    public int[] sortierteIntWerte(Object schluessel, int[] werte,
+                                   boolean positiv) {
+        return spalten(positiv).sortierteIntWerte(schluessel, werte,
+                                                  intWertUnbekannt);
+    }
+
+    /**
+     * Liefert die aufsteigend sortierten nicht-ganzzahligen Werte der
+     * positiven oder der negativen Beispiele zum bergebenen Schlssel. Wenn
+     * der Wert eines nicht-ganzzahligen Attributs eines Beispiels unbekannt
+     * ist, ist der unbekannte Wert darin nicht enthalten. Die Werte werden
+     * nur einmal sortiert, bis sich die Beispiele ndern oder zu viele andere
+     * Werte gespeichert wurden.
+     *
+     * @param schluessel  Der Schlssel der unsortierten Werte, z.B. eine
+     *                    Funktion. Gleiche Schlssel mssen zu gleichen
+     *                    Werten gehren.
+     * @param werte       Die unsortierten Werte der Beispiele zum Schlssel.
+     * @param positiv     Die Angabe, ob es die Werte der positiven Beispiele
+     *                    sind. Falls nein, sind es die Werte der negativen
+     *                    Beispiele.
+     *
+     * @return  Die sortierten Werte. Das Array darf nicht verndert werden.
+     */
+    public float[] sortierteRealWerte(Object schluessel, float[] werte,
+                                      boolean positiv) {
+        return spalten(positiv).sortierteRealWerte(schluessel, werte,
+                                                   realWertUnbekannt);
+    }
+
     /**
      * Liefert die Werte aller positiven oder negativen Beispiele fr das
      * angegebene textuelle Attribut.
@@ -512,38 +712,21 @@ public class Beispieldaten implements Serializable {
      *                  Werte der negativen Beispiele geliefert.
      *
      * @return  Die Werte aller positiven oder negativen Beispiele fr das
-     *          angegebene textuelle Attribut.
+     *          angegebene textuelle Attribut. Das Array darf nicht verndert
+     *          werden.
      *
      * @throws IllegalArgumentException  Wenn das angegebene Attribut nicht
      *                                   vorhanden ist.
      */
     public String[] getStringWerte(StringAttribut attribut, boolean positiv) {
-        String[] stringWerte;
-        Beispiel beispiel;
-        int      attributNr;
-        int      bspAnz;
+        int attributNr;
 
         attributNr = attributSammlung.attributNummer(attribut);
         if (attributNr == -1) {
             throw new IllegalArgumentException("Attribut nicht vorhanden");
         }
 
-        if (positiv) {
-            bspAnz = posBspAnz();
-            stringWerte = new String[bspAnz];
-            for (int bspNr = 0; bspNr < bspAnz; bspNr++) {
-                beispiel = (Beispiel) posBeispiele.get(bspNr);
-                stringWerte[bspNr] = beispiel.getStringWert(attributNr);
-            }
-        } else {
-            bspAnz = negBspAnz();
-            stringWerte = new String[bspAnz];
-            for (int bspNr = 0; bspNr < bspAnz; bspNr++) {
-                beispiel = (Beispiel) negBeispiele.get(bspNr);
-                stringWerte[bspNr] = beispiel.getStringWert(attributNr);
-            }
-        }
-        return stringWerte;
+        return spalten(positiv).stringSpalte(attributNr);
     }
 
     /**
@@ -557,38 +740,51 @@ public class Beispieldaten implements Serializable {
      *                  Werte der negativen Beispiele geliefert.
      *
      * @return  Die Werte aller positiven oder negativen Beispiele fr das
-     *          angegebene nominale Attribut.
+     *          angegebene nominale Attribut. Das Array darf nicht verndert
+     *          werden.
      *
      * @throws IllegalArgumentException  Wenn das angegebene Attribut nicht
      *                                   vorhanden ist.
      */
     public String[] getNominalWerte(NominalAttribut attribut, boolean positiv) {
-        String[] nominalWerte;
-        Beispiel beispiel;
-        int      attributNr;
-        int      bspAnz;
+        int attributNr;
 
         attributNr = attributSammlung.attributNummer(attribut);
         if (attributNr == -1) {
             throw new IllegalArgumentException("Attribut nicht vorhanden");
         }
 
-        if (positiv) {
-            bspAnz = posBspAnz();
-            nominalWerte = new String[bspAnz];
-            for (int bspNr = 0; bspNr < bspAnz; bspNr++) {
-                beispiel = (Beispiel) posBeispiele.get(bspNr);
-                nominalWerte[bspNr] = beispiel.getNominalWert(attributNr);
-            }
-        } else {
-            bspAnz = negBspAnz();
-            nominalWerte = new String[bspAnz];
-            for (int bspNr = 0; bspNr < bspAnz; bspNr++) {
-                beispiel = (Beispiel) negBeispiele.get(bspNr);
-                nominalWerte[bspNr] = beispiel.getNominalWert(attributNr);
-            }
+        return spalten(positiv).nominalSpalte(attributNr);
+    }
+
+    /**
+     * Liefert die Codes der Werte aller positiven oder negativen Beispiele
+     * fr das angegebene nominale Attribut. Der Code eines Wertes ist seine
+     * Position im Array der mglichen Werte des Attributs. Ein unbekannter
+     * Wert hat den Code <CODE>Konstanten.UNBEKANNT_CODE</CODE>.
+     *
+     * @param attribut  Das Attribut, fr das die Codes geliefert werden
+     *                  sollen.
+     * @param positiv   Die Angabe, ob die Codes der positiven Beispiel
+     *                  geliefert werden sollen. Falls nein, werden die
+     *                  Codes der negativen Beispiele geliefert.
+     *
+     * @return  Die Codes der Werte aller positiven oder negativen Beispiele
+     *          fr das angegebene nominale Attribut. Das Array darf nicht
+     *          verndert werden.
+     *
+     * @throws IllegalArgumentException  Wenn das angegebene Attribut nicht
+     *                                   vorhanden ist.
+     */
+    public int[] getNominalCodes(NominalAttribut attribut, boolean positiv) {
+        int attributNr;
+
+        attributNr = attributSammlung.attributNummer(attribut);
+        if (attributNr == -1) {
+            throw new IllegalArgumentException("Attribut nicht vorhanden");
         }
-        return nominalWerte;
+
+        return spalten(positiv).codeSpalte(attributNr, attribut);
     }
 
     /**
@@ -601,40 +797,22 @@ public class Beispieldaten implements Serializable {
      *                  geliefert werden sollen. Falls nein, werden die
      *                  Werte der negativen Beispiele geliefert.
      *
-     * @return  Ein neu erzeugtes Array mit den Werte aller positiven oder
-     *          negativen Beispiele fr das angegebene nicht-ganzzahlige
-     *          Attribut.
+     * @return  Die Werte aller positiven oder negativen Beispiele fr das
+     *          angegebene nicht-ganzzahlige Attribut. Das Array darf nicht
+     *          verndert werden.
      *
      * @throws IllegalArgumentException  Wenn das angegebene Attribut nicht
      *                                   vorhanden ist.
      */
     public float[] getRealWerte(RealAttribut attribut, boolean positiv) {
-        float[]  realWerte;
-        Beispiel beispiel;
-        int      attributNr;
-        int      bspAnz;
+        int attributNr;
 
         attributNr = attributSammlung.attributNummer(attribut);
         if (attributNr == -1) {
             throw new IllegalArgumentException("Attribut nicht vorhanden");
         }
 
-        if (positiv) {
-            bspAnz = posBspAnz();
-            realWerte = new float[bspAnz];
-            for (int bspNr = 0; bspNr < bspAnz; bspNr++) {
-                beispiel = (Beispiel) posBeispiele.get(bspNr);
-                realWerte[bspNr] = beispiel.getRealWert(attributNr);
-            }
-        } else {
-            bspAnz = negBspAnz();
-            realWerte = new float[bspAnz];
-            for (int bspNr = 0; bspNr < bspAnz; bspNr++) {
-                beispiel = (Beispiel) negBeispiele.get(bspNr);
-                realWerte[bspNr] = beispiel.getRealWert(attributNr);
-            }
-        }
-        return realWerte;
+        return spalten(positiv).realSpalte(attributNr);
     }
 
     /**
@@ -647,39 +825,22 @@ public class Beispieldaten implements Serializable {
      *                  geliefert werden sollen. Falls nein, werden die
      *                  Werte der negativen Beispiele geliefert.
      *
-     * @return  Ein neu erzeugtes Array mit den Werte aller positiven oder
-     *          negativen Beispiele fr das angegebene ganzzahlige Attribut.
+     * @return  Die Werte aller positiven oder negativen Beispiele fr das
+     *          angegebene ganzzahlige Attribut. Das Array darf nicht
+     *          verndert werden.
      *
      * @throws IllegalArgumentException  Wenn das angegebene Attribut nicht
      *                                   vorhanden ist.
      */
     public int[] getIntWerte(IntAttribut attribut, boolean positiv) {
-        int[]    intWerte;
-        Beispiel beispiel;
-        int      attributNr;
-        int      bspAnz;
+        int attributNr;
 
         attributNr = attributSammlung.attributNummer(attribut);
         if (attributNr == -1) {
             throw new IllegalArgumentException("Attribut nicht vorhanden");
         }
 
-        if (positiv) {
-            bspAnz = posBspAnz();
-            intWerte = new int[bspAnz];
-            for (int bspNr = 0; bspNr < bspAnz; bspNr++) {
-                beispiel = (Beispiel) posBeispiele.get(bspNr);
-                intWerte[bspNr] = beispiel.getIntWert(attributNr);
-            }
-        } else {
-            bspAnz = negBspAnz();
-            intWerte = new int[bspAnz];
-            for (int bspNr = 0; bspNr < bspAnz; bspNr++) {
-                beispiel = (Beispiel) negBeispiele.get(bspNr);
-                intWerte[bspNr] = beispiel.getIntWert(attributNr);
-            }
-        }
-        return intWerte;
+        return spalten(positiv).intSpalte(attributNr);
     }
 
     /**
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konstanten.java
- * Letzte nderung: 06. September 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -54,5 +54,17 @@ public class Konstanten {
      * Die Reprsentation eines unbekannten Wertes eines int-Attributs.
      */
     public static final int UNBEKANNT_INT = Integer.MIN_VALUE;
+
+    /**
+     * Der Code eines unbekannten Wertes eines Nominal-Attributs.
+     */
+    public static final int UNBEKANNT_CODE = -1;
+
+    /**
+     * Die maximale Anzahl der Werte, die zu den positiven oder zu den
+     * negativen Beispielen eines Datensatzes insgesamt gespeichert werden,
+     * z.B. als Werte von Funktionen.
+     */
+    public static final int MAX_GESPEICHERTE_WERTE = 1 << 22;
 }
 
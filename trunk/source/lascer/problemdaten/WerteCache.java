@@ -0,0 +1,73 @@
+/*
+ * Dateiname      : WerteCache.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package lascer.problemdaten;
+
+import java.util.Map;
+import java.util.LinkedHashMap;
+
+/**
+ * Speichert zu Schlsseln die aus Beispielen abgeleiteten Werte, z.B. die
+ * Werte einer Funktion fr die Beispiele. Die Anzahl der gespeicherten
+ * Eintrge ist beschrnkt. Wenn sie berschritten wird, wird der Eintrag
+ * entfernt, auf den am lngsten nicht zugegriffen wurde. Schlssel und
+ * Werte sind beliebige Objekte.
+ *
+ * @author  Dietmar Lippold
+ */
+public class WerteCache extends LinkedHashMap {
+
+    /**
+     * Die Versionsnummer fr die Serialisierung.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Die maximale Anzahl der gespeicherten Eintrge.
+     */
+    private int maxEintragAnz;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param maxEintragAnz  Die maximale Anzahl der gespeicherten Eintrge.
+     */
+    public WerteCache(int maxEintragAnz) {
+        super(16, 0.75f, true);
+        this.maxEintragAnz = maxEintragAnz;
+    }
+
+    /**
+     * Ermittelt, ob der lteste Eintrag entfernt werden soll. Das ist der
+     * Fall, wenn die maximale Anzahl der Eintrge berschritten ist.
+     *
+     * @param aeltesterEintrag  Der Eintrag, auf den am lngsten nicht
+     *                          zugegriffen wurde.
+     *
+     * @return  <CODE>true</CODE>, wenn der lteste Eintrag entfernt werden
+     *          soll, sonst <CODE>false</CODE>.
+     */
+    protected boolean removeEldestEntry(Map.Entry aeltesterEintrag) {
+        return (size() > maxEintragAnz);
+    }
+}
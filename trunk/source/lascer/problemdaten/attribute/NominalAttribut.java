@@ -1,6 +1,6 @@
 /*
  * Dateiname      : NominalAttribut.java
- * Letzte nderung: 06. September 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -23,6 +23,8 @@
 
 package lascer.problemdaten.attribute;
 
+import lascer.problemdaten.Konstanten;
+
 /**
  * Implementiert ein nominales Attribut.
  *
@@ -67,6 +69,27 @@ public class NominalAttribut extends AbstraktesAttribut {
         return null;
     }
 
+    /**
+     * Liefert den Code des bergebenen Wertes. Das ist seine Position in
+     * dem Array der mglichen Werte des Attributs.
+     *
+     * @param wert  Der Wert, dessen Code geliefert werden soll.
+     *
+     * @return  Den Code des bergebenen Wertes. Falls der Wert kein
+     *          mglicher Wert des Attributs ist, insbesondere wenn er
+     *          unbekannt ist, wird <CODE>Konstanten.UNBEKANNT_CODE</CODE>
+     *          geliefert.
+     */
+    public int code(String wert) {
+
+        for (int wNr = 0; wNr < werte.length; wNr++) {
+            if (werte[wNr].equals(wert)) {
+                return wNr;
+            }
+        }
+        return Konstanten.UNBEKANNT_CODE;
+    }
+
     /**
      * Liefert die mglichen Werte des Attributs.
      *
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : AbstZweiStellRealFunk.java
- * Letzte nderung: 12. Juni 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Dietmar Lippold, 2006
  *
@@ -158,6 +158,42 @@ public abstract class AbstZweiStellRealFunk implements ZweiStellRealFunk {
      */
     protected abstract float funkWert(float funkWert1, float funkWert2);
 
+    /**
+     * Liefert den hashCode dieser Funktion.
+     *
+     * @return  Den hashCode dieser Funktion.
+     */
+    public int hashCode() {
+        return (getClass().hashCode()
+                + 31 * argFunktion1.hashCode() + 961 * argFunktion2.hashCode());
+    }
+
+    /**
+     * Ermittelt, ob das bergebene Objekt gleich ist zu dieser Funktion. Das
+     * ist der Fall, wenn es eine Funktion der gleichen Klasse mit gleichen
+     * Argumentfunktionen ist.
+     *
+     * @param objekt  Das Objekt, das mit dieser Funktion verglichen werden
+     *                soll.
+     *
+     * @return  <CODE>true</CODE>, wenn das bergebene Objekt gleich ist zu
+     *          dieser Funktion, sonst <CODE>false</CODE>.
+     */
+    public boolean equals(Object objekt) {
+        AbstZweiStellRealFunk andereFunk;
+
+        if (objekt == this) {
+            return true;
+        }
+        if ((objekt == null) || (objekt.getClass() != getClass())) {
+            return false;
+        }
+
+        andereFunk = (AbstZweiStellRealFunk) objekt;
+        return (argFunktion1.equals(andereFunk.argFunktion1)
+                && argFunktion2.equals(andereFunk.argFunktion2));
+    }
+
     /**
      * Liefert den Wert der Funktion fr das bergebene Beispiel.
      *
@@ -219,14 +255,20 @@ public abstract class AbstZweiStellRealFunk implements ZweiStellRealFunk {
      * @param beispieldaten  Die Beispieldaten, fr deren positive Beispiele
      *                       die Werte der Funktion ermittelt werden sollen.
      *
-     * @return  Ein neu erzeugtes Array mit den Werten, die sich bei Anwendung
-     *          der Funktion auf die positiven Beispiele ergeben.
+     * @return  Ein Array mit den Werten, die sich bei Anwendung der Funktion
+     *          auf die positiven Beispiele ergeben. Das Array wird in den
+     *          Beispieldaten gespeichert und darf nicht verndert werden.
      */
     public float[] posBspWerte(Beispieldaten beispieldaten) {
         float[] funkWerte1;
         float[] funkWerte2;
         float[] ergebnisWerte;
 
+        ergebnisWerte = (float[]) beispieldaten.gespeicherteWerte(this, true);
+        if (ergebnisWerte != null) {
+            return ergebnisWerte;
+        }
+
         funkWerte1 = argFunktion1.posBspWerte(beispieldaten);
         funkWerte2 = argFunktion2.posBspWerte(beispieldaten);
 
@@ -236,6 +278,7 @@ public abstract class AbstZweiStellRealFunk implements ZweiStellRealFunk {
 
         ergebnisWerte = funkWerte(funkWerte1, funkWerte2);
         korrekturUnbekWerte(ergebnisWerte, funkWerte1, funkWerte2);
+        beispieldaten.werteSpeichern(this, true, ergebnisWerte);
 
         return ergebnisWerte;
     }
@@ -247,14 +290,20 @@ public abstract class AbstZweiStellRealFunk implements ZweiStellRealFunk {
      * @param beispieldaten  Die Beispieldaten, fr deren negative Beispiele
      *                       die Werte der Funktion ermittelt werden sollen.
      *
-     * @return  Ein neu erzeugtes Array mit den Werten, die sich bei Anwendung
-     *          der Funktion auf die negativen Beispiele ergeben.
+     * @return  Ein Array mit den Werten, die sich bei Anwendung der Funktion
+     *          auf die negativen Beispiele ergeben. Das Array wird in den
+     *          Beispieldaten gespeichert und darf nicht verndert werden.
      */
     public float[] negBspWerte(Beispieldaten beispieldaten) {
         float[] funkWerte1;
         float[] funkWerte2;
         float[] ergebnisWerte;
 
+        ergebnisWerte = (float[]) beispieldaten.gespeicherteWerte(this, false);
+        if (ergebnisWerte != null) {
+            return ergebnisWerte;
+        }
+
         funkWerte1 = argFunktion1.negBspWerte(beispieldaten);
         funkWerte2 = argFunktion2.negBspWerte(beispieldaten);
 
@@ -264,6 +313,7 @@ public abstract class AbstZweiStellRealFunk implements ZweiStellRealFunk {
 
         ergebnisWerte = funkWerte(funkWerte1, funkWerte2);
         korrekturUnbekWerte(ergebnisWerte, funkWerte1, funkWerte2);
+        beispieldaten.werteSpeichern(this, false, ergebnisWerte);
 
         return ergebnisWerte;
     }
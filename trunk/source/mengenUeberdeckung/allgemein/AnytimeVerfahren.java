@@ -0,0 +1,45 @@
+/*
+ * Dateiname      : AnytimeVerfahren.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.allgemein;
+
+/**
+ * Beschreibt ein Verfahren zum Mengen-berdeckungs-Problem, dessen Laufzeit
+ * durch ein Budget begrenzt werden kann. Wenn das Budget erschpft ist,
+ * beendet das Verfahren die Suche und liefert die beste bis dahin gefundene
+ * berdeckung. Bessere berdeckungen werden dem Budget schon whrend der
+ * Suche mitgeteilt.
+ *
+ * @author  Dietmar Lippold
+ */
+public interface AnytimeVerfahren {
+
+    /**
+     * Legt das Budget fest, das bei den folgenden Aufrufen des Verfahrens
+     * verwendet wird.
+     *
+     * @param budget  Das zu verwendende Budget. Beim Wert <CODE>null</CODE>
+     *                ist die Laufzeit nicht begrenzt.
+     */
+    public void budgetSetzen(OptimierungsBudget budget);
+}
@@ -0,0 +1,334 @@
+/*
+ * Dateiname      : BewertungsHeap.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.allgemein;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Realisiert einen indizierten binren Heap von Nummern, denen jeweils eine
+ * Bewertung zugeordnet ist. Die Nummern liegen zwischen Null und einer im
+ * Konstruktor anzugebenden maximalen Anzahl. An der Spitze des Heaps steht
+ * die Nummer mit der grten Bewertung und bei mehreren Nummern mit der
+ * grten Bewertung die kleinste von diesen Nummern. Die Reihenfolge ist
+ * also vollstndig festgelegt.<P>
+ *
+ * Da zu jeder Nummer ihre Position im Heap gespeichert wird, kann die
+ * Bewertung einer enthaltenen Nummer in logarithmischer Zeit gendert und
+ * eine beliebige Nummer entfernt werden.
+ *
+ * @author  Dietmar Lippold
+ */
+public class BewertungsHeap {
+
+    /**
+     * Die im Heap enthaltenen Nummern in der Anordnung des Heaps.
+     */
+    private int[] heap;
+
+    /**
+     * Zu jeder Nummer ihre Position in <CODE>heap</CODE>. Wenn eine Nummer
+     * nicht im Heap enthalten ist, ist der Wert -1.
+     */
+    private int[] position;
+
+    /**
+     * Zu jeder Nummer ihre Bewertung. Der Wert ist nur fr die im Heap
+     * enthaltenen Nummern von Bedeutung.
+     */
+    private float[] bewertung;
+
+    /**
+     * Die Anzahl der im Heap enthaltenen Nummern.
+     */
+    private int groesse = 0;
+
+    /**
+     * Erzeugt einen leeren Heap fr Nummern von Null bis zur bergebenen
+     * Anzahl minus Eins.
+     *
+     * @param nummernAnz  Die Anzahl der mglichen Nummern.
+     */
+    public BewertungsHeap(int nummernAnz) {
+
+        heap = new int[nummernAnz];
+        position = new int[nummernAnz];
+        bewertung = new float[nummernAnz];
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * Ermittelt, ob die erste Nummer vor der zweiten Nummer im Heap steht.
+     * Das ist der Fall, wenn sie eine grere Bewertung hat oder wenn sie
+     * bei gleicher Bewertung kleiner ist.
+     *
+     * @param nummer1  Die erste zu vergleichende Nummer.
+     * @param nummer2  Die zweite zu vergleichende Nummer.
+     *
+     * @return  <CODE>true</CODE>, wenn <CODE>nummer1</CODE> vor
+     *          <CODE>nummer2</CODE> steht, sonst <CODE>false</CODE>.
+     */
+    private boolean istVor(int nummer1, int nummer2) {
+        return ((bewertung[nummer1] > bewertung[nummer2])
+                || ((bewertung[nummer1] == bewertung[nummer2])
+                    && (nummer1 < nummer2)));
+    }
+
+    /**
+     * Speichert die bergebene Nummer an der bergebenen Position des Heaps.
+     *
+     * @param pos     Die Position im Heap.
+     * @param nummer  Die dort zu speichernde Nummer.
+     */
+    private void setzen(int pos, int nummer) {
+        heap[pos] = nummer;
+        position[nummer] = pos;
+    }
+
+    /**
+     * Verschiebt die Nummer an der bergebenen Position so weit nach oben,
+     * bis die Ordnung des Heaps wieder hergestellt ist.
+     *
+     * @param pos  Die Position der zu verschiebenden Nummer.
+     */
+    private void nachOben(int pos) {
+        int nummer = heap[pos];
+        int elternPos;
+
+        while (pos > 0) {
+            elternPos = (pos - 1) >> 1;
+            if (!istVor(nummer, heap[elternPos])) {
+                break;
+            }
+            setzen(pos, heap[elternPos]);
+            pos = elternPos;
+        }
+        setzen(pos, nummer);
+    }
+
+    /**
+     * Verschiebt die Nummer an der bergebenen Position so weit nach unten,
+     * bis die Ordnung des Heaps wieder hergestellt ist.
+     *
+     * @param pos  Die Position der zu verschiebenden Nummer.
+     */
+    private void nachUnten(int pos) {
+        int nummer = heap[pos];
+        int kindPos;
+
+        while ((kindPos = 2 * pos + 1) < groesse) {
+            if ((kindPos + 1 < groesse)
+                    && istVor(heap[kindPos + 1], heap[kindPos])) {
+                kindPos++;
+            }
+            if (!istVor(heap[kindPos], nummer)) {
+                break;
+            }
+            setzen(pos, heap[kindPos]);
+            pos = kindPos;
+        }
+        setzen(pos, nummer);
+    }
+
+    /**
+     * Ermittelt, ob die bergebene Nummer im Heap enthalten ist.
+     *
+     * @param nummer  Die Nummer, von der ermittelt werden soll, ob sie
+     *                enthalten ist.
+     *
+     * @return  <CODE>true</CODE>, wenn die Nummer enthalten ist, sonst
+     *          <CODE>false</CODE>.
+     */
+    public boolean enthaelt(int nummer) {
+        return (position[nummer] >= 0);
+    }
+
+    /**
+     * Nimmt die bergebene Nummer mit der bergebenen Bewertung in den Heap
+     * auf. Wenn die Nummer schon enthalten ist, wird nur ihre Bewertung
+     * gendert.
+     *
+     * @param nummer  Die aufzunehmende Nummer.
+     * @param wert    Die Bewertung der Nummer.
+     */
+    public void einfuegen(int nummer, float wert) {
+
+        if (enthaelt(nummer)) {
+            wertAendern(nummer, wert);
+        } else {
+            bewertung[nummer] = wert;
+            setzen(groesse, nummer);
+            groesse++;
+            nachOben(groesse - 1);
+        }
+    }
+
+    /**
+     * ndert die Bewertung einer enthaltenen Nummer.
+     *
+     * @param nummer  Die Nummer, deren Bewertung gendert werden soll.
+     * @param wert    Die neue Bewertung der Nummer.
+     *
+     * @throws NoSuchElementException  Die Nummer ist nicht enthalten.
+     */
+    public void wertAendern(int nummer, float wert) {
+        float alterWert;
+
+        if (!enthaelt(nummer)) {
+            throw new NoSuchElementException("Nummer nicht enthalten");
+        }
+
+        alterWert = bewertung[nummer];
+        bewertung[nummer] = wert;
+        if (wert > alterWert) {
+            nachOben(position[nummer]);
+        } else if (wert < alterWert) {
+            nachUnten(position[nummer]);
+        }
+    }
+
+    /**
+     * Entfernt die bergebene Nummer aus dem Heap. Wenn sie nicht enthalten
+     * ist, ndert sich nichts.
+     *
+     * @param nummer  Die zu entfernende Nummer.
+     */
+    public void entfernen(int nummer) {
+        int pos = position[nummer];
+        int letzteNummer;
+
+        if (pos < 0) {
+            return;
+        }
+
+        groesse--;
+        position[nummer] = -1;
+        if (pos < groesse) {
+            letzteNummer = heap[groesse];
+            setzen(pos, letzteNummer);
+            nachOben(pos);
+            nachUnten(position[letzteNummer]);
+        }
+    }
+
+    /**
+     * Liefert die Nummer an der Spitze des Heaps, ohne sie zu entfernen.
+     *
+     * @return  Die Nummer mit der grten Bewertung.
+     *
+     * @throws NoSuchElementException  Der Heap ist leer.
+     */
+    public int spitzenNummer() {
+
+        if (groesse == 0) {
+            throw new NoSuchElementException("Heap ist leer");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Liefert die Bewertung der Nummer an der Spitze des Heaps.
+     *
+     * @return  Die grte Bewertung im Heap.
+     *
+     * @throws NoSuchElementException  Der Heap ist leer.
+     */
+    public float spitzenWert() {
+        return bewertung[spitzenNummer()];
+    }
+
+    /**
+     * Liefert die Bewertung einer enthaltenen Nummer.
+     *
+     * @param nummer  Die Nummer, deren Bewertung geliefert werden soll.
+     *
+     * @return  Die Bewertung der Nummer.
+     *
+     * @throws NoSuchElementException  Die Nummer ist nicht enthalten.
+     */
+    public float wert(int nummer) {
+
+        if (!enthaelt(nummer)) {
+            throw new NoSuchElementException("Nummer nicht enthalten");
+        }
+        return bewertung[nummer];
+    }
+
+    /**
+     * Entfernt die Nummer an der Spitze des Heaps und liefert sie.
+     *
+     * @return  Die Nummer mit der grten Bewertung.
+     *
+     * @throws NoSuchElementException  Der Heap ist leer.
+     */
+    public int spitzeEntfernen() {
+        int nummer = spitzenNummer();
+
+        entfernen(nummer);
+        return nummer;
+    }
+
+    /**
+     * Liefert die Anzahl der enthaltenen Nummern.
+     *
+     * @return  Die Anzahl der enthaltenen Nummern.
+     */
+    public int groesse() {
+        return groesse;
+    }
+
+    /**
+     * Ermittelt, ob der Heap leer ist.
+     *
+     * @return  <CODE>true</CODE>, wenn keine Nummer enthalten ist, sonst
+     *          <CODE>false</CODE>.
+     */
+    public boolean istLeer() {
+        return (groesse == 0);
+    }
+
+    /**
+     * Liefert ein Array mit den enthaltenen Nummern in keiner bestimmten
+     * Reihenfolge.
+     *
+     * @return  Ein neues Array mit den enthaltenen Nummern.
+     */
+    public int[] nummern() {
+        int[] enthalteneNummern = new int[groesse];
+
+        System.arraycopy(heap, 0, enthalteneNummern, 0, groesse);
+        return enthalteneNummern;
+    }
+
+    /**
+     * Entfernt alle Nummern aus dem Heap.
+     */
+    public void clear() {
+
+        for (int pos = 0; pos < groesse; pos++) {
+            position[heap[pos]] = -1;
+        }
+        groesse = 0;
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : BitIntElemVerwalt.java
- * Letzte nderung: 26. Mai 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -160,27 +160,37 @@ public class BitIntElemVerwalt implements ElementVerwaltung, Cloneable {
     }
 
     /**
-     * Ermittelt, ob das bergebene Objekte eine BitIntElemVerwalt ist und zu
-     * <CODE>this</CODE> gleich ist.
+     * Ermittelt, ob das bergebene Objekte eine ElementVerwaltung ist und
+     * die gleichen Elemente wie <CODE>this</CODE> enthlt. Die Art der
+     * anderen Verwaltung ist dabei ohne Bedeutung.
      *
      * @param anderesObjekt  Ein anderes Objekt, in der Regel eine zu
      *                       vergleichende <CODE>BitIntElemVerwalt</CODE>.
      *
      * @return  <CODE>true</CODE>, wenn das bergebene Objekt eine
-     *          <CODE>BitIntElemVerwalt</CODE> ist und die gleichen Elemente
-     *          wie diese Instanz enthlt, anderenfalls CODE>false</CODE>.
+     *          <CODE>ElementVerwaltung</CODE> ist und die gleichen Elemente
+     *          wie diese Instanz enthlt, anderenfalls <CODE>false</CODE>.
      */
     public boolean equals(Object anderesObjekt) {
+        ElementVerwaltung andereElemVerwalt;
         BitIntElemVerwalt andereVerwaltung;
 
         if (anderesObjekt == this) {
             return true;
         }
 
-        if (!(anderesObjekt instanceof BitIntElemVerwalt)) {
+        if (!(anderesObjekt instanceof ElementVerwaltung)) {
             return false;
         }
 
+        if (!(anderesObjekt instanceof BitIntElemVerwalt)) {
+            // Eine Verwaltung anderer Art wird ber ihre Elemente verglichen,
+            // da der hashCode aller Arten gleich berechnet wird.
+            andereElemVerwalt = (ElementVerwaltung) anderesObjekt;
+            return ((andereElemVerwalt.size() == size())
+                    && containsAll(andereElemVerwalt));
+        }
+
         andereVerwaltung = (BitIntElemVerwalt) anderesObjekt;
         return elemente.equals(andereVerwaltung.elemente);
     }
@@ -262,10 +272,10 @@ public class BitIntElemVerwalt implements ElementVerwaltung, Cloneable {
 
         if (andereVerwaltung instanceof BitIntElemVerwalt) {
             andereElmente = ((BitIntElemVerwalt) andereVerwaltung).elemente;
+            return elemente.isDisjoint(andereElmente);
         } else {
-            andereElmente = new BitMathIntSet(andereVerwaltung.toArray());
+            return (anzAuchEnthalten(andereVerwaltung) == 0);
         }
-        return elemente.isDisjoint(andereElmente);
     }
 
     /**
@@ -284,10 +294,11 @@ public class BitIntElemVerwalt implements ElementVerwaltung, Cloneable {
 
         if (andereVerwaltung instanceof BitIntElemVerwalt) {
             andereElmente = ((BitIntElemVerwalt) andereVerwaltung).elemente;
+            return elemente.isSuperset(andereElmente);
         } else {
-            andereElmente = new BitMathIntSet(andereVerwaltung.toArray());
+            return (anzAuchEnthalten(andereVerwaltung)
+                    == andereVerwaltung.size());
         }
-        return elemente.isSuperset(andereElmente);
     }
 
     /**
@@ -306,10 +317,34 @@ public class BitIntElemVerwalt implements ElementVerwaltung, Cloneable {
 
         if (andereVerwaltung instanceof BitIntElemVerwalt) {
             andereElmente = ((BitIntElemVerwalt) andereVerwaltung).elemente;
+            return elemente.difference(andereElmente).size();
         } else {
-            andereElmente = new BitMathIntSet(andereVerwaltung.toArray());
+            return (size() - anzAuchEnthalten(andereVerwaltung));
         }
-        return elemente.difference(andereElmente).size();
+    }
+
+    /**
+     * Liefert die Anzahl der Elemente der bergebenen Verwaltung, die auch in
+     * dieser Verwaltung enthalten sind. Dazu werden die Elemente der
+     * bergebenen Verwaltung durchlaufen, ohne eine neue Menge zu erzeugen.
+     *
+     * @param andereVerwaltung  Die andere Verwaltung, deren Elemente in
+     *                          dieser Verwaltung gesucht werden.
+     *
+     * @return  Die Anzahl der gemeinsamen Elemente der beiden Verwaltungen.
+     */
+    private int anzAuchEnthalten(ElementVerwaltung andereVerwaltung) {
+        int gemeinsamAnz;
+
+        gemeinsamAnz = 0;
+        for (int element = andereVerwaltung.getMinimum();
+             element >= 0;
+             element = andereVerwaltung.getNext(element)) {
+            if (elemente.contains(element)) {
+                gemeinsamAnz++;
+            }
+        }
+        return gemeinsamAnz;
     }
 
     /**
@@ -376,12 +411,19 @@ public class BitIntElemVerwalt implements ElementVerwaltung, Cloneable {
      *          nicht gibt, wird der Wert -1 geliefert.
      */
     public int getNext(int element) {
-
-        if ((elementListe != null)
-                && (elementListe[letzteElementPos] == element)) {
-            if (letzteElementPos + 1 < elementListe.length) {
-                letzteElementPos++;
-                return elementListe[letzteElementPos];
+        int[] liste;
+        int   elementPos;
+
+        // Die Attribute werden nur einmal gelesen, damit die Methode auch
+        // bei gleichzeitigem Aufruf aus mehreren Threads korrekt ist.
+        liste = elementListe;
+        elementPos = letzteElementPos;
+        if ((liste != null) && (elementPos >= 0)
+                && (elementPos < liste.length)
+                && (liste[elementPos] == element)) {
+            if (elementPos + 1 < liste.length) {
+                letzteElementPos = elementPos + 1;
+                return liste[elementPos + 1];
             } else {
                 // Es gibt kein weiteres enthaltenes Element.
                 return -1;
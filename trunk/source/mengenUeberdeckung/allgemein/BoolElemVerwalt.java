@@ -1,6 +1,6 @@
 /*
  * Dateiname      : BoolElemVerwalt.java
- * Letzte nderung: 22. Mai 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -118,27 +118,37 @@ public class BoolElemVerwalt implements ElementVerwaltung, Cloneable {
     }
 
     /**
-     * Ermittelt, ob das bergebene Objekte eine BoolElemVerwalt ist und zu
-     * <CODE>this</CODE> gleich ist.
+     * Ermittelt, ob das bergebene Objekte eine ElementVerwaltung ist und
+     * die gleichen Elemente wie <CODE>this</CODE> enthlt. Die Art der
+     * anderen Verwaltung ist dabei ohne Bedeutung.
      *
      * @param anderesObjekt  Ein anderes Objekt, in der Regel eine zu
      *                       vergleichende <CODE>BoolElemVerwalt</CODE>.
      *
      * @return  <CODE>true</CODE>, wenn das bergebene Objekt eine
-     *          <CODE>BoolElemVerwalt</CODE> ist und die gleichen Elemente
+     *          <CODE>ElementVerwaltung</CODE> ist und die gleichen Elemente
      *          wie diese Instanz enthlt, anderenfalls <CODE>false</CODE>.
      */
     public boolean equals(Object anderesObjekt) {
-        BoolElemVerwalt andereVerwaltung;
+        ElementVerwaltung andereElemVerwalt;
+        BoolElemVerwalt   andereVerwaltung;
 
         if (anderesObjekt == this) {
             return true;
         }
 
-        if (!(anderesObjekt instanceof BoolElemVerwalt)) {
+        if (!(anderesObjekt instanceof ElementVerwaltung)) {
             return false;
         }
 
+        if (!(anderesObjekt instanceof BoolElemVerwalt)) {
+            // Eine Verwaltung anderer Art wird ber ihre Elemente verglichen,
+            // da der hashCode aller Arten gleich berechnet wird.
+            andereElemVerwalt = (ElementVerwaltung) anderesObjekt;
+            return ((andereElemVerwalt.size() == size())
+                    && containsAll(andereElemVerwalt));
+        }
+
         andereVerwaltung = (BoolElemVerwalt) anderesObjekt;
 
         if (andereVerwaltung.hashCode() != hashCode()) {
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : IndexTeilmenge.java
- * Letzte nderung: 13. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -159,8 +159,13 @@ public class IndexTeilmenge implements Cloneable {
                                                + " kleiner als Null");
         }
 
-        this.elementVerwalt = new BitIntElemVerwalt(groesseGesamtmenge,
-                                                    speicherEffizient);
+        if (Konstanten.WORT_ELEM_VERWALT) {
+            this.elementVerwalt = new LongElemVerwalt(groesseGesamtmenge,
+                                                      speicherEffizient);
+        } else {
+            this.elementVerwalt = new BitIntElemVerwalt(groesseGesamtmenge,
+                                                        speicherEffizient);
+        }
         this.kosten = kosten;
         this.groesseGesamtmenge = groesseGesamtmenge;
     }
@@ -0,0 +1,109 @@
+/*
+ * Dateiname      : ItmAenderung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.allgemein;
+
+import java.util.Collection;
+
+/**
+ * Beschreibt eine nderung einer Familie von Teilmengen, bei der zuerst
+ * Teilmengen aus der Familie entfernt und anschlieend Teilmengen der
+ * Familie hinzugefgt werden. Die Auswirkungen der nderung knnen mit den
+ * Methoden der Klasse <CODE>ItmFamilie</CODE> ermittelt werden, ohne die
+ * Familie zu verndern.
+ *
+ * @author  Dietmar Lippold
+ */
+public class ItmAenderung {
+
+    /**
+     * Die Teilmengen, die der Familie hinzugefgt werden sollen.
+     */
+    private IndexTeilmenge[] hinzuTeilmengen;
+
+    /**
+     * Die Teilmengen, die aus der Familie entfernt werden sollen.
+     */
+    private IndexTeilmenge[] wegTeilmengen;
+
+    /**
+     * Erzeugt eine neue nderung aus den bergebenen Teilmengen.
+     *
+     * @param hinzuTeilmengen  Die Teilmengen, die der Familie hinzugefgt
+     *                         werden sollen.
+     * @param wegTeilmengen    Die Teilmengen, die aus der Familie entfernt
+     *                         werden sollen.
+     */
+    public ItmAenderung(Collection hinzuTeilmengen, Collection wegTeilmengen) {
+
+        this.hinzuTeilmengen = new IndexTeilmenge[hinzuTeilmengen.size()];
+        hinzuTeilmengen.toArray(this.hinzuTeilmengen);
+        this.wegTeilmengen = new IndexTeilmenge[wegTeilmengen.size()];
+        wegTeilmengen.toArray(this.wegTeilmengen);
+    }
+
+    /**
+     * Erzeugt eine neue nderung, bei der hchstens eine Teilmenge
+     * hinzugefgt und hchstens eine Teilmenge entfernt wird. Bei Angabe
+     * beider Teilmengen beschreibt die nderung einen Tausch.
+     *
+     * @param hinzuTeilmenge  Die Teilmenge, die der Familie hinzugefgt
+     *                        werden soll, oder <CODE>null</CODE>.
+     * @param wegTeilmenge    Die Teilmenge, die aus der Familie entfernt
+     *                        werden soll, oder <CODE>null</CODE>.
+     */
+    public ItmAenderung(IndexTeilmenge hinzuTeilmenge,
+                        IndexTeilmenge wegTeilmenge) {
+
+        if (hinzuTeilmenge == null) {
+            this.hinzuTeilmengen = new IndexTeilmenge[0];
+        } else {
+            this.hinzuTeilmengen = new IndexTeilmenge[] {hinzuTeilmenge};
+        }
+        if (wegTeilmenge == null) {
+            this.wegTeilmengen = new IndexTeilmenge[0];
+        } else {
+            this.wegTeilmengen = new IndexTeilmenge[] {wegTeilmenge};
+        }
+    }
+
+    /**
+     * Liefert die Teilmengen, die der Familie hinzugefgt werden sollen.
+     *
+     * @return  Die hinzuzufgenden Teilmengen. Das Array darf nicht
+     *          verndert werden.
+     */
+    public IndexTeilmenge[] hinzuTeilmengen() {
+        return hinzuTeilmengen;
+    }
+
+    /**
+     * Liefert die Teilmengen, die aus der Familie entfernt werden sollen.
+     *
+     * @return  Die zu entfernenden Teilmengen. Das Array darf nicht
+     *          verndert werden.
+     */
+    public IndexTeilmenge[] wegTeilmengen() {
+        return wegTeilmengen;
+    }
+}
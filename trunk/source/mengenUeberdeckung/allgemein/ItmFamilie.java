@@ -1,6 +1,6 @@
 /*
  * Dateiname      : ItmFamilie.java
- * Letzte nderung: 22. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -121,6 +121,27 @@ public class ItmFamilie implements Cloneable {
      */
     private int hashCode = 0;
 
+    /**
+     * Die Teilmenge, die zuletzt der Familie hinzugefgt oder aus ihr
+     * entfernt wurde. Der Wert ist <CODE>null</CODE>, wenn die Familie seit
+     * ihrer Erzeugung oder seit dem letzten Aufruf von <CODE>clear</CODE>
+     * nicht verndert wurde.
+     */
+    private IndexTeilmenge zuletztGeaenderteItm = null;
+
+    /**
+     * Gibt an, ob die Teilmenge <CODE>zuletztGeaenderteItm</CODE> entfernt
+     * (Wert <CODE>true</CODE>) oder hinzugefgt (Wert <CODE>false</CODE>)
+     * wurde.
+     */
+    private boolean zuletztItmEntfernt = false;
+
+    /**
+     * Die Anzahl der Vernderungen der Familie, d.h. der Hinzunahmen und
+     * Entfernungen von Teilmengen und der Aufrufe von <CODE>clear</CODE>.
+     */
+    private int aenderungsAnz = 0;
+
     /**
      * Erzeugt eine Familie, deren Elemente Teilmengen einer Index-Menge der
      * bergebenen Gre sind.
@@ -227,6 +248,9 @@ public class ItmFamilie implements Cloneable {
         this.einfachUeberdecktAnz = andereFamilie.einfachUeberdecktAnz;
         this.mehrfachUeberdecktAnz = andereFamilie.mehrfachUeberdecktAnz;
         this.hashCode = andereFamilie.hashCode;
+        this.zuletztGeaenderteItm = andereFamilie.zuletztGeaenderteItm;
+        this.zuletztItmEntfernt = andereFamilie.zuletztItmEntfernt;
+        this.aenderungsAnz = andereFamilie.aenderungsAnz;
     }
 
     /**
@@ -357,6 +381,21 @@ public class ItmFamilie implements Cloneable {
         return maxTeilmengenAnz;
     }
 
+    /**
+     * Ermittelt, ob die Kosten, um die sich die Kosten der Familie durch
+     * Entfernen einer enthaltenen Teilmenge verringern, nur von der Teilmenge
+     * selbst abhngen. Das ist der Fall, wenn fr die Familie keine maximale
+     * Anzahl von Teilmengen vorgegeben ist. Dann verndert die Aufnahme oder
+     * Entfernung einer Teilmenge nicht die Kosten der anderen Teilmengen.
+     *
+     * @return  <CODE>true</CODE>, wenn die Kosten der Teilmengen unabhngig
+     *          von den anderen Teilmengen der Familie sind, sonst
+     *          <CODE>false</CODE>.
+     */
+    public boolean kostenUnabhaengig() {
+        return (maxTeilmengenAnz == 0);
+    }
+
     /**
      * Liefert die vorgegebenen maximalen Kosten, die eine Teilmenge haben
      * soll, die in diese Familie aufgenommen wird. Dieser Wert hat nur eine
@@ -387,6 +426,9 @@ public class ItmFamilie implements Cloneable {
         einfachUeberdecktAnz = 0;
         mehrfachUeberdecktAnz = 0;
         hashCode = 0;
+        zuletztGeaenderteItm = null;
+        zuletztItmEntfernt = false;
+        aenderungsAnz++;
     }
 
     /**
@@ -442,6 +484,10 @@ public class ItmFamilie implements Cloneable {
 
         kosten += teilmenge.kosten();
         ueberdeckungsHaeufigkeitSumme += teilmenge.groesseTeilmenge();
+
+        zuletztGeaenderteItm = teilmenge;
+        zuletztItmEntfernt = false;
+        aenderungsAnz++;
     }
 
     /**
@@ -501,6 +547,10 @@ public class ItmFamilie implements Cloneable {
             kosten = 0;
         }
         ueberdeckungsHaeufigkeitSumme -= teilmenge.groesseTeilmenge();
+
+        zuletztGeaenderteItm = teilmenge;
+        zuletztItmEntfernt = true;
+        aenderungsAnz++;
     }
 
     /**
@@ -620,6 +670,84 @@ public class ItmFamilie implements Cloneable {
                                                   nichtUeberdeckt);
     }
 
+    /**
+     * Liefert die Teilmengen, die mindestens einen Index mit der bergebenen
+     * Teilmenge gemeinsam haben. Wenn die Teilmengen der Familie durch eine
+     * <CODE>FesteTeilmengenVerwaltung</CODE> verwaltet werden, werden auch
+     * die potentiellen Teilmengen geliefert, die nicht in der Familie
+     * enthalten sind. Anderenfalls werden nur die enthaltenen Teilmengen
+     * geliefert.
+     *
+     * @param teilmenge  Die Teilmenge, zu der die Teilmengen mit einem
+     *                   gemeinsamen Index geliefert werden sollen.
+     *
+     * @return  Ein <CODE>Set</CODE> mit den Teilmengen, die mindestens einen
+     *          Index mit der bergebenen Teilmenge gemeinsam haben.
+     */
+    public Set betroffeneTeilmengen(IndexTeilmenge teilmenge) {
+        return itmVerwaltung.betroffeneTeilmengen(teilmenge);
+    }
+
+    /**
+     * Liefert die Teilmengen, die von der letzten Hinzunahme oder Entfernung
+     * einer Teilmenge in der Weise betroffen sind, da sie mindestens einen
+     * Index mit dieser Teilmenge gemeinsam haben. Wenn die Teilmengen der
+     * Familie durch eine <CODE>FesteTeilmengenVerwaltung</CODE> verwaltet
+     * werden, werden auch die potentiellen Teilmengen geliefert, die nicht in
+     * der Familie enthalten sind. Wenn die Familie seit ihrer Erzeugung oder
+     * seit dem letzten Aufruf von <CODE>clear</CODE> nicht verndert wurde,
+     * wird eine leere Menge geliefert.
+     *
+     * @return  Ein <CODE>Set</CODE> mit den von der letzten Vernderung
+     *          betroffenen Teilmengen.
+     */
+    public Set zuletztBetroffeneItm() {
+
+        if (zuletztGeaenderteItm == null) {
+            return (new HashSet(1));
+        } else {
+            return itmVerwaltung.betroffeneTeilmengen(zuletztGeaenderteItm);
+        }
+    }
+
+    /**
+     * Liefert die Teilmenge, die zuletzt der Familie hinzugefgt oder aus ihr
+     * entfernt wurde. Wenn die Familie seit ihrer Erzeugung oder seit dem
+     * letzten Aufruf von <CODE>clear</CODE> nicht verndert wurde, wird
+     * <CODE>null</CODE> geliefert.
+     *
+     * @return  Die zuletzt hinzugefgte oder entfernte Teilmenge oder
+     *          <CODE>null</CODE>.
+     */
+    public IndexTeilmenge zuletztGeaenderteItm() {
+        return zuletztGeaenderteItm;
+    }
+
+    /**
+     * Ermittelt, ob aus der Familie zuletzt eine Teilmenge entfernt oder eine
+     * Teilmenge hinzugenommen wurde.
+     *
+     * @return  <CODE>true</CODE>, wenn zuletzt eine Teilmenge entfernt wurde,
+     *          <CODE>false</CODE>, wenn zuletzt eine Teilmenge hinzugenommen
+     *          wurde oder die Familie noch nicht verndert wurde.
+     */
+    public boolean zuletztItmEntfernt() {
+        return zuletztItmEntfernt;
+    }
+
+    /**
+     * Liefert die Anzahl der bisherigen Vernderungen der Familie, d.h. der
+     * Hinzunahmen und Entfernungen von Teilmengen und der Aufrufe von
+     * <CODE>clear</CODE>. Anhand des Wertes kann ein Aufrufer erkennen, ob
+     * die Familie seit einem frheren Zeitpunkt nur durch die zuletzt
+     * genderte Teilmenge verndert wurde.
+     *
+     * @return  Die Anzahl der bisherigen Vernderungen der Familie.
+     */
+    public int aenderungsAnz() {
+        return aenderungsAnz;
+    }
+
     /**
      * Ermittelt, ob der bergebene Index in mindestens einer der Teilmengen
      * der Familie enthalten ist.
@@ -839,12 +967,24 @@ public class ItmFamilie implements Cloneable {
      * @return  Die Kosten der enthaltenen Teilmengen.
      */
     public float kostenFamilie() {
+        return kostenFamilie(kosten, itmVerwaltung.groesseFamilie());
+    }
 
-        if ((maxTeilmengenAnz == 0)
-                || (itmVerwaltung.groesseFamilie() <= maxTeilmengenAnz)) {
-            return kosten;
+    /**
+     * Liefert die Kosten einer Familie mit der bergebenen Summe der Kosten
+     * ihrer Teilmengen und der bergebenen Anzahl von Teilmengen.
+     *
+     * @param kostenSumme  Die Summe der den Teilmengen zugeordneten Kosten.
+     * @param itmAnz       Die Anzahl der Teilmengen.
+     *
+     * @return  Die Kosten der Familie.
+     */
+    private float kostenFamilie(float kostenSumme, int itmAnz) {
+
+        if ((maxTeilmengenAnz == 0) || (itmAnz <= maxTeilmengenAnz)) {
+            return kostenSumme;
         } else {
-            return kosten + itmVerwaltung.groesseFamilie() * maxTeilmengenKosten;
+            return kostenSumme + itmAnz * maxTeilmengenKosten;
         }
     }
 
@@ -912,6 +1052,306 @@ public class ItmFamilie implements Cloneable {
         }
     }
 
+    /**
+     * Liefert die Teilmengen, die durch die bergebene nderung tatschlich
+     * hinzugefgt und tatschlich entfernt wrden. Jede Teilmenge ist darin
+     * nur einmal enthalten. Eine Teilmenge, die entfernt und wieder
+     * hinzugefgt wrde, ist in keinem der beiden Arrays enthalten.
+     *
+     * @param aenderung  Die nderung der Familie.
+     *
+     * @return  Ein Array aus zwei Arrays, von denen das erste die
+     *          hinzuzufgenden und das zweite die zu entfernenden Teilmengen
+     *          enthlt.
+     *
+     * @throws SizeMismatchException  Die Gesamtmenge einer der
+     *                                hinzuzufgenden Teilmengen hat eine
+     *                                andere Gre als die Gesamtmenge dieser
+     *                                Familie.
+     */
+    protected IndexTeilmenge[][] wirksameTeilmengen(ItmAenderung aenderung) {
+        IndexTeilmenge[][] wirksameItms;
+        IndexTeilmenge[]   hinzuTeilmengen;
+        IndexTeilmenge[]   wegTeilmengen;
+        HashSet            hinzuMenge;
+        HashSet            wegMenge;
+
+        wegTeilmengen = aenderung.wegTeilmengen();
+        wegMenge = new HashSet();
+        for (int i = 0; i < wegTeilmengen.length; i++) {
+            if (itmVerwaltung.enthaelt(wegTeilmengen[i])) {
+                wegMenge.add(wegTeilmengen[i]);
+            }
+        }
+
+        hinzuTeilmengen = aenderung.hinzuTeilmengen();
+        hinzuMenge = new HashSet();
+        for (int i = 0; i < hinzuTeilmengen.length; i++) {
+            if (wegMenge.contains(hinzuTeilmengen[i])) {
+                wegMenge.remove(hinzuTeilmengen[i]);
+            } else if (!itmVerwaltung.enthaelt(hinzuTeilmengen[i])) {
+                if (hinzuTeilmengen[i].groesseGesamtmenge() != indexUeberdeckAnz.length) {
+                    throw new SizeMismatchException();
+                }
+                hinzuMenge.add(hinzuTeilmengen[i]);
+            }
+        }
+
+        wirksameItms = new IndexTeilmenge[2][];
+        wirksameItms[0] = new IndexTeilmenge[hinzuMenge.size()];
+        hinzuMenge.toArray(wirksameItms[0]);
+        wirksameItms[1] = new IndexTeilmenge[wegMenge.size()];
+        wegMenge.toArray(wirksameItms[1]);
+        return wirksameItms;
+    }
+
+    /**
+     * Liefert die Anzahl der Teilmengen, die den bergebenen Index nach der
+     * Hinzunahme und Entfernung der bergebenen Teilmengen enthalten wrden.
+     *
+     * @param index         Der Index, dessen berdeckungshufigkeit
+     *                      ermittelt werden soll.
+     * @param wirksameItms  Die tatschlich hinzuzufgenden und die
+     *                      tatschlich zu entfernenden Teilmengen.
+     *
+     * @return  Die neue berdeckungshufigkeit des Index.
+     */
+    private int neueHaeufigkeit(int index, IndexTeilmenge[][] wirksameItms) {
+        int haeufigkeit;
+
+        haeufigkeit = indexUeberdeckAnz[index];
+        for (int i = 0; i < wirksameItms[0].length; i++) {
+            if (wirksameItms[0][i].indexIstEnthalten(index)) {
+                haeufigkeit++;
+            }
+        }
+        for (int i = 0; i < wirksameItms[1].length; i++) {
+            if (wirksameItms[1][i].indexIstEnthalten(index)) {
+                haeufigkeit--;
+            }
+        }
+
+        return haeufigkeit;
+    }
+
+    /**
+     * Ermittelt, ob die bergebene Teilmenge nach der Hinzunahme und
+     * Entfernung der bergebenen Teilmengen notwendig wre.
+     *
+     * @param teilmenge     Die Teilmenge, die nach der nderung in der
+     *                      Familie enthalten wre.
+     * @param wirksameItms  Die tatschlich hinzuzufgenden und die
+     *                      tatschlich zu entfernenden Teilmengen.
+     *
+     * @return  <CODE>true</CODE>, wenn die Teilmenge nach der nderung einen
+     *          Index alleine enthalten wrde, sonst <CODE>false</CODE>.
+     */
+    private boolean istNotwendigNach(IndexTeilmenge teilmenge,
+                                     IndexTeilmenge[][] wirksameItms) {
+
+        for (int index = teilmenge.kleinsterEnthaltenerIndex();
+             index >= 0;
+             index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+            if (neueHaeufigkeit(index, wirksameItms) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Liefert die Kosten, die die Familie nach der Hinzunahme und Entfernung
+     * der bergebenen Teilmengen htte. Die Kosten werden dabei nach der
+     * Methode <CODE>kostenFamilie</CODE> dieser Klasse berechnet, auch wenn
+     * eine Unterklasse diese berschreibt.
+     *
+     * @param wirksameItms  Die tatschlich hinzuzufgenden und die
+     *                      tatschlich zu entfernenden Teilmengen.
+     *
+     * @return  Die Kosten der Familie nach der nderung.
+     */
+    protected float kostenFamilieNach(IndexTeilmenge[][] wirksameItms) {
+        float kostenSumme;
+        int   itmAnz;
+
+        kostenSumme = kosten;
+        for (int i = 0; i < wirksameItms[1].length; i++) {
+            kostenSumme -= wirksameItms[1][i].kosten();
+        }
+        if (kostenSumme < 0) {
+            kostenSumme = 0;
+        }
+        for (int i = 0; i < wirksameItms[0].length; i++) {
+            kostenSumme += wirksameItms[0][i].kosten();
+        }
+        itmAnz = (itmVerwaltung.groesseFamilie()
+                  + wirksameItms[0].length - wirksameItms[1].length);
+
+        return kostenFamilie(kostenSumme, itmAnz);
+    }
+
+    /**
+     * Liefert den Wert, um den sich die Kosten der Familie durch die
+     * bergebene nderung erhhen wrden. Die Familie wird dabei nicht
+     * verndert.
+     *
+     * @param aenderung  Die nderung der Familie.
+     *
+     * @return  Den Wert, um den sich die Kosten der Familie durch die
+     *          nderung erhhen wrden. Bei einer Verringerung ist der Wert
+     *          negativ.
+     */
+    public float kostenAenderung(ItmAenderung aenderung) {
+        return (kostenFamilieNach(wirksameTeilmengen(aenderung))
+                - kostenFamilie());
+    }
+
+    /**
+     * Liefert den Wert, um den sich die Anzahl der nicht berdeckten Indices
+     * durch die bergebene nderung erhhen wrde. Die Familie wird dabei
+     * nicht verndert.
+     *
+     * @param aenderung  Die nderung der Familie.
+     *
+     * @return  Den Wert, um den sich die Anzahl der nicht berdeckten Indices
+     *          durch die nderung erhhen wrde. Bei einer Verringerung ist
+     *          der Wert negativ.
+     */
+    public int nichtUeberdecktAenderung(ItmAenderung aenderung) {
+        IndexTeilmenge[][] wirksameItms;
+        IndexTeilmenge[]   geaenderteItms;
+        IndexTeilmenge     teilmenge;
+        boolean            schonGezaehlt;
+        int                neueHaeufigkeit;
+        int                differenz;
+
+        wirksameItms = wirksameTeilmengen(aenderung);
+        geaenderteItms = new IndexTeilmenge[wirksameItms[0].length
+                                            + wirksameItms[1].length];
+        System.arraycopy(wirksameItms[0], 0, geaenderteItms, 0,
+                         wirksameItms[0].length);
+        System.arraycopy(wirksameItms[1], 0, geaenderteItms,
+                         wirksameItms[0].length, wirksameItms[1].length);
+
+        // Jeder Index wird nur bei der ersten genderten Teilmenge
+        // bercksichtigt, die ihn enthlt.
+        differenz = 0;
+        for (int i = 0; i < geaenderteItms.length; i++) {
+            teilmenge = geaenderteItms[i];
+            for (int index = teilmenge.kleinsterEnthaltenerIndex();
+                 index >= 0;
+                 index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+
+                schonGezaehlt = false;
+                for (int j = 0; (j < i) && !schonGezaehlt; j++) {
+                    schonGezaehlt = geaenderteItms[j].indexIstEnthalten(index);
+                }
+                if (!schonGezaehlt) {
+                    neueHaeufigkeit = neueHaeufigkeit(index, wirksameItms);
+                    if ((indexUeberdeckAnz[index] == 0) && (neueHaeufigkeit > 0)) {
+                        differenz--;
+                    } else if ((indexUeberdeckAnz[index] > 0)
+                               && (neueHaeufigkeit == 0)) {
+                        differenz++;
+                    }
+                }
+            }
+        }
+
+        return differenz;
+    }
+
+    /**
+     * Liefert die Teilmengen, die nach der bergebenen nderung in der
+     * Familie enthalten und nicht notwendig wren, vor der nderung aber
+     * notwendig oder nicht enthalten waren. Die Familie wird dabei nicht
+     * verndert.<P>
+     *
+     * Wenn die Familie vor der nderung nur notwendige Teilmengen enthlt,
+     * ist die Anzahl der gelieferten Teilmengen gleich der Anzahl der nicht
+     * notwendigen Teilmengen nach der nderung.
+     *
+     * @param aenderung  Die nderung der Familie.
+     *
+     * @return  Ein <CODE>Set</CODE> mit den Teilmengen, die durch die
+     *          nderung nicht mehr notwendig wrden.
+     */
+    public Set neuNichtNotwendigeTeilmengen(ItmAenderung aenderung) {
+        IndexTeilmenge[][] wirksameItms;
+        HashSet            kandidaten;
+        HashSet            neuNichtNotwendig;
+        IndexTeilmenge     teilmenge;
+        IndexTeilmenge     kandidat;
+        Iterator           itmIter;
+
+        wirksameItms = wirksameTeilmengen(aenderung);
+        neuNichtNotwendig = new HashSet();
+
+        // Durch eine Entfernung kann keine Teilmenge ihre Notwendigkeit
+        // verlieren. Eine enthaltene Teilmenge kann sie daher nur verlieren,
+        // wenn sie einen Index einer hinzuzufgenden Teilmenge alleine
+        // enthlt.
+        kandidaten = new HashSet();
+        for (int i = 0; i < wirksameItms[0].length; i++) {
+            teilmenge = wirksameItms[0][i];
+            for (int index = teilmenge.kleinsterEnthaltenerIndex();
+                 index >= 0;
+                 index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+
+                if (indexUeberdeckAnz[index] == 1) {
+                    kandidat = itmVerwaltung.alleinEnthaltendeTeilmenge(index);
+                    if (kandidat != null) {
+                        kandidaten.add(kandidat);
+                    }
+                }
+            }
+
+            if (!istNotwendigNach(teilmenge, wirksameItms)) {
+                neuNichtNotwendig.add(teilmenge);
+            }
+        }
+
+        for (int i = 0; i < wirksameItms[1].length; i++) {
+            kandidaten.remove(wirksameItms[1][i]);
+        }
+
+        itmIter = kandidaten.iterator();
+        while (itmIter.hasNext()) {
+            kandidat = (IndexTeilmenge) itmIter.next();
+            if (!istNotwendigNach(kandidat, wirksameItms)) {
+                neuNichtNotwendig.add(kandidat);
+            }
+        }
+
+        return neuNichtNotwendig;
+    }
+
+    /**
+     * Fhrt die bergebene nderung aus. Dazu werden zuerst die zu
+     * entfernenden Teilmengen entfernt und anschlieend die hinzuzufgenden
+     * Teilmengen hinzugefgt.
+     *
+     * @param aenderung  Die auszufhrende nderung.
+     *
+     * @throws SizeMismatchException  Die Gesamtmenge einer der
+     *                                hinzuzufgenden Teilmengen hat eine
+     *                                andere Gre als die Gesamtmenge dieser
+     *                                Familie.
+     */
+    public void aenderungAusfuehren(ItmAenderung aenderung) {
+        IndexTeilmenge[] hinzuTeilmengen;
+        IndexTeilmenge[] wegTeilmengen;
+
+        wegTeilmengen = aenderung.wegTeilmengen();
+        for (int i = 0; i < wegTeilmengen.length; i++) {
+            teilmengeEntfernen(wegTeilmengen[i]);
+        }
+        hinzuTeilmengen = aenderung.hinzuTeilmengen();
+        for (int i = 0; i < hinzuTeilmengen.length; i++) {
+            teilmengeHinzufuegen(hinzuTeilmengen[i]);
+        }
+    }
+
     /**
      * Liefert einen Iterator ber die Teilmengen der Familie. Die
      * Teilmengen werden von diesem in keiner bestimmten Reihenfolge
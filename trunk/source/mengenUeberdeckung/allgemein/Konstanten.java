@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konstanten.java
- * Letzte nderung: 22. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Edgar Binder
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -40,6 +40,15 @@ public class Konstanten {
      */
     public static final float ITM_VERWALT_AUSWAHL_FAKTOR = 2.0f;
 
+    /**
+     * Gibt an, ob die Elemente einer <CODE>IndexTeilmenge</CODE>, die nur
+     * ber die Gre der Gesamtmenge erzeugt wird, in einer
+     * <CODE>LongElemVerwalt</CODE> gespeichert werden. Deren Vergleiche
+     * untereinander erfolgen wortweise. Anderenfalls wird eine
+     * <CODE>BitIntElemVerwalt</CODE> verwendet.
+     */
+    public static final boolean WORT_ELEM_VERWALT = true;
+
     /**
      * Die Anzahl der Zeichen, um die der Text einer Statistik bei jeder
      * Stufe der Verschachtelung vom linken Rand aus eingerckt werden soll.
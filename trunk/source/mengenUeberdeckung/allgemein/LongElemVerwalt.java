@@ -0,0 +1,620 @@
+/*
+ * Dateiname      : LongElemVerwalt.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.allgemein;
+
+import java.util.Arrays;
+
+import mathCollection.BitMathIntSet;
+
+/**
+ * Realisiert eine Verwaltung von Elementen, die nicht-negative ganze Zahlen
+ * sind, durch ein Array von <CODE>long</CODE>-Werten, von denen jeder 64
+ * Elemente reprsentiert. Die Gre der Verwaltung ist im Konstruktor
+ * anzugeben und nicht vernderlich.<P>
+ *
+ * Die Vergleiche mit einer anderen Instanz dieser Klasse (die Methoden
+ * <CODE>containsNone</CODE>, <CODE>containsAll</CODE> und
+ * <CODE>containingAlone</CODE>) erfolgen wortweise ohne Erzeugung neuer
+ * Objekte. Die Anzahlen werden dabei mittels <CODE>Long.bitCount</CODE>
+ * ermittelt.
+ *
+ * @author  Dietmar Lippold
+ */
+public class LongElemVerwalt implements ElementVerwaltung, Cloneable {
+
+    /**
+     * Die Anzahl der Bits eines Wortes als Zweierpotenz.
+     */
+    private static final int WORT_BITS_EXP = 6;
+
+    /**
+     * Die Worte, in denen zu jedem mglichen Element das Bit gesetzt ist,
+     * wenn es in der Verwaltung enthalten ist.
+     */
+    private long[] worte;
+
+    /**
+     * Die Anzahl der gespeicherten Elemente.
+     */
+    private int storedElements = 0;
+
+    /**
+     * Ein Array mit den aufsteigend geordneten Elementen der Verwaltung. Die
+     * Elemente werden nur in einer Laufzeit-effizienten Instanz gespeichert
+     * und nur, solange die Verwaltung nicht verndert wird. Ansonsten ist
+     * der Wert <CODE>null</CODE>.
+     */
+    private int[] elementListe = null;
+
+    /**
+     * Die Position in <CODE>elementListe</CODE> des Elements, das zuletzt von
+     * der Methode <CODE>getNext</CODE> geliefert wurde. Der Wert dient nur
+     * als Hinweis und wird vor seiner Verwendung berprft.
+     */
+    private int letzteElementPos = -1;
+
+    /**
+     * Wenn der Wert ungleich Null ist, der aktuelle Wert der Methode
+     * <CODE>hashCode<CODE>. Wenn der Wert Null ist, mu er neu berechnet
+     * werden.
+     */
+    private int storedHashCode = 0;
+
+    /**
+     * Gibt an, ob eine Speicher-effiziente Speicherung der Elemente mit
+     * Nachteilen fr die Laufzeit-Effizienz erfolgen soll.
+     */
+    private boolean speicherEffizient;
+
+    /**
+     * Erzeugt eine neue Instanz, die noch kein Element enthlt.
+     *
+     * @param maxElementAnz      Die maximale Anzahl zu speichernder
+     *                           Elemente, d.h. das maximal zu speichernde
+     *                           Element plus Eins.
+     * @param speicherEffizient  Gibt an, ob eine Speicher-effiziente und
+     *                           damit aber nicht Laufzeit-effiziente
+     *                           Speicherung erfolgen soll.
+     */
+    public LongElemVerwalt(int maxElementAnz, boolean speicherEffizient) {
+
+        this.worte = new long[(maxElementAnz + 63) >>> WORT_BITS_EXP];
+        this.speicherEffizient = speicherEffizient;
+    }
+
+    /**
+     * Erzeugt eine neue Instanz, die noch kein Element enthlt und die nicht
+     * extra Speicher-effizient ist.
+     *
+     * @param maxElementAnz  Die maximale Anzahl zu speichernder Elemente,
+     *                       d.h. das maximal zu speichernde Element plus
+     *                       Eins.
+     */
+    public LongElemVerwalt(int maxElementAnz) {
+        this(maxElementAnz, false);
+    }
+
+    /**
+     * Erzeugt eine neue Instanz, die gleich ist zu bergebenen Instanz. Die
+     * enthaltenen Elemente werden tief kopiert.
+     *
+     * @param andereVerwaltung  Die Instanz, zu der die neue Instanz gleich
+     *                          sein soll.
+     */
+    public LongElemVerwalt(LongElemVerwalt andereVerwaltung) {
+
+        this.worte = (long[]) andereVerwaltung.worte.clone();
+        this.storedElements = andereVerwaltung.storedElements;
+        this.elementListe = andereVerwaltung.elementListe;
+        this.storedHashCode = andereVerwaltung.storedHashCode;
+        this.speicherEffizient = andereVerwaltung.speicherEffizient;
+    }
+
+    /**
+     * Liefert ein neue Instanz dieser Klasse, die zu <CODE>this</CODE> gleich
+     * ist.
+     *
+     * @return  Ein zu diesem Objekt gleiches Objekt.
+     */
+    public Object clone() {
+        return (new LongElemVerwalt(this));
+    }
+
+    /**
+     * Liefert den hashCode dieses Objekts. Der Wert ist gleich dem hashCode
+     * eines <CODE>BitMathIntSet</CODE> mit den gleichen Elementen.
+     *
+     * @return  Den hashCode dieses Objekts.
+     */
+    public int hashCode() {
+        long hash;
+
+        if (storedHashCode == 0) {
+            hash = 1234;
+            for (int i = worte.length - 1; i >= 0; i--) {
+                hash ^= worte[i] * (i + 1);
+            }
+            storedHashCode = (int) ((hash >> 32) ^ hash);
+        }
+
+        return storedHashCode;
+    }
+
+    /**
+     * Ermittelt, ob das bergebene Objekte eine ElementVerwaltung ist und
+     * die gleichen Elemente wie <CODE>this</CODE> enthlt. Die Art der
+     * anderen Verwaltung ist dabei ohne Bedeutung.
+     *
+     * @param anderesObjekt  Ein anderes Objekt, in der Regel eine zu
+     *                       vergleichende <CODE>LongElemVerwalt</CODE>.
+     *
+     * @return  <CODE>true</CODE>, wenn das bergebene Objekt eine
+     *          <CODE>ElementVerwaltung</CODE> ist und die gleichen Elemente
+     *          wie diese Instanz enthlt, anderenfalls <CODE>false</CODE>.
+     */
+    public boolean equals(Object anderesObjekt) {
+        ElementVerwaltung andereElemVerwalt;
+        LongElemVerwalt   andereVerwaltung;
+        long[]            andereWorte;
+        int               gemeinsamAnz;
+
+        if (anderesObjekt == this) {
+            return true;
+        }
+
+        if (!(anderesObjekt instanceof ElementVerwaltung)) {
+            return false;
+        }
+
+        if (!(anderesObjekt instanceof LongElemVerwalt)) {
+            // Eine Verwaltung anderer Art wird ber ihre Elemente verglichen,
+            // da der hashCode aller Arten gleich berechnet wird.
+            andereElemVerwalt = (ElementVerwaltung) anderesObjekt;
+            return ((andereElemVerwalt.size() == size())
+                    && containsAll(andereElemVerwalt));
+        }
+
+        andereVerwaltung = (LongElemVerwalt) anderesObjekt;
+        if ((andereVerwaltung.storedElements != storedElements)
+                || (andereVerwaltung.hashCode() != hashCode())) {
+            return false;
+        }
+
+        andereWorte = andereVerwaltung.worte;
+        gemeinsamAnz = Math.min(worte.length, andereWorte.length);
+        for (int i = 0; i < gemeinsamAnz; i++) {
+            if (worte[i] != andereWorte[i]) {
+                return false;
+            }
+        }
+
+        // Wegen der gleichen Anzahl der Elemente sind in den berzhligen
+        // Worten keine Bits gesetzt.
+        return true;
+    }
+
+    /**
+     * Setzt die von den Elementen abhngigen gespeicherten Werte zurck.
+     */
+    private void abgeleiteteWerteLoeschen() {
+        elementListe = null;
+        storedHashCode = 0;
+    }
+
+    /**
+     * Nimmt das bergebene Element in die Verwaltung auf. Wenn das Element
+     * schon in der Verwaltung enthalten ist, ndert sich nichts.
+     *
+     * @param element  Das Element, der in <CODE>this</CODE> aufgenommern
+     *                 werden soll.
+     *
+     * @throws IndexOutOfBoundsException  Das bergebene Element ist kleiner
+     *                                    als Null oder grer als das maximal
+     *                                    zu speichernde Element.
+     */
+    public void elementAufnehmen(int element) {
+        int  wortNr = element >> WORT_BITS_EXP;
+        long maske  = 1L << element;
+
+        if ((worte[wortNr] & maske) == 0) {
+            // Das Element ist noch nicht enthalten.
+            worte[wortNr] |= maske;
+            storedElements++;
+            abgeleiteteWerteLoeschen();
+        }
+    }
+
+    /**
+     * Nimmt die Elemente aus dem bergebenen <CODE>BitMathIntSet</CODE> in
+     * die Verwaltung auf. Wenn ein Elemente schon in der Verwaltung enthalten
+     * ist, wird es nicht noch einmal aufgenommen.
+     *
+     * @param hinzuElemente  Ein <CODE>BitMathIntSet</CODE> mit den Elementen,
+     *                       die in <CODE>this</CODE> aufgenommen werden
+     *                       sollen.
+     *
+     * @throws IndexOutOfBoundsException  Ein Element des bergebenen Menge
+     *                                    ist grer als das maximal zu
+     *                                    speichernde Element.
+     */
+    public void elementeAufnehmen(BitMathIntSet hinzuElemente) {
+        int[] neueElemente;
+
+        neueElemente = hinzuElemente.toArray();
+        for (int i = 0; i < neueElemente.length; i++) {
+            elementAufnehmen(neueElemente[i]);
+        }
+    }
+
+    /**
+     * Lscht das bergebene Elemente aus der Verwaltung. Wenn das Element
+     * nicht in der Verwaltung enthalten ist, ndert sich nichts.
+     *
+     * @param element  Das Element, der aus <CODE>this</CODE> gelscht werden
+     *                 soll.
+     *
+     * @throws IndexOutOfBoundsException  Das bergebene Element ist kleiner
+     *                                    als Null oder grer als das maximal
+     *                                    zu speichernde Element.
+     */
+    public void elementLoeschen(int element) {
+        int  wortNr = element >> WORT_BITS_EXP;
+        long maske  = 1L << element;
+
+        if ((worte[wortNr] & maske) != 0) {
+            // Das Element ist enthalten.
+            worte[wortNr] &= ~maske;
+            storedElements--;
+            abgeleiteteWerteLoeschen();
+        }
+    }
+
+    /**
+     * Ermittelt, ob das bergebene Element in dieser Verwaltung enthalten
+     * ist.
+     *
+     * @param element  Das Element, von dem ermittelt werden soll, ob es in
+     *                 <CODE>this</CODE> enthalten ist.
+     *
+     * @return  <CODE>true</CODE>, falls das bergebene Element in
+     *          <CODE>this</CODE> enthalten ist, anderenfalls
+     *          <CODE>false</CODE>.
+     */
+    public boolean contains(int element) {
+        int wortNr = element >> WORT_BITS_EXP;
+
+        if ((element < 0) || (wortNr >= worte.length)) {
+            return false;
+        }
+        return ((worte[wortNr] & (1L << element)) != 0);
+    }
+
+    /**
+     * Ermittelt, ob diese Verwaltung und die bergebene Verwaltung kein
+     * Element gemeinsam haben.
+     *
+     * @param andereVerwaltung  Die andere Verwaltung, deren Elemente mit
+     *                          denen dieser Verwaltung verglichen werden
+     *                          sollen.
+     *
+     * @return  <CODE>true</CODE> wenn es kein Element gibt, das sowohl in
+     *          dieser wie in der bergebenen Verwaltung enthalten ist, sonst
+     *          <CODE>false</CODE>.
+     */
+    public boolean containsNone(ElementVerwaltung andereVerwaltung) {
+        long[] andereWorte;
+        int    vglWortAnz;
+
+        if (andereVerwaltung instanceof LongElemVerwalt) {
+            andereWorte = ((LongElemVerwalt) andereVerwaltung).worte;
+            vglWortAnz = Math.min(worte.length, andereWorte.length);
+            for (int i = 0; i < vglWortAnz; i++) {
+                if ((worte[i] & andereWorte[i]) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            for (int element = andereVerwaltung.getMinimum();
+                 element >= 0;
+                 element = andereVerwaltung.getNext(element)) {
+                if (contains(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Ermittelt, ob diese Verwaltung alle Elemente der bergebene Verwaltung
+     * enthlt.
+     *
+     * @param andereVerwaltung  Die andere Verwaltung, von deren Elementen
+     *                          ermittelt werden soll, ob sie in dieser
+     *                          Verwaltung enthalten sind.
+     *
+     * @return  <CODE>true</CODE> diese Verwaltung alle Elemente der
+     *          bergebene Verwaltung enthlt, sonst <CODE>false</CODE>.
+     */
+    public boolean containsAll(ElementVerwaltung andereVerwaltung) {
+        long[] andereWorte;
+        int    vglWortAnz;
+
+        if (andereVerwaltung.size() > storedElements) {
+            return false;
+        } else if (andereVerwaltung instanceof LongElemVerwalt) {
+            andereWorte = ((LongElemVerwalt) andereVerwaltung).worte;
+            vglWortAnz = Math.min(worte.length, andereWorte.length);
+            for (int i = 0; i < vglWortAnz; i++) {
+                if ((andereWorte[i] & ~worte[i]) != 0) {
+                    return false;
+                }
+            }
+            for (int i = vglWortAnz; i < andereWorte.length; i++) {
+                if (andereWorte[i] != 0) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            for (int element = andereVerwaltung.getMinimum();
+                 element >= 0;
+                 element = andereVerwaltung.getNext(element)) {
+                if (!contains(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der Elemente, die in dieser Verwaltung aber nicht in
+     * der bergebenen Verwaltung enthalten sind.
+     *
+     * @param andereVerwaltung  Die andere Verwaltung, zu der ermittelt werden
+     *                          soll, wie viele Elemente dieser Verwaltung sie
+     *                          nicht enthlt.
+     *
+     * @return  Die Anzahl der Elemente, die in <CODE>this</CODE> aber nicht
+     *          in der bergebenen Verwaltung enthalten sind.
+     */
+    public int containingAlone(ElementVerwaltung andereVerwaltung) {
+        long[] andereWorte;
+        int    vglWortAnz;
+        int    alleineEnthalten;
+
+        if (andereVerwaltung instanceof LongElemVerwalt) {
+            andereWorte = ((LongElemVerwalt) andereVerwaltung).worte;
+            vglWortAnz = Math.min(worte.length, andereWorte.length);
+            alleineEnthalten = 0;
+            for (int i = 0; i < vglWortAnz; i++) {
+                alleineEnthalten += Long.bitCount(worte[i] & ~andereWorte[i]);
+            }
+            for (int i = vglWortAnz; i < worte.length; i++) {
+                alleineEnthalten += Long.bitCount(worte[i]);
+            }
+            return alleineEnthalten;
+        } else {
+            return (storedElements - containingBoth(andereVerwaltung));
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der Elemente, die sowohl in dieser Verwaltung wie
+     * auch in der bergebenen Verwaltung enthalten sind.
+     *
+     * @param andereVerwaltung  Die andere Verwaltung, zu der ermittelt werden
+     *                          soll, wie viele Elemente sie mit dieser
+     *                          Verwaltung gemeinsam hat.
+     *
+     * @return  Die Anzahl der Elemente, die in <CODE>this</CODE> und in der
+     *          bergebenen Verwaltung enthalten sind.
+     */
+    public int containingBoth(ElementVerwaltung andereVerwaltung) {
+        long[] andereWorte;
+        int    vglWortAnz;
+        int    gemeinsamEnthalten;
+
+        gemeinsamEnthalten = 0;
+        if (andereVerwaltung instanceof LongElemVerwalt) {
+            andereWorte = ((LongElemVerwalt) andereVerwaltung).worte;
+            vglWortAnz = Math.min(worte.length, andereWorte.length);
+            for (int i = 0; i < vglWortAnz; i++) {
+                gemeinsamEnthalten += Long.bitCount(worte[i] & andereWorte[i]);
+            }
+        } else {
+            for (int element = andereVerwaltung.getMinimum();
+                 element >= 0;
+                 element = andereVerwaltung.getNext(element)) {
+                if (contains(element)) {
+                    gemeinsamEnthalten++;
+                }
+            }
+        }
+        return gemeinsamEnthalten;
+    }
+
+    /**
+     * Liefert das kleinste in der Verwaltung enthaltene Element. Wenn kein
+     * Element in der Verwaltung enthalten ist, wird der Wert <CODE>-1</CODE>
+     * geliefert.
+     *
+     * @return  Das kleinsten in <CODE>this</CODE> enthaltenen Element.
+     */
+    public int getMinimum() {
+
+        if (storedElements == 0) {
+            return -1;
+        }
+
+        if (!speicherEffizient) {
+            // Die Elemente fr die folgenden Aufrufe von getNext speichern.
+            letzteElementPos = 0;
+            return toArray()[0];
+        } else {
+            return getNext(-1);
+        }
+    }
+
+    /**
+     * Liefert das grte in der Verwaltung enthaltene Element. Wenn kein
+     * Element in der Verwaltung enthalten ist, wird der Wert <CODE>-1</CODE>
+     * geliefert.
+     *
+     * @return  Das grte in <CODE>this</CODE> enthaltenen Element.
+     */
+    public int getMaximum() {
+
+        if (storedElements == 0) {
+            return -1;
+        }
+
+        for (int i = worte.length - 1; i >= 0; i--) {
+            if (worte[i] != 0) {
+                return ((i << WORT_BITS_EXP) + 63
+                        - Long.numberOfLeadingZeros(worte[i]));
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Liefert das nchste in der Verwaltung enthaltene Element.
+     *
+     * @param element  Das Element, ab dem das nchste in der Verwaltung
+     *                 enthaltene Element ermittelt werden soll. In der Regel
+     *                 ist das bergebene Element das, das zuletzt von dieser
+     *                 Methode geliefert wurde.
+     *
+     * @return  Das kleinste Element, das grer als <CODE>element</CODE> ist
+     *          und in der Verwaltung enthalten ist. Falls es so ein Element
+     *          nicht gibt, wird der Wert -1 geliefert.
+     */
+    public int getNext(int element) {
+        int[] elemente;
+        int   naechstElement;
+        int   elementPos;
+        int   wortNr;
+        long  wort;
+
+        if (storedElements == 0) {
+            return -1;
+        }
+
+        elemente = elementListe;
+        if (elemente != null) {
+            // Die Position wird nur einmal gelesen, so da ein gleichzeitiger
+            // Aufruf aus einem anderen Thread nur die Effizienz aber nicht
+            // das Ergebnis beeinflut.
+            elementPos = letzteElementPos;
+            if ((elementPos < 0) || (elementPos >= elemente.length)
+                    || (elemente[elementPos] != element)) {
+                elementPos = Arrays.binarySearch(elemente, element);
+                if (elementPos < 0) {
+                    elementPos = -(elementPos + 1) - 1;
+                }
+            }
+            elementPos++;
+            if (elementPos < elemente.length) {
+                letzteElementPos = elementPos;
+                return elemente[elementPos];
+            } else {
+                return -1;
+            }
+        }
+
+        naechstElement = Math.max(element + 1, 0);
+        wortNr = naechstElement >> WORT_BITS_EXP;
+        if (wortNr >= worte.length) {
+            return -1;
+        }
+
+        // Die Bits unterhalb des nchsten Elements ausblenden.
+        wort = worte[wortNr] & (-1L << naechstElement);
+        while (wort == 0) {
+            wortNr++;
+            if (wortNr == worte.length) {
+                return -1;
+            }
+            wort = worte[wortNr];
+        }
+        return ((wortNr << WORT_BITS_EXP) + Long.numberOfTrailingZeros(wort));
+    }
+
+    /**
+     * Liefert die Anzahl der Elemente dieser Verwaltung.
+     *
+     * @return  Die Anzahl der Elemente von <CODE>this</CODE>.
+     */
+    public int size() {
+        return storedElements;
+    }
+
+    /**
+     * Liefert ein Arry mit den aufsteigend geordneten Elementen dieser
+     * Verwaltung.
+     *
+     * @return  Ein Arry mit den aufsteigend geordneten Elementen dieser
+     *          Verwaltung.
+     */
+    public int[] toArray() {
+        int[] enthalteneElemente;
+        int   indexNr;
+        long  wort;
+
+        if (elementListe != null) {
+            return elementListe;
+        }
+
+        enthalteneElemente = new int[storedElements];
+        indexNr = 0;
+        for (int i = 0; i < worte.length; i++) {
+            wort = worte[i];
+            while (wort != 0) {
+                enthalteneElemente[indexNr] = ((i << WORT_BITS_EXP)
+                                               + Long.numberOfTrailingZeros(wort));
+                indexNr++;
+                // Das niedrigste gesetzte Bit lschen.
+                wort &= wort - 1;
+            }
+        }
+
+        if (!speicherEffizient) {
+            elementListe = enthalteneElemente;
+        }
+        return enthalteneElemente;
+    }
+
+    /**
+     * Liefert eine Mengen-Darstellung der Verwaltung, d.h. der in ihr
+     * enthaltenen Elemente, als String.
+     *
+     * @return  Einen String, der <CODE>this</CODE> darstellt.
+     */
+    public String toString() {
+        return (new BitMathIntSet(toArray())).toString();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Dateiname      : OptimierungsBudget.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.allgemein;
+
+/**
+ * Begrenzt die Laufzeit von Verfahren zum Mengen-berdeckungs-Problem durch
+ * einen Zeitpunkt und durch eine Anzahl von Schritten. Ein Schritt ist z.B.
+ * eine Iteration oder eine nderung einer Familie. Auerdem wird die beste
+ * berdeckung gespeichert, die dem Budget mitgeteilt wurde, und einem
+ * Beobachter mitgeteilt. Die Methoden knnen gleichzeitig aus mehreren
+ * Threads aufgerufen werden.
+ *
+ * @author  Dietmar Lippold
+ */
+public class OptimierungsBudget {
+
+    /**
+     * Der Zeitpunkt in Millisekunden, nach dem das Budget erschpft ist. Beim
+     * Wert Null ist die Zeit nicht begrenzt.
+     */
+    private long endeZeitpunkt;
+
+    /**
+     * Die Anzahl der Schritte, nach denen das Budget erschpft ist. Beim
+     * Wert Null ist die Anzahl nicht begrenzt.
+     */
+    private long maxSchrittAnz;
+
+    /**
+     * Der Beobachter, dem bessere berdeckungen mitgeteilt werden, oder
+     * <CODE>null</CODE>.
+     */
+    private UeberdeckungsBeobachter beobachter;
+
+    /**
+     * Die Anzahl der bisher ausgefhrten Schritte.
+     */
+    private long schrittAnz = 0;
+
+    /**
+     * Die beste bisher mitgeteilte berdeckung.
+     */
+    private ItmFamilie besteUeberdeckung = null;
+
+    /**
+     * Erzeugt eine neue Instanz. Die maximale Dauer beginnt mit der
+     * Erzeugung.
+     *
+     * @param maxDauer       Die maximale Dauer in Millisekunden. Beim Wert
+     *                       Null ist die Zeit nicht begrenzt.
+     * @param maxSchrittAnz  Die maximale Anzahl von Schritten. Beim Wert
+     *                       Null ist die Anzahl nicht begrenzt.
+     * @param beobachter     Der Beobachter, dem bessere berdeckungen
+     *                       mitgeteilt werden. Der Wert kann
+     *                       <CODE>null</CODE> sein.
+     *
+     * @throws IllegalArgumentException  Wenn die maximale Dauer oder die
+     *                                   maximale Anzahl von Schritten
+     *                                   negativ ist.
+     */
+    public OptimierungsBudget(long maxDauer, long maxSchrittAnz,
+                              UeberdeckungsBeobachter beobachter) {
+
+        if (maxDauer < 0) {
+            throw new IllegalArgumentException("Die maximale Dauer ist"
+                                               + " negativ");
+        }
+        if (maxSchrittAnz < 0) {
+            throw new IllegalArgumentException("Die maximale Anzahl von"
+                                               + " Schritten ist negativ");
+        }
+
+        if (maxDauer == 0) {
+            this.endeZeitpunkt = 0;
+        } else {
+            this.endeZeitpunkt = System.currentTimeMillis() + maxDauer;
+        }
+        this.maxSchrittAnz = maxSchrittAnz;
+        this.beobachter = beobachter;
+    }
+
+    /**
+     * Erzeugt eine neue Instanz ohne Beobachter. Die maximale Dauer beginnt
+     * mit der Erzeugung.
+     *
+     * @param maxDauer       Die maximale Dauer in Millisekunden. Beim Wert
+     *                       Null ist die Zeit nicht begrenzt.
+     * @param maxSchrittAnz  Die maximale Anzahl von Schritten. Beim Wert
+     *                       Null ist die Anzahl nicht begrenzt.
+     *
+     * @throws IllegalArgumentException  Wenn die maximale Dauer oder die
+     *                                   maximale Anzahl von Schritten
+     *                                   negativ ist.
+     */
+    public OptimierungsBudget(long maxDauer, long maxSchrittAnz) {
+        this(maxDauer, maxSchrittAnz, null);
+    }
+
+    /**
+     * Zhlt einen ausgefhrten Schritt.
+     */
+    public synchronized void schrittZaehlen() {
+        schrittAnz++;
+    }
+
+    /**
+     * Liefert die Anzahl der bisher ausgefhrten Schritte.
+     *
+     * @return  Die Anzahl der bisher ausgefhrten Schritte.
+     */
+    public synchronized long schrittAnz() {
+        return schrittAnz;
+    }
+
+    /**
+     * Ermittelt, ob das Budget erschpft ist, d.h. ob der Endzeitpunkt
+     * erreicht ist oder die maximale Anzahl von Schritten ausgefhrt wurde.
+     *
+     * @return  <CODE>true</CODE>, wenn das Budget erschpft ist, sonst
+     *          <CODE>false</CODE>.
+     */
+    public synchronized boolean erschoepft() {
+        return (((maxSchrittAnz > 0) && (schrittAnz >= maxSchrittAnz))
+                || ((endeZeitpunkt > 0)
+                    && (System.currentTimeMillis() >= endeZeitpunkt)));
+    }
+
+    /**
+     * Teilt eine gefundene berdeckung mit. Wenn sie vollstndig ist und
+     * geringere Kosten als die bisher beste hat, wird eine Kopie von ihr
+     * gespeichert und dem Beobachter bergeben.
+     *
+     * @param ueberdeckung  Die gefundene berdeckung.
+     *
+     * @return  <CODE>true</CODE>, wenn die berdeckung besser als die bisher
+     *          beste ist, sonst <CODE>false</CODE>.
+     */
+    public synchronized boolean verbesserungMelden(ItmFamilie ueberdeckung) {
+
+        if ((ueberdeckung.anzNichtUeberdeckt() == 0)
+            && ((besteUeberdeckung == null)
+                || (ueberdeckung.kostenFamilie() < besteUeberdeckung.kostenFamilie()))) {
+
+            besteUeberdeckung = (ItmFamilie) ueberdeckung.clone();
+            if (beobachter != null) {
+                beobachter.verbesserteUeberdeckung((ItmFamilie) besteUeberdeckung.clone());
+            }
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Liefert die beste bisher mitgeteilte berdeckung.
+     *
+     * @return  Die beste bisher mitgeteilte berdeckung oder
+     *          <CODE>null</CODE>, wenn noch keine mitgeteilt wurde.
+     */
+    public synchronized ItmFamilie besteUeberdeckung() {
+        return besteUeberdeckung;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Dateiname      : UeberdeckungsBeobachter.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.allgemein;
+
+/**
+ * Beschreibt ein Objekt, dem ein Optimierungsverfahren jede gefundene
+ * berdeckung mitteilt, die besser ist als alle vorher mitgeteilten.
+ *
+ * @author  Dietmar Lippold
+ */
+public interface UeberdeckungsBeobachter {
+
+    /**
+     * Teilt eine gefundene berdeckung mit, deren Kosten geringer sind als
+     * die aller vorher mitgeteilten berdeckungen. Die Methode kann aus
+     * verschiedenen Threads aufgerufen werden, aber nicht gleichzeitig.
+     *
+     * @param ueberdeckung  Eine Kopie der gefundenen berdeckung.
+     */
+    public void verbesserteUeberdeckung(ItmFamilie ueberdeckung);
+}
@@ -0,0 +1,137 @@
+/*
+ * Dateiname      : FesteItmIterator.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.allgemein.itmVerwaltung;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+
+/**
+ * Ein Iterator ber die Teilmengen einer festen Teilmengenverwaltung. Die
+ * enthaltenen Teilmengen sind durch die gesetzten Bits eines Bitsets ber
+ * ihren Nummern gegeben und werden in der Reihenfolge ihrer Nummern
+ * geliefert.
+ *
+ * @author  Dietmar Lippold
+ */
+public class FesteItmIterator implements Iterator {
+
+    /**
+     * Die Basis mit den potentiellen Teilmengen.
+     */
+    private TeilmengenBasis basis;
+
+    /**
+     * Das Bitset der Nummern der enthaltenen Teilmengen.
+     */
+    private long[] enthalten;
+
+    /**
+     * Die Nummer der nchsten zu liefernden Teilmenge oder -1, wenn es keine
+     * weitere gibt.
+     */
+    private int naechsteNr;
+
+    /**
+     * Erzeugt einen neuen Iterator.
+     *
+     * @param basis      Die Basis mit den potentiellen Teilmengen.
+     * @param enthalten  Das Bitset der Nummern der enthaltenen Teilmengen.
+     */
+    public FesteItmIterator(TeilmengenBasis basis, long[] enthalten) {
+        this.basis = basis;
+        this.enthalten = enthalten;
+        this.naechsteNr = naechsteNummer(enthalten, 0);
+    }
+
+    /**
+     * Liefert die kleinste Nummer, die grer oder gleich der bergebenen
+     * Nummer ist und deren Bit im bergebenen Bitset gesetzt ist.
+     *
+     * @param bitset  Ein Bitset.
+     * @param nr      Die kleinste in Frage kommende Nummer.
+     *
+     * @return  Die gesuchte Nummer oder -1, wenn es keine solche gibt.
+     */
+    static int naechsteNummer(long[] bitset, int nr) {
+        int  wortNr;
+        long wort;
+
+        wortNr = nr >> 6;
+        if (wortNr >= bitset.length) {
+            return -1;
+        }
+
+        wort = bitset[wortNr] & (-1L << (nr & 63));
+        while (wort == 0) {
+            wortNr++;
+            if (wortNr == bitset.length) {
+                return -1;
+            }
+            wort = bitset[wortNr];
+        }
+
+        return ((wortNr << 6) + Long.numberOfTrailingZeros(wort));
+    }
+
+    /**
+     * Ermittelt, ob es eine weitere Teilmenge gibt.
+     *
+     * @return  <CODE>true</CODE>, wenn es eine weitere Teilmenge gibt, sonst
+     *          <CODE>false</CODE>.
+     */
+    public boolean hasNext() {
+        return (naechsteNr >= 0);
+    }
+
+    /**
+     * Liefert die nchste Teilmenge.
+     *
+     * @return  Die nchste Teilmenge.
+     *
+     * @throws NoSuchElementException  Es gibt keine weitere Teilmenge.
+     */
+    public Object next() {
+        IndexTeilmenge teilmenge;
+
+        if (naechsteNr < 0) {
+            throw new NoSuchElementException();
+        }
+
+        teilmenge = basis.teilmenge(naechsteNr);
+        naechsteNr = naechsteNummer(enthalten, naechsteNr + 1);
+        return teilmenge;
+    }
+
+    /**
+     * Wird nicht untersttzt, da die Teilmengen nur ber die Verwaltung
+     * entfernt werden knnen.
+     *
+     * @throws UnsupportedOperationException  Bei jedem Aufruf.
+     */
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
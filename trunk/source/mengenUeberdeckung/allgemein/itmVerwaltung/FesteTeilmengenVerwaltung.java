@@ -1,6 +1,6 @@
 /*
  * Dateiname      : FesteTeilmengenVerwaltung.java
- * Letzte nderung: 12. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -27,8 +27,8 @@ package mengenUeberdeckung.allgemein.itmVerwaltung;
 import java.util.Arrays;
 import java.util.Set;
 import java.util.HashSet;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import mengenUeberdeckung.allgemein.IndexTeilmenge;
 
@@ -37,7 +37,19 @@ import mengenUeberdeckung.allgemein.IndexTeilmenge;
  * Bezug auf die Notwendigkeit der Teilmengen bereit gestellt. Diese
  * Implementierung erfordert eine andere Verwaltung als Grundlage, so da in
  * diese Verwaltung nur Teilmengen aufgenommen werden, die in der anderen
- * Verwaltung zum Zeitpunkt der Erzeugung dieser Verwaltung enthalten sind.
+ * Verwaltung zum Zeitpunkt der Erzeugung dieser Verwaltung enthalten sind.<P>
+ *
+ * Die unvernderlichen Daten der potentiellen Teilmengen werden in einer
+ * Instanz von <CODE>TeilmengenBasis</CODE> gespeichert, die von allen
+ * Kopien einer Verwaltung gemeinsam benutzt wird. Der vernderliche Zustand
+ * besteht nur aus Arrays ber den Nummern der Teilmengen und ber den
+ * Indices. Diese werden beim Kopieren ebenfalls gemeinsam benutzt und erst
+ * vor der ersten nderung einer der beteiligten Verwaltungen kopiert. Die
+ * Anzahl der Verwaltungen, die die Arrays gemeinsam benutzen, wird in einem
+ * eigenen Zhler gespeichert, der ebenfalls gemeinsam benutzt wird. Beim
+ * Kopieren wird die kopierte Verwaltung selbst daher nicht verndert. Wie
+ * bisher darf eine Verwaltung aber nicht gleichzeitig von einem Thread
+ * kopiert und von einem anderen Thread verndert werden.
  *
  * @author  Dietmar Lippold
  */
@@ -45,22 +57,56 @@ public class FesteTeilmengenVerwaltung
     implements TeilmengenVerwaltung, Cloneable {
 
     /**
-     * Die Teilmengen, die in der Verwaltung gespeichert werden knnen. Zu
-     * jeder Teilmenge ist ihre Nummer angegeben. Diese Map wird nicht
-     * gendert.
+     * Die potentiellen Teilmengen, die in der Verwaltung gespeichert werden
+     * knnen.
      */
-    private final HashMap potentielleItmMap;
+    private final TeilmengenBasis basis;
 
     /**
      * Zu jeder Nummer einer potentiellen Teilmenge ist diese gespeichert.
-     * Dieses Array wird nicht gendert.
+     * Dieses Array stammt aus <CODE>basis</CODE> und wird nicht gendert.
      */
     private final IndexTeilmenge[] potentielleTeilmengen;
 
     /**
-     * Die in der Verwaltung enthaltenen Teilmengen.
+     * Zu jeder Nummer einer potentiellen Teilmenge die Position in
+     * <CODE>itmIndices</CODE>, ab der ihre Indices stehen. Dieses Array
+     * stammt aus <CODE>basis</CODE> und wird nicht gendert.
+     */
+    private final int[] itmIndexStart;
+
+    /**
+     * Die Indices der potentiellen Teilmengen, nach deren Nummern geordnet
+     * hintereinander. Dieses Array stammt aus <CODE>basis</CODE> und wird
+     * nicht gendert.
+     */
+    private final int[] itmIndices;
+
+    /**
+     * Zu jedem Index die Position in <CODE>enthaltendeItmNummern</CODE>, ab
+     * der die Nummern der potentiellen Teilmengen stehen, die den Index
+     * enthalten. Dieses Array stammt aus <CODE>basis</CODE> und wird nicht
+     * gendert.
+     */
+    private final int[] enthaltendeItmStart;
+
+    /**
+     * Die Nummern der potentiellen Teilmengen, die die einzelnen Indices
+     * enthalten, nach den Indices geordnet hintereinander. Dieses Array
+     * stammt aus <CODE>basis</CODE> und wird nicht gendert.
      */
-    private HashSet enthalteneTeilmengen;
+    private final int[] enthaltendeItmNummern;
+
+    /**
+     * Ein Bitset ber den Nummern der potentiellen Teilmengen, in dem die
+     * Bits der enthaltenen Teilmengen gesetzt sind.
+     */
+    private long[] enthalten;
+
+    /**
+     * Die Anzahl der in der Verwaltung enthaltenen Teilmengen.
+     */
+    private int enthaltenAnz = 0;
 
     /**
      * Zu jeder Nummer einer Teilmenge ist die Anzahl der Indices gespeichert,
@@ -71,11 +117,12 @@ public class FesteTeilmengenVerwaltung
     private int[] anzAlleineUeberdeckt;
 
     /**
-     * Zu jeder Nummer einer Teilmenge ist die Anzahl der Indices gespeichert,
-     * die diese Teilmenge nicht mehr alleine enthlt. Die Werte sind nur in
-     * der Methode <CODE>neuNichtNotwendigeTeilmengen</CODE> gltig.
+     * Zu jeder Nummer einer potentiellen Teilmenge ist die Anzahl ihrer
+     * Indices gespeichert, die in keiner Teilmenge der Verwaltung enthalten
+     * sind. Die Werte werden bei jeder Hinzunahme und Entfernung einer
+     * Teilmenge aktualisiert.
      */
-    private int[] nichtMehrAlleinUeberdeckt;
+    private int[] anzNichtUeberdeckt;
 
     /**
      * Zu jedem zu berdeckenden Index, der nur in einer Teilmenge enthalten
@@ -86,18 +133,22 @@ public class FesteTeilmengenVerwaltung
     private int[] einzelneNotwendigeItm;
 
     /**
-     * Die Nummer der Teilmenge, die der Verwaltung als letzte hinzugefgt
-     * wurde, wenn die Teilmenge noch enthalten ist. Beim Wert -1 ist die
-     * Teilmenge unbekannt oder es ist keine Teilmenge enthalten.
+     * Die Anzahl der Verwaltungen, die die Arrays des vernderlichen
+     * Zustands gemeinsam benutzen. Der Zhler wird von diesen Verwaltungen
+     * ebenfalls gemeinsam benutzt. Bei einem Wert grer Eins sind die
+     * Arrays vor einer nderung zu kopieren.
      */
-    private int zuletztHinzuItmNr = -1;
+    private AtomicInteger zustandNutzerAnz;
 
     /**
-     * Die Nummer der Teilmenge, die der Verwaltung als vorletzte hinzugefgt
-     * wurde, wenn die Teilmenge noch enthalten ist. Beim Wert -1 ist die
-     * Teilmenge unbekannt oder es ist keine Teilmenge enthalten.
+     * Zu jedem Thread ein Array, in dem in der Methode
+     * <CODE>neuNichtNotwendigeTeilmengen</CODE> zu jeder Nummer einer
+     * Teilmenge die Anzahl der Indices gespeichert wird, die diese Teilmenge
+     * nicht mehr alleine enthlt. Da das Array nicht zum Zustand einer
+     * Verwaltung gehrt, knnen mehrere Threads gleichzeitig lesend auf
+     * eine Verwaltung zugreifen.
      */
-    private int vorletztHinzuItmNr = -1;
+    private static final ThreadLocal NICHT_MEHR_ALLEIN_UEBERDECKT = new ThreadLocal();
 
     /**
      * Die Anzahl der notwendigen Teilmengen der Verwaltung, d.h. der
@@ -108,22 +159,47 @@ public class FesteTeilmengenVerwaltung
     /**
      * Erzeugt eine Instanz, deren Werte von der bergebenen Instanz kopiert
      * werden. Bei den enthaltenen Teilmengen handelt es sich aber um die
-     * gleichen Instanzen.
+     * gleichen Instanzen. Die Arrays des Zustands werden erst vor der
+     * nchsten nderung einer der beiden Instanzen kopiert.
      *
      * @param andereItmVerwaltung  Eine Teilmengenverwaltung, deren Werte in
      *                             die neue Instanz kopiert werden.
      */
     public FesteTeilmengenVerwaltung(FesteTeilmengenVerwaltung andereItmVerwaltung) {
 
-        this.potentielleItmMap = andereItmVerwaltung.potentielleItmMap;
+        this.basis = andereItmVerwaltung.basis;
         this.potentielleTeilmengen = andereItmVerwaltung.potentielleTeilmengen;
-        this.enthalteneTeilmengen = new HashSet(andereItmVerwaltung.enthalteneTeilmengen);
-        this.anzAlleineUeberdeckt = (int[]) andereItmVerwaltung.anzAlleineUeberdeckt.clone();
-        this.nichtMehrAlleinUeberdeckt = (int[]) andereItmVerwaltung.nichtMehrAlleinUeberdeckt.clone();
-        this.einzelneNotwendigeItm = (int[]) andereItmVerwaltung.einzelneNotwendigeItm.clone();
-        this.zuletztHinzuItmNr = andereItmVerwaltung.zuletztHinzuItmNr;
-        this.vorletztHinzuItmNr = andereItmVerwaltung.vorletztHinzuItmNr;
+        this.itmIndexStart = andereItmVerwaltung.itmIndexStart;
+        this.itmIndices = andereItmVerwaltung.itmIndices;
+        this.enthaltendeItmStart = andereItmVerwaltung.enthaltendeItmStart;
+        this.enthaltendeItmNummern = andereItmVerwaltung.enthaltendeItmNummern;
+        this.enthalten = andereItmVerwaltung.enthalten;
+        this.enthaltenAnz = andereItmVerwaltung.enthaltenAnz;
+        this.anzAlleineUeberdeckt = andereItmVerwaltung.anzAlleineUeberdeckt;
+        this.anzNichtUeberdeckt = andereItmVerwaltung.anzNichtUeberdeckt;
+        this.einzelneNotwendigeItm = andereItmVerwaltung.einzelneNotwendigeItm;
         this.anzNotwendigeTeilmengen = andereItmVerwaltung.anzNotwendigeTeilmengen;
+
+        this.zustandNutzerAnz = andereItmVerwaltung.zustandNutzerAnz;
+        this.zustandNutzerAnz.incrementAndGet();
+    }
+
+    /**
+     * Erzeugt eine Instanz, deren potentielle Teilmengen die der bergebenen
+     * Basis sind. Die erzeugte Instanz enthlt selbst noch keine Teilmenge.
+     *
+     * @param basis  Die potentiellen Teilmengen der Verwaltung.
+     */
+    public FesteTeilmengenVerwaltung(TeilmengenBasis basis) {
+
+        this.basis = basis;
+        this.potentielleTeilmengen = basis.potentielleTeilmengen();
+        this.itmIndexStart = basis.itmIndexStart();
+        this.itmIndices = basis.itmIndices();
+        this.enthaltendeItmStart = basis.enthaltendeItmStart();
+        this.enthaltendeItmNummern = basis.enthaltendeItmNummern();
+
+        zustandInit();
     }
 
     /**
@@ -142,28 +218,83 @@ public class FesteTeilmengenVerwaltung
      */
     public FesteTeilmengenVerwaltung(TeilmengenVerwaltung basisItmVerwaltung,
                                      int groesseGesamtmenge) {
-        IndexTeilmenge teilmenge;
-        Iterator       itmIter;
-        int            itmNr;
-
-        potentielleItmMap = new HashMap();
-        enthalteneTeilmengen = new HashSet();
-        potentielleTeilmengen = new IndexTeilmenge[basisItmVerwaltung.groesseFamilie()];
-        anzAlleineUeberdeckt = new int[basisItmVerwaltung.groesseFamilie()];
-        nichtMehrAlleinUeberdeckt = new int[basisItmVerwaltung.groesseFamilie()];
-        einzelneNotwendigeItm = new int[groesseGesamtmenge];
-
-        itmIter = basisItmVerwaltung.iterator();
-        itmNr = 0;
-        while (itmIter.hasNext()) {
-            teilmenge = (IndexTeilmenge) itmIter.next();
-            potentielleItmMap.put(teilmenge, new Integer(itmNr));
-            potentielleTeilmengen[itmNr] = teilmenge;
-            itmNr++;
+        this(basisErmitteln(basisItmVerwaltung, groesseGesamtmenge));
+    }
+
+    /**
+     * Liefert die Basis mit den Teilmengen, die aktuell in der bergebenen
+     * Verwaltung enthalten sind. Wenn die bergebene Verwaltung eine feste
+     * Verwaltung ist, die alle ihre potentiellen Teilmengen enthlt, wird
+     * deren Basis geliefert, sonst wird eine neue Basis erzeugt.
+     *
+     * @param basisItmVerwaltung  Die Verwaltung der Teilmengen, die die
+     *                            potentiellen Teilmengen bilden.
+     * @param groesseGesamtmenge  Die Gre der Gesamtmenge, die den
+     *                            Teilmengen zugrunde liegt.
+     *
+     * @return  Die Basis mit den potentiellen Teilmengen.
+     */
+    private static TeilmengenBasis basisErmitteln(TeilmengenVerwaltung basisItmVerwaltung,
+                                                  int groesseGesamtmenge) {
+        FesteTeilmengenVerwaltung festeVerwaltung;
+
+        if (basisItmVerwaltung instanceof FesteTeilmengenVerwaltung) {
+            festeVerwaltung = (FesteTeilmengenVerwaltung) basisItmVerwaltung;
+            if ((festeVerwaltung.enthaltenAnz == festeVerwaltung.basis.teilmengenAnz())
+                    && (festeVerwaltung.basis.groesseGesamtmenge() == groesseGesamtmenge)) {
+                return festeVerwaltung.basis;
+            }
         }
+        return new TeilmengenBasis(basisItmVerwaltung, groesseGesamtmenge);
+    }
+
+    /**
+     * Erzeugt die Arrays des Zustands mit den Werten einer leeren
+     * Verwaltung.
+     */
+    private void zustandInit() {
+        int itmAnz = potentielleTeilmengen.length;
+
+        enthalten = new long[(itmAnz + 63) >> 6];
+        anzAlleineUeberdeckt = new int[itmAnz];
+        anzNichtUeberdeckt = new int[itmAnz];
+        einzelneNotwendigeItm = new int[enthaltendeItmStart.length - 1];
 
         Arrays.fill(anzAlleineUeberdeckt, -1);
         Arrays.fill(einzelneNotwendigeItm, -1);
+        for (int nr = 0; nr < itmAnz; nr++) {
+            anzNichtUeberdeckt[nr] = itmIndexStart[nr + 1] - itmIndexStart[nr];
+        }
+
+        enthaltenAnz = 0;
+        anzNotwendigeTeilmengen = 0;
+        zustandNutzerAnz = new AtomicInteger(1);
+    }
+
+    /**
+     * Kopiert die Arrays des Zustands, wenn sie mit einer anderen Verwaltung
+     * gemeinsam benutzt werden. Die Methode ist vor jeder nderung des
+     * Zustands aufzurufen.
+     */
+    private void zustandUebernehmen() {
+
+        if (zustandNutzerAnz.get() > 1) {
+            enthalten = (long[]) enthalten.clone();
+            anzAlleineUeberdeckt = (int[]) anzAlleineUeberdeckt.clone();
+            anzNichtUeberdeckt = (int[]) anzNichtUeberdeckt.clone();
+            einzelneNotwendigeItm = (int[]) einzelneNotwendigeItm.clone();
+            zustandNutzerAnz.decrementAndGet();
+            zustandNutzerAnz = new AtomicInteger(1);
+        }
+    }
+
+    /**
+     * Liefert die Basis mit den potentiellen Teilmengen dieser Verwaltung.
+     *
+     * @return  Die Basis mit den potentiellen Teilmengen.
+     */
+    public TeilmengenBasis basis() {
+        return basis;
     }
 
     /**
@@ -185,7 +316,15 @@ public class FesteTeilmengenVerwaltung
      * @return  Den hashCode der Instanz.
      */
     public int hashCode() {
-        return enthalteneTeilmengen.hashCode();
+        int hashCode = 0;
+
+        for (int nr = FesteItmIterator.naechsteNummer(enthalten, 0);
+             nr >= 0;
+             nr = FesteItmIterator.naechsteNummer(enthalten, nr + 1)) {
+            hashCode += potentielleTeilmengen[nr].hashCode();
+        }
+
+        return hashCode;
     }
 
     /**
@@ -203,6 +342,7 @@ public class FesteTeilmengenVerwaltung
      */
     public boolean equals(Object anderesObjekt) {
         TeilmengenVerwaltung andereItmVerwaltung;
+        FesteTeilmengenVerwaltung festeVerwaltung;
 
         if (anderesObjekt == this) {
             return true;
@@ -213,7 +353,18 @@ public class FesteTeilmengenVerwaltung
         }
 
         andereItmVerwaltung = (TeilmengenVerwaltung) anderesObjekt;
-        return andereItmVerwaltung.toHashSet().equals(this.enthalteneTeilmengen);
+        if (andereItmVerwaltung.groesseFamilie() != enthaltenAnz) {
+            return false;
+        }
+
+        if (anderesObjekt instanceof FesteTeilmengenVerwaltung) {
+            festeVerwaltung = (FesteTeilmengenVerwaltung) anderesObjekt;
+            if (festeVerwaltung.basis == basis) {
+                return Arrays.equals(festeVerwaltung.enthalten, enthalten);
+            }
+        }
+
+        return andereItmVerwaltung.toHashSet().equals(toHashSet());
     }
 
     /**
@@ -222,12 +373,20 @@ public class FesteTeilmengenVerwaltung
      * entfernt.
      */
     public void clear() {
-        enthalteneTeilmengen.clear();
-        Arrays.fill(anzAlleineUeberdeckt, -1);
-        Arrays.fill(einzelneNotwendigeItm, -1);
-        zuletztHinzuItmNr = -1;
-        vorletztHinzuItmNr = -1;
-        anzNotwendigeTeilmengen = 0;
+
+        if (zustandNutzerAnz.get() > 1) {
+            zustandNutzerAnz.decrementAndGet();
+            zustandInit();
+        } else {
+            Arrays.fill(enthalten, 0L);
+            Arrays.fill(anzAlleineUeberdeckt, -1);
+            Arrays.fill(einzelneNotwendigeItm, -1);
+            for (int nr = 0; nr < potentielleTeilmengen.length; nr++) {
+                anzNichtUeberdeckt[nr] = itmIndexStart[nr + 1] - itmIndexStart[nr];
+            }
+            enthaltenAnz = 0;
+            anzNotwendigeTeilmengen = 0;
+        }
     }
 
     /**
@@ -241,14 +400,7 @@ public class FesteTeilmengenVerwaltung
      *          nicht um eine potentielle Teilmenge handelt.
      */
     private int teilmengenNr(IndexTeilmenge teilmenge) {
-        Integer nummer;
-
-        nummer = (Integer) potentielleItmMap.get(teilmenge);
-        if (nummer == null) {
-            return -1;
-        } else {
-            return ((Integer) nummer).intValue();
-        }
+        return basis.teilmengenNr(teilmenge);
     }
 
     /**
@@ -300,6 +452,7 @@ public class FesteTeilmengenVerwaltung
     public void teilmengeHinzufuegen(IndexTeilmenge teilmenge,
                                      int[] indexUeberdeckAnz) {
         int itmNr = teilmengenNr(teilmenge);
+        int index;
 
         // Wenn es sich um keine potentielle Teilmenge handelt eine Exception
         // werfen.
@@ -311,16 +464,25 @@ public class FesteTeilmengenVerwaltung
         // sofort beenden.
         if (anzAlleineUeberdeckt[itmNr] != -1) return;
 
-        enthalteneTeilmengen.add(teilmenge);
+        zustandUebernehmen();
+
+        enthalten[itmNr >> 6] |= (1L << itmNr);
+        enthaltenAnz++;
         anzAlleineUeberdeckt[itmNr] = 0;
 
-        for (int index = teilmenge.kleinsterEnthaltenerIndex();
-             index >= 0;
-             index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+        for (int indexPos = itmIndexStart[itmNr];
+             indexPos < itmIndexStart[itmNr + 1];
+             indexPos++) {
+            index = itmIndices[indexPos];
 
             if (indexUeberdeckAnz[index] == 0) {
                 einzelneNotwendigeItm[index] = itmNr;
                 anzAlleineUeberdeckt[itmNr]++;
+                for (int pos = enthaltendeItmStart[index];
+                     pos < enthaltendeItmStart[index + 1];
+                     pos++) {
+                    anzNichtUeberdeckt[enthaltendeItmNummern[pos]]--;
+                }
             } else if (indexUeberdeckAnz[index] == 1) {
                 anzAlleineUeberdeckt[einzelneNotwendigeItm[index]]--;
                 if (anzAlleineUeberdeckt[einzelneNotwendigeItm[index]] == 0) {
@@ -332,9 +494,6 @@ public class FesteTeilmengenVerwaltung
         if (anzAlleineUeberdeckt[itmNr] > 0) {
             anzNotwendigeTeilmengen++;
         }
-
-        vorletztHinzuItmNr = zuletztHinzuItmNr;
-        zuletztHinzuItmNr = itmNr;
     }
 
     /**
@@ -347,23 +506,16 @@ public class FesteTeilmengenVerwaltung
      * @return  Die Nummer einer Teilmenge, die den bergebenen Index enthlt.
      */
     private int enthaltendeTeilmenge(int index) {
-
-        if (enthaelt(zuletztHinzuItmNr)
-                && potentielleTeilmengen[zuletztHinzuItmNr].indexIstEnthalten(index)) {
-            return zuletztHinzuItmNr;
-        }
-        if (enthaelt(vorletztHinzuItmNr)
-                && potentielleTeilmengen[vorletztHinzuItmNr].indexIstEnthalten(index)) {
-            return vorletztHinzuItmNr;
-        }
-
-        for (int nr = 0; nr < anzAlleineUeberdeckt.length; nr++) {
-            if (anzAlleineUeberdeckt[nr] != -1) {
-                // Die Teilmenge mit der Nummer nr ist in der Verwaltung
+        int itmNr;
+
+        for (int pos = enthaltendeItmStart[index];
+             pos < enthaltendeItmStart[index + 1];
+             pos++) {
+            itmNr = enthaltendeItmNummern[pos];
+            if (anzAlleineUeberdeckt[itmNr] != -1) {
+                // Die Teilmenge mit der Nummer itmNr ist in der Verwaltung
                 // enthalten.
-                if (potentielleTeilmengen[nr].indexIstEnthalten(index)) {
-                    return nr;
-                }
+                return itmNr;
             }
         }
         return -1;
@@ -382,20 +534,25 @@ public class FesteTeilmengenVerwaltung
                                    int[] indexUeberdeckAnz) {
         int itmNr             = teilmengenNr(teilmenge);
         int enthaltendeItmNr;
+        int index;
 
         // Wenn es sich um keine potentielle Teilmenge handelt und diese
         // nicht in der Verwaltung enthalten ist, Methode sofort beenden.
         if ((itmNr == -1) || (anzAlleineUeberdeckt[itmNr] == -1)) return;
 
-        enthalteneTeilmengen.remove(teilmenge);
+        zustandUebernehmen();
+
+        enthalten[itmNr >> 6] &= ~(1L << itmNr);
+        enthaltenAnz--;
         if (anzAlleineUeberdeckt[itmNr] > 0) {
             anzNotwendigeTeilmengen--;
         }
         anzAlleineUeberdeckt[itmNr] = -1;
 
-        for (int index = teilmenge.kleinsterEnthaltenerIndex();
-             index >= 0;
-             index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+        for (int indexPos = itmIndexStart[itmNr];
+             indexPos < itmIndexStart[itmNr + 1];
+             indexPos++) {
+            index = itmIndices[indexPos];
 
             if (indexUeberdeckAnz[index] == 2) {
                 enthaltendeItmNr = enthaltendeTeilmenge(index);
@@ -406,15 +563,13 @@ public class FesteTeilmengenVerwaltung
                 }
             } else if (indexUeberdeckAnz[index] == 1) {
                 einzelneNotwendigeItm[index] = -1;
+                for (int pos = enthaltendeItmStart[index];
+                     pos < enthaltendeItmStart[index + 1];
+                     pos++) {
+                    anzNichtUeberdeckt[enthaltendeItmNummern[pos]]++;
+                }
             }
         }
-
-        if (itmNr == zuletztHinzuItmNr) {
-            zuletztHinzuItmNr = -1;
-        }
-        if (itmNr == vorletztHinzuItmNr) {
-            vorletztHinzuItmNr = -1;
-        }
     }
 
     /**
@@ -429,7 +584,9 @@ public class FesteTeilmengenVerwaltung
         HashSet notwendigeTeilmengen = new HashSet(anzNotwendigeTeilmengen);
 
         if (anzNotwendigeTeilmengen > 0) {
-            for (int itmNr = 0; itmNr < anzAlleineUeberdeckt.length; itmNr++) {
+            for (int itmNr = FesteItmIterator.naechsteNummer(enthalten, 0);
+                 itmNr >= 0;
+                 itmNr = FesteItmIterator.naechsteNummer(enthalten, itmNr + 1)) {
                 if (anzAlleineUeberdeckt[itmNr] > 0) {
                     // Die Teilmenge mit der Nummer itmNr ist notwendig.
                     notwendigeTeilmengen.add(potentielleTeilmengen[itmNr]);
@@ -456,7 +613,9 @@ public class FesteTeilmengenVerwaltung
         nichtNotwendigeTeilmengen = new HashSet(anzNichtNotwendigeTeilmengen);
 
         if (anzNichtNotwendigeTeilmengen > 0) {
-            for (int itmNr = 0; itmNr < anzAlleineUeberdeckt.length; itmNr++) {
+            for (int itmNr = FesteItmIterator.naechsteNummer(enthalten, 0);
+                 itmNr >= 0;
+                 itmNr = FesteItmIterator.naechsteNummer(enthalten, itmNr + 1)) {
                 if (anzAlleineUeberdeckt[itmNr] == 0) {
                     // Die Teilmenge mit der Nummer itmNr ist enthalten aber
                     // nicht notwendig.
@@ -483,11 +642,19 @@ public class FesteTeilmengenVerwaltung
      */
     public Set neuNichtNotwendigeTeilmengen(IndexTeilmenge teilmenge) {
         HashSet neuNichtNotwendigeTeilmengen = new HashSet();
+        int[]   nichtMehrAlleinUeberdeckt;
         int     itmNr;
 
         if (enthaelt(teilmenge)) {
             return neuNichtNotwendigeTeilmengen;
         } else {
+            nichtMehrAlleinUeberdeckt = (int[]) NICHT_MEHR_ALLEIN_UEBERDECKT.get();
+            if ((nichtMehrAlleinUeberdeckt == null)
+                    || (nichtMehrAlleinUeberdeckt.length < potentielleTeilmengen.length)) {
+                nichtMehrAlleinUeberdeckt = new int[potentielleTeilmengen.length];
+                NICHT_MEHR_ALLEIN_UEBERDECKT.set(nichtMehrAlleinUeberdeckt);
+            }
+
             // Werte in nichtMehrAlleinUeberdeckt zu den notwendigen
             // Teilmengen auf Null setzen.
             for (int index = teilmenge.kleinsterEnthaltenerIndex();
@@ -530,6 +697,26 @@ public class FesteTeilmengenVerwaltung
         }
     }
 
+    /**
+     * Liefert die Teilmenge der Verwaltung, die als einzige den bergebenen
+     * Index enthlt.
+     *
+     * @param index  Der Index, zu dem die ihn alleine enthaltende Teilmenge
+     *               geliefert werden soll.
+     *
+     * @return  Die Teilmenge, die als einzige den bergebenen Index enthlt,
+     *          oder <CODE>null</CODE>, wenn der Index in keiner oder in
+     *          mehreren Teilmengen enthalten ist.
+     */
+    public IndexTeilmenge alleinEnthaltendeTeilmenge(int index) {
+
+        if (einzelneNotwendigeItm[index] == -1) {
+            return null;
+        } else {
+            return potentielleTeilmengen[einzelneNotwendigeItm[index]];
+        }
+    }
+
     /**
      * Ermittelt, ob die bergebenen Teilmenge mindestens die bergebene
      * Anzahl von Indices enthlt, die in keiner bzw. keiner anderen Teilmenge
@@ -568,15 +755,7 @@ public class FesteTeilmengenVerwaltung
             return (anzAlleineUeberdeckt[itmNr] >= alleinAnz);
         } else {
             // Die Teilmenge ist nicht in der Verwaltung enthalten.
-            if (nichtUeberdeckt.groesseTeilmenge() == 0) {
-                // Es gibt keinen Index, der in keiner Teilmenge der Familie
-                // enthalten ist.
-                return false;
-            } else if (alleinAnz == 1) {
-                return (!teilmenge.istDisjunkt(nichtUeberdeckt));
-            } else {
-                return (teilmenge.anzNurSelbstEnthalten(ueberdeckt) >= alleinAnz);
-            }
+            return (anzNichtUeberdeckt[itmNr] >= alleinAnz);
         }
     }
 
@@ -616,14 +795,39 @@ public class FesteTeilmengenVerwaltung
             return anzAlleineUeberdeckt[itmNr];
         } else {
             // Die Teilmenge ist nicht in der Verwaltung enthalten.
-            if (nichtUeberdeckt.groesseTeilmenge() == 0) {
-                // Es gibt keinen Index, der in keiner Teilmenge der Familie
-                // enthalten ist.
-                return 0;
-            } else {
-                return teilmenge.anzNurSelbstEnthalten(ueberdeckt);
+            return anzNichtUeberdeckt[itmNr];
+        }
+    }
+
+    /**
+     * Liefert die potentiellen Teilmengen, die mindestens einen Index mit der
+     * bergebenen Teilmenge gemeinsam haben. Dazu gehren auch die
+     * Teilmengen, die nicht in der Verwaltung enthalten sind. Wenn die
+     * bergebene Teilmenge eine potentielle Teilmenge und nicht leer ist,
+     * ist sie selbst im gelieferten <CODE>Set</CODE> enthalten.
+     *
+     * @param teilmenge  Die Teilmenge, zu der die Teilmengen mit einem
+     *                   gemeinsamen Index geliefert werden sollen.
+     *
+     * @return  Ein <CODE>Set</CODE> mit den potentiellen Teilmengen, die
+     *          mindestens einen Index mit der bergebenen Teilmenge gemeinsam
+     *          haben.
+     */
+    public Set betroffeneTeilmengen(IndexTeilmenge teilmenge) {
+        HashSet betroffeneTeilmengen = new HashSet();
+
+        for (int index = teilmenge.kleinsterEnthaltenerIndex();
+             index >= 0;
+             index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+
+            for (int pos = enthaltendeItmStart[index];
+                 pos < enthaltendeItmStart[index + 1];
+                 pos++) {
+                betroffeneTeilmengen.add(potentielleTeilmengen[enthaltendeItmNummern[pos]]);
             }
         }
+
+        return betroffeneTeilmengen;
     }
 
     /**
@@ -650,7 +854,7 @@ public class FesteTeilmengenVerwaltung
      *          <CODE>this</CODE>.
      */
     public int anzNichtNotwendigeTeilmengen() {
-        return (enthalteneTeilmengen.size() - anzNotwendigeTeilmengen);
+        return (enthaltenAnz - anzNotwendigeTeilmengen);
     }
 
     /**
@@ -662,18 +866,18 @@ public class FesteTeilmengenVerwaltung
      * @return  Die Anzahl Teilmengen von <CODE>this</CODE>.
      */
     public int groesseFamilie() {
-        return enthalteneTeilmengen.size();
+        return enthaltenAnz;
     }
 
     /**
      * Liefert einen Iterator ber die Teilmengen der Verwaltung. Die
-     * Teilmengen werden von diesem in keiner bestimmten Reihenfolge
+     * Teilmengen werden von diesem in der Reihenfolge ihrer Nummern
      * geliefert.
      *
      * @return  Einen Iterator ber die Teilmengen der Verwaltung.
      */
     public Iterator iterator() {
-        return enthalteneTeilmengen.iterator();
+        return new FesteItmIterator(basis, enthalten);
     }
 
     /**
@@ -683,7 +887,15 @@ public class FesteTeilmengenVerwaltung
      *          <CODE>this</CODE>.
      */
     public HashSet toHashSet() {
-        return (HashSet) enthalteneTeilmengen.clone();
+        HashSet teilmengen = new HashSet(2 * enthaltenAnz);
+
+        for (int itmNr = FesteItmIterator.naechsteNummer(enthalten, 0);
+             itmNr >= 0;
+             itmNr = FesteItmIterator.naechsteNummer(enthalten, itmNr + 1)) {
+            teilmengen.add(potentielleTeilmengen[itmNr]);
+        }
+
+        return teilmengen;
     }
 
     /**
@@ -693,7 +905,17 @@ public class FesteTeilmengenVerwaltung
      * @return  Ein Array der Teilmengen von <CODE>this</CODE>.
      */
     public IndexTeilmenge[] toArray() {
-        return (IndexTeilmenge[]) enthalteneTeilmengen.toArray(new IndexTeilmenge[0]);
+        IndexTeilmenge[] teilmengen = new IndexTeilmenge[enthaltenAnz];
+        int              pos = 0;
+
+        for (int itmNr = FesteItmIterator.naechsteNummer(enthalten, 0);
+             itmNr >= 0;
+             itmNr = FesteItmIterator.naechsteNummer(enthalten, itmNr + 1)) {
+            teilmengen[pos] = potentielleTeilmengen[itmNr];
+            pos++;
+        }
+
+        return teilmengen;
     }
 }
 
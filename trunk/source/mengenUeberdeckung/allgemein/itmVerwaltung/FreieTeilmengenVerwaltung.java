@@ -1,6 +1,6 @@
 /*
  * Dateiname      : FreieTeilmengenVerwaltung.java
- * Letzte nderung: 12. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -420,6 +420,21 @@ public class FreieTeilmengenVerwaltung
         }
     }
 
+    /**
+     * Liefert die Teilmenge der Verwaltung, die als einzige den bergebenen
+     * Index enthlt.
+     *
+     * @param index  Der Index, zu dem die ihn alleine enthaltende Teilmenge
+     *               geliefert werden soll.
+     *
+     * @return  Die Teilmenge, die als einzige den bergebenen Index enthlt,
+     *          oder <CODE>null</CODE>, wenn der Index in keiner oder in
+     *          mehreren Teilmengen enthalten ist.
+     */
+    public IndexTeilmenge alleinEnthaltendeTeilmenge(int index) {
+        return einzelneNotwendigeItm[index];
+    }
+
     /**
      * Ermittelt, ob die bergebenen Teilmenge mindestens die bergebene
      * Anzahl von Indices enthlt, die in keiner bzw. keiner anderen Teilmenge
@@ -537,6 +552,35 @@ public class FreieTeilmengenVerwaltung
         }
     }
 
+    /**
+     * Liefert die in der Verwaltung enthaltenen Teilmengen, die mindestens
+     * einen Index mit der bergebenen Teilmenge gemeinsam haben. Wenn die
+     * bergebene Teilmenge in der Verwaltung enthalten und nicht leer ist,
+     * ist sie selbst im gelieferten <CODE>Set</CODE> enthalten.
+     *
+     * @param teilmenge  Die Teilmenge, zu der die Teilmengen mit einem
+     *                   gemeinsamen Index geliefert werden sollen.
+     *
+     * @return  Ein <CODE>Set</CODE> mit den enthaltenen Teilmengen, die
+     *          mindestens einen Index mit der bergebenen Teilmenge gemeinsam
+     *          haben.
+     */
+    public Set betroffeneTeilmengen(IndexTeilmenge teilmenge) {
+        HashSet        betroffeneTeilmengen = new HashSet();
+        IndexTeilmenge andereTeilmenge;
+        Iterator       itmIter;
+
+        itmIter = teilmengen.iterator();
+        while (itmIter.hasNext()) {
+            andereTeilmenge = (IndexTeilmenge) itmIter.next();
+            if (!andereTeilmenge.istDisjunkt(teilmenge)) {
+                betroffeneTeilmengen.add(andereTeilmenge);
+            }
+        }
+
+        return betroffeneTeilmengen;
+    }
+
     /**
      * Liefert die Anzahl der notwendigen Teilmengen der Verwaltung, d.h. die
      * Anzahl der Teilmengen, die mindestens ein Element enthalten, das in
@@ -0,0 +1,247 @@
+/*
+ * Dateiname      : TeilmengenBasis.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.allgemein.itmVerwaltung;
+
+import java.util.HashMap;
+import java.util.Iterator;
+
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+
+/**
+ * Speichert die potentiellen Teilmengen einer festen Teilmengenverwaltung in
+ * kompakter Form. Die Teilmengen werden fortlaufend numeriert und zu jeder
+ * Nummer sind die Indices der Teilmenge und zu jedem Index die Nummern der
+ * ihn enthaltenden Teilmengen jeweils hintereinander in einem Array
+ * gespeichert. Eine Instanz wird nach ihrer Erzeugung nicht mehr gendert
+ * und kann daher von beliebig vielen Verwaltungen, auch in verschiedenen
+ * Threads, gemeinsam benutzt werden.
+ *
+ * @author  Dietmar Lippold
+ */
+public class TeilmengenBasis {
+
+    /**
+     * Die potentiellen Teilmengen. Zu jeder Teilmenge ist ihre Nummer
+     * angegeben.
+     */
+    private final HashMap potentielleItmMap;
+
+    /**
+     * Zu jeder Nummer die potentielle Teilmenge.
+     */
+    private final IndexTeilmenge[] potentielleTeilmengen;
+
+    /**
+     * Zu jeder Nummer einer potentiellen Teilmenge die Position in
+     * <CODE>itmIndices</CODE>, ab der ihre Indices stehen. Der letzte Wert
+     * gibt die Lnge von <CODE>itmIndices</CODE> an.
+     */
+    private final int[] itmIndexStart;
+
+    /**
+     * Die Indices der potentiellen Teilmengen, nach deren Nummern geordnet
+     * hintereinander.
+     */
+    private final int[] itmIndices;
+
+    /**
+     * Zu jedem Index die Position in <CODE>enthaltendeItmNummern</CODE>, ab
+     * der die Nummern der potentiellen Teilmengen stehen, die den Index
+     * enthalten. Der letzte Wert gibt die Lnge von
+     * <CODE>enthaltendeItmNummern</CODE> an.
+     */
+    private final int[] enthaltendeItmStart;
+
+    /**
+     * Die Nummern der potentiellen Teilmengen, die die einzelnen Indices
+     * enthalten, nach den Indices geordnet hintereinander.
+     */
+    private final int[] enthaltendeItmNummern;
+
+    /**
+     * Erzeugt eine Instanz aus den Teilmengen, die aktuell in der
+     * bergebenen Verwaltung enthalten sind.
+     *
+     * @param basisItmVerwaltung  Die Verwaltung, deren Teilmengen die
+     *                            potentiellen Teilmengen bilden.
+     * @param groesseGesamtmenge  Die Gre der Gesamtmenge, die den
+     *                            Teilmengen zugrunde liegt.
+     */
+    public TeilmengenBasis(TeilmengenVerwaltung basisItmVerwaltung,
+                           int groesseGesamtmenge) {
+        IndexTeilmenge teilmenge;
+        Iterator       itmIter;
+        int[]          naechstePosition;
+        int            itmAnz;
+        int            itmNr;
+        int            pos;
+
+        itmAnz = basisItmVerwaltung.groesseFamilie();
+        potentielleItmMap = new HashMap(2 * itmAnz);
+        potentielleTeilmengen = new IndexTeilmenge[itmAnz];
+        itmIndexStart = new int[itmAnz + 1];
+        enthaltendeItmStart = new int[groesseGesamtmenge + 1];
+
+        itmIter = basisItmVerwaltung.iterator();
+        itmNr = 0;
+        while (itmIter.hasNext()) {
+            teilmenge = (IndexTeilmenge) itmIter.next();
+            potentielleItmMap.put(teilmenge, new Integer(itmNr));
+            potentielleTeilmengen[itmNr] = teilmenge;
+            itmIndexStart[itmNr + 1] = itmIndexStart[itmNr]
+                                       + teilmenge.groesseTeilmenge();
+            itmNr++;
+
+            // Die Anzahl der enthaltenden Teilmengen jedes Index zhlen.
+            for (int index = teilmenge.kleinsterEnthaltenerIndex();
+                 index >= 0;
+                 index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+                enthaltendeItmStart[index + 1]++;
+            }
+        }
+
+        // Die Anfangspositionen der Indices aus den Anzahlen bestimmen.
+        for (int index = 0; index < groesseGesamtmenge; index++) {
+            enthaltendeItmStart[index + 1] += enthaltendeItmStart[index];
+        }
+
+        itmIndices = new int[itmIndexStart[itmAnz]];
+        enthaltendeItmNummern = new int[enthaltendeItmStart[groesseGesamtmenge]];
+        naechstePosition = (int[]) enthaltendeItmStart.clone();
+        for (int nr = 0; nr < itmAnz; nr++) {
+            teilmenge = potentielleTeilmengen[nr];
+            pos = itmIndexStart[nr];
+            for (int index = teilmenge.kleinsterEnthaltenerIndex();
+                 index >= 0;
+                 index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+                itmIndices[pos] = index;
+                pos++;
+                enthaltendeItmNummern[naechstePosition[index]] = nr;
+                naechstePosition[index]++;
+            }
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der potentiellen Teilmengen.
+     *
+     * @return  Die Anzahl der potentiellen Teilmengen.
+     */
+    public int teilmengenAnz() {
+        return potentielleTeilmengen.length;
+    }
+
+    /**
+     * Liefert die Gre der Gesamtmenge, die den Teilmengen zugrunde liegt.
+     *
+     * @return  Die Gre der Gesamtmenge.
+     */
+    public int groesseGesamtmenge() {
+        return (enthaltendeItmStart.length - 1);
+    }
+
+    /**
+     * Liefert die Nummer der potentiellen Teilmenge. Wenn die Teilmenge keine
+     * potentielle Teilmenge ist, wird der Wert -1 geliefert.
+     *
+     * @param teilmenge  Eine Teilmenge, deren Nummer geliefert werden soll.
+     *
+     * @return  Die Nummer der potentiellen Teilmenge oder -1, wenn es sich
+     *          nicht um eine potentielle Teilmenge handelt.
+     */
+    public int teilmengenNr(IndexTeilmenge teilmenge) {
+        Integer nummer;
+
+        nummer = (Integer) potentielleItmMap.get(teilmenge);
+        if (nummer == null) {
+            return -1;
+        } else {
+            return nummer.intValue();
+        }
+    }
+
+    /**
+     * Liefert die potentielle Teilmenge mit der bergebenen Nummer.
+     *
+     * @param itmNr  Die Nummer der Teilmenge.
+     *
+     * @return  Die potentielle Teilmenge mit der bergebenen Nummer.
+     */
+    public IndexTeilmenge teilmenge(int itmNr) {
+        return potentielleTeilmengen[itmNr];
+    }
+
+    /**
+     * Liefert zu jeder Nummer die potentielle Teilmenge. Das gelieferte
+     * Array darf nicht verndert werden.
+     *
+     * @return  Das Array der potentiellen Teilmengen.
+     */
+    IndexTeilmenge[] potentielleTeilmengen() {
+        return potentielleTeilmengen;
+    }
+
+    /**
+     * Liefert zu jeder Nummer einer Teilmenge die Anfangsposition ihrer
+     * Indices in <CODE>itmIndices()</CODE>. Das gelieferte Array darf nicht
+     * verndert werden.
+     *
+     * @return  Das Array der Anfangspositionen.
+     */
+    int[] itmIndexStart() {
+        return itmIndexStart;
+    }
+
+    /**
+     * Liefert die Indices der Teilmengen, nach deren Nummern geordnet
+     * hintereinander. Das gelieferte Array darf nicht verndert werden.
+     *
+     * @return  Das Array der Indices.
+     */
+    int[] itmIndices() {
+        return itmIndices;
+    }
+
+    /**
+     * Liefert zu jedem Index die Anfangsposition der Nummern der ihn
+     * enthaltenden Teilmengen in <CODE>enthaltendeItmNummern()</CODE>. Das
+     * gelieferte Array darf nicht verndert werden.
+     *
+     * @return  Das Array der Anfangspositionen.
+     */
+    int[] enthaltendeItmStart() {
+        return enthaltendeItmStart;
+    }
+
+    /**
+     * Liefert die Nummern der Teilmengen, die die einzelnen Indices
+     * enthalten, nach den Indices geordnet hintereinander. Das gelieferte
+     * Array darf nicht verndert werden.
+     *
+     * @return  Das Array der Nummern.
+     */
+    int[] enthaltendeItmNummern() {
+        return enthaltendeItmNummern;
+    }
+}
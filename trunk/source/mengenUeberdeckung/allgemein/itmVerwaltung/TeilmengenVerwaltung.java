@@ -1,6 +1,6 @@
 /*
  * Dateiname      : TeilmengenVerwaltung.java
- * Letzte nderung: 12. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -151,6 +151,19 @@ public interface TeilmengenVerwaltung {
      */
     public Set neuNichtNotwendigeTeilmengen(IndexTeilmenge teilmenge);
 
+    /**
+     * Liefert die Teilmenge der Verwaltung, die als einzige den bergebenen
+     * Index enthlt.
+     *
+     * @param index  Der Index, zu dem die ihn alleine enthaltende Teilmenge
+     *               geliefert werden soll.
+     *
+     * @return  Die Teilmenge, die als einzige den bergebenen Index enthlt,
+     *          oder <CODE>null</CODE>, wenn der Index in keiner oder in
+     *          mehreren Teilmengen enthalten ist.
+     */
+    public IndexTeilmenge alleinEnthaltendeTeilmenge(int index);
+
     /**
      * Ermittelt, ob die bergebenen Teilmenge mindestens die bergebene
      * Anzahl von Indices enthlt, die in keiner bzw. keiner anderen Teilmenge
@@ -199,6 +212,23 @@ public interface TeilmengenVerwaltung {
                                     IndexTeilmenge ueberdeckt,
                                     IndexTeilmenge nichtUeberdeckt);
 
+    /**
+     * Liefert die Teilmengen, die mindestens einen Index mit der bergebenen
+     * Teilmenge gemeinsam haben. Das sind die Teilmengen, deren Werte von
+     * der Hinzunahme oder Entfernung der bergebenen Teilmenge betroffen
+     * sein knnen. Abhngig von der Implementierung werden nur die in der
+     * Verwaltung enthaltenen oder auch die potentiellen Teilmengen geliefert.
+     * Wenn die bergebene Teilmenge nicht leer ist und zu den gelieferten
+     * Teilmengen gehren kann, ist sie selbst darin enthalten.
+     *
+     * @param teilmenge  Die Teilmenge, zu der die Teilmengen mit einem
+     *                   gemeinsamen Index geliefert werden sollen.
+     *
+     * @return  Ein <CODE>Set</CODE> mit den Teilmengen, die mindestens einen
+     *          Index mit der bergebenen Teilmenge gemeinsam haben.
+     */
+    public Set betroffeneTeilmengen(IndexTeilmenge teilmenge);
+
     /**
      * Liefert die Anzahl der notwendigen Teilmengen der Verwaltung, d.h. die
      * Anzahl der Teilmengen, die mindestens ein Element enthalten, das in
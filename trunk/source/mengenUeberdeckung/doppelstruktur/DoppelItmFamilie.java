@@ -1,6 +1,6 @@
 /*
  * Dateiname      : DoppelItmFamilie.java
- * Letzte nderung: 25. Juli 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -29,6 +29,7 @@ import java.text.DecimalFormat;
 
 import mengenUeberdeckung.allgemein.IndexTeilmenge;
 import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.ItmAenderung;
 import mengenUeberdeckung.allgemein.SizeMismatchException;
 import mengenUeberdeckung.heuristiken.costs.DoubleIndicesCosts;
 
@@ -374,6 +375,17 @@ public abstract class DoppelItmFamilie extends ItmFamilie implements Cloneable {
         return super.kostenEntfernen(teilmenge);
     }
 
+    /**
+     * Liefert immer den Wert <CODE>false</CODE>, da die Kosten einer
+     * Teilmenge auch von den berdeckungen der Kosten-Indices durch die
+     * anderen Teilmengen der Familie abhngen.
+     *
+     * @return  Den Wert <CODE>false</CODE>.
+     */
+    public boolean kostenUnabhaengig() {
+        return false;
+    }
+
     /**
      * Liefert die Kosten der enthaltenen Teilmengen.
      *
@@ -381,6 +393,18 @@ public abstract class DoppelItmFamilie extends ItmFamilie implements Cloneable {
      */
     public abstract float kostenFamilie();
 
+    /**
+     * Liefert die Kosten einer Familie mit den bergebenen allgemeinen Kosten
+     * der Teilmengen und den bergebenen Kosten der Kosten-Indices.
+     *
+     * @param kostenEinfach      Die allgemeinen Kosten der Teilmengen.
+     * @param indexKostenGesamt  Die Kosten der Kosten-Indices.
+     *
+     * @return  Die Kosten der Familie.
+     */
+    protected abstract float kostenBerechnen(float kostenEinfach,
+                                             float indexKostenGesamt);
+
     /**
      * Liefert den Wert, um den sich die Kosten der Familie durch Hinzufgen
      * der bergebenen Teilmenge erhhen.
@@ -415,6 +439,66 @@ public abstract class DoppelItmFamilie extends ItmFamilie implements Cloneable {
      */
     public abstract float kostenEntfernen(IndexTeilmenge teilmenge);
 
+    /**
+     * Liefert den Wert, um den sich die Kosten der Familie durch die
+     * bergebene nderung erhhen wrden. Dazu werden die berdeckungen der
+     * Kosten-Indices in einer Kopie des Arrays gendert. Die Familie selbst
+     * wird nicht verndert.
+     *
+     * @param aenderung  Die nderung der Familie.
+     *
+     * @return  Den Wert, um den sich die Kosten der Familie durch die
+     *          nderung erhhen wrden. Bei einer Verringerung ist der Wert
+     *          negativ.
+     *
+     * @throws SizeMismatchException     Die Gesamtmenge einer der
+     *                                   hinzuzufgenden Teilmengen hat eine
+     *                                   andere Gre als die Gesamtmenge
+     *                                   dieser Familie oder einer ihrer
+     *                                   Kosten-Indices ist grer als
+     *                                   zulssig.
+     * @throws IllegalArgumentException  Eine der Teilmengen ist nicht vom Typ
+     *                                   <CODE>DoppelIndexTeilmenge</CODE>.
+     */
+    public float kostenAenderung(ItmAenderung aenderung) {
+        IndexTeilmenge[][]   wirksameItms;
+        DoppelIndexTeilmenge doppelTeilmenge;
+        int[]                neueUeberdeckAnz;
+        int                  aenderungsWert;
+
+        wirksameItms = wirksameTeilmengen(aenderung);
+        neueUeberdeckAnz = (int[]) kostenIndexUeberdeckAnz.clone();
+        for (int art = 0; art < 2; art++) {
+            if (art == 0) {
+                aenderungsWert = 1;
+            } else {
+                aenderungsWert = -1;
+            }
+
+            for (int i = 0; i < wirksameItms[art].length; i++) {
+                if (!(wirksameItms[art][i] instanceof DoppelIndexTeilmenge)) {
+                    throw new IllegalArgumentException();
+                }
+                doppelTeilmenge = (DoppelIndexTeilmenge) wirksameItms[art][i];
+
+                if (doppelTeilmenge.groessterEnthaltKostenIndex() > neueUeberdeckAnz.length - 1) {
+                    throw new SizeMismatchException("Kosten-Indices sind grer"
+                                                    + " als zulssig");
+                }
+
+                for (int index = doppelTeilmenge.kleinsterEnthaltKostenIndex();
+                     index >= 0;
+                     index = doppelTeilmenge.naechsterEnthaltKostenIndex(index + 1)) {
+                    neueUeberdeckAnz[index] += aenderungsWert;
+                }
+            }
+        }
+
+        return (kostenBerechnen(kostenFamilieNach(wirksameItms),
+                                indicesCosts.familyCosts(neueUeberdeckAnz))
+                - kostenFamilie());
+    }
+
     /**
      * Liefert eine Darstellung der Famile in einem Library-Format. Dies ist
      * so aufgebaut, da in der ersten Zeile die Anzahl der Elemente der
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : QuotDoppelItmFamilie.java
- * Letzte nderung: 25. Juli 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -155,9 +155,25 @@ public class QuotDoppelItmFamilie extends DoppelItmFamilie implements Cloneable
      * @return  Die Kosten der enthaltenen Teilmengen.
      */
     public float kostenFamilie() {
+        return kostenBerechnen(kostenFamilieEinfach(), indexKostenGesamt());
+    }
+
+    /**
+     * Liefert die Kosten einer Familie mit den bergebenen allgemeinen Kosten
+     * der Teilmengen und den bergebenen Kosten der berdeckten
+     * Kosten-Indices. Das ist der Quotient aus den allgemeinen Kosten und
+     * den Kosten der nicht berdeckten Kosten-Indices.
+     *
+     * @param kostenEinfach      Die allgemeinen Kosten der Teilmengen.
+     * @param indexKostenGesamt  Die Kosten der berdeckten Kosten-Indices.
+     *
+     * @return  Die Kosten der Familie.
+     */
+    protected float kostenBerechnen(float kostenEinfach,
+                                    float indexKostenGesamt) {
         float indexKostenDiff;
 
-        indexKostenDiff = indexKostenMaxPlus - indexKostenGesamt();
+        indexKostenDiff = indexKostenMaxPlus - indexKostenGesamt;
         if (indexKostenDiff <= 0) {
             System.err.println("WARNUNG: Rechenungenauigkeit in Methode"
                                + " QuotDoppelItmFamilie.kosten");
@@ -165,7 +181,7 @@ public class QuotDoppelItmFamilie extends DoppelItmFamilie implements Cloneable
             indexKostenDiff = (float) Math.sqrt(Float.MIN_VALUE);
         }
 
-        return (kostenFamilieEinfach() / indexKostenDiff);
+        return (kostenEinfach / indexKostenDiff);
     }
 
     /**
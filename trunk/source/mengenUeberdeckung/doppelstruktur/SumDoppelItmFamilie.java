@@ -1,6 +1,6 @@
 /*
  * Dateiname      : SumDoppelItmFamilie.java
- * Letzte nderung: 25. Juli 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -124,7 +124,22 @@ public class SumDoppelItmFamilie extends DoppelItmFamilie implements Cloneable {
      * @return  Die Kosten der enthaltenen Teilmengen.
      */
     public float kostenFamilie() {
-        return (kostenFamilieEinfach() + indexKostenGesamt());
+        return kostenBerechnen(kostenFamilieEinfach(), indexKostenGesamt());
+    }
+
+    /**
+     * Liefert die Kosten einer Familie mit den bergebenen allgemeinen Kosten
+     * der Teilmengen und den bergebenen Kosten der Kosten-Indices. Das ist
+     * deren Summe.
+     *
+     * @param kostenEinfach      Die allgemeinen Kosten der Teilmengen.
+     * @param indexKostenGesamt  Die Kosten der Kosten-Indices.
+     *
+     * @return  Die Kosten der Familie.
+     */
+    protected float kostenBerechnen(float kostenEinfach,
+                                    float indexKostenGesamt) {
+        return (kostenEinfach + indexKostenGesamt);
     }
 
     /**
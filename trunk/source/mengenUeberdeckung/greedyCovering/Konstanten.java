@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konstanten.java
- * Letzte nderung: 17. Juli 2005
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Rene Berleong
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2005
@@ -42,5 +42,13 @@ public final class Konstanten {
      * Siehe Unterlagen Seite 4, erster Abschnitt, Zeile 3.
      */
     public static final float P_RMV = 0.1f;
+
+    /**
+     * Initialisierungswert fr die Zufallsgeneratoren. Beim Wert 0 wird jedes
+     * Mal ein anderer Initialisierungswert fr den Zufallsgenerator erzeugt.
+     * Zum Test eines Verfahrens kann der Initialisierungswert aber fest
+     * vorgegeben werden.
+     */
+    public static final int SEED = 1;
 }
 
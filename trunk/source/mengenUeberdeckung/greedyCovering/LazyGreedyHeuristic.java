@@ -0,0 +1,368 @@
+/*
+ * Dateiname      : LazyGreedyHeuristic.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.greedyCovering;
+
+import java.util.Random;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.BewertungsHeap;
+
+/**
+ * Berechnet eine Lsung eines "Set Covering Problem" mit dem Greedy-Verfahren
+ * von Chvatal. In jedem Schritt wird die Teilmenge aufgenommen, bei der das
+ * Verhltnis der Anzahl der neu berdeckten Elemente zu ihren Kosten am
+ * grten ist. Bei gleicher Bewertung wird die Teilmenge mit der kleinsten
+ * Nummer genommen, wobei die Nummern vor jeder Berechnung mit Hilfe des
+ * Zufallsgenerators vergeben werden. Nach der Erzeugung der berdeckung
+ * werden nicht notwendige Teilmengen entfernt.<P>
+ *
+ * Die Kandidaten werden in einem <CODE>BewertungsHeap</CODE> verwaltet. Da
+ * die Anzahl der neu berdeckten Elemente einer Teilmenge beim Hinzufgen
+ * anderer Teilmengen nicht zunehmen kann, kann die Bewertung einer Teilmenge
+ * bei linearen Kosten nur abnehmen. Im verzgerten Modus wird daher nur die
+ * Teilmenge an der Spitze des Heaps neu bewertet. Hat sich ihre Bewertung
+ * nicht gendert, ist sie die beste Teilmenge, anderenfalls wird sie mit der
+ * neuen Bewertung wieder eingeordnet. Im sofortigen Modus werden in jedem
+ * Schritt alle Kandidaten neu bewertet. Beide Modi liefern die gleiche
+ * berdeckung.
+ *
+ * @author  Dietmar Lippold
+ */
+public class LazyGreedyHeuristic implements UeberdeckungsOptimierung {
+
+    /**
+     * Zufallsgenerator.
+     */
+    private final Random rand;
+
+    /**
+     * Gibt an, ob die Bewertungen der Kandidaten, sofern mglich, verzgert
+     * aktualisiert werden sollen.
+     */
+    private final boolean verzoegerteBewertung;
+
+    /**
+     * Die Anzahl der bisher verarbeiteten Probleme.
+     */
+    private int verarbeitProblemAnz = 0;
+
+    /**
+     * Die Anzahl der bisher vorgenommenen Bewertungen von Teilmengen.
+     */
+    private long bewertungsAnz = 0;
+
+    /**
+     * Erzeugt eine neue Instanz der Klasse.
+     *
+     * @param random                Ein Zufallsgenerator.
+     * @param verzoegerteBewertung  Gibt an, ob die Bewertungen der Kandidaten
+     *                              bei linearen Kosten verzgert aktualisiert
+     *                              werden sollen.
+     */
+    public LazyGreedyHeuristic(Random random, boolean verzoegerteBewertung) {
+        this.rand = random;
+        this.verzoegerteBewertung = verzoegerteBewertung;
+    }
+
+    /**
+     * Erzeugt eine neue Instanz der Klasse, welche die Bewertungen der
+     * Kandidaten, sofern mglich, verzgert aktualisiert.
+     *
+     * @param random  Ein Zufallsgenerator.
+     */
+    public LazyGreedyHeuristic(Random random) {
+        this(random, true);
+    }
+
+    /**
+     * Erzeugt eine neue Instanz der Klasse, welche die Bewertungen der
+     * Kandidaten, sofern mglich, verzgert aktualisiert. Der Zufallsgenerator
+     * wird mit dem Wert <CODE>Konstanten.SEED</CODE> initialisiert.
+     */
+    public LazyGreedyHeuristic() {
+        this.rand = new Random();
+        if (Konstanten.SEED == 0) {
+            rand.setSeed((new Date()).getTime());
+        } else {
+            rand.setSeed(Konstanten.SEED);
+        }
+        this.verzoegerteBewertung = true;
+    }
+
+    /**
+     * Liefert die Bewertung einer Teilmenge zur Aufnahme in die Teillsung.
+     * Je grer der Wert ist, desto besser ist die Teilmenge. Der Wert Null
+     * bedeutet, da die Teilmenge kein Element neu berdeckt.
+     *
+     * @param teilmenge     Die zu bewertende Teilmenge.
+     * @param partialCover  Die aktuelle Teillsung.
+     *
+     * @return  Die Bewertung der Teilmenge.
+     */
+    private float bewertung(IndexTeilmenge teilmenge, ItmFamilie partialCover) {
+        float kosten;
+        int   nutzen;
+
+        bewertungsAnz++;
+
+        nutzen = partialCover.anzAlleineUeberdeckt(teilmenge);
+        if (nutzen == 0) {
+            return 0;
+        }
+
+        kosten = partialCover.kostenHinzufuegen(teilmenge);
+        if (kosten <= 0) {
+            return ((Float.MAX_VALUE / (teilmenge.groesseGesamtmenge() + 1))
+                    * nutzen);
+        } else {
+            return (nutzen / kosten);
+        }
+    }
+
+    /**
+     * Nimmt so lange Teilmengen in die Teillsung auf, bis sie eine
+     * berdeckung ist.
+     *
+     * @param partialCover  Die zu vervollstndigende Teillsung.
+     * @param kandidaten    Die Kandidaten, deren Index ihre Nummer im Heap
+     *                      ist.
+     * @param verzoegert    Gibt an, ob die Bewertungen verzgert
+     *                      aktualisiert werden sollen.
+     */
+    private void vervollstaendigen(ItmFamilie partialCover,
+                                   IndexTeilmenge[] kandidaten,
+                                   boolean verzoegert) {
+        BewertungsHeap heap;
+        int[]          nummern;
+        float          wert;
+        int            nr;
+
+        heap = new BewertungsHeap(kandidaten.length);
+        for (nr = 0; nr < kandidaten.length; nr++) {
+            if (!partialCover.enthaelt(kandidaten[nr])) {
+                wert = bewertung(kandidaten[nr], partialCover);
+                if (wert > 0) {
+                    heap.einfuegen(nr, wert);
+                }
+            }
+        }
+
+        while ((partialCover.anzNichtUeberdeckt() > 0) && !heap.istLeer()) {
+            if (verzoegert) {
+                // Die Spitze so lange neu bewerten, bis sich ihre Bewertung
+                // nicht mehr ndert.
+                nr = heap.spitzenNummer();
+                wert = bewertung(kandidaten[nr], partialCover);
+                while (wert != heap.wert(nr)) {
+                    if (wert == 0) {
+                        heap.entfernen(nr);
+                    } else {
+                        heap.wertAendern(nr, wert);
+                    }
+                    if (heap.istLeer()) {
+                        return;
+                    }
+                    nr = heap.spitzenNummer();
+                    wert = bewertung(kandidaten[nr], partialCover);
+                }
+            } else {
+                // Alle Kandidaten neu bewerten.
+                nummern = heap.nummern();
+                for (int i = 0; i < nummern.length; i++) {
+                    wert = bewertung(kandidaten[nummern[i]], partialCover);
+                    if (wert == 0) {
+                        heap.entfernen(nummern[i]);
+                    } else {
+                        heap.wertAendern(nummern[i], wert);
+                    }
+                }
+                if (heap.istLeer()) {
+                    return;
+                }
+            }
+
+            partialCover.teilmengeHinzufuegen(kandidaten[heap.spitzeEntfernen()]);
+        }
+    }
+
+    /**
+     * Entfernt so lange nicht notwendige Teilmengen aus der berdeckung, bis
+     * alle Teilmengen notwendig sind. Es wird jeweils die Teilmenge entfernt,
+     * deren Entfernung die Kosten am strksten verringert, und bei gleicher
+     * Verringerung die mit der kleinsten Nummer.
+     *
+     * @param ueberdeckung  Die berdeckung, aus der die Teilmengen entfernt
+     *                      werden sollen.
+     * @param nummern       Eine Abbildung der Teilmengen auf ihre Nummern.
+     */
+    private void redundanteEntfernen(ItmFamilie ueberdeckung,
+                                     HashMap nummern) {
+        IndexTeilmenge teilmenge, besteTeilmenge;
+        Iterator       iter;
+        float          kosten, besteKosten;
+        int            nr, besteNr;
+
+        while (ueberdeckung.anzNichtNotwendigeTeilmengen() > 0) {
+            besteTeilmenge = null;
+            besteKosten = 0;
+            besteNr = Integer.MAX_VALUE;
+            iter = ueberdeckung.nichtNotwendigeTeilmengen().iterator();
+            while (iter.hasNext()) {
+                teilmenge = (IndexTeilmenge) iter.next();
+                kosten = ueberdeckung.kostenEntfernen(teilmenge);
+                nr = ((Integer) nummern.get(teilmenge)).intValue();
+                if ((besteTeilmenge == null)
+                    || (kosten > besteKosten)
+                    || ((kosten == besteKosten) && (nr < besteNr))) {
+                    besteTeilmenge = teilmenge;
+                    besteKosten = kosten;
+                    besteNr = nr;
+                }
+            }
+            ueberdeckung.teilmengeEntfernen(besteTeilmenge);
+        }
+    }
+
+    /**
+     * Versucht, eine mglichst gute berdeckung zu erzeugen.
+     *
+     * @param familie               Die Familie der Teilmengen, die zur
+     *                              Erzeugung der berdeckung verwendet werden
+     *                              sollen.
+     * @param bekannteUeberdeckung  Eine mglichst gute bekannte berdeckung.
+     *                              Der Wert kann <CODE>null</CODE> sein, wenn
+     *                              z.B. noch keine berdeckung bekannt ist.
+     *
+     * @return  Die gefundene berdeckung oder <CODE>null</CODE>, wenn keine
+     *          vollstndige berdeckung existiert.
+     *
+     * @throws IllegalArgumentException  Wenn die bergebene Lsung keine
+     *                                   Lsung ist.
+     */
+    public ItmFamilie ueberdeckung(ItmFamilie familie,
+                                   ItmFamilie bekannteUeberdeckung) {
+        ItmFamilie       problemFamilie, partialCover;
+        HashSet          vorhandeneTeilmengen;
+        ArrayList        kandidatenListe;
+        IndexTeilmenge[] kandidaten;
+        IndexTeilmenge   teilmenge;
+        HashMap          nummern;
+        Iterator         iter;
+        boolean          verzoegert;
+
+        if ((bekannteUeberdeckung != null)
+            && (bekannteUeberdeckung.anzNichtUeberdeckt() > 0)) {
+
+            throw new IllegalArgumentException("Die bergebene Lsung ist"
+                                               + " keine Lsung");
+        }
+
+        verarbeitProblemAnz++;
+
+        if (familie.anzNichtUeberdeckt() > 0) {
+            // Es existiert keine vollstndige berdeckung.
+            return null;
+        }
+
+        // Die Teilmengen der bekannten berdeckung, die nicht in der Familie
+        // enthalten sind, werden zustzlich verwendet.
+        problemFamilie = familie;
+        vorhandeneTeilmengen = familie.toHashSet();
+        if (bekannteUeberdeckung != null) {
+            iter = bekannteUeberdeckung.iterator();
+            while (iter.hasNext()) {
+                teilmenge = (IndexTeilmenge) iter.next();
+                if (vorhandeneTeilmengen.add(teilmenge)) {
+                    if (problemFamilie == familie) {
+                        problemFamilie = (ItmFamilie) familie.clone();
+                    }
+                    problemFamilie.teilmengeHinzufuegen(teilmenge);
+                }
+            }
+        }
+
+        // Die Nummern der Kandidaten zufllig vergeben.
+        kandidatenListe = new ArrayList(vorhandeneTeilmengen);
+        Collections.shuffle(kandidatenListe, rand);
+        kandidaten = new IndexTeilmenge[kandidatenListe.size()];
+        kandidatenListe.toArray(kandidaten);
+        nummern = new HashMap(kandidaten.length * 2);
+        for (int nr = 0; nr < kandidaten.length; nr++) {
+            nummern.put(kandidaten[nr], new Integer(nr));
+        }
+
+        // Die verzgerte Bewertung ist nur mglich, wenn die Kosten einer
+        // Teilmenge nicht von der Teillsung abhngen.
+        verzoegert = (verzoegerteBewertung
+                      && problemFamilie.teilmengenKostenLinear()
+                      && (problemFamilie.maxTeilmengenAnz() == 0));
+
+        partialCover = problemFamilie.neueInstanz(true);
+        vervollstaendigen(partialCover, kandidaten, verzoegert);
+        redundanteEntfernen(partialCover, nummern);
+
+        return partialCover;
+    }
+
+    /**
+     * Versucht, eine mglichst gute berdeckung zu erzeugen.
+     *
+     * @param familie  Die Familie der Teilmengen, die zur Erzeugung der
+     *                 berdeckung verwendet werden sollen.
+     *
+     * @return  Die gefundene berdeckung oder <CODE>null</CODE>, wenn keine
+     *          vollstndige berdeckung existiert.
+     */
+    public ItmFamilie ueberdeckung(ItmFamilie familie) {
+        return ueberdeckung(familie, null);
+    }
+
+    /**
+     * Liefert einen Text, der Daten zu den bisherigen Erzeugungen der
+     * berdeckungen liefert.
+     *
+     * @return  Einen Text, der Daten zu den bisherigen Erzeugungen der
+     *          berdeckungen liefert.
+     */
+    public String statistik() {
+        StringBuffer rueckgabe;
+
+        rueckgabe = new StringBuffer();
+        rueckgabe.append("Anzahl der bisher verarbeiteten Probleme: ");
+        rueckgabe.append(verarbeitProblemAnz);
+        rueckgabe.append("\n");
+        rueckgabe.append("Anzahl der bisher vorgenommenen Bewertungen: ");
+        rueckgabe.append(bewertungsAnz);
+
+        return rueckgabe.toString();
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : ChvatalRating.java
- * Letzte nderung: 25. Juli 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Michael Wohlfart, Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -25,7 +25,9 @@
 package mengenUeberdeckung.heuristiken.ratings;
 
 import java.util.Set;
+import java.util.List;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 
 import mengenUeberdeckung.allgemein.IndexTeilmenge;
@@ -43,12 +45,39 @@ import mengenUeberdeckung.allgemein.ItmFamilie;
  * Teilmenge werden dividiert. Dies wird als <EM>Kosteneffektivitt</EM>
  * bezeichnet. Abweichend vom Artikel werden zustzlich noch die Kosten der
  * Teilmengen, die nach der Hinzunahme einer Teilmenge nicht mehr notwendig
- * sind, bercksichtigt.
+ * sind, bercksichtigt.<P>
+ *
+ * Bei einer Familie mit linearen Kosten werden die Bewertungen einer Liste
+ * von Teilmengen zwischengespeichert. Wurde die Familie seit der letzten
+ * Bewertung nur um eine Teilmenge verndert, werden nur die Teilmengen neu
+ * bewertet, deren Bewertung sich dadurch gendert haben kann. Wurde die
+ * Familie dagegen geleert, werden alle Teilmengen neu bewertet.<P>
+ *
+ * Durch die Zwischenspeicherung hat eine Instanz einen inneren Zustand und
+ * darf nicht gleichzeitig von mehreren Threads verwendet werden.
  *
  * @author  Michael Wohlfart, Dietmar Lippold
  */
 public class ChvatalRating extends SingleCandidateRatings {
 
+    /**
+     * Die Familie, zu der die Bewertungen in <CODE>addBewertungen</CODE>
+     * ermittelt wurden.
+     */
+    private ItmFamilie bewerteteFamilie = null;
+
+    /**
+     * Die Anzahl der Vernderungen von <CODE>bewerteteFamilie</CODE> zum
+     * Zeitpunkt der Ermittlung der Bewertungen.
+     */
+    private int bewertungsAenderungsAnz = 0;
+
+    /**
+     * Zu den zuletzt bewerteten Teilmengen die Bewertung zum Hinzufgen als
+     * <CODE>Float</CODE>.
+     */
+    private HashMap addBewertungen = new HashMap();
+
     /**
      * Berechnet den Nutzen einer Teilmenge beim Hinzufgen oder beim
      * Entfernen. Das ist die Anzahl der Elemente, die nur in der bergebenen
@@ -128,6 +157,109 @@ public class ChvatalRating extends SingleCandidateRatings {
         }
     }
 
+    /**
+     * Liefert eine Teilmenge, die alle Indices enthlt, an denen sich durch
+     * die letzte Vernderung der bergebenen Familie die Bewertung einer
+     * Teilmenge zum Hinzufgen gendert haben kann. Das sind die Indices der
+     * zuletzt vernderten Teilmenge und die Indices der enthaltenen
+     * notwendigen Teilmengen, die mit dieser einen Index gemeinsam haben.
+     *
+     * @param currentCover  Die Familie, deren letzte Vernderung betrachtet
+     *                      wird.
+     *
+     * @return  Eine Teilmenge mit den Indices, an denen sich die Bewertungen
+     *          gendert haben knnen.
+     */
+    private IndexTeilmenge geaenderteIndices(ItmFamilie currentCover) {
+        IndexTeilmenge geaenderteItm;
+        IndexTeilmenge betroffeneItm;
+        IndexTeilmenge indices;
+        Iterator       iterator;
+
+        geaenderteItm = currentCover.zuletztGeaenderteItm();
+        indices = new IndexTeilmenge(currentCover.groesseGesamtmenge());
+        indices.indicesAufnehmen(geaenderteItm.enthalteneIndices());
+
+        iterator = currentCover.zuletztBetroffeneItm().iterator();
+        while (iterator.hasNext()) {
+            betroffeneItm = (IndexTeilmenge) iterator.next();
+            if (currentCover.enthaelt(betroffeneItm)
+                    && currentCover.teilmengeIstNotwendig(betroffeneItm)) {
+                indices.indicesAufnehmen(betroffeneItm.enthalteneIndices());
+            }
+        }
+
+        return indices;
+    }
+
+    /**
+     * Liefert die Bewertungen von Teilmengen zur Ergnzung der bergegebenen
+     * partielle berdeckung. Wenn die Kosten der Familie linear sind und die
+     * Familie seit dem letzten Aufruf nur um eine Teilmenge verndert wurde,
+     * werden die gespeicherten Bewertungen der Teilmengen verwendet, die
+     * keinen Index mit den von der Vernderung betroffenen Teilmengen
+     * gemeinsam haben.
+     *
+     * @param  teilmengen    Die Teilmengen, die bewertet werden sollen.
+     * @param  partialCover  Die partielle berdeckung, in Bezug auf die die
+     *                       Teilmengen bewertet werden sollen.
+     *
+     * @return  Die Bewertungen der Teilmengen. Diese knnen positiv, Null
+     *          oder negativ sein.
+     *
+     * @throws IllegalArgumentException  Eine der bergebenen Teilmengen ist
+     *                                   schon in <code>partialCover</code>
+     *                                   enthalten.
+     */
+    public float[] wAdd(List teilmengen, ItmFamilie partialCover) {
+        HashMap        neueBewertungen;
+        IndexTeilmenge teilmenge;
+        IndexTeilmenge geaenderteIndices;
+        Float          gespeicherteBewertung;
+        Iterator       iterator;
+        float[]        addValues;
+        int            aenderungsDiff;
+        int            itmNr;
+
+        geaenderteIndices = null;
+        aenderungsDiff = partialCover.aenderungsAnz() - bewertungsAenderungsAnz;
+        if ((partialCover != bewerteteFamilie)
+                || (partialCover.maxTeilmengenAnz() != 0)
+                || !partialCover.teilmengenKostenLinear()
+                || (aenderungsDiff < 0) || (aenderungsDiff > 1)
+                || ((aenderungsDiff == 1)
+                    && (partialCover.zuletztGeaenderteItm() == null))) {
+            // Die gespeicherten Bewertungen knnen nicht verwendet werden.
+            addBewertungen.clear();
+        } else if (aenderungsDiff == 1) {
+            geaenderteIndices = geaenderteIndices(partialCover);
+        }
+
+        addValues = new float[teilmengen.size()];
+        neueBewertungen = new HashMap(teilmengen.size() * 2);
+        itmNr = 0;
+        iterator = teilmengen.iterator();
+        while (iterator.hasNext()) {
+            teilmenge = (IndexTeilmenge) iterator.next();
+            gespeicherteBewertung = (Float) addBewertungen.get(teilmenge);
+            if ((gespeicherteBewertung != null)
+                    && ((geaenderteIndices == null)
+                        || teilmenge.istDisjunkt(geaenderteIndices))) {
+                addValues[itmNr] = gespeicherteBewertung.floatValue();
+            } else {
+                addValues[itmNr] = wAdd(teilmenge, partialCover);
+            }
+            neueBewertungen.put(teilmenge, new Float(addValues[itmNr]));
+            itmNr++;
+        }
+
+        addBewertungen = neueBewertungen;
+        bewerteteFamilie = partialCover;
+        bewertungsAenderungsAnz = partialCover.aenderungsAnz();
+
+        return addValues;
+    }
+
     /**
      * Berechnet die Bewertung einer Teilmenge zur Entfernung.
      *
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : ProbabilityRatings.java
- * Letzte nderung: 25. Juli 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Edgar Binder, Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -26,6 +26,8 @@ package mengenUeberdeckung.heuristiken.ratings;
 
 import java.util.List;
 import java.util.Iterator;
+import java.util.HashMap;
+import java.util.Arrays;
 
 import mengenUeberdeckung.allgemein.ItmFamilie;
 import mengenUeberdeckung.allgemein.IndexTeilmenge;
@@ -34,7 +36,13 @@ import mengenUeberdeckung.allgemein.IndexTeilmenge;
  * Dient der Bewertung von Teilmengen zur Aufnahme in oder zur Entfernung aus
  * einer partiellen berdeckung, indem ein Konvergenzverfahren verwendet wird,
  * das die Wahrscheinlichkeiten des Vorkommens der Teilmengen in der Lsung
- * bercksichtigt.
+ * bercksichtigt.<P>
+ *
+ * Da zur Bewertung nur die noch nicht berdeckten Indices der Teilmengen
+ * bentigt werden, werden diese zu jeder Teilmenge gespeichert. Wenn die
+ * partielle berdeckung zwischen zwei Aufrufen nur um eine Teilmenge
+ * verndert wurde, werden sie nur fr die Teilmengen neu ermittelt, die mit
+ * dieser einen Index gemeinsam haben.
  *
  * TODO: - Optimierung der Konstanten anzahlIterationen, daempfungsFaktor und
  *         relExponent.
@@ -73,6 +81,33 @@ public class ProbabilityRatings implements CandidateRatings {
      */
     private boolean prodVerfahren = Konstanten.PROB_PROD_VERFAHREN;
 
+    /**
+     * Zu jeder bisher bewerteten Teilmenge (vom Typ
+     * <CODE>IndexTeilmenge</CODE>) ein aufsteigend sortiertes Array (vom Typ
+     * <CODE>int[]</CODE>) mit ihren Indices, die von
+     * <CODE>bewerteteFamilie</CODE> noch nicht berdeckt werden.
+     */
+    private HashMap freieIndices = new HashMap();
+
+    /**
+     * Die Familie, zu der die Werte von <CODE>freieIndices</CODE> ermittelt
+     * wurden.
+     */
+    private ItmFamilie bewerteteFamilie = null;
+
+    /**
+     * Die Anzahl der Vernderungen von <CODE>bewerteteFamilie</CODE> zum
+     * Zeitpunkt der letzten Aktualisierung von <CODE>freieIndices</CODE>.
+     */
+    private int bewertungsAenderungsAnz = 0;
+
+    /**
+     * Ein Array, das in jedem Aufruf von <CODE>wAdd</CODE> zur Speicherung
+     * der Summen der Wahrscheinlichkeiten der einzelnen Elemente verwendet
+     * wird.
+     */
+    private float[] wktSummen = new float[0];
+
     /**
      * Erzeugt eine neue Instanz und legt die Anzahl der Iterationen im
      * Wahrscheinlichkeitkonvergenzverfahren fest.
@@ -142,22 +177,91 @@ public class ProbabilityRatings implements CandidateRatings {
         return ergebnis;
     }
 
+
     /**
-     * Legt als initiale Werte fr die Summen der Wahrscheinlichkeiten der
-     * Teilmengen zu den einzelnen Elementen einen einheitlichen Wert fest.
+     * Aktualisiert die gespeicherten Arrays der nicht berdeckten Indices der
+     * Teilmengen. Wenn <CODE>partialCover</CODE> seit der letzten
+     * Aktualisierung um genau eine Teilmenge verndert wurde, werden nur die
+     * Arrays der Teilmengen gelscht, die mit dieser einen Index gemeinsam
+     * haben. Ansonsten werden alle Arrays gelscht.
      *
-     * @param groesseGesamtmenge  Die Gre der Grundmenge, d.h. die
-     *                            Gesamtanzahl der Elemente.
+     * @param partialCover  Die partielle berdeckung, in Bezug auf die die
+     *                      Teilmengen bewertet werden sollen.
+     */
+    private void freieIndicesAktualisieren(ItmFamilie partialCover) {
+        IndexTeilmenge geaenderteItm;
+        Iterator       iterator;
+        int            aenderungsDiff;
+
+        aenderungsDiff = partialCover.aenderungsAnz() - bewertungsAenderungsAnz;
+        geaenderteItm = partialCover.zuletztGeaenderteItm();
+        if ((partialCover != bewerteteFamilie) || (aenderungsDiff < 0)
+                || (aenderungsDiff > 1)
+                || ((aenderungsDiff == 1) && (geaenderteItm == null))) {
+            freieIndices.clear();
+        } else if (aenderungsDiff == 1) {
+            iterator = freieIndices.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (!((IndexTeilmenge) iterator.next()).istDisjunkt(geaenderteItm)) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        bewerteteFamilie = partialCover;
+        bewertungsAenderungsAnz = partialCover.aenderungsAnz();
+    }
+
+    /**
+     * Liefert zu jeder der bergebenen Teilmengen ein aufsteigend sortiertes
+     * Array mit ihren Indices, die von <CODE>partialCover</CODE> noch nicht
+     * berdeckt werden. Nur fr diese Indices werden die Summen der
+     * Wahrscheinlichkeiten bentigt.
+     *
+     * @param teilmengen    Die Teilmengen, die bewertet werden sollen.
+     * @param partialCover  Die partielle berdeckung, in Bezug auf die die
+     *                      Teilmengen bewertet werden sollen.
      *
-     * @return  Ein Array mit den festgelegten initialen Werten.
+     * @return  Zu jeder Teilmenge die nicht berdeckten Indices.
      */
-    private float[] wktSummenInit(int groesseGesamtmenge) {
-        float[] wktSummenInit = new float[groesseGesamtmenge];
+    private int[][] freieIndices(List teilmengen, ItmFamilie partialCover) {
+        IndexTeilmenge teilmenge;
+        Iterator       iterator;
+        int[][]        freieItmIndices;
+        int[]          alleIndices;
+        int[]          indices;
+        int[]          gekuerzt;
+        int            freiAnz;
+        int            itmNr;
 
-        for (int e = 0; e < groesseGesamtmenge; e++) {
-            wktSummenInit[e] = 1;
+        freieIndicesAktualisieren(partialCover);
+
+        freieItmIndices = new int[teilmengen.size()][];
+        itmNr = 0;
+        iterator = teilmengen.iterator();
+        while (iterator.hasNext()) {
+            teilmenge = (IndexTeilmenge) iterator.next();
+            indices = (int[]) freieIndices.get(teilmenge);
+            if (indices == null) {
+                alleIndices = teilmenge.enthalteneIndices();
+                indices = new int[alleIndices.length];
+                freiAnz = 0;
+                for (int i = 0; i < alleIndices.length; i++) {
+                    if (!partialCover.indexIstUeberdeckt(alleIndices[i])) {
+                        indices[freiAnz++] = alleIndices[i];
+                    }
+                }
+                if (freiAnz < indices.length) {
+                    gekuerzt = new int[freiAnz];
+                    System.arraycopy(indices, 0, gekuerzt, 0, freiAnz);
+                    indices = gekuerzt;
+                }
+                freieIndices.put(teilmenge, indices);
+            }
+            freieItmIndices[itmNr++] = indices;
         }
-        return wktSummenInit;
+
+        return freieItmIndices;
     }
 
     /**
@@ -180,35 +284,35 @@ public class ProbabilityRatings implements CandidateRatings {
         }
     }
 
+
     /**
-     * Berechnet fr jedes Element e in der Grundmenge die Summe der Werte
-     * von enthaltenWkt von den Teilmengen, in denen e enthalten ist.
-     *
-     * @param enthaltenWktAlt     Die Wahrscheinlichkeiten fr jede Teilmenge,
-     *                            dass sie in einer minimalen berdeckung
-     *                            vorkommt.
-     * @param hinzuKosten         Die Kosten fr das Hinzufgen der Teilmengen
-     *                            zur partiellen berdeckung.
-     * @param teilmengen          Die Teilmengen, die in der Lsung vorkommen
-     *                            knnen.
-     * @param groesseGesamtmenge  Die Gre der Grundmenge, d.h. die
-     *                            Gesamtanzahl der Elemente.
+     * Berechnet fr jedes nicht berdeckte Element e die Summe der Werte von
+     * enthaltenWkt von den Teilmengen, in denen e enthalten ist. Die Werte
+     * der berdeckten Elemente werden nicht bentigt und daher nicht
+     * berechnet.
      *
-     * @return  Ein Array mit dem Wert zu jedem Element.
+     * @param enthaltenWktAlt  Die Wahrscheinlichkeiten fr jede Teilmenge,
+     *                         dass sie in einer minimalen berdeckung
+     *                         vorkommt.
+     * @param hinzuKosten      Die Kosten fr das Hinzufgen der Teilmengen
+     *                         zur partiellen berdeckung.
+     * @param freieItmIndices  Zu jeder Teilmenge ihre nicht berdeckten
+     *                         Indices.
+     * @param wktSummen        Das Array, in das der Wert zu jedem Element
+     *                         eingetragen wird.
      */
-    private float[] wktSummen(float[] enthaltenWktAlt, float[] hinzuKosten,
-                              List teilmengen, int groesseGesamtmenge) {
-        IndexTeilmenge teilmenge;
-        Iterator       iterator;
-        float[]        wktSummen;
-        float          relFunkWert;
-
-        wktSummen = new float[groesseGesamtmenge];
-        for (int e = 0; e < groesseGesamtmenge; e++) {
-            wktSummen[e] = 0;
+    private void wktSummen(float[] enthaltenWktAlt, float[] hinzuKosten,
+                           int[][] freieItmIndices, float[] wktSummen) {
+        int[] indices;
+        float relFunkWert;
+
+        for (int t = 0; t < freieItmIndices.length; t++) {
+            indices = freieItmIndices[t];
+            for (int i = 0; i < indices.length; i++) {
+                wktSummen[indices[i]] = 0;
+            }
         }
 
-        iterator = teilmengen.iterator();
         for (int t = 0; t < enthaltenWktAlt.length; t++) {
 
             if (hinzuKosten[t] == 0) {
@@ -217,22 +321,20 @@ public class ProbabilityRatings implements CandidateRatings {
                 relFunkWert = relFunkWert(enthaltenWktAlt[t] / hinzuKosten[t]);
             }
 
-            teilmenge = (IndexTeilmenge) iterator.next();
-            for (int e = teilmenge.kleinsterEnthaltenerIndex();
-                 e >= 0;
-                 e = teilmenge.naechsterEnthaltenerIndex(e + 1)) {
-
-                wktSummen[e] += relFunkWert;
+            indices = freieItmIndices[t];
+            for (int i = 0; i < indices.length; i++) {
+                wktSummen[indices[i]] += relFunkWert;
             }
         }
 
-        for (int e = 0; e < groesseGesamtmenge; e++) {
-            if (wktSummen[e] == 0) {
-                wktSummen[e] = Float.MIN_VALUE;
+        for (int t = 0; t < freieItmIndices.length; t++) {
+            indices = freieItmIndices[t];
+            for (int i = 0; i < indices.length; i++) {
+                if (wktSummen[indices[i]] == 0) {
+                    wktSummen[indices[i]] = Float.MIN_VALUE;
+                }
             }
         }
-
-        return wktSummen;
     }
 
     /**
@@ -248,36 +350,31 @@ public class ProbabilityRatings implements CandidateRatings {
      *                         vorherigen Iteration.
      * @param hinzuKosten      Die Kosten fr das Hinzufgen der Teilmengen
      *                         zur partiellen berdeckung.
-     * @param teilmengen       Die Teilmegen, deren Wahrscheinlichkeit, dass
-     *                         sie in einer minimalen berdeckung vorkommen,
-     *                         berechnet werden soll.
-     * @param partialCover     Die bereits vorhandene partielle berdeckung
-     *                         der Elemente.
+     * @param freieItmIndices  Zu jeder Teilmenge ihre Indices, die in der
+     *                         partiellen berdeckung noch nicht berdeckt
+     *                         sind.
      * @param prodFormel       Gibt an, ob die Produkt-Formel verwendet werden
      *                         soll. Falls nicht, wird die Summen-Formel
      *                         verwendet.
-     *
-     * @return  Neue Schtzwerte dafr, dass die einzelnen Teilmengen in der
-     *          minimimalen berdeckung aufgenommen werden.
+     * @param enthaltenWkt     Das Array, in das die neuen Schtzwerte dafr,
+     *                         dass die einzelnen Teilmengen in der
+     *                         minimimalen berdeckung aufgenommen werden,
+     *                         eingetragen werden.
      *
      * @see #wktSummen
      */
-    private float[] enthaltenWkt(float[] wktSummen, float[] enthaltenWktAlt,
-                                 float[] hinzuKosten, List teilmengen,
-                                 ItmFamilie partialCover, boolean prodFormel) {
-        IndexTeilmenge teilmenge;
-        Iterator       iterator;
-        float[]        enthaltenWkt;
-        float          produkt;
-        float          summe;
-        float          relFunkWert;
-        float          ueberdeckWkt;
-        int            anzahlTeilmengen = enthaltenWktAlt.length;
-
-        enthaltenWkt = new float[anzahlTeilmengen];
+    private void enthaltenWkt(float[] wktSummen, float[] enthaltenWktAlt,
+                              float[] hinzuKosten, int[][] freieItmIndices,
+                              boolean prodFormel, float[] enthaltenWkt) {
+        int[] indices;
+        float produkt;
+        float summe;
+        float relFunkWert;
+        float ueberdeckWkt;
+        int   anzahlTeilmengen = enthaltenWktAlt.length;
+
         relFunkWert = 0;
 
-        iterator = teilmengen.iterator();
         for (int t = 0; t < anzahlTeilmengen; t++) {
 
             if (hinzuKosten[t] != 0) {
@@ -286,27 +383,23 @@ public class ProbabilityRatings implements CandidateRatings {
 
             produkt = 1;
             summe = 0;
-            teilmenge = (IndexTeilmenge) iterator.next();
-            for (int e = teilmenge.kleinsterEnthaltenerIndex();
-                 e >= 0;
-                 e = teilmenge.naechsterEnthaltenerIndex(e + 1)) {
-
-                if (!partialCover.indexIstUeberdeckt(e)) {
-                    // ueberdeckWkt gibt die Wahrscheinlichkeit an, da das
-                    // Element e in der Lsung von der Teilmenge t berdeckt
-                    // wird, e also in t und t in der Lsung enthalten ist.
-                    // Ersteres ist durch den vorhergehenden Vergleich schon
-                    // sicher gestellt.
-                    if (hinzuKosten[t] == 0) {
-                        ueberdeckWkt = 1;
-                    } else {
-                        ueberdeckWkt = relFunkWert / wktSummen[e];
-                    }
-                    if (prodFormel) {
-                        produkt *= (1 - ueberdeckWkt);
-                    } else {
-                        summe += ueberdeckWkt;
-                    }
+            indices = freieItmIndices[t];
+            for (int i = 0; i < indices.length; i++) {
+
+                // ueberdeckWkt gibt die Wahrscheinlichkeit an, da das
+                // Element in der Lsung von der Teilmenge t berdeckt wird,
+                // das Element also in t und t in der Lsung enthalten ist.
+                // Ersteres ist durch die Auswahl der Indices schon sicher
+                // gestellt.
+                if (hinzuKosten[t] == 0) {
+                    ueberdeckWkt = 1;
+                } else {
+                    ueberdeckWkt = relFunkWert / wktSummen[indices[i]];
+                }
+                if (prodFormel) {
+                    produkt *= (1 - ueberdeckWkt);
+                } else {
+                    summe += ueberdeckWkt;
                 }
             }
 
@@ -316,8 +409,6 @@ public class ProbabilityRatings implements CandidateRatings {
                 enthaltenWkt[t] = summe;
             }
         }
-
-        return enthaltenWkt;
     }
 
     /**
@@ -435,10 +526,12 @@ public class ProbabilityRatings implements CandidateRatings {
      *                                   enthalten.
      */
     public float[] wAdd(List teilmengen, ItmFamilie partialCover) {
+        int[][] freieItmIndices;
         float[] hinzuKosten;
-        float[] enthaltenWkt = null;
-        float[] wktSummen = null;
-        float[] enthaltenWktAlt = null;
+        float[] enthaltenWkt;
+        float[] neueWkt;
+        float[] enthaltenWktAlt;
+        float[] vertauschWkt;
         int     groesseGesamtmenge = partialCover.groesseGesamtmenge();
 
         if (!enthaltStatusRichtig(teilmengen, partialCover, false)) {
@@ -446,30 +539,44 @@ public class ProbabilityRatings implements CandidateRatings {
         }
 
         hinzuKosten = hinzufuegenKosten(teilmengen, partialCover);
+        freieItmIndices = freieIndices(teilmengen, partialCover);
+        if (wktSummen.length != groesseGesamtmenge) {
+            wktSummen = new float[groesseGesamtmenge];
+        }
+        neueWkt = new float[teilmengen.size()];
+        enthaltenWktAlt = new float[teilmengen.size()];
 
         enthaltenWkt = enthaltenWktInit(teilmengen, false);
         if (!wtInitEinheitlich) {
             // Die initialen Werte fr enthaltenWkt ergeben sich jetzt fr
             // jede Teilmenge ausschlielich aus der Anzahl der Elemente der
             // Teilmenge.
-            wktSummen = wktSummenInit(groesseGesamtmenge);
-            enthaltenWkt = enthaltenWkt(wktSummen, enthaltenWkt, hinzuKosten,
-                                        teilmengen, partialCover, prodVerfahren);
+            Arrays.fill(wktSummen, 1);
+            enthaltenWkt(wktSummen, enthaltenWkt, hinzuKosten, freieItmIndices,
+                         prodVerfahren, neueWkt);
+            vertauschWkt = enthaltenWkt;
+            enthaltenWkt = neueWkt;
+            neueWkt = vertauschWkt;
         }
 
         for (int i = 1; i <= anzahlIterationen; i++) {
             if (!einWertIstEins(enthaltenWkt)) {
-                enthaltenWktAlt = (float[]) enthaltenWkt.clone();
-                wktSummen = wktSummen(enthaltenWkt, hinzuKosten, teilmengen,
-                                      groesseGesamtmenge);
-                enthaltenWkt = enthaltenWkt(wktSummen, enthaltenWkt, hinzuKosten,
-                                            teilmengen, partialCover, prodVerfahren);
+                System.arraycopy(enthaltenWkt, 0, enthaltenWktAlt, 0,
+                                 enthaltenWkt.length);
+                wktSummen(enthaltenWkt, hinzuKosten, freieItmIndices,
+                          wktSummen);
+                enthaltenWkt(wktSummen, enthaltenWkt, hinzuKosten,
+                             freieItmIndices, prodVerfahren, neueWkt);
 
                 // Dmpfung der Vernderungen.
-                for (int t = 0; t < teilmengen.size(); t++) {
-                    enthaltenWkt[t] = daempfungsFaktor * enthaltenWktAlt[t]
-                                      + (1 - daempfungsFaktor) * enthaltenWkt[t];
+                for (int t = 0; t < neueWkt.length; t++) {
+                    neueWkt[t] = daempfungsFaktor * enthaltenWktAlt[t]
+                                 + (1 - daempfungsFaktor) * neueWkt[t];
                 }
+
+                vertauschWkt = enthaltenWkt;
+                enthaltenWkt = neueWkt;
+                neueWkt = vertauschWkt;
             }
         }
 
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : IterEnhancedGreedyHeuristic.java
- * Letzte nderung: 22. Mrz 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Rene Berleong
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2007
@@ -28,9 +28,14 @@ import java.util.Set;
 import java.util.HashSet;
 import java.util.Random;
 import java.util.Date;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
 
 import mengenUeberdeckung.allgemein.ItmFamilie;
 import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
+import mengenUeberdeckung.allgemein.AnytimeVerfahren;
+import mengenUeberdeckung.allgemein.OptimierungsBudget;
 import mengenUeberdeckung.greedyCovering.EnhancedGreedyHeuristic;
 import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
 import mengenUeberdeckung.heuristiken.selection.BestRatingSelection;
@@ -48,16 +53,37 @@ import mengenUeberdeckung.optimierung.InferiorOptimization;
 import mengenUeberdeckung.optimierung.AddOneOptimization;
 import mengenUeberdeckung.optimierung.AddTwoOptimization;
 import mengenUeberdeckung.optimierung.LocalSearchOptimization;
+import mengenUeberdeckung.optimierung.WeightedLocalSearchOptimization;
 
 /**
  * Berechnet eine Lsung eines "Set Covering Problem" durch wiederholtes
  * Anwenden des "Enhancend Greedy" Algorithmus nach einer Beschreibung von
  * Elena Marchiori und Adri Steenbeek ("An Iterated Heuristic Algorithm for
- * the Set Covering Problem", 1998).
+ * the Set Covering Problem", 1998).<P>
+ *
+ * Die Iterationen knnen in mehreren voneinander unabhngigen Ketten
+ * parallel ausgefhrt werden. Jede Kette erhlt einen eigenen
+ * Zufallsgenerator, dessen Initialisierungswert vorab vom Zufallsgenerator
+ * der Instanz geliefert wird, und eine eigene Kopie der Familie. Geliefert
+ * wird die beste berdeckung aller Ketten. Optional tauschen die Ketten
+ * nach einer vorgegebenen Anzahl von Iterationen ihre beste berdeckung
+ * untereinander aus. Ohne Austausch ist das Ergebnis bei gleichem
+ * Zufallsgenerator unabhngig von der Anzahl der verfgbaren Prozessoren.
+ * Da die Optimierungsverfahren einen inneren Zustand haben, erhlt jede
+ * Kette ein eigenes Optimierungsverfahren, wenn die Instanz es selbst
+ * erzeugt oder eine <CODE>OptVerfahrenErzeugung</CODE> bergeben wurde.
+ * Ein einzelnes bergebenes Optimierungsverfahren wird von den Ketten
+ * nacheinander verwendet.<P>
+ *
+ * Die Laufzeit kann durch ein Budget begrenzt werden. Jede Iteration zhlt
+ * dabei als ein Schritt. Nach der ersten Iteration wird die Suche beendet,
+ * sobald das Budget erschpft ist, und die beste bis dahin gefundene
+ * berdeckung geliefert.
  *
  * @author  Dietmar Lippold, Rene Berleong
  */
-public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
+public class IterEnhancedGreedyHeuristic
+    implements UeberdeckungsOptimierung, AnytimeVerfahren {
 
     /**
      * Zufallsgenerator.
@@ -103,6 +129,36 @@ public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
      */
     private boolean useAddTwoOpt = Konstanten.USE_ADD_TWO_OPT;
 
+    /**
+     * Die Anzahl der parallel auszufhrenden Ketten von Iterationen.
+     */
+    private int kettenAnz = Konstanten.KETTEN_ANZ;
+
+    /**
+     * Die Anzahl der Iterationen, nach denen die Ketten jeweils ihre beste
+     * berdeckung austauschen. Beim Wert Null erfolgt kein Austausch.
+     */
+    private int austauschIntervall = Konstanten.AUSTAUSCH_INTERVALL;
+
+    /**
+     * Gibt an, ob das Optimierungsverfahren von der Instanz selbst erzeugt
+     * wurde. In dem Fall wird fr jede Kette ein eigenes
+     * Optimierungsverfahren erzeugt.
+     */
+    private boolean standardOptVerfahren;
+
+    /**
+     * Die Erzeugung der Optimierungsverfahren der einzelnen Ketten oder
+     * <CODE>null</CODE>, wenn alle Ketten <CODE>optVerfahren</CODE>
+     * verwenden.
+     */
+    private OptVerfahrenErzeugung optErzeugung = null;
+
+    /**
+     * Das Budget, das die Laufzeit begrenzt, oder <CODE>null</CODE>.
+     */
+    private OptimierungsBudget budget = null;
+
     /**
      * Konstruktor der Klasse, bei dem die Anzahl der auszufhrenden
      * Iterationen angegeben wird.
@@ -115,13 +171,37 @@ public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
      *                                   ist.
      */
     public IterEnhancedGreedyHeuristic(int numberOfIterations) {
-        SequenceOptimization sequenceOpt;
-        Optimization         localSearchOpt;
+        this(numberOfIterations, Konstanten.KETTEN_ANZ,
+             Konstanten.AUSTAUSCH_INTERVALL);
+    }
+
+    /**
+     * Konstruktor der Klasse, bei dem die Anzahl der auszufhrenden
+     * Iterationen und die Anzahl der parallel auszufhrenden Ketten von
+     * Iterationen angegeben wird.
+     *
+     * @param numberOfIterations  Die in jeder Kette auszufhrende Anzahl der
+     *                            Iterationen des Enhanced-Greedy-Verfahrens.
+     * @param kettenAnz           Die Anzahl der parallel auszufhrenden
+     *                            Ketten von Iterationen.
+     * @param austauschIntervall  Die Anzahl der Iterationen, nach denen die
+     *                            Ketten jeweils ihre beste berdeckung
+     *                            austauschen. Beim Wert Null erfolgt kein
+     *                            Austausch.
+     *
+     * @throws IllegalArgumentException  Wenn die bergebene Anzahl der
+     *                                   Iterationen oder der Ketten kleiner
+     *                                   oder gleich Null ist oder wenn das
+     *                                   Austauschintervall negativ ist.
+     */
+    public IterEnhancedGreedyHeuristic(int numberOfIterations, int kettenAnz,
+                                       int austauschIntervall) {
 
         if (numberOfIterations <= 0) {
             throw new IllegalArgumentException("Die Anzahl der Iterationen ist"
                                                + " kleiner oder gleich Null");
         }
+        parallelitaetSetzen(kettenAnz, austauschIntervall);
 
         this.numberOfIterations = numberOfIterations;
 
@@ -132,20 +212,8 @@ public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
             rand.setSeed(Konstanten.SEED);
         }
 
-        sequenceOpt = new SequenceOptimization();
-        if (Konstanten.USE_INFERIOR_OPT) {
-            sequenceOpt.addOptimization(new InferiorOptimization());
-        }
-        if (Konstanten.USE_ADD_ONE_OPT) {
-            sequenceOpt.addOptimization(new AddOneOptimization());
-        }
-        if (Konstanten.USE_ADD_TWO_OPT) {
-            sequenceOpt.addOptimization(new AddTwoOptimization());
-        }
-        localSearchOpt = new LocalSearchOptimization(rand, false,
-                                                     numberOfIterations);
-        sequenceOpt.addOptimization(localSearchOpt);
-        optVerfahren = sequenceOpt;
+        optVerfahren = neuesStandardOptVerfahren(rand);
+        standardOptVerfahren = true;
 
         shrinkVerfahren = new UniformShrinking(rand);
     }
@@ -194,17 +262,169 @@ public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
     public IterEnhancedGreedyHeuristic(Random random, int numberOfIterations,
                                        Optimization optVerfahren) {
 
+        this(random, numberOfIterations, optVerfahren, Konstanten.KETTEN_ANZ,
+             Konstanten.AUSTAUSCH_INTERVALL);
+    }
+
+    /**
+     * Konstruktor der Klasse, bei dem ein Zufallsgenerator, die Anzahl der
+     * auszufhrenden Iterationen, das zu verwendende Optimierungsverfahren
+     * und die Anzahl der auszufhrenden Ketten von Iterationen angegeben
+     * wird. Das Optimierungsverfahren wird von allen Ketten gemeinsam
+     * verwendet. Da es dabei nicht gleichzeitig von mehreren Threads
+     * verwendet werden darf, werden die Ketten nacheinander ausgefhrt. Zur
+     * parallelen Ausfhrung ist der Konstruktor mit einer
+     * <CODE>OptVerfahrenErzeugung</CODE> zu verwenden.
+     *
+     * @param random              Der zu verwendende Zufallsgenerator.
+     * @param numberOfIterations  Die in jeder Kette auszufhrende Anzahl der
+     *                            Iterationen des Enhanced-Greedy-Verfahrens.
+     * @param optVerfahren        Das zu verwendende Optimierungsverfahren.
+     * @param kettenAnz           Die Anzahl der parallel auszufhrenden
+     *                            Ketten von Iterationen.
+     * @param austauschIntervall  Die Anzahl der Iterationen, nach denen die
+     *                            Ketten jeweils ihre beste berdeckung
+     *                            austauschen. Beim Wert Null erfolgt kein
+     *                            Austausch.
+     *
+     * @throws IllegalArgumentException  Wenn die bergebene Anzahl der
+     *                                   Iterationen oder der Ketten kleiner
+     *                                   oder gleich Null ist oder wenn das
+     *                                   Austauschintervall negativ ist.
+     */
+    public IterEnhancedGreedyHeuristic(Random random, int numberOfIterations,
+                                       Optimization optVerfahren,
+                                       int kettenAnz, int austauschIntervall) {
+
         if (numberOfIterations <= 0) {
             throw new IllegalArgumentException("Die Anzahl der Iterationen ist"
                                                + " kleiner oder gleich Null");
         }
+        parallelitaetSetzen(kettenAnz, austauschIntervall);
 
         this.rand = random;
         this.numberOfIterations = numberOfIterations;
         this.optVerfahren = optVerfahren;
+        this.standardOptVerfahren = false;
         this.shrinkVerfahren = new UniformShrinking(random);
     }
 
+    /**
+     * Konstruktor der Klasse, bei dem ein Zufallsgenerator, die Anzahl der
+     * auszufhrenden Iterationen, die Erzeugung der Optimierungsverfahren
+     * und die Anzahl der parallel auszufhrenden Ketten von Iterationen
+     * angegeben wird. Jede Kette erhlt ein eigenes Optimierungsverfahren.
+     *
+     * @param random              Der zu verwendende Zufallsgenerator.
+     * @param numberOfIterations  Die in jeder Kette auszufhrende Anzahl der
+     *                            Iterationen des Enhanced-Greedy-Verfahrens.
+     * @param optErzeugung        Die Erzeugung der zu verwendenden
+     *                            Optimierungsverfahren.
+     * @param kettenAnz           Die Anzahl der parallel auszufhrenden
+     *                            Ketten von Iterationen.
+     * @param austauschIntervall  Die Anzahl der Iterationen, nach denen die
+     *                            Ketten jeweils ihre beste berdeckung
+     *                            austauschen. Beim Wert Null erfolgt kein
+     *                            Austausch.
+     *
+     * @throws IllegalArgumentException  Wenn die bergebene Anzahl der
+     *                                   Iterationen oder der Ketten kleiner
+     *                                   oder gleich Null ist oder wenn das
+     *                                   Austauschintervall negativ ist.
+     */
+    public IterEnhancedGreedyHeuristic(Random random, int numberOfIterations,
+                                       OptVerfahrenErzeugung optErzeugung,
+                                       int kettenAnz, int austauschIntervall) {
+
+        this(random, numberOfIterations, optErzeugung.neuesOptVerfahren(random),
+             kettenAnz, austauschIntervall);
+
+        this.optErzeugung = optErzeugung;
+    }
+
+    /**
+     * Prft und speichert die Werte zur parallelen Ausfhrung.
+     *
+     * @param kettenAnz           Die Anzahl der parallel auszufhrenden
+     *                            Ketten von Iterationen.
+     * @param austauschIntervall  Die Anzahl der Iterationen, nach denen die
+     *                            Ketten jeweils ihre beste berdeckung
+     *                            austauschen.
+     *
+     * @throws IllegalArgumentException  Wenn die Anzahl der Ketten kleiner
+     *                                   oder gleich Null oder das
+     *                                   Austauschintervall negativ ist.
+     */
+    private void parallelitaetSetzen(int kettenAnz, int austauschIntervall) {
+
+        if (kettenAnz <= 0) {
+            throw new IllegalArgumentException("Die Anzahl der Ketten ist"
+                                               + " kleiner oder gleich Null");
+        }
+        if (austauschIntervall < 0) {
+            throw new IllegalArgumentException("Das Austauschintervall ist"
+                                               + " negativ");
+        }
+
+        this.kettenAnz = kettenAnz;
+        this.austauschIntervall = austauschIntervall;
+    }
+
+    /**
+     * Erzeugt das Optimierungsverfahren, das verwendet wird, wenn dem
+     * Konstruktor keins bergeben wurde.
+     *
+     * @param random  Der vom Optimierungsverfahren zu verwendende
+     *                Zufallsgenerator.
+     *
+     * @return  Das erzeugte Optimierungsverfahren.
+     */
+    private Optimization neuesStandardOptVerfahren(Random random) {
+        SequenceOptimization sequenceOpt;
+        Optimization         localSearchOpt;
+
+        sequenceOpt = new SequenceOptimization();
+        if (Konstanten.USE_INFERIOR_OPT) {
+            sequenceOpt.addOptimization(new InferiorOptimization());
+        }
+        if (Konstanten.USE_ADD_ONE_OPT) {
+            sequenceOpt.addOptimization(new AddOneOptimization());
+        }
+        if (Konstanten.USE_ADD_TWO_OPT) {
+            sequenceOpt.addOptimization(new AddTwoOptimization());
+        }
+        localSearchOpt = new LocalSearchOptimization(random, false,
+                                                     numberOfIterations);
+        sequenceOpt.addOptimization(localSearchOpt);
+        if (Konstanten.USE_WEIGHTED_LOCAL_SEARCH) {
+            sequenceOpt.addOptimization(new WeightedLocalSearchOptimization(random,
+                                                                            numberOfIterations));
+        }
+        sequenceOpt.budgetSetzen(budget);
+
+        return sequenceOpt;
+    }
+
+    /**
+     * Legt das Budget fest, das bei den folgenden Aufrufen des Verfahrens
+     * verwendet wird. Das Budget wird auch an das Optimierungsverfahren
+     * weitergegeben, wenn dessen Laufzeit begrenzt werden kann. Die Ketten
+     * eines Aufrufs verwenden das Budget gemeinsam, d.h. es begrenzt die
+     * Laufzeit und die Anzahl der Schritte aller Ketten zusammen. Da die
+     * Dauer des Budgets mit seiner Erzeugung beginnt, ist fr jeden
+     * Aufruf ein neues Budget festzulegen.
+     *
+     * @param budget  Das zu verwendende Budget. Beim Wert <CODE>null</CODE>
+     *                ist die Laufzeit nicht begrenzt.
+     */
+    public void budgetSetzen(OptimierungsBudget budget) {
+
+        this.budget = budget;
+        if (optVerfahren instanceof AnytimeVerfahren) {
+            ((AnytimeVerfahren) optVerfahren).budgetSetzen(budget);
+        }
+    }
+
     /**
      * Wendet den "Iterated Enhanced Greedy Heuristic" Algorithmus auf
      * <code>familie</code> an.
@@ -224,24 +444,11 @@ public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
      */
     public ItmFamilie ueberdeckung(ItmFamilie familie,
                                    ItmFamilie bekannteUeberdeckung) {
-        EnhancedGreedyHeuristic   egh;
-        InferiorOptimization      inferiorOpt;
-        AddOneOptimization        addOneOptimization;
-        AddTwoOptimization        addTwoOptimization;
-        CandidatesCreation        candidatesCreation;
-        CandidateRatingsCreation  candidateRatingsCreation;
-        CandidateRatings          candidateRatings;
-        CandidateSelection        candidateSelection;
-        ItmFamilie                bestCover;
-        ItmFamilie                erwFamilie;
-        ItmFamilie                notwendigeItmFamilie;
-        ItmFamilie                partialCover;
-        ItmFamilie                optimizedCover;
-        ItmFamilie                lastCover;
-        HashSet                   besteTeilmengen;
-        Set                       notwendigeTeilmengen;
-        boolean                   unicostProblem;
-        boolean                   linearCostProblem;
+        ItmFamilie bestCover;
+        ItmFamilie erwFamilie;
+        ItmFamilie notwendigeItmFamilie;
+        HashSet    besteTeilmengen;
+        Set        notwendigeTeilmengen;
 
         if ((bekannteUeberdeckung != null)
             && (bekannteUeberdeckung.anzNichtUeberdeckt() > 0)) {
@@ -297,10 +504,166 @@ public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
             }
         }
 
-        // An dieser Stelle kann die Teilmengenverwaltung der bergebenen
-        // Familie fixiert werden.
-//        partialCover = erwFamilie.neueInstanz(true);
-        partialCover = erwFamilie.neueInstanz(false);
+        if (kettenAnz == 1) {
+            return iterationen(erwFamilie, bestCover, notwendigeTeilmengen,
+                               rand, optVerfahren, shrinkVerfahren, null);
+        } else {
+            return parallelIterationen(erwFamilie, bestCover,
+                                       notwendigeTeilmengen);
+        }
+    }
+
+    /**
+     * Fhrt die Ketten von Iterationen parallel aus und liefert die beste
+     * der von ihnen gefundenen berdeckungen. Bei gleichen Kosten wird die
+     * berdeckung der Kette mit der kleinsten Nummer geliefert.
+     *
+     * @param erwFamilie            Die Familie der Teilmengen, die zur
+     *                              Erzeugung der berdeckung verwendet werden
+     *                              sollen.
+     * @param bekannteUeberdeckung  Eine mglichst gute bekannte berdeckung
+     *                              oder <CODE>null</CODE>.
+     * @param notwendigeTeilmengen  Die notwendigen Teilmengen von
+     *                              <CODE>erwFamilie</CODE>.
+     *
+     * @return  Die beste gefundene berdeckung.
+     */
+    private ItmFamilie parallelIterationen(ItmFamilie erwFamilie,
+                                           ItmFamilie bekannteUeberdeckung,
+                                           Set notwendigeTeilmengen) {
+        ForkJoinPool            pool;
+        AnytimeVerfahren        anytimeVerfahren;
+        Future[]                ergebnisse;
+        UeberdeckungsAustausch  austausch;
+        IterationsKette         kette;
+        ItmFamilie              kettenBekannte;
+        ItmFamilie              kettenCover;
+        ItmFamilie              bestCover;
+        Random                  kettenRand;
+        Optimization            kettenOptVerfahren;
+        Throwable               ursache;
+        int                     parallelAnz;
+
+        if (austauschIntervall > 0) {
+            austausch = new UeberdeckungsAustausch();
+        } else {
+            austausch = null;
+        }
+
+        if (standardOptVerfahren || (optErzeugung != null)) {
+            parallelAnz = Math.min(kettenAnz,
+                                   Runtime.getRuntime().availableProcessors());
+        } else {
+            // Das gemeinsame Optimierungsverfahren darf nicht gleichzeitig
+            // verwendet werden. Daher die Ketten nacheinander ausfhren.
+            parallelAnz = 1;
+        }
+        pool = new ForkJoinPool(parallelAnz);
+        ergebnisse = new Future[kettenAnz];
+        try {
+            for (int k = 0; k < kettenAnz; k++) {
+                // Jede Kette erhlt einen eigenen Zufallsgenerator und eigene
+                // Kopien der Familien.
+                kettenRand = new Random(rand.nextLong());
+                if (standardOptVerfahren) {
+                    kettenOptVerfahren = neuesStandardOptVerfahren(kettenRand);
+                } else if (optErzeugung != null) {
+                    kettenOptVerfahren = optErzeugung.neuesOptVerfahren(kettenRand);
+                    if (kettenOptVerfahren instanceof AnytimeVerfahren) {
+                        anytimeVerfahren = (AnytimeVerfahren) kettenOptVerfahren;
+                        anytimeVerfahren.budgetSetzen(budget);
+                    }
+                } else {
+                    kettenOptVerfahren = optVerfahren;
+                }
+                if (bekannteUeberdeckung == null) {
+                    kettenBekannte = null;
+                } else {
+                    kettenBekannte = (ItmFamilie) bekannteUeberdeckung.clone();
+                }
+                kette = new IterationsKette(this,
+                                            (ItmFamilie) erwFamilie.clone(),
+                                            kettenBekannte,
+                                            new HashSet(notwendigeTeilmengen),
+                                            kettenRand, kettenOptVerfahren,
+                                            new UniformShrinking(kettenRand),
+                                            austausch);
+                ergebnisse[k] = pool.submit(kette);
+            }
+
+            bestCover = null;
+            for (int k = 0; k < kettenAnz; k++) {
+                kettenCover = (ItmFamilie) ergebnisse[k].get();
+                if ((bestCover == null)
+                        || (kettenCover.kostenFamilie() < bestCover.kostenFamilie())) {
+                    bestCover = kettenCover;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Unterbrechung bei der parallelen"
+                                       + " Ausfhrung", e);
+        } catch (ExecutionException e) {
+            ursache = e.getCause();
+            if (ursache instanceof RuntimeException) {
+                throw (RuntimeException) ursache;
+            } else if (ursache instanceof Error) {
+                throw (Error) ursache;
+            } else {
+                throw new RuntimeException(ursache);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return bestCover;
+    }
+
+    /**
+     * Fhrt eine Kette von Iterationen des Enhanced-Greedy-Verfahrens aus
+     * und liefert die beste dabei gefundene berdeckung.
+     *
+     * @param erwFamilie            Die Familie der Teilmengen, die zur
+     *                              Erzeugung der berdeckung verwendet werden
+     *                              sollen.
+     * @param bekannteUeberdeckung  Eine mglichst gute bekannte berdeckung
+     *                              oder <CODE>null</CODE>.
+     * @param notwendigeTeilmengen  Die notwendigen Teilmengen von
+     *                              <CODE>erwFamilie</CODE>.
+     * @param random                Der zu verwendende Zufallsgenerator.
+     * @param optimierung           Das zu verwendende Optimierungsverfahren.
+     * @param shrinking             Das zu verwendende Verfahren zur
+     *                              Verkleinerung einer berdeckung.
+     * @param austausch             Das Objekt zum Austausch der besten
+     *                              berdeckung mit anderen Ketten oder
+     *                              <CODE>null</CODE>, wenn kein Austausch
+     *                              erfolgen soll.
+     *
+     * @return  Die beste gefundene berdeckung. Wenn der aufrufende Thread
+     *          unterbrochen wurde oder das Budget erschpft ist, die beste
+     *          bis dahin gefundene berdeckung.
+     */
+    ItmFamilie iterationen(ItmFamilie erwFamilie,
+                           ItmFamilie bekannteUeberdeckung,
+                           Set notwendigeTeilmengen, Random random,
+                           Optimization optimierung, FamilyShrinking shrinking,
+                           UeberdeckungsAustausch austausch) {
+        EnhancedGreedyHeuristic   egh;
+        CandidatesCreation        candidatesCreation;
+        CandidateRatingsCreation  candidateRatingsCreation;
+        CandidateRatings          candidateRatings;
+        CandidateSelection        candidateSelection;
+        ItmFamilie                bestCover;
+        ItmFamilie                partialCover;
+        boolean                   unicostProblem;
+        boolean                   linearCostProblem;
+
+        bestCover = bekannteUeberdeckung;
+
+        // Die Teilmengenverwaltung der bergebenen Familie wird fixiert,
+        // damit die Teilmengen ber den Index der enthaltenden Teilmengen
+        // bewertet werden.
+        partialCover = erwFamilie.neueInstanz(true);
         partialCover.teilmengenHinzufuegen(notwendigeTeilmengen);
 
         // Ermitteln, um welche Art von Problem es sich handelt.
@@ -309,11 +672,19 @@ public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
 
         candidateRatingsCreation = new CandidateRatingsCreation(erwFamilie,
                                                                 unicostProblem,
-                                                                rand);
+                                                                random);
         candidateRatings = null;
         candidateSelection = null;
 
-        for (int i = 0; i < numberOfIterations; i++) {
+        // Wenn der Thread unterbrochen wurde oder das Budget erschpft ist,
+        // wird nach der ersten Iteration die bis dahin beste berdeckung
+        // geliefert.
+        for (int i = 0;
+             (i < numberOfIterations)
+             && ((i == 0)
+                 || (!Thread.currentThread().isInterrupted()
+                     && ((budget == null) || !budget.erschoepft())));
+             i++) {
 
             // In der ersten Iteration wird ein vorgegebenes Verfahren
             // benutzt und es erfolgt in BestRatingSelection keine zufllige
@@ -326,10 +697,10 @@ public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
                 }
                 candidateSelection = new BestRatingSelection(candidateRatings);
             } else if ((i == 1) && !linearCostProblem) {
-                candidateSelection = new BestRatingSelection(candidateRatings, rand);
+                candidateSelection = new BestRatingSelection(candidateRatings, random);
             } else if (linearCostProblem) {
                 candidateRatings = candidateRatingsCreation.candidateRatings();
-                candidateSelection = new BestRatingSelection(candidateRatings, rand);
+                candidateSelection = new BestRatingSelection(candidateRatings, random);
             }
 
             if (!unicostProblem
@@ -340,25 +711,38 @@ public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
             }
 
             egh = new EnhancedGreedyHeuristic(candidatesCreation,
-                                              candidateSelection, rand);
+                                              candidateSelection, random);
             partialCover = egh.ueberdeckung(erwFamilie, bestCover, partialCover);
 
             // Die Optimierung der Lsung.
-            partialCover = optVerfahren.optimize(erwFamilie, partialCover,
-                                                 bestCover, candidatesCreation,
-                                                 candidateSelection);
+            partialCover = optimierung.optimize(erwFamilie, partialCover,
+                                                bestCover, candidatesCreation,
+                                                candidateSelection);
 
             // Falls partialCover gleich gut wie oder besser als bestCover
             // ist, ersetze bestCover durch partialCover.
             if ((bestCover == null)
                     || (partialCover.kostenFamilie() <= bestCover.kostenFamilie())) {
                 bestCover = (ItmFamilie) partialCover.clone();
+                if (budget != null) {
+                    budget.verbesserungMelden(bestCover);
+                }
+            }
+            if (budget != null) {
+                budget.schrittZaehlen();
+            }
+
+            // Gegebenenfalls die beste berdeckung mit den anderen Ketten
+            // austauschen.
+            if ((austausch != null)
+                    && ((i + 1) % austauschIntervall == 0)) {
+                bestCover = austausch.austauschen(bestCover);
             }
 
             // Jetzt wird bestCover verkleinert. Dabei werden jedoch keine
             // notwendigen Teilmengen entfernt.
-            partialCover = shrinkVerfahren.partialCover(bestCover, erwFamilie,
-                                                        notwendigeTeilmengen);
+            partialCover = shrinking.partialCover(bestCover, erwFamilie,
+                                                  notwendigeTeilmengen);
         }
 
         return bestCover;
@@ -391,6 +775,9 @@ public class IterEnhancedGreedyHeuristic implements UeberdeckungsOptimierung {
         rueckgabe = new StringBuffer();
         rueckgabe.append("Anzahl der bisher verarbeiteten Probleme: ");
         rueckgabe.append(verarbeitProblemAnz);
+        rueckgabe.append("\n");
+        rueckgabe.append("Anzahl der parallelen Ketten: ");
+        rueckgabe.append(kettenAnz);
 
         return rueckgabe.toString();
     }
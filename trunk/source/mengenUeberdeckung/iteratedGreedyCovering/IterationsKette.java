@@ -0,0 +1,134 @@
+/*
+ * Dateiname      : IterationsKette.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.iteratedGreedyCovering;
+
+import java.util.Set;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.optimierung.Optimization;
+import mengenUeberdeckung.heuristiken.shrinking.FamilyShrinking;
+
+/**
+ * Fhrt eine Kette von Iterationen der Klasse
+ * <CODE>IterEnhancedGreedyHeuristic</CODE> aus, wenn die Methode
+ * <CODE>call</CODE> aufgerufen wird. Alle bergebenen Objekte, auer dem
+ * Objekt zum Austausch der besten berdeckung und dem
+ * Optimierungsverfahren, drfen nur von dieser Kette verwendet werden.
+ *
+ * @author  Dietmar Lippold
+ */
+public class IterationsKette implements Callable {
+
+    /**
+     * Das Verfahren, dessen Iterationen ausgefhrt werden.
+     */
+    private IterEnhancedGreedyHeuristic verfahren;
+
+    /**
+     * Die Familie der Teilmengen, die zur Erzeugung der berdeckung
+     * verwendet werden sollen.
+     */
+    private ItmFamilie erwFamilie;
+
+    /**
+     * Eine bekannte berdeckung oder <CODE>null</CODE>.
+     */
+    private ItmFamilie bekannteUeberdeckung;
+
+    /**
+     * Die notwendigen Teilmengen von <CODE>erwFamilie</CODE>.
+     */
+    private Set notwendigeTeilmengen;
+
+    /**
+     * Der Zufallsgenerator der Kette.
+     */
+    private Random random;
+
+    /**
+     * Das zu verwendende Optimierungsverfahren.
+     */
+    private Optimization optimierung;
+
+    /**
+     * Das zu verwendende Verfahren zur Verkleinerung einer berdeckung.
+     */
+    private FamilyShrinking shrinking;
+
+    /**
+     * Das Objekt zum Austausch der besten berdeckung oder
+     * <CODE>null</CODE>.
+     */
+    private UeberdeckungsAustausch austausch;
+
+    /**
+     * Erzeugt eine neue Kette.
+     *
+     * @param verfahren             Das Verfahren, dessen Iterationen
+     *                              ausgefhrt werden.
+     * @param erwFamilie            Die Familie der Teilmengen, die zur
+     *                              Erzeugung der berdeckung verwendet werden
+     *                              sollen.
+     * @param bekannteUeberdeckung  Eine bekannte berdeckung oder
+     *                              <CODE>null</CODE>.
+     * @param notwendigeTeilmengen  Die notwendigen Teilmengen von
+     *                              <CODE>erwFamilie</CODE>.
+     * @param random                Der Zufallsgenerator der Kette.
+     * @param optimierung           Das zu verwendende Optimierungsverfahren.
+     * @param shrinking             Das zu verwendende Verfahren zur
+     *                              Verkleinerung einer berdeckung.
+     * @param austausch             Das Objekt zum Austausch der besten
+     *                              berdeckung oder <CODE>null</CODE>.
+     */
+    public IterationsKette(IterEnhancedGreedyHeuristic verfahren,
+                           ItmFamilie erwFamilie,
+                           ItmFamilie bekannteUeberdeckung,
+                           Set notwendigeTeilmengen, Random random,
+                           Optimization optimierung, FamilyShrinking shrinking,
+                           UeberdeckungsAustausch austausch) {
+
+        this.verfahren = verfahren;
+        this.erwFamilie = erwFamilie;
+        this.bekannteUeberdeckung = bekannteUeberdeckung;
+        this.notwendigeTeilmengen = notwendigeTeilmengen;
+        this.random = random;
+        this.optimierung = optimierung;
+        this.shrinking = shrinking;
+        this.austausch = austausch;
+    }
+
+    /**
+     * Fhrt die Iterationen aus.
+     *
+     * @return  Die beste gefundene berdeckung vom Typ
+     *          <CODE>ItmFamilie</CODE>.
+     */
+    public Object call() {
+        return verfahren.iterationen(erwFamilie, bekannteUeberdeckung,
+                                     notwendigeTeilmengen, random,
+                                     optimierung, shrinking, austausch);
+    }
+}
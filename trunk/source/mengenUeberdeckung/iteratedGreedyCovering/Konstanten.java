@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konstanten.java
- * Letzte nderung: 18. Mrz 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold, Rene Berleong
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2007
@@ -111,6 +111,18 @@ public final class Konstanten {
      */
     public static final int NUMBER_OF_ITERATIONS = 10;
 
+    /**
+     * Anzahl der Ketten von Iterationen, die parallel ausgefhrt werden. Beim
+     * Wert 1 werden die Iterationen im aufrufenden Thread ausgefhrt.
+     */
+    public static final int KETTEN_ANZ = 1;
+
+    /**
+     * Anzahl der Iterationen, nach denen die parallelen Ketten jeweils ihre
+     * beste berdeckung austauschen. Beim Wert 0 erfolgt kein Austausch.
+     */
+    public static final int AUSTAUSCH_INTERVALL = 0;
+
     /**
      * Gibt an, ob nach Ermittlung einer Lsung das Optimierungsverfahren
      * der Klasse <CODE>InferiorOptimization</CODE> angewendet werden soll.<p>
@@ -135,6 +147,17 @@ public final class Konstanten {
      */
     public static final boolean USE_ADD_TWO_OPT = false;
 
+    /**
+     * Gibt an, ob nach Ermittlung einer Lsung das Optimierungsverfahren
+     * der Klasse <CODE>WeightedLocalSearchOptimization</CODE> angewendet
+     * werden soll. Im Gegensatz zur Klasse
+     * <CODE>LocalSearchOptimization</CODE> ist es auch bei unterschiedlichen
+     * Kosten der Teilmengen wirksam.<p>
+     *
+     * Im ursprnglichen Paper war dieser Wert implizit <CODE>false</CODE>.
+     */
+    public static final boolean USE_WEIGHTED_LOCAL_SEARCH = false;
+
     /**
      * Gre der Menge von mglichen Teilmengen, die zur Auswahl zur Verfgung
      * stehen.<p>
@@ -0,0 +1,53 @@
+/*
+ * Dateiname      : OptVerfahrenErzeugung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+
+
+package mengenUeberdeckung.iteratedGreedyCovering;
+
+import java.util.Random;
+
+import mengenUeberdeckung.optimierung.Optimization;
+
+/**
+ * Beschreibt die Erzeugung eines Optimierungsverfahrens. Sie wird verwendet,
+ * wenn mehrere Ketten von Iterationen parallel ausgefhrt werden, damit jede
+ * Kette ein eigenes Optimierungsverfahren erhlt. Die Optimierungsverfahren
+ * haben in der Regel einen inneren Zustand und drfen daher nicht
+ * gleichzeitig von mehreren Threads verwendet werden.
+ *
+ * @author  Dietmar Lippold
+ */
+public interface OptVerfahrenErzeugung {
+
+    /**
+     * Erzeugt ein neues Optimierungsverfahren, das mit keinem anderen
+     * Optimierungsverfahren einen Zustand gemeinsam hat.
+     *
+     * @param random  Der vom Optimierungsverfahren zu verwendende
+     *                Zufallsgenerator.
+     *
+     * @return  Das neu erzeugte Optimierungsverfahren.
+     */
+    public Optimization neuesOptVerfahren(Random random);
+}
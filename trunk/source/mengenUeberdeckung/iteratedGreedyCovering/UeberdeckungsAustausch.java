@@ -0,0 +1,76 @@
+/*
+ * Dateiname      : UeberdeckungsAustausch.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.iteratedGreedyCovering;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+
+/**
+ * Dient dem Austausch der besten berdeckung zwischen mehreren parallel
+ * ausgefhrten Ketten von Iterationen. Die Methoden knnen gleichzeitig aus
+ * mehreren Threads aufgerufen werden.
+ *
+ * @author  Dietmar Lippold
+ */
+public class UeberdeckungsAustausch {
+
+    /**
+     * Die beste bisher bergebene berdeckung.
+     */
+    private ItmFamilie besteUeberdeckung = null;
+
+    /**
+     * bergibt die beste berdeckung einer Kette und liefert die beste
+     * berdeckung aller Ketten. Wenn die bergebene berdeckung besser als
+     * die bisher beste ist, wird eine Kopie von ihr gespeichert und sie selbst
+     * geliefert. Wenn die bisher beste berdeckung besser ist, wird eine
+     * Kopie von dieser geliefert. Bei gleichen Kosten wird die bergebene
+     * berdeckung geliefert.
+     *
+     * @param ueberdeckung  Die beste berdeckung der aufrufenden Kette.
+     *
+     * @return  Die beste berdeckung aller Ketten.
+     */
+    public synchronized ItmFamilie austauschen(ItmFamilie ueberdeckung) {
+
+        if ((besteUeberdeckung == null)
+                || (ueberdeckung.kostenFamilie() < besteUeberdeckung.kostenFamilie())) {
+            besteUeberdeckung = (ItmFamilie) ueberdeckung.clone();
+            return ueberdeckung;
+        } else if (besteUeberdeckung.kostenFamilie() < ueberdeckung.kostenFamilie()) {
+            return (ItmFamilie) besteUeberdeckung.clone();
+        } else {
+            return ueberdeckung;
+        }
+    }
+
+    /**
+     * Liefert die beste bisher bergebene berdeckung.
+     *
+     * @return  Die beste bisher bergebene berdeckung oder <CODE>null</CODE>,
+     *          wenn noch keine bergeben wurde.
+     */
+    public synchronized ItmFamilie besteUeberdeckung() {
+        return besteUeberdeckung;
+    }
+}
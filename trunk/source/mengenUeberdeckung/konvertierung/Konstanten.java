@@ -0,0 +1,42 @@
+/*
+ * Dateiname      : Konstanten.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+
+
+package mengenUeberdeckung.konvertierung;
+
+/**
+ * Enthlt default-Werte fr die Konfiguration der Klassen aus diesem Package.
+ *
+ * @author  Dietmar Lippold
+ */
+public final class Konstanten {
+
+    /**
+     * Bei der Klasse <CODE>PortfolioUeberdeckung</CODE> die Dauer in
+     * Millisekunden, die nach Ablauf der maximalen Dauer auf die Beendigung
+     * der unterbrochenen Verfahren gewartet wird, damit sie ihre bis dahin
+     * beste berdeckung liefern knnen.
+     */
+    public static final long PORTFOLIO_NACHLAUF_DAUER = 200;
+}
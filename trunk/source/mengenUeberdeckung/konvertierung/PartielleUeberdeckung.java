@@ -1,6 +1,6 @@
 /*
  * Dateiname      : PartielleUeberdeckung.java
- * Letzte nderung: 23. Juli 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -111,6 +111,9 @@ public class PartielleUeberdeckung implements UeberdeckungsOptimierung {
      * @param bekannteUeberdeckung  Eine mglichst gute bekannte berdeckung.
      *                              Der Wert kann <CODE>null</CODE> sein, wenn
      *                              z.B. noch keine berdeckung bekannt ist.
+     *                              Wenn sie weniger Elemente berdeckt als
+     *                              berdeckt werden knnen, wird sie nur als
+     *                              Teil der Familie verwendet.
      *
      * @return  Die beste gefundene berdeckung.
      */
@@ -119,6 +122,7 @@ public class PartielleUeberdeckung implements UeberdeckungsOptimierung {
         ItmFamilie      teilUeberdeckung;
         ItmFamilie      erweiterteFamilie;
         ItmFamilie      konvProblem, konvLoesung;
+        ItmFamilie      bekannteLoesung;
         ItmFamilie      neueBekannteLoesung;
         HashMap         neuOrigItmMap;
         IndexTeilmenge  origTeilmenge;
@@ -135,13 +139,23 @@ public class PartielleUeberdeckung implements UeberdeckungsOptimierung {
             erweiterteFamilie = familie;
         }
 
+        // Eine bekannte berdeckung, die nicht alle berdeckbaren Elemente
+        // berdeckt, ist fr das SCP-Verfahren keine Lsung.
+        if ((bekannteUeberdeckung != null)
+            && (bekannteUeberdeckung.anzUeberdeckt()
+                == erweiterteFamilie.anzUeberdeckt())) {
+            bekannteLoesung = bekannteUeberdeckung;
+        } else {
+            bekannteLoesung = null;
+        }
+
         if (erweiterteFamilie.anzUeberdeckt() == 0) {
             // Die beste Teillsung ist leer.
             teilUeberdeckung = erweiterteFamilie.neueInstanz(false);
         } else if (erweiterteFamilie.anzNichtUeberdeckt() == 0) {
             // Es ist keine Konvertierung notwendig.
             teilUeberdeckung = scpVerfahren.ueberdeckung(erweiterteFamilie,
-                                                         bekannteUeberdeckung);
+                                                         bekannteLoesung);
         } else {
             // Initialisierung der lokalen Variablen.
             neuOrigItmMap = new HashMap(erweiterteFamilie.groesseFamilie());
@@ -158,10 +172,10 @@ public class PartielleUeberdeckung implements UeberdeckungsOptimierung {
                 neuOrigItmMap.put(neueTeilmenge, origTeilmenge);
             }
 
-            if (bekannteUeberdeckung != null) {
+            if (bekannteLoesung != null) {
                 // Konvertierung der Teilmengen der besten bekannten Lsung.
-                neueBekannteLoesung = bekannteUeberdeckung.neueInstanz(false);
-                itmIter = bekannteUeberdeckung.iterator();
+                neueBekannteLoesung = bekannteLoesung.neueInstanz(false);
+                itmIter = bekannteLoesung.iterator();
                 while (itmIter.hasNext()) {
                     origTeilmenge = (IndexTeilmenge) itmIter.next();
                     neueTeilmenge = (IndexTeilmenge) origTeilmenge.clone();
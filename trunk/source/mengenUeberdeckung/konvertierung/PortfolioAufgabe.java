@@ -0,0 +1,229 @@
+/*
+ * Dateiname      : PortfolioAufgabe.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.konvertierung;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
+
+/**
+ * Erzeugt mit einem Verfahren aus dem Portfolio der Klasse
+ * <CODE>PortfolioUeberdeckung</CODE> eine berdeckung, wenn die Methode
+ * <CODE>call</CODE> aufgerufen wird. Als bekannte berdeckung wird die beste
+ * berdeckung verwendet, die zum Zeitpunkt des Aufrufs von einem anderen
+ * Verfahren des Portfolios gefunden wurde. Die erzeugte berdeckung wird
+ * zur gemeinsamen besten berdeckung, wenn sie besser als diese ist.<P>
+ *
+ * Eine Aufgabe kann abgesagt werden. Wenn sie danach noch aufgerufen wird,
+ * fhrt sie das Verfahren nicht mehr aus. Auerdem kann abgefragt werden,
+ * ob das Verfahren der Aufgabe gerade ausgefhrt wird.
+ *
+ * @author  Dietmar Lippold
+ */
+public class PortfolioAufgabe implements Callable {
+
+    /**
+     * Das zu verwendende Verfahren zur Erzeugung einer berdeckung.
+     */
+    private UeberdeckungsOptimierung scpVerfahren;
+
+    /**
+     * Die Familie der Teilmengen, die nur von dieser Aufgabe verwendet wird.
+     */
+    private ItmFamilie familie;
+
+    /**
+     * Die beste bisher von allen Verfahren gefundene berdeckung.
+     */
+    private AtomicReference besteUeberdeckung;
+
+    /**
+     * Die vom Verfahren erzeugte berdeckung oder <CODE>null</CODE>, solange
+     * das Verfahren nicht beendet ist.
+     */
+    private volatile ItmFamilie ergebnis = null;
+
+    /**
+     * Gibt an, ob die Aufgabe abgesagt wurde.
+     */
+    private boolean abgesagt = false;
+
+    /**
+     * Gibt an, ob das Verfahren gerade ausgefhrt wird.
+     */
+    private boolean laeuft = false;
+
+    /**
+     * Erzeugt eine neue Aufgabe.
+     *
+     * @param scpVerfahren       Das Verfahren, das zur Berechnung einer
+     *                           berdeckung verwendet werden soll.
+     * @param familie            Die Familie der Teilmengen, die zur
+     *                           Erzeugung der berdeckung verwendet werden
+     *                           sollen. Sie darf nur von dieser Aufgabe
+     *                           verwendet werden.
+     * @param besteUeberdeckung  Die beste bisher von allen Verfahren
+     *                           gefundene berdeckung. Der enthaltene Wert
+     *                           kann <CODE>null</CODE> sein.
+     */
+    public PortfolioAufgabe(UeberdeckungsOptimierung scpVerfahren,
+                            ItmFamilie familie,
+                            AtomicReference besteUeberdeckung) {
+
+        this.scpVerfahren = scpVerfahren;
+        this.familie = familie;
+        this.besteUeberdeckung = besteUeberdeckung;
+    }
+
+    /**
+     * Ermittelt, ob die erste berdeckung besser als die zweite ist. Das ist
+     * der Fall, wenn sie weniger Elemente nicht berdeckt oder wenn sie bei
+     * gleicher Anzahl nicht berdeckter Elemente geringere Kosten hat.
+     *
+     * @param ueberdeckung1  Die erste berdeckung.
+     * @param ueberdeckung2  Die zweite berdeckung. Der Wert kann
+     *                       <CODE>null</CODE> sein.
+     *
+     * @return  <CODE>true</CODE>, wenn die erste berdeckung besser ist,
+     *          sonst <CODE>false</CODE>.
+     */
+    static boolean istBesser(ItmFamilie ueberdeckung1,
+                             ItmFamilie ueberdeckung2) {
+
+        if (ueberdeckung2 == null) {
+            return true;
+        } else if (ueberdeckung1.anzNichtUeberdeckt()
+                   != ueberdeckung2.anzNichtUeberdeckt()) {
+            return (ueberdeckung1.anzNichtUeberdeckt()
+                    < ueberdeckung2.anzNichtUeberdeckt());
+        } else {
+            return (ueberdeckung1.kostenFamilie()
+                    < ueberdeckung2.kostenFamilie());
+        }
+    }
+
+    /**
+     * Liefert die vom Verfahren erzeugte berdeckung. Diese steht auch dann
+     * zur Verfgung, wenn die Aufgabe nach ihrer Unterbrechung beendet
+     * wurde.
+     *
+     * @return  Die erzeugte berdeckung oder <CODE>null</CODE>, wenn das
+     *          Verfahren noch nicht beendet ist oder keine berdeckung
+     *          erzeugt hat.
+     */
+    public ItmFamilie ergebnis() {
+        return ergebnis;
+    }
+
+    /**
+     * Sagt die Aufgabe ab. Wenn das Verfahren noch nicht gestartet wurde,
+     * wird es danach nicht mehr gestartet. Ein schon laufendes Verfahren
+     * wird dadurch nicht beeinflut.
+     */
+    public synchronized void absagen() {
+        abgesagt = true;
+    }
+
+    /**
+     * Ermittelt, ob das Verfahren der Aufgabe gerade ausgefhrt wird.
+     *
+     * @return  <CODE>true</CODE>, wenn das Verfahren gestartet und noch
+     *          nicht beendet wurde, sonst <CODE>false</CODE>.
+     */
+    public synchronized boolean laeuft() {
+        return laeuft;
+    }
+
+    /**
+     * Vermerkt den Start des Verfahrens, wenn die Aufgabe nicht abgesagt
+     * wurde.
+     *
+     * @return  <CODE>true</CODE>, wenn das Verfahren gestartet werden darf,
+     *          sonst <CODE>false</CODE>.
+     */
+    private synchronized boolean starten() {
+        if (abgesagt) {
+            return false;
+        }
+        laeuft = true;
+        return true;
+    }
+
+    /**
+     * Vermerkt die Beendigung des Verfahrens.
+     */
+    private synchronized void beendet() {
+        laeuft = false;
+    }
+
+    /**
+     * Erzeugt die berdeckung und aktualisiert die gemeinsame beste
+     * berdeckung. Wenn die Aufgabe schon abgesagt wurde, wird keine
+     * berdeckung erzeugt.
+     *
+     * @return  Die erzeugte berdeckung vom Typ <CODE>ItmFamilie</CODE> oder
+     *          <CODE>null</CODE>, wenn keine erzeugt wurde.
+     */
+    public Object call() {
+        ItmFamilie bekannteUeberdeckung;
+        ItmFamilie ueberdeckung;
+        ItmFamilie bisherBeste;
+
+        if (!starten()) {
+            return null;
+        }
+
+        try {
+            // Eine bekannte berdeckung wird nur bergeben, wenn sie
+            // vollstndig ist.
+            bekannteUeberdeckung = (ItmFamilie) besteUeberdeckung.get();
+            if ((bekannteUeberdeckung != null)
+                    && (bekannteUeberdeckung.anzNichtUeberdeckt() == 0)) {
+                bekannteUeberdeckung = (ItmFamilie) bekannteUeberdeckung.clone();
+            } else {
+                bekannteUeberdeckung = null;
+            }
+
+            ueberdeckung = scpVerfahren.ueberdeckung(familie,
+                                                     bekannteUeberdeckung);
+            ergebnis = ueberdeckung;
+        } finally {
+            beendet();
+        }
+
+        if (ueberdeckung != null) {
+            do {
+                bisherBeste = (ItmFamilie) besteUeberdeckung.get();
+                if (!istBesser(ueberdeckung, bisherBeste)) {
+                    break;
+                }
+            } while (!besteUeberdeckung.compareAndSet(bisherBeste,
+                                                      ueberdeckung));
+        }
+
+        return ueberdeckung;
+    }
+}
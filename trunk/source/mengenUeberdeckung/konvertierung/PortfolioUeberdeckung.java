@@ -0,0 +1,367 @@
+/*
+ * Dateiname      : PortfolioUeberdeckung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.konvertierung;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
+
+/**
+ * Erzeugt eine berdeckung mit mehreren Verfahren, die dem Konstruktor als
+ * Liste bergeben werden, und liefert die beste der erzeugten berdeckungen.
+ * Die Verfahren werden parallel in einer vorgegebenen Anzahl von Threads
+ * ausgefhrt. Ein Verfahren, das erst gestartet wird, nachdem ein anderes
+ * Verfahren eine berdeckung gefunden hat, erhlt die bis dahin beste
+ * berdeckung als bekannte berdeckung.<P>
+ *
+ * Optional kann eine maximale Dauer vorgegeben werden. Nach deren Ablauf
+ * werden die noch laufenden Verfahren unterbrochen. Verfahren, die den
+ * Status der Unterbrechung ihres Threads prfen, beenden sich dann
+ * vorzeitig. Auf deren Beendigung wird noch eine kurze Zeit gewartet, damit
+ * auch ihre bis dahin beste berdeckung bercksichtigt wird. Geliefert
+ * wird die beste bis dahin gefundene berdeckung.<P>
+ *
+ * Jedes Verfahren darf nur einmal in der Liste enthalten sein und erhlt
+ * eine eigene Kopie der Familie.<P>
+ *
+ * Die Verfahren sollten den Status der Unterbrechung ihres Threads prfen,
+ * da ein Thread nicht zwangsweise beendet werden kann. Ein Verfahren, das
+ * nach der Wartezeit auf seine Beendigung noch luft, wird bei den folgenden
+ * Aufrufen ausgelassen, bis es beendet ist. Dadurch wird eine Instanz eines
+ * Verfahrens nie gleichzeitig in mehreren Threads verwendet.
+ *
+ * @author  Dietmar Lippold
+ */
+public class PortfolioUeberdeckung implements UeberdeckungsOptimierung {
+
+    /**
+     * Die zu verwendenden Verfahren zur Erzeugung einer berdeckung.
+     */
+    private UeberdeckungsOptimierung[] scpVerfahren;
+
+    /**
+     * Die maximale Dauer der Erzeugung einer berdeckung in Millisekunden.
+     * Beim Wert Null ist die Dauer nicht begrenzt.
+     */
+    private long maxDauer;
+
+    /**
+     * Die Anzahl der Threads, in denen die Verfahren ausgefhrt werden.
+     */
+    private int threadAnz;
+
+    /**
+     * Die Anzahl der bisher verarbeiteten Probleme.
+     */
+    private int verarbeitProblemAnz = 0;
+
+    /**
+     * Die Anzahl der Probleme, bei denen die maximale Dauer berschritten
+     * wurde.
+     */
+    private int abbruchAnz = 0;
+
+    /**
+     * Die Anzahl, wie oft ein Verfahren ausgelassen wurde, weil es von einem
+     * vorherigen Aufruf noch ausgefhrt wurde.
+     */
+    private int auslassAnz = 0;
+
+    /**
+     * Zu jedem Verfahren die Aufgabe, mit der es zuletzt ausgefhrt wurde,
+     * oder <CODE>null</CODE>, wenn es noch nicht ausgefhrt wurde.
+     */
+    private PortfolioAufgabe[] letzteAufgaben;
+
+    /**
+     * Zu jedem Verfahren die Anzahl der Probleme, bei denen es die beste
+     * berdeckung geliefert hat.
+     */
+    private int[] besteAnz;
+
+    /**
+     * Erzeugt eine neue Instanz der Klasse.
+     *
+     * @param verfahrenListe  Die Liste der Verfahren vom Typ
+     *                        <CODE>UeberdeckungsOptimierung</CODE>, die zur
+     *                        Berechnung einer berdeckung verwendet werden
+     *                        sollen.
+     * @param maxDauer        Die maximale Dauer der Erzeugung einer
+     *                        berdeckung in Millisekunden. Beim Wert Null ist
+     *                        die Dauer nicht begrenzt.
+     * @param threadAnz       Die Anzahl der Threads, in denen die Verfahren
+     *                        ausgefhrt werden.
+     *
+     * @throws IllegalArgumentException  Die Liste ist leer, die maximale
+     *                                   Dauer ist negativ oder die Anzahl
+     *                                   der Threads ist kleiner oder gleich
+     *                                   Null.
+     */
+    public PortfolioUeberdeckung(List verfahrenListe, long maxDauer,
+                                 int threadAnz) {
+
+        if (verfahrenListe.isEmpty()) {
+            throw new IllegalArgumentException("Die Liste der Verfahren ist"
+                                               + " leer");
+        }
+        if (maxDauer < 0) {
+            throw new IllegalArgumentException("Die maximale Dauer ist"
+                                               + " negativ");
+        }
+        if (threadAnz <= 0) {
+            throw new IllegalArgumentException("Die Anzahl der Threads ist"
+                                               + " kleiner oder gleich Null");
+        }
+
+        this.scpVerfahren = new UeberdeckungsOptimierung[verfahrenListe.size()];
+        verfahrenListe.toArray(this.scpVerfahren);
+        this.maxDauer = maxDauer;
+        this.threadAnz = threadAnz;
+        this.besteAnz = new int[scpVerfahren.length];
+        this.letzteAufgaben = new PortfolioAufgabe[scpVerfahren.length];
+    }
+
+    /**
+     * Erzeugt eine neue Instanz der Klasse, die die Verfahren in so vielen
+     * Threads ausfhrt, wie Verfahren und Prozessoren vorhanden sind.
+     *
+     * @param verfahrenListe  Die Liste der Verfahren vom Typ
+     *                        <CODE>UeberdeckungsOptimierung</CODE>, die zur
+     *                        Berechnung einer berdeckung verwendet werden
+     *                        sollen.
+     * @param maxDauer        Die maximale Dauer der Erzeugung einer
+     *                        berdeckung in Millisekunden. Beim Wert Null ist
+     *                        die Dauer nicht begrenzt.
+     *
+     * @throws IllegalArgumentException  Die Liste ist leer oder die maximale
+     *                                   Dauer ist negativ.
+     */
+    public PortfolioUeberdeckung(List verfahrenListe, long maxDauer) {
+        this(verfahrenListe, maxDauer,
+             Math.min(verfahrenListe.size(),
+                      Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Erzeugt eine neue Instanz der Klasse ohne Begrenzung der Dauer.
+     *
+     * @param verfahrenListe  Die Liste der Verfahren vom Typ
+     *                        <CODE>UeberdeckungsOptimierung</CODE>, die zur
+     *                        Berechnung einer berdeckung verwendet werden
+     *                        sollen.
+     *
+     * @throws IllegalArgumentException  Die Liste ist leer.
+     */
+    public PortfolioUeberdeckung(List verfahrenListe) {
+        this(verfahrenListe, 0);
+    }
+
+    /**
+     * Versucht zu der bergebenen Familie eine Teil-Familie zu erzeugen, die
+     * als neues Objekt Elemente (vom Typ <CODE>IndexTeilmenge</CODE>) der
+     * bergebenen Familie enthlt. Dazu werden alle Verfahren ausgefhrt und
+     * die beste der erzeugten berdeckungen geliefert. Bei gleich guten
+     * berdeckungen wird die des Verfahrens geliefert, das in der Liste
+     * zuerst steht. Ein Verfahren, das von einem vorherigen Aufruf noch
+     * ausgefhrt wird, wird ausgelassen.
+     *
+     * @param familie               Die Familie der Teilmengen, die zur
+     *                              Erzeugung der berdeckung verwendet werden
+     *                              sollen.
+     * @param bekannteUeberdeckung  Eine mglichst gute bekannte berdeckung.
+     *                              Der Wert kann <CODE>null</CODE> sein, wenn
+     *                              z.B. noch keine berdeckung bekannt ist.
+     *
+     * @return  Die beste gefundene berdeckung. Wenn innerhalb der maximalen
+     *          Dauer keine berdeckung erzeugt wurde, wird
+     *          <CODE>bekannteUeberdeckung</CODE> geliefert.
+     */
+    public ItmFamilie ueberdeckung(ItmFamilie familie,
+                                   ItmFamilie bekannteUeberdeckung) {
+        AtomicReference    besteUeberdeckung;
+        PortfolioAufgabe[] aufgaben;
+        ForkJoinPool       pool;
+        Future[]           ergebnisse;
+        ItmFamilie         ueberdeckung;
+        ItmFamilie         bestCover;
+        Throwable          ursache;
+        long               endZeit, restDauer;
+        int                besteNr;
+        boolean            abgebrochen;
+
+        verarbeitProblemAnz++;
+
+        besteUeberdeckung = new AtomicReference(bekannteUeberdeckung);
+        aufgaben = new PortfolioAufgabe[scpVerfahren.length];
+        ergebnisse = new Future[scpVerfahren.length];
+        endZeit = System.currentTimeMillis() + maxDauer;
+        abgebrochen = false;
+
+        pool = new ForkJoinPool(threadAnz);
+        try {
+            for (int nr = 0; nr < scpVerfahren.length; nr++) {
+                if ((letzteAufgaben[nr] != null) && letzteAufgaben[nr].laeuft()) {
+                    auslassAnz++;
+                } else {
+                    aufgaben[nr] = new PortfolioAufgabe(scpVerfahren[nr],
+                                                        (ItmFamilie) familie.clone(),
+                                                        besteUeberdeckung);
+                    ergebnisse[nr] = pool.submit(aufgaben[nr]);
+                }
+            }
+
+            for (int nr = 0; (nr < scpVerfahren.length) && !abgebrochen; nr++) {
+                if (ergebnisse[nr] == null) {
+                    // Das Verfahren wurde ausgelassen.
+                    continue;
+                }
+                if (maxDauer == 0) {
+                    ergebnisse[nr].get();
+                } else {
+                    restDauer = endZeit - System.currentTimeMillis();
+                    try {
+                        ergebnisse[nr].get(Math.max(restDauer, 0),
+                                           TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) {
+                        abgebrochen = true;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abgebrochen = true;
+        } catch (ExecutionException e) {
+            ursache = e.getCause();
+            if (ursache instanceof RuntimeException) {
+                throw (RuntimeException) ursache;
+            } else if (ursache instanceof Error) {
+                throw (Error) ursache;
+            } else {
+                throw new RuntimeException(ursache);
+            }
+        } finally {
+            // Noch laufende Verfahren unterbrechen und noch nicht
+            // gestartete Verfahren absagen.
+            pool.shutdownNow();
+            for (int nr = 0; nr < scpVerfahren.length; nr++) {
+                if (aufgaben[nr] != null) {
+                    aufgaben[nr].absagen();
+                    letzteAufgaben[nr] = aufgaben[nr];
+                }
+            }
+        }
+
+        if (abgebrochen) {
+            abbruchAnz++;
+
+            // Den unterbrochenen Verfahren noch Zeit geben, ihre bis dahin
+            // beste berdeckung zu liefern.
+            try {
+                pool.awaitTermination(Konstanten.PORTFOLIO_NACHLAUF_DAUER,
+                                      TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Die beste berdeckung der beendeten Verfahren ermitteln. Da die
+        // Aufgaben der unterbrochenen Verfahren von shutdownNow abgebrochen
+        // werden, wird deren Ergebnis direkt von der Aufgabe abgefragt. Die
+        // Ausnahme eines Verfahrens, das erst nach Ablauf der maximalen
+        // Dauer beendet wurde, wird dabei ignoriert.
+        bestCover = null;
+        besteNr = -1;
+        for (int nr = 0; nr < scpVerfahren.length; nr++) {
+            if (aufgaben[nr] == null) {
+                continue;
+            }
+            ueberdeckung = aufgaben[nr].ergebnis();
+            if ((ueberdeckung != null)
+                    && PortfolioAufgabe.istBesser(ueberdeckung, bestCover)) {
+                bestCover = ueberdeckung;
+                besteNr = nr;
+            }
+        }
+
+        if (bestCover == null) {
+            return bekannteUeberdeckung;
+        }
+
+        besteAnz[besteNr]++;
+        return bestCover;
+    }
+
+    /**
+     * Versucht zu der bergebenen Familie eine Teil-Familie zu erzeugen, die
+     * als neues Objekt Elemente (vom Typ <CODE>IndexTeilmenge</CODE>) der
+     * bergebenen Familie enthlt. Dazu werden alle Verfahren ausgefhrt und
+     * die beste der erzeugten berdeckungen geliefert.
+     *
+     * @param familie  Die Familie der Teilmengen, die zur Erzeugung der
+     *                 berdeckung verwendet werden sollen.
+     *
+     * @return  Die beste gefundene berdeckung oder <CODE>null</CODE>, wenn
+     *          innerhalb der maximalen Dauer keine erzeugt wurde.
+     */
+    public ItmFamilie ueberdeckung(ItmFamilie familie) {
+        return ueberdeckung(familie, null);
+    }
+
+    /**
+     * Liefert einen Text, der Daten zu den bisherigen Erzeugungen der
+     * berdeckungen liefert.
+     *
+     * @return  Einen Text, der Daten zu den bisherigen Erzeugungen der
+     *          berdeckungen liefert.
+     */
+    public String statistik() {
+        StringBuffer rueckgabe;
+
+        rueckgabe = new StringBuffer();
+        rueckgabe.append("Anzahl der bisher verarbeiteten Probleme: ");
+        rueckgabe.append(verarbeitProblemAnz);
+        rueckgabe.append("\n");
+        rueckgabe.append("Anzahl der berschreitungen der maximalen Dauer: ");
+        rueckgabe.append(abbruchAnz);
+        rueckgabe.append("\n");
+        rueckgabe.append("Anzahl der ausgelassenen, noch laufenden Verfahren: ");
+        rueckgabe.append(auslassAnz);
+        for (int nr = 0; nr < scpVerfahren.length; nr++) {
+            rueckgabe.append("\n");
+            rueckgabe.append("Anzahl der besten berdeckungen von Verfahren ");
+            rueckgabe.append(nr + 1);
+            rueckgabe.append(": ");
+            rueckgabe.append(besteAnz[nr]);
+        }
+
+        return rueckgabe.toString();
+    }
+}
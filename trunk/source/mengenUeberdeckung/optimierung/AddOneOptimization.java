@@ -1,6 +1,6 @@
 /*
  * Dateiname      : AddOneOptimization.java
- * Letzte nderung: 13. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -31,6 +31,7 @@ import java.util.Collection;
 
 import mengenUeberdeckung.allgemein.IndexTeilmenge;
 import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.ItmAenderung;
 import mengenUeberdeckung.heuristiken.creation.CandidatesCreation;
 import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
 
@@ -81,6 +82,7 @@ public class AddOneOptimization implements Optimization {
         LinkedList     redundanteItmListe;
         IndexTeilmenge hinzuTeilmenge;
         IndexTeilmenge besteHinzuTeilmenge = null;
+        ItmAenderung   aenderung;
         Iterator       hinzuIter;
         float          minKosten;
         float          neuKosten;
@@ -104,11 +106,13 @@ public class AddOneOptimization implements Optimization {
                 /*
                  * Prfen, ob durch das Hinzufgen der Teilmenge andere
                  * Teilmengen mit hheren Kosten redundant (nicht notwendig)
-                 * werden.
+                 * werden. Die Teilmenge wird nur dann tatschlich
+                 * hinzugefgt.
                  */
-                actualCover.teilmengeHinzufuegen(hinzuTeilmenge);
-                if (actualCover.anzNichtNotwendigeTeilmengen() > 1) {
+                aenderung = new ItmAenderung(hinzuTeilmenge, null);
+                if (actualCover.neuNichtNotwendigeTeilmengen(aenderung).size() > 1) {
 
+                    actualCover.teilmengeHinzufuegen(hinzuTeilmenge);
                     redundanteItms = actualCover.nichtNotwendigeTeilmengen();
                     redundanteItms.remove(hinzuTeilmenge);
                     redundanteItmListe = new LinkedList(redundanteItms);
@@ -119,8 +123,8 @@ public class AddOneOptimization implements Optimization {
                         besteHinzuTeilmenge = hinzuTeilmenge;
                         minKosten = neuKosten;
                     }
+                    actualCover.teilmengeEntfernen(hinzuTeilmenge);
                 }
-                actualCover.teilmengeEntfernen(hinzuTeilmenge);
             }
         }
 
@@ -0,0 +1,251 @@
+/*
+ * Dateiname      : AddTwoAufgabe.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.optimierung;
+
+import java.util.Set;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.ItmAenderung;
+import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
+
+/**
+ * Bewertet die Paare von Teilmengen aus einem Abschnitt von Zeilen der
+ * Kandidaten-Paare, die zu einer berdeckung hinzugenommen werden sollen.
+ * Zu jedem Paar werden die minimalen Kosten ermittelt, die nach Hinzunahme
+ * der beiden Teilmengen und Entfernung redundanter Teilmengen entstehen.
+ * Gespeichert wird nur das erste Paar mit den geringsten Kosten. Die
+ * berdeckung wird dabei verndert, am Ende aber wieder in ihren
+ * Ausgangszustand versetzt.<P>
+ *
+ * Wenn kein Verfahren zur Auswahl einer zu entfernenden Teilmenge bergeben
+ * wird, greift die Aufgabe nur auf ihre eigene berdeckung zu. Die Paare,
+ * bei deren Bewertung eine Auswahl erforderlich sein kann, werden dann nicht
+ * bewertet, sondern ihre Schlssel werden in ihrer Reihenfolge gespeichert.
+ *
+ * @author  Dietmar Lippold
+ */
+public class AddTwoAufgabe implements Callable {
+
+    /**
+     * Die berdeckung, die nur von dieser Aufgabe verwendet wird.
+     */
+    private ItmFamilie cover;
+
+    /**
+     * Die zu bewertenden Paare.
+     */
+    private KandidatenPaare paare;
+
+    /**
+     * Die Nummer der ersten zu bewertenden Zeile.
+     */
+    private int vonNummer;
+
+    /**
+     * Die Nummer nach der der letzten zu bewertenden Zeile.
+     */
+    private int bisNummer;
+
+    /**
+     * Das Verfahren zur Auswahl einer zu entfernenden Teilmenge oder der
+     * Wert <CODE>null</CODE>.
+     */
+    private CandidateSelection candidateSelection;
+
+    /**
+     * Die geringsten Kosten der bewerteten Paare.
+     */
+    private float minKosten = Float.MAX_VALUE;
+
+    /**
+     * Der Schlssel des ersten Paares mit den geringsten Kosten oder der
+     * Wert -1, wenn kein Paar geringere Kosten als
+     * <CODE>Float.MAX_VALUE</CODE> hat.
+     */
+    private long minSchluessel = -1;
+
+    /**
+     * Die Schlssel der nicht bewerteten Paare. Es sind nur die ersten
+     * <CODE>offenAnz</CODE> Eintrge gltig.
+     */
+    private long[] offeneSchluessel = new long[0];
+
+    /**
+     * Die Anzahl der gltigen Eintrge in <CODE>offeneSchluessel</CODE>.
+     */
+    private int offenAnz = 0;
+
+    /**
+     * Erzeugt eine neue Aufgabe.
+     *
+     * @param cover               Die berdeckung, zu der die Paare
+     *                            hinzugenommen werden sollen. Sie darf nur
+     *                            von dieser Aufgabe verwendet werden und darf
+     *                            keine der Teilmengen der Paare enthalten.
+     * @param paare               Die zu bewertenden Paare.
+     * @param vonNummer           Die Nummer der ersten zu bewertenden Zeile.
+     * @param bisNummer           Die Nummer nach der der letzten zu
+     *                            bewertenden Zeile.
+     * @param candidateSelection  Das Verfahren zur Auswahl einer zu
+     *                            entfernenden Teilmenge oder der Wert
+     *                            <CODE>null</CODE>, wenn keine Auswahl
+     *                            erfolgen soll.
+     */
+    public AddTwoAufgabe(ItmFamilie cover, KandidatenPaare paare,
+                         int vonNummer, int bisNummer,
+                         CandidateSelection candidateSelection) {
+
+        this.cover = cover;
+        this.paare = paare;
+        this.vonNummer = vonNummer;
+        this.bisNummer = bisNummer;
+        this.candidateSelection = candidateSelection;
+    }
+
+    /**
+     * Liefert die minimalen Kosten nach Hinzunahme der beiden bergebenen
+     * Teilmengen zur berdeckung und Entfernung redundanter Teilmengen.
+     *
+     * @param hinzuTeilmenge1  Die erste hinzuzunehmende Teilmenge.
+     * @param hinzuTeilmenge2  Die zweite hinzuzunehmende Teilmenge.
+     *
+     * @return  Die minimalen Kosten. Wenn durch die Hinzunahme keine andere
+     *          Teilmenge redundant wird, ist der Wert
+     *          <CODE>Float.MAX_VALUE</CODE>. Wenn fr die Bewertung eine
+     *          Auswahl erforderlich sein kann, aber kein Verfahren dafr
+     *          vorhanden ist, ist der Wert <CODE>Float.NaN</CODE>.
+     */
+    public float paarKosten(IndexTeilmenge hinzuTeilmenge1,
+                            IndexTeilmenge hinzuTeilmenge2) {
+        ItmAenderung aenderung;
+        LinkedList   hinzuPaar;
+        Set          redundanteItms;
+        float        kosten;
+
+        /*
+         * Prfen, ob durch das Hinzufgen der beiden Teilmengen andere
+         * Teilmengen redundant (nicht notwendig) werden. Die Teilmengen
+         * werden nur dann tatschlich hinzugefgt.
+         */
+        hinzuPaar = new LinkedList();
+        hinzuPaar.add(hinzuTeilmenge1);
+        hinzuPaar.add(hinzuTeilmenge2);
+        aenderung = new ItmAenderung(hinzuPaar, new LinkedList());
+        if (cover.neuNichtNotwendigeTeilmengen(aenderung).size() <= 2) {
+            return Float.MAX_VALUE;
+        }
+
+        cover.teilmengeHinzufuegen(hinzuTeilmenge1);
+        cover.teilmengeHinzufuegen(hinzuTeilmenge2);
+        redundanteItms = cover.nichtNotwendigeTeilmengen();
+        redundanteItms.remove(hinzuTeilmenge1);
+        redundanteItms.remove(hinzuTeilmenge2);
+
+        // Eine Auswahl erfolgt nur bei mehr als FULL_OPT_BORDER
+        // redundanten Teilmengen.
+        if ((candidateSelection == null)
+            && (redundanteItms.size() > Konstanten.FULL_OPT_BORDER)) {
+            kosten = Float.NaN;
+        } else {
+            kosten = OptSupport.minCostWithoutRedundant(cover,
+                                                        new LinkedList(redundanteItms),
+                                                        candidateSelection);
+        }
+        cover.teilmengeEntfernen(hinzuTeilmenge2);
+        cover.teilmengeEntfernen(hinzuTeilmenge1);
+
+        return kosten;
+    }
+
+    /**
+     * Liefert die geringsten Kosten der bewerteten Paare.
+     *
+     * @return  Die geringsten Kosten der bewerteten Paare oder den Wert
+     *          <CODE>Float.MAX_VALUE</CODE>, wenn durch kein Paar eine
+     *          andere Teilmenge redundant wird.
+     */
+    public float minKosten() {
+        return minKosten;
+    }
+
+    /**
+     * Liefert den Schlssel des ersten Paares mit den geringsten Kosten.
+     *
+     * @return  Den Schlssel des ersten Paares mit den geringsten Kosten
+     *          oder den Wert -1, wenn durch kein Paar eine andere Teilmenge
+     *          redundant wird.
+     */
+    public long minSchluessel() {
+        return minSchluessel;
+    }
+
+    /**
+     * Liefert die Schlssel der Paare in ihrer Reihenfolge, die mangels
+     * eines Verfahrens zur Auswahl nicht bewertet wurden.
+     *
+     * @return  Die Schlssel der nicht bewerteten Paare.
+     */
+    public long[] offeneSchluessel() {
+        return Arrays.copyOf(offeneSchluessel, offenAnz);
+    }
+
+    /**
+     * Bewertet die Paare der Zeilen des Abschnitts.
+     *
+     * @return  Den Wert <CODE>null</CODE>.
+     */
+    public Object call() {
+        int[] positionen;
+        long  schluessel;
+        float kosten;
+        int   paarAnz;
+
+        positionen = new int[paare.itmAnz()];
+        for (int nummer = vonNummer; nummer < bisNummer; nummer++) {
+            paarAnz = paare.zeilePaare(nummer, positionen);
+            for (int i = 0; i < paarAnz; i++) {
+                schluessel = paare.schluessel(nummer, positionen[i]);
+                kosten = paarKosten(paare.teilmenge1(schluessel),
+                                    paare.teilmenge2(schluessel));
+                if (Float.isNaN(kosten)) {
+                    if (offenAnz == offeneSchluessel.length) {
+                        offeneSchluessel = Arrays.copyOf(offeneSchluessel,
+                                                         2 * offenAnz + 16);
+                    }
+                    offeneSchluessel[offenAnz] = schluessel;
+                    offenAnz++;
+                } else if (kosten < minKosten) {
+                    minKosten = kosten;
+                    minSchluessel = schluessel;
+                }
+            }
+        }
+
+        return null;
+    }
+}
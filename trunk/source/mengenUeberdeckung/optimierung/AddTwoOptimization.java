@@ -1,6 +1,6 @@
 /*
  * Dateiname      : AddTwoOptimization.java
- * Letzte nderung: 13. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -24,11 +24,11 @@
 
 package mengenUeberdeckung.optimierung;
 
-import java.util.Iterator;
 import java.util.Set;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
 
 import mengenUeberdeckung.allgemein.IndexTeilmenge;
 import mengenUeberdeckung.allgemein.ItmFamilie;
@@ -37,22 +37,207 @@ import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
 
 /**
  * Optimiert eine Lsung zu einem berdeckungsproblem durch Hinzunahme zweier
- * Teilmengen und anschlieender Entfernung der redundanten Teilmengen.
+ * Teilmengen und anschlieender Entfernung der redundanten Teilmengen.<P>
+ *
+ * Betrachtet werden nur Paare von Teilmengen, deren Vereinigung alle
+ * Elemente enthlt, die eine Teilmenge der Lsung alleine berdeckt. Nur
+ * durch deren Hinzunahme kann eine Teilmenge der Lsung redundant werden.
+ * Die Paare werden ber einen Index ermittelt, der zu jedem Element die
+ * Teilmengen liefert, die es enthalten. Die Bewertung der Paare kann auf
+ * mehrere Threads verteilt werden, die jeweils eine eigene Kopie der Lsung
+ * verwenden. Das bergebene Verfahren zur Auswahl einer zu entfernenden
+ * Teilmenge wird dabei nur im aufrufenden Thread verwendet, und zwar in der
+ * Reihenfolge der Paare. Das Ergebnis ist daher unabhngig von der Anzahl
+ * der Threads.
  *
  * @author  Dietmar Lippold
  */
 public class AddTwoOptimization implements Optimization {
 
+    /**
+     * Die Anzahl der Threads, in denen die Paare von Teilmengen bewertet
+     * werden.
+     */
+    private int threadAnz;
+
+    /**
+     * Erzeugt eine neue Instanz, die die Paare von Teilmengen in der
+     * bergebenen Anzahl von Threads bewertet.
+     *
+     * @param threadAnz  Die Anzahl der Threads, in denen die Paare von
+     *                   Teilmengen bewertet werden. Beim Wert Eins erfolgt
+     *                   die Bewertung im aufrufenden Thread.
+     *
+     * @throws IllegalArgumentException  Die Anzahl der Threads ist kleiner
+     *                                   oder gleich Null.
+     */
+    public AddTwoOptimization(int threadAnz) {
+
+        if (threadAnz <= 0) {
+            throw new IllegalArgumentException("Die Anzahl der Threads ist"
+                                               + " kleiner oder gleich Null");
+        }
+
+        this.threadAnz = threadAnz;
+    }
+
+    /**
+     * Erzeugt eine neue Instanz, die die Paare von Teilmengen in der
+     * voreingestellten Anzahl von Threads bewertet.
+     */
+    public AddTwoOptimization() {
+        this(Konstanten.ADD_TWO_THREAD_ANZ);
+    }
+
+    /**
+     * Ermittelt das erste Paar mit den geringsten Kosten nach seiner
+     * Hinzunahme zu <CODE>actualCover</CODE> und Entfernung redundanter
+     * Teilmengen. Die Zeilen der Paare werden dazu in Abschnitte mit
+     * ungefhr gleich vielen Paaren aufgeteilt, die parallel jeweils auf
+     * einer Kopie von <CODE>actualCover</CODE> bewertet werden. Jede Aufgabe
+     * liefert nur ihr bestes Paar.<P>
+     *
+     * Die parallelen Aufgaben verwenden kein Verfahren zur Auswahl. Die
+     * Paare, fr die eine Auswahl erforderlich sein kann, werden danach im
+     * aufrufenden Thread in ihrer Reihenfolge bewertet. Dadurch wird
+     * <CODE>candidateSelection</CODE>, dessen Bewertungen nicht fr eine
+     * gleichzeitige Verwendung ausgelegt sind, nur von einem Thread und in
+     * derselben Reihenfolge wie bei der Bewertung in einem Thread verwendet.
+     *
+     * @param actualCover         Die aktuelle Lsung.
+     * @param paare               Die Paare von Teilmengen.
+     * @param candidateSelection  Das Verfahren zur Auswahl einer zu
+     *                            entfernenden Teilmenge.
+     *
+     * @return  Den Schlssel des ersten Paares mit den geringsten Kosten,
+     *          wenn diese geringer als die von <CODE>actualCover</CODE> sind,
+     *          sonst den Wert -1.
+     */
+    private long bestesPaar(ItmFamilie actualCover, KandidatenPaare paare,
+                            CandidateSelection candidateSelection) {
+        AddTwoAufgabe[] aufgaben;
+        AddTwoAufgabe   einzelAufgabe;
+        ForkJoinPool    pool;
+        Future[]        ergebnisse;
+        Throwable       ursache;
+        int[]           positionen;
+        int[]           zeilenPaarAnz;
+        int[]           grenzen;
+        long[]          offeneSchluessel;
+        long            paarAnz, summe, minSchluessel;
+        float           kosten, minKosten;
+        int             itmAnz, abschnittAnz, abschnitt;
+
+        // Die Anzahl der Paare jeder Zeile ermitteln.
+        itmAnz = paare.itmAnz();
+        positionen = new int[itmAnz];
+        zeilenPaarAnz = new int[itmAnz];
+        paarAnz = 0;
+        for (int nummer = 0; nummer < itmAnz; nummer++) {
+            zeilenPaarAnz[nummer] = paare.zeilePaare(nummer, positionen);
+            paarAnz += zeilenPaarAnz[nummer];
+        }
+
+        abschnittAnz = (int) Math.min(threadAnz, paarAnz);
+        if (abschnittAnz <= 1) {
+            aufgaben = new AddTwoAufgabe[1];
+            aufgaben[0] = new AddTwoAufgabe(actualCover, paare, 0, itmAnz,
+                                            candidateSelection);
+            aufgaben[0].call();
+        } else {
+            // Die Grenzen der Abschnitte so festlegen, da jeder Abschnitt
+            // ungefhr gleich viele Paare enthlt.
+            grenzen = new int[abschnittAnz + 1];
+            grenzen[abschnittAnz] = itmAnz;
+            summe = 0;
+            abschnitt = 1;
+            for (int nummer = 0; nummer < itmAnz; nummer++) {
+                summe += zeilenPaarAnz[nummer];
+                while ((abschnitt < abschnittAnz)
+                       && (summe >= paarAnz * abschnitt / abschnittAnz)) {
+                    grenzen[abschnitt] = nummer + 1;
+                    abschnitt++;
+                }
+            }
+
+            aufgaben = new AddTwoAufgabe[abschnittAnz];
+            ergebnisse = new Future[abschnittAnz];
+            pool = new ForkJoinPool(abschnittAnz);
+            try {
+                for (int a = 0; a < abschnittAnz; a++) {
+                    aufgaben[a] = new AddTwoAufgabe((ItmFamilie) actualCover.clone(),
+                                                    paare, grenzen[a],
+                                                    grenzen[a + 1], null);
+                    ergebnisse[a] = pool.submit(aufgaben[a]);
+                }
+
+                for (int a = 0; a < abschnittAnz; a++) {
+                    ergebnisse[a].get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Unterbrechung bei der parallelen"
+                                           + " Ausfhrung", e);
+            } catch (ExecutionException e) {
+                ursache = e.getCause();
+                if (ursache instanceof RuntimeException) {
+                    throw (RuntimeException) ursache;
+                } else if (ursache instanceof Error) {
+                    throw (Error) ursache;
+                } else {
+                    throw new RuntimeException(ursache);
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        // Das beste Paar der Abschnitte in ihrer Reihenfolge ermitteln.
+        minKosten = actualCover.kostenFamilie();
+        minSchluessel = -1;
+        for (int a = 0; a < aufgaben.length; a++) {
+            if (aufgaben[a].minKosten() < minKosten) {
+                minKosten = aufgaben[a].minKosten();
+                minSchluessel = aufgaben[a].minSchluessel();
+            }
+        }
+
+        // Die nicht bewerteten Paare in ihrer Reihenfolge bewerten. Bei
+        // gleichen Kosten wird das Paar mit dem kleineren Schlssel
+        // genommen.
+        einzelAufgabe = new AddTwoAufgabe(actualCover, paare, 0, 0,
+                                          candidateSelection);
+        for (int a = 0; a < aufgaben.length; a++) {
+            offeneSchluessel = aufgaben[a].offeneSchluessel();
+            for (int i = 0; i < offeneSchluessel.length; i++) {
+                kosten = einzelAufgabe.paarKosten(paare.teilmenge1(offeneSchluessel[i]),
+                                                  paare.teilmenge2(offeneSchluessel[i]));
+                if ((kosten < minKosten)
+                    || (kosten == minKosten) && (minSchluessel >= 0)
+                       && (offeneSchluessel[i] < minSchluessel)) {
+                    minKosten = kosten;
+                    minSchluessel = offeneSchluessel[i];
+                }
+            }
+        }
+
+        return minSchluessel;
+    }
+
     /**
      * Versucht, die Lsungsmenge durch Hinzunahme zweier einzelner Teilmenger
      * einmal zu optimieren. Dazu werden nacheinander jeweils alle
-     * Kombinationen von zwei Teilmengen zur Familie hinzugefgt und
-     * ermittelt, ob durch das Entfernen einer Auswahl der dann nicht
-     * notwendigen Teilmengen geringere Kosten als am Anfang entstehen.
-     * Anschlieend wir die Familie mit den geringsten Kosten erzeugt.<P>
+     * Kombinationen von zwei Teilmengen zur Familie hinzugefgt, durch die
+     * mindestens eine Teilmenge der Familie redundant wird, und ermittelt,
+     * ob durch das Entfernen einer Auswahl der dann nicht notwendigen
+     * Teilmengen geringere Kosten als am Anfang entstehen. Anschlieend wir
+     * die Familie mit den geringsten Kosten erzeugt. Bei gleichen Kosten
+     * wird die Kombination genommen, die bei der Iteration ber
+     * <CODE>problemItms</CODE> zuerst auftritt.<P>
      *
-     * Diese Methode hat quadratischen Aufwand bezglich der Anzahl der
-     * Teilmengen in <CODE>problemItms</CODE>.
+     * Der Aufwand dieser Methode ist linear in der Anzahl der betrachteten
+     * Kombinationen. Diese ist im ungnstigsten Fall quadratisch bezglich
+     * der Anzahl der Teilmengen in <CODE>problemItms</CODE>.
      *
      * @param problemItms         Die Teilmengen des ursprnglichen
      *                            SCP-Problems.
@@ -80,18 +265,12 @@ public class AddTwoOptimization implements Optimization {
                                       ItmFamilie bestKnownSolution,
                                       CandidatesCreation candidatesCreation,
                                       CandidateSelection candidateSelection) {
-        ItmFamilie     newCover;
-        HashSet        hinzuTeilmengen2;
-        Set            redundanteItms;
-        LinkedList     redundanteItmListe;
-        IndexTeilmenge hinzuTeilmenge1;
-        IndexTeilmenge hinzuTeilmenge2;
-        IndexTeilmenge besteHinzuTeilmenge1 = null;
-        IndexTeilmenge besteHinzuTeilmenge2 = null;
-        Iterator       hinzuIter1;
-        Iterator       hinzuIter2;
-        float          minKosten;
-        float          neuKosten;
+        ItmFamilie      newCover;
+        KandidatenPaare paare;
+        Set             redundanteItms;
+        IndexTeilmenge  besteHinzuTeilmenge1;
+        IndexTeilmenge  besteHinzuTeilmenge2;
+        long            besterSchluessel;
 
         if (actualCover.anzNichtNotwendigeTeilmengen() > 0) {
             throw new IllegalArgumentException("Familie enthlt nicht"
@@ -103,53 +282,15 @@ public class AddTwoOptimization implements Optimization {
          * Das sind die, bei deren Hinzunahme durch Reduktion eine Familie mit
          * den geringsten Kosten entsteht.
          */
-        hinzuTeilmengen2 = new HashSet(problemItms);
-        minKosten = actualCover.kostenFamilie();
-        hinzuIter1 = problemItms.iterator();
-        while (hinzuIter1.hasNext()) {
-            hinzuTeilmenge1 = (IndexTeilmenge)hinzuIter1.next();
-            hinzuTeilmengen2.remove(hinzuTeilmenge1);
-            if (!actualCover.enthaelt(hinzuTeilmenge1)) {
-                actualCover.teilmengeHinzufuegen(hinzuTeilmenge1);
-
-                hinzuIter2 = hinzuTeilmengen2.iterator();
-                while (hinzuIter2.hasNext()) {
-                    hinzuTeilmenge2 = (IndexTeilmenge)hinzuIter2.next();
-                    if (!actualCover.enthaelt(hinzuTeilmenge2)) {
-
-                        /*
-                         * Prfen, ob durch das Hinzufgen der zweiten Teilmenge
-                         * andere Teilmengen mit hheren Kosten redundant (nicht
-                         * notwendig) werden.
-                         */
-                        actualCover.teilmengeHinzufuegen(hinzuTeilmenge2);
-                        if (actualCover.anzNichtNotwendigeTeilmengen() > 2) {
-
-                            redundanteItms = actualCover.nichtNotwendigeTeilmengen();
-                            redundanteItms.remove(hinzuTeilmenge1);
-                            redundanteItms.remove(hinzuTeilmenge2);
-                            redundanteItmListe = new LinkedList(redundanteItms);
-                            neuKosten = OptSupport.minCostWithoutRedundant(actualCover,
-                                                                           redundanteItmListe,
-                                                                           candidateSelection);
-                            if (neuKosten < minKosten) {
-                                besteHinzuTeilmenge1 = hinzuTeilmenge1;
-                                besteHinzuTeilmenge2 = hinzuTeilmenge2;
-                                minKosten = neuKosten;
-                            }
-                        }
-                        actualCover.teilmengeEntfernen(hinzuTeilmenge2);
-                    }
-                }
-
-                actualCover.teilmengeEntfernen(hinzuTeilmenge1);
-            }
-        }
+        paare = new KandidatenPaare(problemItms, actualCover);
+        besterSchluessel = bestesPaar(actualCover, paare, candidateSelection);
 
         // Wenn durch die Hinzunahme zweier Teilmengen und anschlieende
         // Reduktion eine berdeckung mit geringeren Kosten entsteht, diese
         // liefern.
-        if (besteHinzuTeilmenge1 != null) {
+        if (besterSchluessel >= 0) {
+            besteHinzuTeilmenge1 = paare.teilmenge1(besterSchluessel);
+            besteHinzuTeilmenge2 = paare.teilmenge2(besterSchluessel);
             newCover = (ItmFamilie)actualCover.clone();
             newCover.teilmengeHinzufuegen(besteHinzuTeilmenge1);
             newCover.teilmengeHinzufuegen(besteHinzuTeilmenge2);
@@ -171,8 +312,8 @@ public class AddTwoOptimization implements Optimization {
      * Kosten als am Anfang entstehen. Anschlieend wir die Familie mit den
      * geringsten Kosten erzeugt.<P>
      *
-     * Diese Methode hat quadratischen Aufwand bezglich der Anzahl der
-     * Teilmengen in <CODE>problemItms</CODE>.
+     * Es werden nur die Paare von Teilmengen betrachtet, durch deren
+     * Hinzunahme mindestens eine Teilmenge der Lsung redundant wird.
      *
      * @param problem             Das zu Grunde liegende SCP-Problem.
      * @param actualCover         Die aktuelle, zu optimierende Lsung. Diese
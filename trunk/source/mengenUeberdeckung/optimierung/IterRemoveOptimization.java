@@ -1,6 +1,6 @@
 /*
  * Dateiname      : IterRemoveOptimization.java
- * Letzte nderung: 13. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -26,17 +26,23 @@ package mengenUeberdeckung.optimierung;
 
 import java.util.Iterator;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.Collection;
 
 import mengenUeberdeckung.allgemein.IndexTeilmenge;
 import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.ItmAenderung;
 import mengenUeberdeckung.heuristiken.creation.CandidatesCreation;
 import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
 
 /**
  * Optimiert eine Lsung zu einem unicost-berdeckungsproblem durch
  * wiederholte Entfernung von Teilmengen mit jeweils einer bestimmten Anzahl
- * von Indices, die diese alleine berdecken.
+ * von Indices, die diese alleine berdecken.<P>
+ *
+ * Die Anzahl der alleine berdeckten Indices wird fr jede Teilmenge der
+ * Lsung nur einmal ermittelt, ohne die Lsung zu verndern. Nur die Kopie
+ * der Lsung, die anschlieend vervollstndigt wird, wird verndert.
  *
  * @author  Dietmar Lippold
  */
@@ -70,21 +76,24 @@ public class IterRemoveOptimization implements Optimization {
                                       ItmFamilie bestKnownSolution,
                                       CandidatesCreation candidatesCreation,
                                       CandidateSelection candidateSelection) {
-        ItmFamilie     nextCover;
-        HashSet        entfernTeilmengen;
-        Iterator       itmIter;
-        IndexTeilmenge teilmenge;
-        int            maxAlleineUeberdeck, alleineUeberdeck;
-        int            maxIndexAnz, indexAnz;
-
-        // Die maximale Anzahl von Indices, die eine Teilmenge alleine
-        // berdeckt, bestimmen.
+        ItmFamilie       nextCover;
+        HashSet          entfernTeilmengen;
+        Iterator         itmIter;
+        IndexTeilmenge[] coverItms;
+        int[]            alleineUeberdeck;
+        int              maxAlleineUeberdeck;
+        int              maxIndexAnz, indexAnz;
+
+        // Zu jeder Teilmenge die Anzahl der Indices, die sie alleine
+        // berdeckt, und das Maximum dieser Anzahlen bestimmen.
+        coverItms = new IndexTeilmenge[actualCover.groesseFamilie()];
+        alleineUeberdeck = new int[coverItms.length];
         maxAlleineUeberdeck = -1;
         itmIter = actualCover.iterator();
-        while (itmIter.hasNext()) {
-            teilmenge = (IndexTeilmenge) itmIter.next();
-            alleineUeberdeck = actualCover.anzAlleineUeberdeckt(teilmenge);
-            maxAlleineUeberdeck = Math.max(maxAlleineUeberdeck, alleineUeberdeck);
+        for (int i = 0; i < coverItms.length; i++) {
+            coverItms[i] = (IndexTeilmenge) itmIter.next();
+            alleineUeberdeck[i] = actualCover.anzAlleineUeberdeckt(coverItms[i]);
+            maxAlleineUeberdeck = Math.max(maxAlleineUeberdeck, alleineUeberdeck[i]);
         }
 
         // Fr jede Anzahl von Indices bis zu einer Konstanten die Teilmengen
@@ -98,18 +107,16 @@ public class IterRemoveOptimization implements Optimization {
 
             // Die als nchstes zu entfernenden Teilmengen bestimmen.
             entfernTeilmengen = new HashSet();
-            itmIter = actualCover.iterator();
-            while (itmIter.hasNext()) {
-                teilmenge = (IndexTeilmenge) itmIter.next();
-                alleineUeberdeck = actualCover.anzAlleineUeberdeckt(teilmenge);
-                if (alleineUeberdeck <= indexAnz) {
-                    entfernTeilmengen.add(teilmenge);
+            for (int i = 0; i < coverItms.length; i++) {
+                if (alleineUeberdeck[i] <= indexAnz) {
+                    entfernTeilmengen.add(coverItms[i]);
                 }
             }
 
             // Die Teilmengen entfernen und die Familie vervollstndigen.
             nextCover = (ItmFamilie) actualCover.clone();
-            nextCover.teilmengenEntfernen(entfernTeilmengen);
+            nextCover.aenderungAusfuehren(new ItmAenderung(new LinkedList(),
+                                                           entfernTeilmengen));
             OptSupport.completeFamily(nextCover, bestKnownSolution,
                                       problemItms, entfernTeilmengen,
                                       candidatesCreation, candidateSelection);
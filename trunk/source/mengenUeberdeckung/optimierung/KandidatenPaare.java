@@ -0,0 +1,408 @@
+/*
+ * Dateiname      : KandidatenPaare.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.optimierung;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Collection;
+
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+import mengenUeberdeckung.allgemein.ItmFamilie;
+
+/**
+ * Verwaltet die Paare von Teilmengen, die beide nicht in einer Lsung
+ * enthalten sind und durch deren Hinzunahme mindestens eine Teilmenge der
+ * Lsung redundant wird. Das ist genau dann der Fall, wenn die Vereinigung
+ * der beiden Teilmengen alle Elemente enthlt, die diese Teilmenge alleine
+ * berdeckt.<P>
+ *
+ * Die nicht in der Lsung enthaltenen Teilmengen werden in der Reihenfolge
+ * der Iteration ber die Teilmengen des Problems numeriert. Auerdem erhlt
+ * jede Teilmenge eine Position in der Reihenfolge der Iteration ber eine
+ * daraus erzeugte Instanz von <CODE>HashSet</CODE>. Ein Paar besteht aus
+ * einer ersten Teilmenge und einer zweiten Teilmenge mit einer greren
+ * Nummer. Die Paare werden zeilenweise geliefert, d.h. zu jeder ersten
+ * Teilmenge die Positionen der zweiten Teilmengen in aufsteigender
+ * Reihenfolge.<P>
+ *
+ * Eine Teilmenge, die alle von einer Teilmenge der Lsung alleine
+ * berdeckten Elemente schon alleine enthlt, bildet mit jeder anderen
+ * Teilmenge ein Paar. Diese Paare werden nicht gespeichert, sondern erst bei
+ * der Abfrage einer Zeile erzeugt. Von den brigen Paaren werden nur die
+ * Schlssel als <CODE>long</CODE>-Werte gespeichert.
+ *
+ * @author  Dietmar Lippold
+ */
+public class KandidatenPaare {
+
+    /**
+     * Die nicht in der Lsung enthaltenen Teilmengen zu ihren Nummern.
+     */
+    private IndexTeilmenge[] hinzuItms;
+
+    /**
+     * Die Anzahl der nicht in der Lsung enthaltenen Teilmengen.
+     */
+    private int itmAnz;
+
+    /**
+     * Zu jeder Position in der Reihenfolge der zweiten Teilmengen die Nummer
+     * der Teilmenge.
+     */
+    private int[] nummerZuFolgeNr2;
+
+    /**
+     * Gibt zu jeder Nummer an, ob die Teilmenge alleine eine Teilmenge der
+     * Lsung redundant macht.
+     */
+    private boolean[] alleinRedundant;
+
+    /**
+     * Die aufsteigend sortierten Positionen der Teilmengen, die alleine eine
+     * Teilmenge der Lsung redundant machen.
+     */
+    private int[] alleinPositionen;
+
+    /**
+     * Die aufsteigend sortierten Schlssel der brigen Paare. Es sind nur
+     * die ersten <CODE>schluesselAnz</CODE> Eintrge gltig.
+     */
+    private long[] paarSchluessel;
+
+    /**
+     * Die Anzahl der gltigen Eintrge in <CODE>paarSchluessel</CODE>.
+     */
+    private int schluesselAnz;
+
+    /**
+     * Ermittelt die Paare von Teilmengen aus <CODE>problemItms</CODE>, die
+     * beide nicht in <CODE>actualCover</CODE> enthalten sind und durch
+     * deren Hinzunahme mindestens eine Teilmenge von
+     * <CODE>actualCover</CODE> redundant wird.
+     *
+     * @param problemItms  Die Teilmengen des ursprnglichen SCP-Problems.
+     * @param actualCover  Die aktuelle Lsung. Diese darf nur notwendige
+     *                     Teilmengen enthalten.
+     */
+    public KandidatenPaare(Collection problemItms, ItmFamilie actualCover) {
+        LinkedList[]   indexItms;
+        HashMap        itmNummern;
+        IndexTeilmenge teilmenge;
+        IndexTeilmenge coverItm;
+        Iterator       itmIter;
+        Iterator       nummerIter;
+        Integer        itmNummer;
+        int[]          folgeNr2;
+        int[]          indices;
+        int[]          alleinIndices;
+        int[]          restIndices;
+        int            alleinAnz, restAnz, eindeutigAnz;
+        int            nummer1, nummer2, position;
+
+        // Die nicht in der Lsung enthaltenen Teilmengen in der Reihenfolge
+        // von problemItms numerieren.
+        itmNummern = new HashMap();
+        hinzuItms = new IndexTeilmenge[problemItms.size()];
+        itmAnz = 0;
+        itmIter = problemItms.iterator();
+        while (itmIter.hasNext()) {
+            teilmenge = (IndexTeilmenge) itmIter.next();
+            if (!actualCover.enthaelt(teilmenge)
+                && !itmNummern.containsKey(teilmenge)) {
+                itmNummern.put(teilmenge, new Integer(itmAnz));
+                hinzuItms[itmAnz] = teilmenge;
+                itmAnz++;
+            }
+        }
+
+        // Die Position jeder Teilmenge in der Reihenfolge der zweiten
+        // Teilmengen ermitteln.
+        folgeNr2 = new int[itmAnz];
+        nummerZuFolgeNr2 = new int[itmAnz];
+        nummer2 = 0;
+        itmIter = new HashSet(problemItms).iterator();
+        while (itmIter.hasNext()) {
+            itmNummer = (Integer) itmNummern.get(itmIter.next());
+            if (itmNummer != null) {
+                folgeNr2[itmNummer.intValue()] = nummer2;
+                nummerZuFolgeNr2[nummer2] = itmNummer.intValue();
+                nummer2++;
+            }
+        }
+
+        // Zu jedem Element die Teilmengen ermitteln, die es enthalten.
+        indexItms = new LinkedList[actualCover.groesseGesamtmenge()];
+        for (int nr = 0; nr < itmAnz; nr++) {
+            itmNummer = new Integer(nr);
+            indices = hinzuItms[nr].enthalteneIndices();
+            for (int i = 0; i < indices.length; i++) {
+                if (indexItms[indices[i]] == null) {
+                    indexItms[indices[i]] = new LinkedList();
+                }
+                indexItms[indices[i]].add(itmNummer);
+            }
+        }
+
+        // Zu jeder Teilmenge der Lsung die Paare ermitteln, die alle von
+        // ihr alleine berdeckten Elemente enthalten. Eine Teilmenge, die
+        // diese Elemente schon alleine enthlt, wird nur vermerkt.
+        alleinRedundant = new boolean[itmAnz];
+        paarSchluessel = new long[16];
+        schluesselAnz = 0;
+        itmIter = actualCover.iterator();
+        while (itmIter.hasNext()) {
+            coverItm = (IndexTeilmenge) itmIter.next();
+            indices = coverItm.enthalteneIndices();
+            alleinIndices = new int[indices.length];
+            alleinAnz = 0;
+            for (int i = 0; i < indices.length; i++) {
+                if (actualCover.ueberdeckungsHaeufigkeit(indices[i]) == 1) {
+                    alleinIndices[alleinAnz] = indices[i];
+                    alleinAnz++;
+                }
+            }
+
+            if ((alleinAnz > 0) && (indexItms[alleinIndices[0]] != null)) {
+                restIndices = new int[alleinAnz];
+                nummerIter = indexItms[alleinIndices[0]].iterator();
+                while (nummerIter.hasNext()) {
+                    nummer1 = ((Integer) nummerIter.next()).intValue();
+                    restAnz = 0;
+                    for (int i = 1; i < alleinAnz; i++) {
+                        if (!hinzuItms[nummer1].indexIstEnthalten(alleinIndices[i])) {
+                            restIndices[restAnz] = alleinIndices[i];
+                            restAnz++;
+                        }
+                    }
+
+                    if (restAnz == 0) {
+                        alleinRedundant[nummer1] = true;
+                    } else if (indexItms[restIndices[0]] != null) {
+                        paareAufnehmen(nummer1, indexItms[restIndices[0]],
+                                       restIndices, restAnz, folgeNr2);
+                    }
+                }
+            }
+        }
+
+        // Die Schlssel sortieren und mehrfache Schlssel entfernen.
+        Arrays.sort(paarSchluessel, 0, schluesselAnz);
+        eindeutigAnz = 0;
+        for (int i = 0; i < schluesselAnz; i++) {
+            if ((eindeutigAnz == 0)
+                || (paarSchluessel[i] != paarSchluessel[eindeutigAnz - 1])) {
+                paarSchluessel[eindeutigAnz] = paarSchluessel[i];
+                eindeutigAnz++;
+            }
+        }
+        schluesselAnz = eindeutigAnz;
+
+        // Die Positionen der Teilmengen ermitteln, die alleine eine
+        // Teilmenge der Lsung redundant machen.
+        alleinAnz = 0;
+        for (int nr = 0; nr < itmAnz; nr++) {
+            if (alleinRedundant[nr]) {
+                alleinAnz++;
+            }
+        }
+        alleinPositionen = new int[alleinAnz];
+        position = 0;
+        for (int p = 0; p < itmAnz; p++) {
+            if (alleinRedundant[nummerZuFolgeNr2[p]]) {
+                alleinPositionen[position] = p;
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Nimmt die Schlssel der Paare aus der Teilmenge mit der bergebenen
+     * Nummer und den Teilmengen aus der bergebenen Liste auf, die alle
+     * bergebenen restlichen Elemente enthalten.
+     *
+     * @param nummer1      Die Nummer der ersten Teilmenge.
+     * @param nummern2     Die Nummern der mglichen zweiten Teilmengen vom
+     *                     Typ <CODE>Integer</CODE>.
+     * @param restIndices  Die Elemente, die die zweite Teilmenge enthalten
+     *                     mu.
+     * @param restAnz      Die Anzahl der gltigen Eintrge in
+     *                     <CODE>restIndices</CODE>.
+     * @param folgeNr2     Zu jeder Nummer einer Teilmenge ihre Position in
+     *                     der Reihenfolge der zweiten Teilmengen.
+     */
+    private void paareAufnehmen(int nummer1, LinkedList nummern2,
+                                int[] restIndices, int restAnz,
+                                int[] folgeNr2) {
+        IndexTeilmenge teilmenge2;
+        Iterator       nummerIter;
+        boolean        enthaeltRest;
+        int            nummer2;
+
+        nummerIter = nummern2.iterator();
+        while (nummerIter.hasNext()) {
+            nummer2 = ((Integer) nummerIter.next()).intValue();
+            if (nummer2 != nummer1) {
+                teilmenge2 = hinzuItms[nummer2];
+                enthaeltRest = true;
+                for (int i = 1; (i < restAnz) && enthaeltRest; i++) {
+                    enthaeltRest = teilmenge2.indexIstEnthalten(restIndices[i]);
+                }
+                if (enthaeltRest) {
+                    if (schluesselAnz == paarSchluessel.length) {
+                        paarSchluessel = Arrays.copyOf(paarSchluessel,
+                                                       2 * paarSchluessel.length);
+                    }
+                    if (nummer1 < nummer2) {
+                        paarSchluessel[schluesselAnz]
+                            = schluessel(nummer1, folgeNr2[nummer2]);
+                    } else {
+                        paarSchluessel[schluesselAnz]
+                            = schluessel(nummer2, folgeNr2[nummer1]);
+                    }
+                    schluesselAnz++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der nicht in der Lsung enthaltenen Teilmengen.
+     * Das ist auch die Anzahl der Zeilen und die maximale Anzahl der Paare
+     * einer Zeile.
+     *
+     * @return  Die Anzahl der nicht in der Lsung enthaltenen Teilmengen.
+     */
+    public int itmAnz() {
+        return itmAnz;
+    }
+
+    /**
+     * Liefert den Schlssel eines Paares. Die Schlssel der Paare sind
+     * aufsteigend in der Reihenfolge, in der die Paare bewertet werden.
+     *
+     * @param nummer1    Die Nummer der ersten Teilmenge.
+     * @param position2  Die Position der zweiten Teilmenge.
+     *
+     * @return  Den Schlssel des Paares.
+     */
+    public long schluessel(int nummer1, int position2) {
+        return ((long) nummer1 * itmAnz + position2);
+    }
+
+    /**
+     * Liefert die erste Teilmenge des Paares mit dem bergebenen Schlssel.
+     *
+     * @param schluessel  Der Schlssel des Paares.
+     *
+     * @return  Die erste Teilmenge des Paares.
+     */
+    public IndexTeilmenge teilmenge1(long schluessel) {
+        return hinzuItms[(int) (schluessel / itmAnz)];
+    }
+
+    /**
+     * Liefert die zweite Teilmenge des Paares mit dem bergebenen Schlssel.
+     *
+     * @param schluessel  Der Schlssel des Paares.
+     *
+     * @return  Die zweite Teilmenge des Paares.
+     */
+    public IndexTeilmenge teilmenge2(long schluessel) {
+        return hinzuItms[nummerZuFolgeNr2[(int) (schluessel % itmAnz)]];
+    }
+
+    /**
+     * Ermittelt die Positionen der zweiten Teilmengen der Paare mit der
+     * bergebenen ersten Teilmenge in aufsteigender Reihenfolge. Dazu werden
+     * die gespeicherten Schlssel der Zeile mit den Positionen der
+     * Teilmengen gemischt, die alleine eine Teilmenge der Lsung redundant
+     * machen.
+     *
+     * @param nummer1     Die Nummer der ersten Teilmenge.
+     * @param positionen  Ein Array, in das die Positionen eingetragen werden.
+     *                    Seine Lnge mu mindestens <CODE>itmAnz()</CODE>
+     *                    sein.
+     *
+     * @return  Die Anzahl der eingetragenen Positionen.
+     */
+    public int zeilePaare(int nummer1, int[] positionen) {
+        long zeilenAnfang, zeilenEnde;
+        int  anzahl, schlNr, alleinNr, schlPosition, alleinPosition;
+
+        anzahl = 0;
+        if (alleinRedundant[nummer1]) {
+            for (int p = 0; p < itmAnz; p++) {
+                if (nummerZuFolgeNr2[p] > nummer1) {
+                    positionen[anzahl] = p;
+                    anzahl++;
+                }
+            }
+            return anzahl;
+        }
+
+        // Den ersten Schlssel der Zeile suchen.
+        zeilenAnfang = schluessel(nummer1, 0);
+        zeilenEnde = zeilenAnfang + itmAnz;
+        schlNr = Arrays.binarySearch(paarSchluessel, 0, schluesselAnz,
+                                     zeilenAnfang);
+        if (schlNr < 0) {
+            schlNr = -schlNr - 1;
+        }
+
+        alleinNr = 0;
+        while (((schlNr < schluesselAnz) && (paarSchluessel[schlNr] < zeilenEnde))
+               || (alleinNr < alleinPositionen.length)) {
+            if ((schlNr < schluesselAnz) && (paarSchluessel[schlNr] < zeilenEnde)) {
+                schlPosition = (int) (paarSchluessel[schlNr] - zeilenAnfang);
+            } else {
+                schlPosition = Integer.MAX_VALUE;
+            }
+            if (alleinNr < alleinPositionen.length) {
+                alleinPosition = alleinPositionen[alleinNr];
+            } else {
+                alleinPosition = Integer.MAX_VALUE;
+            }
+
+            if (schlPosition <= alleinPosition) {
+                positionen[anzahl] = schlPosition;
+                anzahl++;
+                schlNr++;
+                if (schlPosition == alleinPosition) {
+                    alleinNr++;
+                }
+            } else {
+                if (nummerZuFolgeNr2[alleinPosition] > nummer1) {
+                    positionen[anzahl] = alleinPosition;
+                    anzahl++;
+                }
+                alleinNr++;
+            }
+        }
+
+        return anzahl;
+    }
+}
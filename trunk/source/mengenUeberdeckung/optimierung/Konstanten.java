@@ -1,6 +1,6 @@
 /*
  * Dateiname      : Konstanten.java
- * Letzte nderung: 22. Mrz 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2007
@@ -50,6 +50,20 @@ public final class Konstanten {
      */
     public static final int TABOO_AENDER_FAKTOR = 10;
 
+    /**
+     * Beim Optimierungsverfahren <CODE>WeightedLocalSearchOptimization</CODE>
+     * der Faktor zur Ermittlung der Anzahl der nderungen der Familie ohne
+     * Verbesserung, nach der die Suche beendet wird.
+     */
+    public static final int GEWICHT_AENDER_FAKTOR = 10;
+
+    /**
+     * Beim Optimierungsverfahren <CODE>WeightedLocalSearchOptimization</CODE>
+     * der kleinste Wert, mit dem eine nderung der Kosten bei der Bewertung
+     * einer Teilmenge bercksichtigt wird.
+     */
+    public static final float MIN_KOSTEN_AENDERUNG = 1.0E-6f;
+
     /**
      * Anzahl der redundanten Teilmengen, ab der keine vollstndige, d.h.
      * kombinatorische Optimierung sondern nur noch eine Greedy-Optimierung
@@ -63,5 +77,12 @@ public final class Konstanten {
      * zu werden.
      */
     public static final int MAX_ENTFERN_ANZ = 2;
+
+    /**
+     * Anzahl der Threads, in denen die Klasse <CODE>AddTwoOptimization</CODE>
+     * die Paare von Teilmengen bewertet. Beim Wert 1 erfolgt die Bewertung
+     * im aufrufenden Thread.
+     */
+    public static final int ADD_TWO_THREAD_ANZ = 1;
 }
 
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : LocalSearchOptimization.java
- * Letzte nderung: 19. Mrz 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2007
@@ -31,6 +31,8 @@ import java.util.Random;
 
 import mengenUeberdeckung.allgemein.IndexTeilmenge;
 import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.AnytimeVerfahren;
+import mengenUeberdeckung.allgemein.OptimierungsBudget;
 import mengenUeberdeckung.heuristiken.creation.CandidatesCreation;
 import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
 
@@ -43,7 +45,7 @@ import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
  *
  * @author  Dietmar Lippold
  */
-public class LocalSearchOptimization implements Optimization {
+public class LocalSearchOptimization implements Optimization, AnytimeVerfahren {
 
     /**
      * Ein Zufallsgenerator.
@@ -63,6 +65,11 @@ public class LocalSearchOptimization implements Optimization {
      */
     private boolean speicherEffizient;
 
+    /**
+     * Das Budget, das die Laufzeit begrenzt, oder <CODE>null</CODE>.
+     */
+    private OptimierungsBudget budget = null;
+
     /**
      * Erzeugt eine neue Instanz.
      *
@@ -97,6 +104,27 @@ public class LocalSearchOptimization implements Optimization {
         this(rand, speicherEffizient, Konstanten.TABOO_AENDER_FAKTOR);
     }
 
+    /**
+     * Legt das Budget fest, das bei den folgenden Aufrufen des Verfahrens
+     * verwendet wird. Jede nderung der Familie zhlt als ein Schritt.
+     *
+     * @param budget  Das zu verwendende Budget. Beim Wert <CODE>null</CODE>
+     *                ist die Laufzeit nicht begrenzt.
+     */
+    public void budgetSetzen(OptimierungsBudget budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Ermittelt, ob das Budget erschpft ist.
+     *
+     * @return  <CODE>true</CODE>, wenn ein Budget vorhanden und erschpft
+     *          ist, sonst <CODE>false</CODE>.
+     */
+    private boolean budgetErschoepft() {
+        return ((budget != null) && budget.erschoepft());
+    }
+
     /**
      * Liefert eine optimierte Lsung, also eine Lsung mit geringeren
      * Kosten als die bergebene aktuelle Lsung. Wenn eine solche nicht
@@ -117,7 +145,9 @@ public class LocalSearchOptimization implements Optimization {
      *
      * @return  Eine Familie mit geringeren Kosten oder, wenn eine solche
      *          nicht ermittelt werden konnte, <CODE>actualCover</CODE>. Die
-     *          gelieferte Familie enthlt nur notwendige Teilmengen.
+     *          gelieferte Familie enthlt nur notwendige Teilmengen. Wenn
+     *          das Budget erschpft ist, die beste bis dahin gefundene
+     *          Familie.
      */
     public ItmFamilie optimize(ItmFamilie problem, ItmFamilie actualCover,
                                ItmFamilie bestKnownSolution,
@@ -177,7 +207,9 @@ public class LocalSearchOptimization implements Optimization {
         entfernKandidaten = new ArrayList();
         zuletztEntfernt = null;
 
-        for (int laengenNr = 0; laengenNr < laengenAnz; laengenNr++) {
+        for (int laengenNr = 0;
+             (laengenNr < laengenAnz) && !budgetErschoepft();
+             laengenNr++) {
             nextCover = (ItmFamilie) optimizedCover.clone();
             groesseFamilie = nextCover.groesseFamilie();
             tabooLaenge = 1 + rand.nextInt(Math.round(groesseFamilie
@@ -185,7 +217,7 @@ public class LocalSearchOptimization implements Optimization {
             tabooMenge = new TabooMenge(tabooLaenge);
 
             aenderNr = 0;
-            while (aenderNr < aenderAnz) {
+            while ((aenderNr < aenderAnz) && !budgetErschoepft()) {
                 aenderNr++;
 
                 groesseFamilie = nextCover.groesseFamilie();
@@ -282,6 +314,9 @@ public class LocalSearchOptimization implements Optimization {
                     zuletztEntfernt = ausgewaehlt;
                 }
                 tabooMenge.add(ausgewaehlt);
+                if (budget != null) {
+                    budget.schrittZaehlen();
+                }
 
                 // Prfen, ob die neue (Teil)berdeckung eine vollstndige
                 // berdeckung ist und besser ist als die bisher beste. Dann
@@ -290,6 +325,9 @@ public class LocalSearchOptimization implements Optimization {
                         && (nextCover.kostenFamilie() < optimizedCover.kostenFamilie())) {
                     optimizedCover = (ItmFamilie) nextCover.clone();
                     aenderNr = 0;
+                    if (budget != null) {
+                        budget.verbesserungMelden(optimizedCover);
+                    }
                     if (nextCover.groesseFamilie() < bestTeilmengenAnz) {
                         bestTeilmengenAnz = nextCover.groesseFamilie();
                     }
@@ -1,6 +1,6 @@
 /*
  * Dateiname      : SequenceOptimization.java
- * Letzte nderung: 13. August 2006
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2006
@@ -28,6 +28,8 @@ import java.util.LinkedList;
 import java.util.Iterator;
 
 import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.AnytimeVerfahren;
+import mengenUeberdeckung.allgemein.OptimierungsBudget;
 import mengenUeberdeckung.heuristiken.creation.CandidatesCreation;
 import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
 
@@ -37,7 +39,7 @@ import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
  *
  * @author  Dietmar Lippold
  */
-public class SequenceOptimization implements Optimization {
+public class SequenceOptimization implements Optimization, AnytimeVerfahren {
 
     /**
      * Die Liste der anzuwendender Optimierungsverfahren in der Reihenfolge
@@ -45,6 +47,11 @@ public class SequenceOptimization implements Optimization {
      */
     private LinkedList optimierVerfahren = new LinkedList();
 
+    /**
+     * Das Budget, das die Laufzeit begrenzt, oder <CODE>null</CODE>.
+     */
+    private OptimierungsBudget budget = null;
+
     /**
      * Fgt der Folge anzuwendender Optimierungsverfahren einen neues
      * Verfahren, das nach den vorhandenen angewendet wird, hinzu.
@@ -52,7 +59,35 @@ public class SequenceOptimization implements Optimization {
      * @param verfahren  Das zustzliche Optimierungsverfahren.
      */
     public void addOptimization(Optimization verfahren) {
+
         optimierVerfahren.add(verfahren);
+        if ((budget != null) && (verfahren instanceof AnytimeVerfahren)) {
+            ((AnytimeVerfahren) verfahren).budgetSetzen(budget);
+        }
+    }
+
+    /**
+     * Legt das Budget fest, das bei den folgenden Aufrufen des Verfahrens
+     * verwendet wird. Das Budget wird auch an die enthaltenen Verfahren
+     * weitergegeben, deren Laufzeit begrenzt werden kann. Wenn es erschpft
+     * ist, werden keine weiteren Verfahren der Folge angewendet.
+     *
+     * @param budget  Das zu verwendende Budget. Beim Wert <CODE>null</CODE>
+     *                ist die Laufzeit nicht begrenzt.
+     */
+    public void budgetSetzen(OptimierungsBudget budget) {
+        Object   verfahren;
+        Iterator optIter;
+
+        this.budget = budget;
+
+        optIter = optimierVerfahren.iterator();
+        while (optIter.hasNext()) {
+            verfahren = optIter.next();
+            if (verfahren instanceof AnytimeVerfahren) {
+                ((AnytimeVerfahren) verfahren).budgetSetzen(budget);
+            }
+        }
     }
 
     /**
@@ -91,7 +126,8 @@ public class SequenceOptimization implements Optimization {
         optimizedCover = actualCover;
 
         optIter = optimierVerfahren.iterator();
-        while (optIter.hasNext()) {
+        while (optIter.hasNext()
+               && ((budget == null) || !budget.erschoepft())) {
             optVerfahren = (Optimization) optIter.next();
             optimizedCover = optVerfahren.optimize(problem, optimizedCover,
                                                    bestKnownSolution,
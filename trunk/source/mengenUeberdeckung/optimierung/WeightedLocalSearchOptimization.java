@@ -0,0 +1,402 @@
+/*
+ * Dateiname      : WeightedLocalSearchOptimization.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.optimierung;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.heuristiken.creation.CandidatesCreation;
+import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
+
+/**
+ * Optimiert eine Lsung zu einem berdeckungsproblem mit beliebigen Kosten
+ * durch eine lokale Suche mittels Hinzufgen und Entfernen von Teilmengen.
+ * <P>
+ * Jedem Index ist ein Gewicht zugeordnet, das sich bei jeder nderung der
+ * Familie erhht, nach der er nicht berdeckt ist. Entfernt wird jeweils die
+ * Teilmenge, bei der das Gewicht der danach nicht mehr berdeckten Indices
+ * im Verhltnis zur Verringerung der Kosten am kleinsten ist. Danach werden
+ * solange Teilmengen hinzugefgt, bis die Familie wieder eine berdeckung
+ * ist oder ihre Kosten nicht mehr geringer sind als die der besten
+ * berdeckung. Hinzugefgt wird jeweils eine Teilmenge, die einen zufllig
+ * ausgewhlten nicht berdeckten Index enthlt und bei der das Gewicht der
+ * neu berdeckten Indices im Verhltnis zur Erhhung der Kosten am grten
+ * ist. Eine Taboo-Liste verhindert, da eine gerade genderte Teilmenge
+ * sofort wieder entfernt oder hinzugefgt wird.
+ * <P>
+ * Die Kosten der nderungen werden von der Familie ermittelt. Daher ist das
+ * Verfahren auch fr Familien mit einer eigenen Berechnung der Kosten
+ * anwendbar, z.B. fr die Unterklassen von <CODE>DoppelItmFamilie</CODE>.
+ * Es ist an folgendes Paper angelehnt: <CITE>Chao Gao, Thomas Weise, Jinlong
+ * Li. A weighting-based local search heuristic algorithm for the Set
+ * Covering Problem. 2014.</CITE>.
+ *
+ * @author  Dietmar Lippold
+ */
+public class WeightedLocalSearchOptimization implements Optimization {
+
+    /**
+     * Ein Zufallsgenerator.
+     */
+    private Random rand;
+
+    /**
+     * Der Faktor, mit dem der Reziprok-Wert der Dichte multipliziert wird,
+     * um die Anzahl der nderungen der Familie ohne Verbesserung zu
+     * erhalten, nach der die Suche beendet wird.
+     */
+    private int aenderFaktor;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param rand          Ein Zufallsgenerator.
+     * @param aenderFaktor  Der Faktor, mit dem der Reziprok-Wert der Dichte
+     *                      multipliziert wird, um die Anzahl der nderungen
+     *                      der Familie ohne Verbesserung zu erhalten, nach
+     *                      der die Suche beendet wird.
+     */
+    public WeightedLocalSearchOptimization(Random rand, int aenderFaktor) {
+
+        this.rand = rand;
+        this.aenderFaktor = aenderFaktor;
+    }
+
+    /**
+     * Erzeugt eine neue Instanz. Fr den Faktor zur Ermittlung der Anzahl der
+     * nderungen einer zu optimierenden Familie wird ein Standard-Wert
+     * verwendet.
+     *
+     * @param rand  Ein Zufallsgenerator.
+     */
+    public WeightedLocalSearchOptimization(Random rand) {
+        this(rand, Konstanten.GEWICHT_AENDER_FAKTOR);
+    }
+
+    /**
+     * Liefert den Quotienten aus einem Gewicht und einer nderung der Kosten.
+     * Eine nderung der Kosten, die kleiner als
+     * <CODE>Konstanten.MIN_KOSTEN_AENDERUNG</CODE> ist, wird durch diesen
+     * Wert ersetzt.
+     *
+     * @param gewicht          Das Gewicht.
+     * @param kostenAenderung  Die nderung der Kosten.
+     *
+     * @return  Den Quotienten aus dem Gewicht und der nderung der Kosten.
+     */
+    private static float quotient(int gewicht, float kostenAenderung) {
+        return (gewicht / Math.max(kostenAenderung,
+                                   Konstanten.MIN_KOSTEN_AENDERUNG));
+    }
+
+    /**
+     * Ermittelt die Teilmenge der bergebenen Familie, deren Entfernung
+     * bezogen auf die Verringerung der Kosten das kleinste Gewicht von
+     * danach nicht mehr berdeckten Indices verursacht. Teilmengen aus der
+     * Taboo-Liste werden nur ausgewhlt, wenn alle Teilmengen in der
+     * Taboo-Liste enthalten sind.
+     *
+     * @param cover       Die Familie, aus der eine Teilmenge entfernt werden
+     *                    soll.
+     * @param gewichte    Die Gewichte der Indices.
+     * @param tabooMenge  Die Menge der zuletzt genderten Teilmengen.
+     *
+     * @return  Die zu entfernende Teilmenge oder <CODE>null</CODE>, wenn die
+     *          Familie keine Teilmenge enthlt.
+     */
+    private static IndexTeilmenge entfernTeilmenge(ItmFamilie cover,
+                                                   int[] gewichte,
+                                                   TabooMenge tabooMenge) {
+        IndexTeilmenge ausgewaehlt;
+        IndexTeilmenge naechsteItm;
+        Iterator       itmIter;
+        boolean        ausgewaehltTaboo, naechsteTaboo;
+        float          besteBewertung, naechsteBewert;
+        int            verlustGewicht;
+
+        ausgewaehlt = null;
+        ausgewaehltTaboo = true;
+        besteBewertung = Float.MAX_VALUE;
+
+        itmIter = cover.iterator();
+        while (itmIter.hasNext()) {
+            naechsteItm = (IndexTeilmenge) itmIter.next();
+            naechsteTaboo = tabooMenge.contains(naechsteItm);
+
+            if (!naechsteTaboo || ausgewaehltTaboo) {
+                verlustGewicht = 0;
+                for (int index = naechsteItm.kleinsterEnthaltenerIndex();
+                     index >= 0;
+                     index = naechsteItm.naechsterEnthaltenerIndex(index + 1)) {
+                    if (cover.ueberdeckungsHaeufigkeit(index) == 1) {
+                        verlustGewicht += gewichte[index];
+                    }
+                }
+                naechsteBewert = quotient(verlustGewicht,
+                                          cover.kostenEntfernen(naechsteItm));
+
+                if ((ausgewaehlt == null)
+                    || (ausgewaehltTaboo && !naechsteTaboo)
+                    || (naechsteBewert < besteBewertung)) {
+                    ausgewaehlt = naechsteItm;
+                    ausgewaehltTaboo = naechsteTaboo;
+                    besteBewertung = naechsteBewert;
+                }
+            }
+        }
+
+        return ausgewaehlt;
+    }
+
+    /**
+     * Ermittelt unter den bergebenen Teilmengen, die nicht in der bergebenen
+     * Familie enthalten sind, die Teilmenge, deren Hinzunahme bezogen auf die
+     * Erhhung der Kosten das grte Gewicht von neu berdeckten Indices
+     * bewirkt. Teilmengen aus der Taboo-Liste werden nur ausgewhlt, wenn
+     * alle anderen Teilmengen in der Taboo-Liste enthalten sind.
+     *
+     * @param cover       Die Familie, zu der eine Teilmenge hinzugefgt
+     *                    werden soll.
+     * @param kandidaten  Die Teilmengen, unter denen die hinzuzufgende
+     *                    ausgewhlt wird.
+     * @param gewichte    Die Gewichte der Indices.
+     * @param tabooMenge  Die Menge der zuletzt genderten Teilmengen.
+     *
+     * @return  Die hinzuzufgende Teilmenge oder <CODE>null</CODE>, wenn alle
+     *          Kandidaten in der Familie enthalten sind.
+     */
+    private static IndexTeilmenge hinzuTeilmenge(ItmFamilie cover,
+                                                 ArrayList kandidaten,
+                                                 int[] gewichte,
+                                                 TabooMenge tabooMenge) {
+        IndexTeilmenge ausgewaehlt;
+        IndexTeilmenge naechsteItm;
+        Iterator       itmIter;
+        boolean        ausgewaehltTaboo, naechsteTaboo;
+        float          besteBewertung, naechsteBewert;
+        int            gewinnGewicht;
+
+        ausgewaehlt = null;
+        ausgewaehltTaboo = true;
+        besteBewertung = -1;
+
+        itmIter = kandidaten.iterator();
+        while (itmIter.hasNext()) {
+            naechsteItm = (IndexTeilmenge) itmIter.next();
+            naechsteTaboo = tabooMenge.contains(naechsteItm);
+
+            if (!cover.enthaelt(naechsteItm)
+                && (!naechsteTaboo || ausgewaehltTaboo)) {
+
+                gewinnGewicht = 0;
+                for (int index = naechsteItm.kleinsterEnthaltenerIndex();
+                     index >= 0;
+                     index = naechsteItm.naechsterEnthaltenerIndex(index + 1)) {
+                    if (!cover.indexIstUeberdeckt(index)) {
+                        gewinnGewicht += gewichte[index];
+                    }
+                }
+                naechsteBewert = quotient(gewinnGewicht,
+                                          cover.kostenHinzufuegen(naechsteItm));
+
+                if ((ausgewaehlt == null)
+                    || (ausgewaehltTaboo && !naechsteTaboo)
+                    || (naechsteBewert > besteBewertung)) {
+                    ausgewaehlt = naechsteItm;
+                    ausgewaehltTaboo = naechsteTaboo;
+                    besteBewertung = naechsteBewert;
+                }
+            }
+        }
+
+        return ausgewaehlt;
+    }
+
+    /**
+     * Entfernt aus der bergebenen Familie solange nicht notwendige
+     * Teilmengen, bis sie nur noch notwendige Teilmengen enthlt. Dabei wird
+     * jeweils die Teilmenge entfernt, deren Entfernung die Kosten am
+     * strksten verringert.
+     *
+     * @param cover  Die Familie, aus der die nicht notwendigen Teilmengen
+     *               entfernt werden sollen.
+     */
+    private static void redundanteEntfernen(ItmFamilie cover) {
+        Set            nichtNotwendig;
+        IndexTeilmenge ausgewaehlt;
+        IndexTeilmenge naechsteItm;
+        Iterator       itmIter;
+        float          maxErsparnis, naechsteErsparnis;
+
+        nichtNotwendig = cover.nichtNotwendigeTeilmengen();
+        while (!nichtNotwendig.isEmpty()) {
+            ausgewaehlt = null;
+            maxErsparnis = 0;
+            itmIter = nichtNotwendig.iterator();
+            while (itmIter.hasNext()) {
+                naechsteItm = (IndexTeilmenge) itmIter.next();
+                naechsteErsparnis = cover.kostenEntfernen(naechsteItm);
+                if ((ausgewaehlt == null) || (naechsteErsparnis > maxErsparnis)) {
+                    ausgewaehlt = naechsteItm;
+                    maxErsparnis = naechsteErsparnis;
+                }
+            }
+            cover.teilmengeEntfernen(ausgewaehlt);
+            nichtNotwendig = cover.nichtNotwendigeTeilmengen();
+        }
+    }
+
+    /**
+     * Liefert eine optimierte Lsung, also eine Lsung mit geringeren
+     * Kosten als die bergebene aktuelle Lsung. Wenn eine solche nicht
+     * ermittelt werden kann, wird die bergebene Familie geliefert.
+     *
+     * @param problem             Das zu Grunde liegende SCP-Problem.
+     * @param actualCover         Die aktuelle, zu optimierende Lsung. Diese
+     *                            darf nur notwendige Teilmengen enthalten.
+     * @param bestKnownSolution   Die bisher beste Lsung des Gesamtproblems.
+     *                            Der Wert kann <CODE>null</CODE> sein, wenn
+     *                            z.B. noch keine Lsung bekannt ist.
+     * @param candidatesCreation  Das aktuelle Verfahren zur Erzeugung der
+     *                            Kandidaten zur Aufnahme in und Entfernung
+     *                            aus einer Familie.
+     * @param candidateSelection  Das aktuelle Verfahren zur Auswahl der
+     *                            Kandidaten zur Aufnahme in und zur
+     *                            Entfernung aus einer Familie.
+     *
+     * @return  Eine Familie mit geringeren Kosten oder, wenn eine solche
+     *          nicht ermittelt werden konnte, <CODE>actualCover</CODE>. Die
+     *          gelieferte Familie enthlt nur notwendige Teilmengen.
+     */
+    public ItmFamilie optimize(ItmFamilie problem, ItmFamilie actualCover,
+                               ItmFamilie bestKnownSolution,
+                               CandidatesCreation candidatesCreation,
+                               CandidateSelection candidateSelection) {
+        ItmFamilie     optimizedCover, nextCover;
+        ArrayList[]    enthaltendeItm;
+        TabooMenge     tabooMenge;
+        IndexTeilmenge naechsteItm, ausgewaehlt;
+        Iterator       itmIter;
+        int[]          gewichte;
+        int[]          nichtUeberdeckt;
+        int            groesseGesamtmenge, mittelAnzItm;
+        int            nichtUeberdecktAnz, auswahlIndex;
+        int            tabooLaenge, aenderAnz;
+        int            aenderNr;
+
+        if (problem.anzNichtUeberdeckt() > 0) {
+            return actualCover;
+        }
+
+        aenderAnz = Math.round(aenderFaktor / problem.dichteMittel());
+        groesseGesamtmenge = problem.groesseGesamtmenge();
+
+        // Zu jedem Index die Liste der diesen Index enthaltenden Teilmengen
+        // erzeugen.
+        enthaltendeItm = new ArrayList[groesseGesamtmenge];
+        mittelAnzItm = Math.round(problem.ueberdeckungsHaeufigkeitMittel());
+        for (int index = 0; index < groesseGesamtmenge; index++) {
+            enthaltendeItm[index] = new ArrayList(mittelAnzItm);
+        }
+        itmIter = problem.iterator();
+        while (itmIter.hasNext()) {
+            naechsteItm = (IndexTeilmenge) itmIter.next();
+            for (int index = naechsteItm.kleinsterEnthaltenerIndex();
+                 index >= 0;
+                 index = naechsteItm.naechsterEnthaltenerIndex(index + 1)) {
+                enthaltendeItm[index].add(naechsteItm);
+            }
+        }
+
+        gewichte = new int[groesseGesamtmenge];
+        Arrays.fill(gewichte, 1);
+        nichtUeberdeckt = new int[groesseGesamtmenge];
+
+        optimizedCover = actualCover;
+        nextCover = (ItmFamilie) actualCover.clone();
+        tabooLaenge = 1 + Math.round(nextCover.groesseFamilie()
+                                     * Konstanten.TABOO_FAKTOR);
+        tabooMenge = new TabooMenge(tabooLaenge);
+
+        aenderNr = 0;
+        while (aenderNr < aenderAnz) {
+            aenderNr++;
+
+            // Eine Teilmenge entfernen.
+            ausgewaehlt = entfernTeilmenge(nextCover, gewichte, tabooMenge);
+            if (ausgewaehlt != null) {
+                nextCover.teilmengeEntfernen(ausgewaehlt);
+                tabooMenge.add(ausgewaehlt);
+            }
+
+            // Teilmengen hinzufgen, solange die Familie keine berdeckung
+            // ist und ihre Kosten geringer als die der besten berdeckung
+            // sind.
+            while ((nextCover.anzNichtUeberdeckt() > 0)
+                   && (nextCover.kostenFamilie() < optimizedCover.kostenFamilie())) {
+
+                nichtUeberdecktAnz = 0;
+                for (int index = 0; index < groesseGesamtmenge; index++) {
+                    if (!nextCover.indexIstUeberdeckt(index)) {
+                        nichtUeberdeckt[nichtUeberdecktAnz] = index;
+                        nichtUeberdecktAnz++;
+                    }
+                }
+                auswahlIndex = nichtUeberdeckt[rand.nextInt(nichtUeberdecktAnz)];
+
+                ausgewaehlt = hinzuTeilmenge(nextCover,
+                                             enthaltendeItm[auswahlIndex],
+                                             gewichte, tabooMenge);
+                nextCover.teilmengeHinzufuegen(ausgewaehlt);
+                tabooMenge.add(ausgewaehlt);
+
+                // Die Gewichte der weiterhin nicht berdeckten Indices
+                // erhhen.
+                for (int i = 0; i < nichtUeberdecktAnz; i++) {
+                    if (!nextCover.indexIstUeberdeckt(nichtUeberdeckt[i])) {
+                        gewichte[nichtUeberdeckt[i]]++;
+                    }
+                }
+            }
+
+            redundanteEntfernen(nextCover);
+
+            // Prfen, ob die Familie eine berdeckung ist und besser ist als
+            // die bisher beste. Dann auch die Nummer des
+            // nderungs-Durchlaufs zurcksetzen.
+            if ((nextCover.anzNichtUeberdeckt() == 0)
+                && (nextCover.kostenFamilie() < optimizedCover.kostenFamilie())) {
+                optimizedCover = (ItmFamilie) nextCover.clone();
+                aenderNr = 0;
+            }
+        }
+
+        return optimizedCover;
+    }
+}
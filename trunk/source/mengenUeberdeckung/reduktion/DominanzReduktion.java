@@ -0,0 +1,662 @@
+/*
+ * Dateiname      : DominanzReduktion.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.reduktion;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
+
+/**
+ * Erzeugt eine berdeckung mit einem im Konstruktor bergebenen Verfahren,
+ * wobei das Problem vorher reduziert und die Lsung des reduzierten Problems
+ * zurckkonvertiert wird. Die Reduktion erfolgt durch wiederholte Anwendung
+ * der folgenden Regeln, bis sich das Problem nicht mehr ndert:
+ * <UL>
+ * <LI>Eine Teilmenge, die als einzige einen Index enthlt, ist in jeder
+ * berdeckung enthalten. Sie wird in die Lsung aufgenommen und ihre Indices
+ * werden aus dem Problem entfernt.</LI>
+ * <LI>Wenn jede Teilmenge, die einen Index enthlt, auch einen anderen Index
+ * enthlt, wird der andere Index mit berdeckt und daher aus dem Problem
+ * entfernt.</LI>
+ * <LI>Eine Teilmenge, deren verbliebene Indices alle in einer anderen
+ * Teilmenge mit nicht hheren Kosten enthalten sind, wird aus dem Problem
+ * entfernt.</LI>
+ * </UL>
+ * Die letzte Regel ist nur anwendbar, wenn die Kosten der Familie linear von
+ * den Kosten der Teilmengen abhngen. Eine Familie, fr die das nicht gilt
+ * oder zu der keine vollstndige berdeckung existiert, wird unverndert an
+ * das bergebene Verfahren weitergegeben.
+ *
+ * @author  Dietmar Lippold
+ */
+public class DominanzReduktion implements UeberdeckungsOptimierung {
+
+    /**
+     * Das zu verwendende Verfahren zur Erzeugung einer berdeckung.
+     */
+    private UeberdeckungsOptimierung scpVerfahren;
+
+    /**
+     * Die Anzahl der bisher verarbeiteten Probleme.
+     */
+    private int verarbeitProblemAnz = 0;
+
+    /**
+     * Die Anzahl der bisher reduzierten Probleme.
+     */
+    private int reduzProblemAnz = 0;
+
+    /**
+     * Die Summe der Anzahlen der Indices der reduzierten Probleme vor der
+     * Reduktion.
+     */
+    private long indexAnzVorher = 0;
+
+    /**
+     * Die Summe der Anzahlen der Indices der reduzierten Probleme nach der
+     * Reduktion.
+     */
+    private long indexAnzNachher = 0;
+
+    /**
+     * Die Summe der Anzahlen der Teilmengen der reduzierten Probleme vor der
+     * Reduktion.
+     */
+    private long itmAnzVorher = 0;
+
+    /**
+     * Die Summe der Anzahlen der Teilmengen der reduzierten Probleme nach
+     * der Reduktion.
+     */
+    private long itmAnzNachher = 0;
+
+    /**
+     * Die Summe der Anzahlen der Teilmengen, die bei der Reduktion in die
+     * Lsung aufgenommen wurden.
+     */
+    private long fixItmAnz = 0;
+
+    /**
+     * Erzeugt eine neue Instanz der Klasse.
+     *
+     * @param scpVerfahren  Das Verfahren, das zur Berechnung einer
+     *                      berdeckung des reduzierten Problems verwendet
+     *                      werden soll.
+     */
+    public DominanzReduktion(UeberdeckungsOptimierung scpVerfahren) {
+        this.scpVerfahren = scpVerfahren;
+    }
+
+    /**
+     * Liefert zu jedem noch im Problem enthaltenen Index die Nummern der noch
+     * im Problem enthaltenen Teilmengen, die den Index enthalten.
+     *
+     * @param teilmengen    Die Teilmengen des Problems.
+     * @param aktiveItm     Gibt zu jeder Teilmenge an, ob sie noch im Problem
+     *                      enthalten ist.
+     * @param aktiverIndex  Gibt zu jedem Index an, ob er noch im Problem
+     *                      enthalten ist.
+     *
+     * @return  Zu jedem enthaltenen Index ein Array mit den aufsteigend
+     *          sortierten Nummern der Teilmengen. Zu einem nicht mehr
+     *          enthaltenen Index ist der Wert <CODE>null</CODE>.
+     */
+    private static int[][] enthaltendeItmNummern(IndexTeilmenge[] teilmengen,
+                                                 boolean[] aktiveItm,
+                                                 boolean[] aktiverIndex) {
+        IndexTeilmenge teilmenge;
+        int[][]        itmNummern;
+        int[]          itmAnz;
+
+        itmAnz = new int[aktiverIndex.length];
+        for (int nr = 0; nr < teilmengen.length; nr++) {
+            if (aktiveItm[nr]) {
+                teilmenge = teilmengen[nr];
+                for (int index = teilmenge.kleinsterEnthaltenerIndex();
+                     index >= 0;
+                     index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+                    itmAnz[index]++;
+                }
+            }
+        }
+
+        itmNummern = new int[aktiverIndex.length][];
+        for (int index = 0; index < aktiverIndex.length; index++) {
+            if (aktiverIndex[index]) {
+                itmNummern[index] = new int[itmAnz[index]];
+                itmAnz[index] = 0;
+            }
+        }
+
+        for (int nr = 0; nr < teilmengen.length; nr++) {
+            if (aktiveItm[nr]) {
+                teilmenge = teilmengen[nr];
+                for (int index = teilmenge.kleinsterEnthaltenerIndex();
+                     index >= 0;
+                     index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+                    if (aktiverIndex[index]) {
+                        itmNummern[index][itmAnz[index]] = nr;
+                        itmAnz[index]++;
+                    }
+                }
+            }
+        }
+
+        return itmNummern;
+    }
+
+    /**
+     * Nimmt die Teilmengen, die als einzige einen Index enthalten, in die
+     * bergebene Liste auf und entfernt sie und ihre Indices aus dem
+     * Problem.
+     *
+     * @param teilmengen    Die Teilmengen des Problems.
+     * @param aktiveItm     Gibt zu jeder Teilmenge an, ob sie noch im Problem
+     *                      enthalten ist.
+     * @param aktiverIndex  Gibt zu jedem Index an, ob er noch im Problem
+     *                      enthalten ist.
+     * @param fixItms       Die Liste der in die Lsung aufgenommenen
+     *                      Teilmengen.
+     *
+     * @return  <CODE>true</CODE>, wenn das Problem gendert wurde, sonst
+     *          <CODE>false</CODE>.
+     */
+    private static boolean notwendigeFixieren(IndexTeilmenge[] teilmengen,
+                                              boolean[] aktiveItm,
+                                              boolean[] aktiverIndex,
+                                              LinkedList fixItms) {
+        IndexTeilmenge teilmenge;
+        int[][]        itmNummern;
+        boolean        geaendert;
+        int            nr;
+
+        itmNummern = enthaltendeItmNummern(teilmengen, aktiveItm, aktiverIndex);
+        geaendert = false;
+        for (int index = 0; index < aktiverIndex.length; index++) {
+            if (aktiverIndex[index] && (itmNummern[index].length == 1)) {
+                nr = itmNummern[index][0];
+                teilmenge = teilmengen[nr];
+                aktiveItm[nr] = false;
+                fixItms.add(teilmenge);
+                for (int i = teilmenge.kleinsterEnthaltenerIndex();
+                     i >= 0;
+                     i = teilmenge.naechsterEnthaltenerIndex(i + 1)) {
+                    aktiverIndex[i] = false;
+                }
+                geaendert = true;
+            }
+        }
+
+        return geaendert;
+    }
+
+    /**
+     * Entfernt die Indices aus dem Problem, die von jeder Teilmenge enthalten
+     * werden, die einen anderen noch enthaltenen Index enthlt. Die Indices
+     * werden dazu nach der Anzahl der enthaltenden Teilmengen sortiert,
+     * so da ein Index nur mit den vorher verbliebenen Indices verglichen
+     * werden mu. Jeder verbliebene Index wird bei der ihn enthaltenden
+     * Teilmenge mit den wenigsten Indices vermerkt und nur mit den Indices
+     * verglichen, die ebenfalls in dieser Teilmenge enthalten sind. Der
+     * Vergleich erfolgt ber die sortierten Nummern der enthaltenden
+     * Teilmengen.
+     *
+     * @param teilmengen    Die Teilmengen des Problems.
+     * @param aktiveItm     Gibt zu jeder Teilmenge an, ob sie noch im Problem
+     *                      enthalten ist.
+     * @param aktiverIndex  Gibt zu jedem Index an, ob er noch im Problem
+     *                      enthalten ist.
+     *
+     * @return  <CODE>true</CODE>, wenn das Problem gendert wurde, sonst
+     *          <CODE>false</CODE>.
+     */
+    private static boolean indicesReduzieren(IndexTeilmenge[] teilmengen,
+                                             boolean[] aktiveItm,
+                                             boolean[] aktiverIndex) {
+        int[][] itmNummern;
+        int[]   reihenfolge;
+        int[]   anzProLaenge;
+        int[]   indexAnzProItm;
+        int[]   ersterVermerkter;
+        int[]   naechsterVermerkter;
+        int[]   eigeneNummern;
+        boolean geaendert, dominiert;
+        int     aktivAnz, index, andererIndex;
+        int     maxLaenge, pos, nr, seltensteNr;
+
+        itmNummern = enthaltendeItmNummern(teilmengen, aktiveItm, aktiverIndex);
+
+        // Die Indices nach der Anzahl der enthaltenden Teilmengen sortieren
+        // und zu jeder Teilmenge die Anzahl der enthaltenen Indices zhlen.
+        indexAnzProItm = new int[teilmengen.length];
+        maxLaenge = 0;
+        aktivAnz = 0;
+        for (index = 0; index < aktiverIndex.length; index++) {
+            if (aktiverIndex[index]) {
+                for (int i = 0; i < itmNummern[index].length; i++) {
+                    indexAnzProItm[itmNummern[index][i]]++;
+                }
+                maxLaenge = Math.max(maxLaenge, itmNummern[index].length);
+                aktivAnz++;
+            }
+        }
+        anzProLaenge = new int[maxLaenge + 2];
+        for (index = 0; index < aktiverIndex.length; index++) {
+            if (aktiverIndex[index]) {
+                anzProLaenge[itmNummern[index].length + 1]++;
+            }
+        }
+        for (int laenge = 1; laenge < anzProLaenge.length; laenge++) {
+            anzProLaenge[laenge] += anzProLaenge[laenge - 1];
+        }
+        reihenfolge = new int[aktivAnz];
+        for (index = 0; index < aktiverIndex.length; index++) {
+            if (aktiverIndex[index]) {
+                pos = anzProLaenge[itmNummern[index].length];
+                reihenfolge[pos] = index;
+                anzProLaenge[itmNummern[index].length]++;
+            }
+        }
+
+        // Jeden Index mit den vorher verbliebenen Indices vergleichen, die
+        // bei einer ihn enthaltenden Teilmenge vermerkt sind. Da die
+        // Teilmengen eines dominierenden Index alle auch den dominierten
+        // Index enthalten, wird so jeder dominierende Index gefunden.
+        geaendert = false;
+        ersterVermerkter = new int[teilmengen.length];
+        Arrays.fill(ersterVermerkter, -1);
+        naechsterVermerkter = new int[aktiverIndex.length];
+        for (int i = 0; i < aktivAnz; i++) {
+            index = reihenfolge[i];
+            eigeneNummern = itmNummern[index];
+            dominiert = false;
+            for (int k = 0; (k < eigeneNummern.length) && !dominiert; k++) {
+                andererIndex = ersterVermerkter[eigeneNummern[k]];
+                while ((andererIndex >= 0) && !dominiert) {
+                    dominiert = teilmengeVon(itmNummern[andererIndex],
+                                             eigeneNummern);
+                    andererIndex = naechsterVermerkter[andererIndex];
+                }
+            }
+
+            if (dominiert) {
+                aktiverIndex[index] = false;
+                geaendert = true;
+            } else if (eigeneNummern.length > 0) {
+                seltensteNr = eigeneNummern[0];
+                for (int k = 1; k < eigeneNummern.length; k++) {
+                    nr = eigeneNummern[k];
+                    if (indexAnzProItm[nr] < indexAnzProItm[seltensteNr]) {
+                        seltensteNr = nr;
+                    }
+                }
+                naechsterVermerkter[index] = ersterVermerkter[seltensteNr];
+                ersterVermerkter[seltensteNr] = index;
+            }
+        }
+
+        return geaendert;
+    }
+
+    /**
+     * Ermittelt, ob alle Werte des ersten sortierten Arrays auch im zweiten
+     * sortierten Array enthalten sind.
+     *
+     * @param kleinereNummern  Die aufsteigend sortierten gesuchten Werte.
+     * @param groessereNummern Die aufsteigend sortierten Werte, in denen
+     *                         gesucht wird.
+     *
+     * @return  <CODE>true</CODE>, wenn alle Werte des ersten Arrays im
+     *          zweiten Array enthalten sind, sonst <CODE>false</CODE>.
+     */
+    private static boolean teilmengeVon(int[] kleinereNummern,
+                                        int[] groessereNummern) {
+        int pos;
+
+        if (kleinereNummern.length > groessereNummern.length) {
+            return false;
+        }
+
+        pos = 0;
+        for (int k = 0; k < kleinereNummern.length; k++) {
+            while ((pos < groessereNummern.length)
+                   && (groessereNummern[pos] < kleinereNummern[k])) {
+                pos++;
+            }
+            if ((pos == groessereNummern.length)
+                || (groessereNummern[pos] != kleinereNummern[k])) {
+                return false;
+            }
+            pos++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Entfernt die Teilmengen aus dem Problem, die keinen noch enthaltenen
+     * Index enthalten oder deren noch enthaltene Indices alle in einer
+     * anderen noch enthaltenen Teilmenge mit nicht hheren Kosten enthalten
+     * sind. Als andere Teilmengen werden nur die Teilmengen betrachtet, die
+     * den Index der Teilmenge enthalten, der in den wenigsten Teilmengen
+     * enthalten ist.
+     *
+     * @param teilmengen    Die Teilmengen des Problems.
+     * @param itmKosten     Die Kosten der Teilmengen.
+     * @param aktiveItm     Gibt zu jeder Teilmenge an, ob sie noch im Problem
+     *                      enthalten ist.
+     * @param aktiverIndex  Gibt zu jedem Index an, ob er noch im Problem
+     *                      enthalten ist.
+     *
+     * @return  <CODE>true</CODE>, wenn das Problem gendert wurde, sonst
+     *          <CODE>false</CODE>.
+     */
+    private static boolean teilmengenReduzieren(IndexTeilmenge[] teilmengen,
+                                                float[] itmKosten,
+                                                boolean[] aktiveItm,
+                                                boolean[] aktiverIndex) {
+        IndexTeilmenge teilmenge, andereItm;
+        int[][]        itmNummern;
+        int[]          itmIndices;
+        int[]          kandidaten;
+        boolean        geaendert, dominiert, enthalten;
+        int            indexAnz, seltensterIndex;
+
+        itmNummern = enthaltendeItmNummern(teilmengen, aktiveItm, aktiverIndex);
+        itmIndices = new int[aktiverIndex.length];
+
+        geaendert = false;
+        for (int nr = 0; nr < teilmengen.length; nr++) {
+            if (aktiveItm[nr]) {
+                teilmenge = teilmengen[nr];
+
+                // Die noch enthaltenen Indices der Teilmenge und davon den
+                // in den wenigsten Teilmengen enthaltenen Index ermitteln.
+                indexAnz = 0;
+                seltensterIndex = -1;
+                for (int index = teilmenge.kleinsterEnthaltenerIndex();
+                     index >= 0;
+                     index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+                    if (aktiverIndex[index]) {
+                        itmIndices[indexAnz] = index;
+                        indexAnz++;
+                        if ((seltensterIndex < 0)
+                            || (itmNummern[index].length
+                                < itmNummern[seltensterIndex].length)) {
+                            seltensterIndex = index;
+                        }
+                    }
+                }
+
+                if (indexAnz == 0) {
+                    dominiert = true;
+                } else {
+                    dominiert = false;
+                    kandidaten = itmNummern[seltensterIndex];
+                    for (int k = 0; (k < kandidaten.length) && !dominiert; k++) {
+                        andereItm = teilmengen[kandidaten[k]];
+                        if ((kandidaten[k] != nr) && aktiveItm[kandidaten[k]]
+                            && (itmKosten[kandidaten[k]] <= itmKosten[nr])) {
+
+                            enthalten = true;
+                            for (int i = 0; (i < indexAnz) && enthalten; i++) {
+                                enthalten = andereItm.indexIstEnthalten(itmIndices[i]);
+                            }
+                            dominiert = enthalten;
+                        }
+                    }
+                }
+
+                if (dominiert) {
+                    aktiveItm[nr] = false;
+                    geaendert = true;
+                }
+            }
+        }
+
+        return geaendert;
+    }
+
+    /**
+     * Versucht zu der bergebenen Familie eine Teil-Familie zu erzeugen, die
+     * als neues Objekt Elemente (vom Typ <CODE>IndexTeilmenge</CODE>) der
+     * bergebenen Familie enthlt (wobei die konkreten Elemente Objekte auch
+     * von Unterklassen von IndexTeilmenge sein knnen). Die IndexTeilmengen
+     * der Teil-Familie berdecken so viele Elemente der Gesamtmenge wie
+     * mglich mit mglichst geringen Kosten, wobei die Anzahl der berdeckten
+     * Elemente das primre Kriterium ist.
+     *
+     * @param familie               Die Familie der Teilmengen, die zur
+     *                              Erzeugung der berdeckung verwendet werden
+     *                              sollen.
+     * @param bekannteUeberdeckung  Eine mglichst gute bekannte berdeckung.
+     *                              Der Wert kann <CODE>null</CODE> sein, wenn
+     *                              z.B. noch keine berdeckung bekannt ist.
+     *                              Sie wird an das Verfahren nur bergeben,
+     *                              wenn sie auch das reduzierte Problem
+     *                              berdeckt.
+     *
+     * @return  Die beste gefundene berdeckung oder <CODE>null</CODE>, wenn
+     *          keine gefunden wurde.
+     */
+    public ItmFamilie ueberdeckung(ItmFamilie familie,
+                                   ItmFamilie bekannteUeberdeckung) {
+        ItmFamilie       erwFamilie;
+        ItmFamilie       kernProblem, kernBekannte, kernLoesung;
+        ItmFamilie       ueberdeckung;
+        ItmFamilie       leereFamilie;
+        IndexTeilmenge[] teilmengen;
+        IndexTeilmenge   teilmenge, kernItm;
+        LinkedList       fixItms;
+        HashMap          kernOrigItmMap;
+        HashMap          origKernItmMap;
+        Iterator         itmIter;
+        boolean[]        aktiveItm;
+        boolean[]        aktiverIndex;
+        float[]          itmKosten;
+        int[]            kernIndex;
+        boolean          geaendert;
+        int              groesseGesamtmenge, kernGroesse;
+
+        verarbeitProblemAnz++;
+
+        if ((bekannteUeberdeckung != null)
+            && !familie.toHashSet().containsAll(bekannteUeberdeckung.toHashSet())) {
+            erwFamilie = (ItmFamilie) familie.clone();
+            erwFamilie.teilmengenHinzufuegen(bekannteUeberdeckung.toHashSet());
+        } else {
+            erwFamilie = familie;
+        }
+
+        if ((erwFamilie.anzNichtUeberdeckt() > 0)
+            || !erwFamilie.teilmengenKostenLinear()) {
+            // Es erfolgt keine Reduktion.
+            return scpVerfahren.ueberdeckung(familie, bekannteUeberdeckung);
+        }
+
+        reduzProblemAnz++;
+
+        groesseGesamtmenge = erwFamilie.groesseGesamtmenge();
+        teilmengen = erwFamilie.toArray();
+
+        // Da die Kosten der Familie linear sind, sind die Kosten der
+        // Hinzunahme einer Teilmenge zur leeren Familie ihre Kosten.
+        leereFamilie = erwFamilie.neueInstanz(false);
+        itmKosten = new float[teilmengen.length];
+        for (int nr = 0; nr < teilmengen.length; nr++) {
+            itmKosten[nr] = leereFamilie.kostenHinzufuegen(teilmengen[nr]);
+        }
+
+        aktiveItm = new boolean[teilmengen.length];
+        Arrays.fill(aktiveItm, true);
+        aktiverIndex = new boolean[groesseGesamtmenge];
+        Arrays.fill(aktiverIndex, true);
+        fixItms = new LinkedList();
+
+        // Die Regeln solange anwenden, bis sich das Problem nicht mehr
+        // ndert.
+        do {
+            geaendert = false;
+            if (notwendigeFixieren(teilmengen, aktiveItm, aktiverIndex, fixItms)) {
+                geaendert = true;
+            }
+            if (indicesReduzieren(teilmengen, aktiveItm, aktiverIndex)) {
+                geaendert = true;
+            }
+            if (teilmengenReduzieren(teilmengen, itmKosten, aktiveItm,
+                                     aktiverIndex)) {
+                geaendert = true;
+            }
+        } while (geaendert);
+
+        // Die neuen Nummern der verbliebenen Indices ermitteln.
+        kernIndex = new int[groesseGesamtmenge];
+        kernGroesse = 0;
+        for (int index = 0; index < groesseGesamtmenge; index++) {
+            if (aktiverIndex[index]) {
+                kernIndex[index] = kernGroesse;
+                kernGroesse++;
+            }
+        }
+
+        // Das reduzierte Problem erzeugen.
+        kernProblem = new ItmFamilie(kernGroesse);
+        kernOrigItmMap = new HashMap();
+        origKernItmMap = new HashMap();
+        for (int nr = 0; nr < teilmengen.length; nr++) {
+            if (aktiveItm[nr]) {
+                teilmenge = teilmengen[nr];
+                kernItm = new IndexTeilmenge(kernGroesse, itmKosten[nr]);
+                for (int index = teilmenge.kleinsterEnthaltenerIndex();
+                     index >= 0;
+                     index = teilmenge.naechsterEnthaltenerIndex(index + 1)) {
+                    if (aktiverIndex[index]) {
+                        kernItm.indexAufnehmen(kernIndex[index]);
+                    }
+                }
+                kernProblem.teilmengeHinzufuegen(kernItm);
+                kernOrigItmMap.put(kernItm, teilmenge);
+                origKernItmMap.put(teilmenge, kernItm);
+            }
+        }
+
+        indexAnzVorher += groesseGesamtmenge;
+        indexAnzNachher += kernGroesse;
+        itmAnzVorher += teilmengen.length;
+        itmAnzNachher += kernProblem.groesseFamilie();
+        fixItmAnz += fixItms.size();
+
+        ueberdeckung = erwFamilie.neueInstanz(false);
+        ueberdeckung.teilmengenHinzufuegen(fixItms);
+
+        if (kernGroesse > 0) {
+            // Die bekannte berdeckung in das reduzierte Problem bertragen.
+            kernBekannte = null;
+            if (bekannteUeberdeckung != null) {
+                kernBekannte = new ItmFamilie(kernGroesse);
+                itmIter = bekannteUeberdeckung.iterator();
+                while (itmIter.hasNext()) {
+                    kernItm = (IndexTeilmenge) origKernItmMap.get(itmIter.next());
+                    if (kernItm != null) {
+                        kernBekannte.teilmengeHinzufuegen(kernItm);
+                    }
+                }
+                if (kernBekannte.anzNichtUeberdeckt() > 0) {
+                    kernBekannte = null;
+                }
+            }
+
+            kernLoesung = scpVerfahren.ueberdeckung(kernProblem, kernBekannte);
+            if (kernLoesung == null) {
+                return null;
+            }
+
+            // Rckkonvertierung der Teilmengen.
+            itmIter = kernLoesung.iterator();
+            while (itmIter.hasNext()) {
+                kernItm = (IndexTeilmenge) itmIter.next();
+                ueberdeckung.teilmengeHinzufuegen((IndexTeilmenge) kernOrigItmMap.get(kernItm));
+            }
+        }
+
+        return ueberdeckung;
+    }
+
+    /**
+     * Versucht zu der bergebenen Familie eine Teil-Familie zu erzeugen, die
+     * als neues Objekt Elemente (vom Typ <CODE>IndexTeilmenge</CODE>) der
+     * bergebenen Familie enthlt (wobei die konkreten Elemente Objekte auch
+     * von Unterklassen von IndexTeilmenge sein knnen). Die IndexTeilmengen
+     * der Teil-Familie berdecken so viele Elemente der Gesamtmenge wie
+     * mglich mit mglichst geringen Kosten, wobei die Anzahl der berdeckten
+     * Elemente das primre Kriterium ist.
+     *
+     * @param familie  Die Familie der Teilmengen, die zur Erzeugung der
+     *                 berdeckung verwendet werden sollen.
+     *
+     * @return  Die beste gefundene berdeckung oder <CODE>null</CODE>, wenn
+     *          keine gefunden wurde.
+     */
+    public ItmFamilie ueberdeckung(ItmFamilie familie) {
+        return ueberdeckung(familie, null);
+    }
+
+    /**
+     * Liefert einen Text, der Daten zu den bisherigen Erzeugungen der
+     * berdeckungen liefert.
+     *
+     * @return  Einen Text, der Daten zu den bisherigen Erzeugungen der
+     *          berdeckungen liefert.
+     */
+    public String statistik() {
+        StringBuffer rueckgabe;
+
+        rueckgabe = new StringBuffer();
+        rueckgabe.append("Anzahl der bisher verarbeiteten Probleme: ");
+        rueckgabe.append(verarbeitProblemAnz);
+        rueckgabe.append("\n");
+        rueckgabe.append("Anzahl der reduzierten Probleme: ");
+        rueckgabe.append(reduzProblemAnz);
+        rueckgabe.append("\n");
+        rueckgabe.append("Anzahl der Indices vor / nach der Reduktion: ");
+        rueckgabe.append(indexAnzVorher);
+        rueckgabe.append(" / ");
+        rueckgabe.append(indexAnzNachher);
+        rueckgabe.append("\n");
+        rueckgabe.append("Anzahl der Teilmengen vor / nach der Reduktion: ");
+        rueckgabe.append(itmAnzVorher);
+        rueckgabe.append(" / ");
+        rueckgabe.append(itmAnzNachher);
+        rueckgabe.append("\n");
+        rueckgabe.append("Anzahl der direkt aufgenommenen Teilmengen: ");
+        rueckgabe.append(fixItmAnz);
+
+        return rueckgabe.toString();
+    }
+}
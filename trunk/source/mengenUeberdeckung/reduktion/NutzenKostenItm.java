@@ -1,6 +1,6 @@
 /*
  * Dateiname      : NutzenKostenItm.java
- * Letzte nderung: 08. Juli 2005
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2005
@@ -55,6 +55,12 @@ public class NutzenKostenItm implements Comparable {
      */
     private boolean aufsteigend;
 
+    /**
+     * Die Nummer des Tripels. Sie legt die Reihenfolge von Tripeln mit
+     * gleichen Kosten und gleichem Hash-Code der Teilmenge fest.
+     */
+    private long nummer;
+
     /**
      * Erzeugt eine Instanz zu den bergebenen Daten mit der angegebenen
      * Sortierreihenfolge.
@@ -66,13 +72,35 @@ public class NutzenKostenItm implements Comparable {
      *                     <CODE>SortedSet</CODE> aufsteigend bezglich der
      *                     Kostenwerte sortiert werden sollen. Falls nicht,
      *                     werden sie absteigend sortiert.
+     * @param nummer       Die Nummer des Tripels. Bei gleichen Kosten und
+     *                     gleichem Hash-Code der Teilmenge wird ein Tripel
+     *                     mit kleinerer Nummer vor einem mit grerer Nummer
+     *                     einsortiert.
      */
     public NutzenKostenItm(IndexTeilmenge teilmenge, float nutzen, float kosten,
-                           boolean aufsteigend) {
+                           boolean aufsteigend, long nummer) {
         this.teilmenge = teilmenge;
         this.nutzen = nutzen;
         this.kosten = kosten;
         this.aufsteigend = aufsteigend;
+        this.nummer = nummer;
+    }
+
+    /**
+     * Erzeugt eine Instanz zu den bergebenen Daten mit der angegebenen
+     * Sortierreihenfolge und der Nummer Null.
+     *
+     * @param teilmenge    Die zu verwaltende Teilmenge.
+     * @param nutzen       Der zu verwaltende Nutzenwert.
+     * @param kosten       Der zu verwaltende Kostenwert.
+     * @param aufsteigend  Die Angabe, ob die Instanzen in einem
+     *                     <CODE>SortedSet</CODE> aufsteigend bezglich der
+     *                     Kostenwerte sortiert werden sollen. Falls nicht,
+     *                     werden sie absteigend sortiert.
+     */
+    public NutzenKostenItm(IndexTeilmenge teilmenge, float nutzen, float kosten,
+                           boolean aufsteigend) {
+        this(teilmenge, nutzen, kosten, aufsteigend, 0);
     }
 
     /**
@@ -116,6 +144,9 @@ public class NutzenKostenItm implements Comparable {
     /**
      * Vergleicht das bergebene Objekt mit diesem Objekt anhand des
      * Kostenwerts in Bezug auf die im Konstruktor vorgegebene Reihenfolge.
+     * Bei gleichen Kosten entscheidet der Hash-Code der Teilmenge und danach
+     * die Nummer des Tripels. Wenn die Nummern verschieden sind, ist die
+     * Reihenfolge daher eindeutig.
      *
      * @param o  Das Objekt, das mit diesem Objekt verglichen werden soll.
      *
@@ -132,7 +163,9 @@ public class NutzenKostenItm implements Comparable {
         } else if (aufsteigend) {
             if ((kosten < anderesTripel.kosten)
                 || (kosten == anderesTripel.kosten)
-                   && (teilmenge.hashCode() < anderesTripel.teilmenge.hashCode())) {
+                   && ((teilmenge.hashCode() < anderesTripel.teilmenge.hashCode())
+                       || (teilmenge.hashCode() == anderesTripel.teilmenge.hashCode())
+                          && (nummer < anderesTripel.nummer))) {
                 return -1;
             } else {
                 return 1;
@@ -140,7 +173,9 @@ public class NutzenKostenItm implements Comparable {
         } else {
             if ((kosten > anderesTripel.kosten)
                 || (kosten == anderesTripel.kosten)
-                   && (teilmenge.hashCode() > anderesTripel.teilmenge.hashCode())) {
+                   && ((teilmenge.hashCode() > anderesTripel.teilmenge.hashCode())
+                       || (teilmenge.hashCode() == anderesTripel.teilmenge.hashCode())
+                          && (nummer < anderesTripel.nummer))) {
                 return -1;
             } else {
                 return 1;
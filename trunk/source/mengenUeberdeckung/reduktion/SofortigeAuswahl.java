@@ -1,6 +1,6 @@
 /*
  * Dateiname      : SofortigeAuswahl.java
- * Letzte nderung: 28. November 2007
+ * Letzte nderung: 18. Oktober 2026
  * Autoren        : Dietmar Lippold
  * Copyright (C)  : Institut fr Intelligente Systeme Universitt Stuttgart,
  *                  2007
@@ -27,6 +27,7 @@ package mengenUeberdeckung.reduktion;
 import java.util.Iterator;
 import java.util.TreeSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 
 import mengenUeberdeckung.allgemein.IndexTeilmenge;
@@ -42,7 +43,13 @@ import mengenUeberdeckung.heuristiken.utility.ReductionUtility;
  *
  * Die Anzahl der zu speichernden Teilmengen wird im Konstruktor bergeben.
  * Auf jeden Fall gespeichert werden Teilmengen mit Kosten von Null und
- * notwendige Teilmengen.
+ * notwendige Teilmengen.<P>
+ *
+ * Wenn die Kosten der Teilmengen unabhngig von der Familie sind, werden
+ * nach einer nderung der Auswahl nur die Nutzen der Teilmengen neu
+ * berechnet, die mit der aufgenommenen oder entfernten Teilmenge einen
+ * Index gemeinsam haben. Dafr mu der Nutzen einer Teilmenge nur von den
+ * berdeckungshufigkeiten ihrer Indices abhngen.
  *
  * @author  Dietmar Lippold
  */
@@ -86,6 +93,18 @@ public class SofortigeAuswahl extends ItmAuswahlErzeugung {
      */
     private TreeSet absteigendeTeilmengen = null;
 
+    /**
+     * Speichert zu jeder ausgewhlten Teilmenge ihr Tripel aus
+     * <CODE>aufsteigendeTeilmengen</CODE>.
+     */
+    private HashMap aufsteigendeTripel = new HashMap();
+
+    /**
+     * Speichert zu jeder ausgewhlten Teilmenge ihr Tripel aus
+     * <CODE>absteigendeTeilmengen</CODE>.
+     */
+    private HashMap absteigendeTripel = new HashMap();
+
     /**
      * Speichert zu jedem Hash-Code einer in dieser Auswahl enthaltenen
      * Teilmenge eine <CODE>LinkedList</CODE> aller enthaltenen Teilmengen,
@@ -132,6 +151,23 @@ public class SofortigeAuswahl extends ItmAuswahlErzeugung {
      */
     private float minQuotient;
 
+    /**
+     * Die Anzahl der Tripel in <CODE>aufsteigendeTeilmengen</CODE>, deren
+     * Kosten positiv sind und deren Nutzen nicht positiv ist.
+     */
+    private int negTripelAnz = 0;
+
+    /**
+     * Die Anzahl der Tripel in <CODE>aufsteigendeTeilmengen</CODE>, deren
+     * Kosten und deren Nutzen positiv sind.
+     */
+    private int posTripelAnz = 0;
+
+    /**
+     * Die Nummer, die das nchste erzeugte Tripel erhlt.
+     */
+    private long naechsteTripelNummer = 0;
+
     /**
      * Die minimale Anzahl der Teilmengen, die in der Familie der ergnzenden
      * Auswahl enthalten sein soll.
@@ -158,6 +194,16 @@ public class SofortigeAuswahl extends ItmAuswahlErzeugung {
      */
     private boolean maxAuswahlWurdeErreicht = false;
 
+    /**
+     * Gibt an, ob die Kosten einer Teilmenge unabhngig von der Familie
+     * sind. Das ist der Fall, wenn fr die Familie keine maximale Anzahl von
+     * Teilmengen vorgegeben ist und die Kosten nicht von Kosten-Indices
+     * abhngen. Dann verndert die Aufnahme oder Entfernung einer Teilmenge
+     * nicht die Kosten und damit auch nicht die Reihenfolge der anderen
+     * Tripel.
+     */
+    private boolean kostenUnabhaengig;
+
     /**
      * Erzeugt eine neue Instanz zur Auswahl von Teilmengen. In der Auswahl
      * ist mindestens die bergebene Anzahl von Teilmengen enthalten. Auerdem
@@ -194,6 +240,7 @@ public class SofortigeAuswahl extends ItmAuswahlErzeugung {
             this.minUeberdeckAnz = minUeberdeckAnz;
         }
         this.reductionUtility = reductionUtility;
+        this.kostenUnabhaengig = ausgangsFamilie.kostenUnabhaengig();
         this.hinzuErforderlichElem = new IndexTeilmenge(groesseGesamtmenge);
         this.enthaltenErforderlichElem = new IndexTeilmenge(groesseGesamtmenge);
     }
@@ -349,20 +396,18 @@ public class SofortigeAuswahl extends ItmAuswahlErzeugung {
 
         aufsteigendeTeilmengen = new TreeSet();
         absteigendeTeilmengen = new TreeSet();
+        aufsteigendeTripel.clear();
+        absteigendeTripel.clear();
+        negTripelAnz = 0;
+        posTripelAnz = 0;
         minQuotient = Float.MAX_VALUE;
 
         itmIter = ausgewaehlteTeilmengen.iterator();
         while (itmIter.hasNext()) {
             nextTeilmenge = (IndexTeilmenge) itmIter.next();
-            nutzen = reductionUtility.addUtilityPot(nextTeilmenge,
-                                                    ausgewaehlteTeilmengen);
-            kosten = ausgewaehlteTeilmengen.kostenEntfernen(nextTeilmenge);
-
-            tripel = new NutzenKostenItm(nextTeilmenge, nutzen, kosten, true);
-            aufsteigendeTeilmengen.add(tripel);
-
-            tripel = new NutzenKostenItm(nextTeilmenge, nutzen, kosten, false);
-            absteigendeTeilmengen.add(tripel);
+            tripel = tripelAufnehmen(nextTeilmenge);
+            nutzen = tripel.nutzen();
+            kosten = tripel.kosten();
 
             if (nutzen / kosten < minQuotient) {
                 minQuotient = -nutzen / kosten;
@@ -470,41 +515,241 @@ public class SofortigeAuswahl extends ItmAuswahlErzeugung {
     }
 
     /**
-     * Ermittelt die Daten der Attribute auf Grundlage der neuen Belegung
-     * von <CODE>ausgewaehlteTeilmengen</CODE>. Dabei werden den Elementen
-     * von <CODE>aufsteigendeTeilmengen</CODE> und <CODE>absteigendeTeilmengen</CODE>
-     * nach Aufnahme eines neuen Tripels der hinzuzunehmenden Teilmenge und
-     * Entfernung des Tripels der zu entfernenden Teilmenge neue Werte fr
-     * Nutzen und Kosten zugewiesen.<P>
+     * Zhlt ein Tripel mit dem bergebenen Nutzen und den bergebenen
+     * Kosten zu <CODE>negTripelAnz</CODE> oder <CODE>posTripelAnz</CODE>
+     * hinzu oder zieht es davon ab.
      *
-     * Aufrufe dieser Methode knnen auch durch Aufrufe der Methode
-     * <CODE>datenErzeugen</CODE> ersetzt werden. Gegenber der Methode
-     * verbraucht diese Methode aber weniger Objekte.
+     * @param nutzen     Der Nutzen des Tripels.
+     * @param kosten     Die Kosten des Tripels.
+     * @param aenderung  Der Wert 1, wenn das Tripel hinzukommt, und der Wert
+     *                   -1, wenn es wegfllt.
+     */
+    private void tripelZaehlen(float nutzen, float kosten, int aenderung) {
+        if (kosten > 0) {
+            if (nutzen <= 0) {
+                negTripelAnz += aenderung;
+            } else if (nutzen > 0) {
+                posTripelAnz += aenderung;
+            }
+        }
+    }
+
+    /**
+     * Ermittelt den Wert von <CODE>minQuotient</CODE> in der Reihenfolge der
+     * Tripel in <CODE>aufsteigendeTeilmengen</CODE>.<P>
+     *
+     * Wenn alle Tripel positive Kosten und einen nicht positiven Nutzen
+     * haben, ersetzt jedes Tripel den bisherigen Wert und das Ergebnis ergibt
+     * sich aus dem letzten Tripel. Wenn alle Tripel positive Kosten und einen
+     * positiven Nutzen haben, ersetzt nur das erste Tripel den bisherigen
+     * Wert. In beiden Fllen wird keine Iteration bentigt. Anderenfalls
+     * werden alle Tripel durchlaufen.
+     */
+    private void minQuotientErmitteln() {
+        NutzenKostenItm tripel;
+        Iterator        tripelIter;
+        float           nutzen, kosten;
+        int             tripelAnz;
+
+        tripelAnz = aufsteigendeTeilmengen.size();
+        if (tripelAnz == 0) {
+            minQuotient = Float.MAX_VALUE;
+        } else if (negTripelAnz == tripelAnz) {
+            tripel = (NutzenKostenItm) aufsteigendeTeilmengen.last();
+            minQuotient = -tripel.nutzen() / tripel.kosten();
+        } else if (posTripelAnz == tripelAnz) {
+            tripel = (NutzenKostenItm) aufsteigendeTeilmengen.first();
+            minQuotient = -tripel.nutzen() / tripel.kosten();
+        } else {
+            minQuotient = Float.MAX_VALUE;
+            tripelIter = aufsteigendeTeilmengen.iterator();
+            while (tripelIter.hasNext()) {
+                tripel = (NutzenKostenItm) tripelIter.next();
+                nutzen = tripel.nutzen();
+                kosten = tripel.kosten();
+                if (nutzen / kosten < minQuotient) {
+                    minQuotient = -nutzen / kosten;
+                }
+            }
+        }
+    }
+
+    /**
+     * Erzeugt zur bergebenen Teilmenge der Familie die Tripel mit ihrem
+     * relativen Nutzen und ihren relativen Kosten und nimmt sie in
+     * <CODE>aufsteigendeTeilmengen</CODE> und <CODE>absteigendeTeilmengen</CODE>
+     * auf.
+     *
+     * @param teilmenge  Eine in <CODE>ausgewaehlteTeilmengen</CODE>
+     *                   enthaltene Teilmenge.
+     *
+     * @return  Das in <CODE>aufsteigendeTeilmengen</CODE> aufgenommene
+     *          Tripel.
+     */
+    private NutzenKostenItm tripelAufnehmen(IndexTeilmenge teilmenge) {
+        NutzenKostenItm aufTripel, abTripel;
+        float           nutzen, kosten;
+
+        nutzen = reductionUtility.addUtilityPot(teilmenge, ausgewaehlteTeilmengen);
+        kosten = ausgewaehlteTeilmengen.kostenEntfernen(teilmenge);
+
+        aufTripel = new NutzenKostenItm(teilmenge, nutzen, kosten, true,
+                                        naechsteTripelNummer);
+        aufsteigendeTeilmengen.add(aufTripel);
+        aufsteigendeTripel.put(teilmenge, aufTripel);
+
+        abTripel = new NutzenKostenItm(teilmenge, nutzen, kosten, false,
+                                       naechsteTripelNummer);
+        absteigendeTeilmengen.add(abTripel);
+        absteigendeTripel.put(teilmenge, abTripel);
+
+        naechsteTripelNummer++;
+        tripelZaehlen(nutzen, kosten, 1);
+
+        return aufTripel;
+    }
+
+    /**
+     * Entfernt das bergebene Tripel aus der bergebenen Menge. Da die
+     * Reihenfolge der Tripel durch ihre Nummern eindeutig ist, wird das
+     * Tripel in der Regel direkt in der Menge gefunden. Falls die Menge
+     * trotzdem nicht mehr richtig geordnet ist, wird das Tripel notfalls
+     * durch Iteration ber die Menge gesucht.
+     *
+     * @param tripelMenge  Die Menge, aus der das Tripel entfernt werden soll.
+     * @param tripel       Das zu entfernende Tripel.
+     */
+    private static void tripelEntfernen(TreeSet tripelMenge,
+                                        NutzenKostenItm tripel) {
+        Iterator tripelIter;
+        boolean  entfernt;
+
+        entfernt = tripelMenge.remove(tripel);
+        tripelIter = tripelMenge.iterator();
+        while (!entfernt && tripelIter.hasNext()) {
+            if (tripelIter.next() == tripel) {
+                tripelIter.remove();
+                entfernt = true;
+            }
+        }
+    }
+
+    /**
+     * Entfernt die Tripel zur bergebenen Teilmenge aus
+     * <CODE>aufsteigendeTeilmengen</CODE> und <CODE>absteigendeTeilmengen</CODE>.
+     *
+     * @param teilmenge  Die Teilmenge, deren Tripel entfernt werden sollen.
+     */
+    private void tripelEntfernen(IndexTeilmenge teilmenge) {
+        NutzenKostenItm tripel;
+
+        tripel = (NutzenKostenItm) aufsteigendeTripel.remove(teilmenge);
+        tripelEntfernen(aufsteigendeTeilmengen, tripel);
+        tripelZaehlen(tripel.nutzen(), tripel.kosten(), -1);
+
+        tripel = (NutzenKostenItm) absteigendeTripel.remove(teilmenge);
+        tripelEntfernen(absteigendeTeilmengen, tripel);
+    }
+
+    /**
+     * Berechnet den Nutzen der Tripel neu, deren Teilmengen mit einer der
+     * bergebenen Teilmengen einen Index gemeinsam haben. Da die Kosten der
+     * Teilmengen unabhngig von der Familie sein mssen, ndert sich dabei
+     * in der Regel nicht die Reihenfolge der Tripel. Wenn sich die Kosten
+     * eines Tripels doch ndern, wird es vor der nderung aus den Mengen
+     * entfernt und danach wieder aufgenommen.
      *
      * @param neueTeilmenge  Die Teilmenge, die in <CODE>ausgewaehlteTeilmengen</CODE>
-     *                       neu aufgenommen wurde. Wenn keine aufgenommen wurde,
-     *                       wird der Wert <CODE>null</CODE> bergeben.
+     *                       neu aufgenommen wurde, oder <CODE>null</CODE>.
      * @param wegTeilmenge   Die Teilmenge, die aus <CODE>ausgewaehlteTeilmengen</CODE>
-     *                       entfernt wurde. Wenn keine entfernt wurde, wird der
-     *                       Wert <CODE>null</CODE> bergeben.
+     *                       entfernt wurde, oder <CODE>null</CODE>.
      */
-    private void datenAktualisieren(IndexTeilmenge neueTeilmenge,
-                                    IndexTeilmenge wegTeilmenge) {
+    private void betroffeneTripelAktualisieren(IndexTeilmenge neueTeilmenge,
+                                               IndexTeilmenge wegTeilmenge) {
+        HashSet         betroffeneTeilmengen;
+        NutzenKostenItm aufTripel, abTripel;
+        IndexTeilmenge  nextTeilmenge;
+        Iterator        itmIter;
+        float           nutzen, kosten;
+
+        betroffeneTeilmengen = new HashSet();
+        if (neueTeilmenge != null) {
+            betroffeneTeilmengen.addAll(ausgewaehlteTeilmengen.betroffeneTeilmengen(neueTeilmenge));
+        }
+        if (wegTeilmenge != null) {
+            betroffeneTeilmengen.addAll(ausgewaehlteTeilmengen.betroffeneTeilmengen(wegTeilmenge));
+        }
+
+        itmIter = betroffeneTeilmengen.iterator();
+        while (itmIter.hasNext()) {
+            nextTeilmenge = (IndexTeilmenge) itmIter.next();
+            aufTripel = (NutzenKostenItm) aufsteigendeTripel.get(nextTeilmenge);
+
+            // Es kann sich auch um eine potentielle, nicht enthaltene
+            // Teilmenge handeln, die kein Tripel hat.
+            if (aufTripel != null) {
+                abTripel = (NutzenKostenItm) absteigendeTripel.get(nextTeilmenge);
+                tripelZaehlen(aufTripel.nutzen(), aufTripel.kosten(), -1);
+                nutzen = reductionUtility.addUtilityPot(nextTeilmenge,
+                                                        ausgewaehlteTeilmengen);
+                kosten = ausgewaehlteTeilmengen.kostenEntfernen(nextTeilmenge);
+                if (kosten == aufTripel.kosten()) {
+                    aufTripel.setzeNutzenKosten(nutzen, kosten);
+                    abTripel.setzeNutzenKosten(nutzen, kosten);
+                } else {
+                    tripelEntfernen(aufsteigendeTeilmengen, aufTripel);
+                    tripelEntfernen(absteigendeTeilmengen, abTripel);
+                    aufTripel.setzeNutzenKosten(nutzen, kosten);
+                    abTripel.setzeNutzenKosten(nutzen, kosten);
+                    aufsteigendeTeilmengen.add(aufTripel);
+                    absteigendeTeilmengen.add(abTripel);
+                }
+                tripelZaehlen(nutzen, kosten, 1);
+            }
+        }
+
+        minQuotientErmitteln();
+    }
+
+    /**
+     * Berechnet den Nutzen und die Kosten aller Tripel neu und ordnet sie
+     * neu an. Vorher wird gegebenenfalls das Tripel der aufgenommenen
+     * Teilmenge aufgenommen und das der entfernten Teilmenge entfernt.
+     *
+     * @param neueTeilmenge  Die Teilmenge, die in <CODE>ausgewaehlteTeilmengen</CODE>
+     *                       neu aufgenommen wurde, oder <CODE>null</CODE>.
+     * @param wegTeilmenge   Die Teilmenge, die aus <CODE>ausgewaehlteTeilmengen</CODE>
+     *                       entfernt wurde, oder <CODE>null</CODE>.
+     */
+    private void alleTripelAktualisieren(IndexTeilmenge neueTeilmenge,
+                                         IndexTeilmenge wegTeilmenge) {
         TreeSet         alteTripel;
         NutzenKostenItm nextTripel;
         IndexTeilmenge  nextTeilmenge;
         Iterator        tripelIter;
         float           nutzen, kosten;
-        int             teilmengenAnz, nichtUeberdecktAnz, prodAnz;
 
         if (neueTeilmenge != null) {
             // Die neue Teilmenge als Tripel aufnehmen
-            aufsteigendeTeilmengen.add(new NutzenKostenItm(neueTeilmenge, 0, 0, true));
-            absteigendeTeilmengen.add(new NutzenKostenItm(neueTeilmenge, 0, 0, false));
+            nextTripel = new NutzenKostenItm(neueTeilmenge, 0, 0, true,
+                                             naechsteTripelNummer);
+            aufsteigendeTeilmengen.add(nextTripel);
+            aufsteigendeTripel.put(neueTeilmenge, nextTripel);
+            nextTripel = new NutzenKostenItm(neueTeilmenge, 0, 0, false,
+                                             naechsteTripelNummer);
+            absteigendeTeilmengen.add(nextTripel);
+            absteigendeTripel.put(neueTeilmenge, nextTripel);
+            naechsteTripelNummer++;
+        }
+        if (wegTeilmenge != null) {
+            aufsteigendeTripel.remove(wegTeilmenge);
+            absteigendeTripel.remove(wegTeilmenge);
         }
 
         // aufsteigendeTeilmengen neu erzeugen
         minQuotient = Float.MAX_VALUE;
+        negTripelAnz = 0;
+        posTripelAnz = 0;
         alteTripel = aufsteigendeTeilmengen;
         tripelIter = alteTripel.iterator();
         aufsteigendeTeilmengen = new TreeSet();
@@ -517,6 +762,7 @@ public class SofortigeAuswahl extends ItmAuswahlErzeugung {
                 kosten = ausgewaehlteTeilmengen.kostenEntfernen(nextTeilmenge);
                 nextTripel.setzeNutzenKosten(nutzen, kosten);
                 aufsteigendeTeilmengen.add(nextTripel);
+                tripelZaehlen(nutzen, kosten, 1);
 
                 if (nutzen / kosten < minQuotient) {
                     minQuotient = -nutzen / kosten;
@@ -539,6 +785,47 @@ public class SofortigeAuswahl extends ItmAuswahlErzeugung {
                 absteigendeTeilmengen.add(nextTripel);
             }
         }
+    }
+
+    /**
+     * Ermittelt die Daten der Attribute auf Grundlage der neuen Belegung
+     * von <CODE>ausgewaehlteTeilmengen</CODE>. Dabei werden den Elementen
+     * von <CODE>aufsteigendeTeilmengen</CODE> und <CODE>absteigendeTeilmengen</CODE>
+     * nach Aufnahme eines neuen Tripels der hinzuzunehmenden Teilmenge und
+     * Entfernung des Tripels der zu entfernenden Teilmenge neue Werte fr
+     * Nutzen und Kosten zugewiesen.<P>
+     *
+     * Wenn die Kosten der Teilmengen unabhngig von der Familie sind,
+     * werden nur die Tripel der Teilmengen aktualisiert, die mit der
+     * aufgenommenen oder der entfernten Teilmenge einen Index gemeinsam
+     * haben. Anderenfalls werden alle Tripel aktualisiert.<P>
+     *
+     * Aufrufe dieser Methode knnen auch durch Aufrufe der Methode
+     * <CODE>datenErzeugen</CODE> ersetzt werden. Gegenber der Methode
+     * verbraucht diese Methode aber weniger Objekte.
+     *
+     * @param neueTeilmenge  Die Teilmenge, die in <CODE>ausgewaehlteTeilmengen</CODE>
+     *                       neu aufgenommen wurde. Wenn keine aufgenommen wurde,
+     *                       wird der Wert <CODE>null</CODE> bergeben.
+     * @param wegTeilmenge   Die Teilmenge, die aus <CODE>ausgewaehlteTeilmengen</CODE>
+     *                       entfernt wurde. Wenn keine entfernt wurde, wird der
+     *                       Wert <CODE>null</CODE> bergeben.
+     */
+    private void datenAktualisieren(IndexTeilmenge neueTeilmenge,
+                                    IndexTeilmenge wegTeilmenge) {
+        int teilmengenAnz, nichtUeberdecktAnz, prodAnz;
+
+        if (kostenUnabhaengig) {
+            if (wegTeilmenge != null) {
+                tripelEntfernen(wegTeilmenge);
+            }
+            if (neueTeilmenge != null) {
+                tripelAufnehmen(neueTeilmenge);
+            }
+            betroffeneTripelAktualisieren(neueTeilmenge, wegTeilmenge);
+        } else {
+            alleTripelAktualisieren(neueTeilmenge, wegTeilmenge);
+        }
 
         aktuellerNutzen = reductionUtility.familyUtility(ausgewaehlteTeilmengen);
         aktuelleKosten = ausgewaehlteTeilmengen.kostenFamilie();
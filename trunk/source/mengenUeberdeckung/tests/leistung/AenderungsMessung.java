@@ -0,0 +1,83 @@
+/*
+ * Dateiname      : AenderungsMessung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.leistung;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+
+/**
+ * Mit die Laufzeit fr die Aufnahme der Teilmengen einer berdeckung in
+ * eine leere Familie und die anschlieende Entfernung der Teilmengen.
+ *
+ * @author  Dietmar Lippold
+ */
+public class AenderungsMessung extends Messung {
+
+    /**
+     * Die Familie, in die die Teilmengen aufgenommen werden. Sie ist vor
+     * und nach jeder Ausfhrung leer.
+     */
+    private ItmFamilie familie;
+
+    /**
+     * Die aufzunehmenden und zu entfernenden Teilmengen.
+     */
+    private IndexTeilmenge[] teilmengen;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param problem          Das Problem, aus dem die Teilmengen stammen.
+     * @param ueberdeckung     Die Familie, deren Teilmengen aufgenommen und
+     *                         entfernt werden.
+     * @param festeVerwaltung  Gibt an, ob die Familie eine feste Verwaltung
+     *                         der Teilmengen besitzen soll.
+     */
+    public AenderungsMessung(ItmFamilie problem, ItmFamilie ueberdeckung,
+                             boolean festeVerwaltung) {
+        super(festeVerwaltung ? "aenderung-fest" : "aenderung-frei");
+
+        this.familie = problem.neueInstanz(festeVerwaltung);
+        this.teilmengen = ueberdeckung.toArray();
+    }
+
+    /**
+     * Nimmt alle Teilmengen in die Familie auf und entfernt sie wieder.
+     *
+     * @return  Die Kosten der Familie mit allen Teilmengen.
+     */
+    public double ausfuehren() {
+        double kosten;
+
+        for (int i = 0; i < teilmengen.length; i++) {
+            familie.teilmengeHinzufuegen(teilmengen[i]);
+        }
+        kosten = familie.kostenFamilie();
+        for (int i = teilmengen.length - 1; i >= 0; i--) {
+            familie.teilmengeEntfernen(teilmengen[i]);
+        }
+
+        return kosten;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Dateiname      : AlleineUeberdecktMessung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.leistung;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+
+/**
+ * Mit die Laufzeit fr die Ermittlung der Anzahl der Elemente, die von den
+ * Teilmengen einer berdeckung alleine berdeckt werden. Damit dabei keine
+ * zwischengespeicherten Werte verwendet werden, wird vorher jeweils eine
+ * Teilmenge entfernt und wieder aufgenommen.
+ *
+ * @author  Dietmar Lippold
+ */
+public class AlleineUeberdecktMessung extends Messung {
+
+    /**
+     * Die Familie, die die berdeckung enthlt.
+     */
+    private ItmFamilie familie;
+
+    /**
+     * Die Teilmengen der berdeckung.
+     */
+    private IndexTeilmenge[] teilmengen;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param problem          Das Problem, aus dem die Teilmengen stammen.
+     * @param ueberdeckung     Die zu verwendende berdeckung.
+     * @param festeVerwaltung  Gibt an, ob die Familie eine feste Verwaltung
+     *                         der Teilmengen besitzen soll.
+     */
+    public AlleineUeberdecktMessung(ItmFamilie problem,
+                                    ItmFamilie ueberdeckung,
+                                    boolean festeVerwaltung) {
+        super(festeVerwaltung ? "alleine-fest" : "alleine-frei");
+
+        this.familie = problem.neueInstanz(festeVerwaltung);
+        this.teilmengen = ueberdeckung.toArray();
+        for (int i = 0; i < teilmengen.length; i++) {
+            familie.teilmengeHinzufuegen(teilmengen[i]);
+        }
+    }
+
+    /**
+     * Ermittelt fr jede Teilmenge der berdeckung die Anzahl der von ihr
+     * alleine berdeckten Elemente.
+     *
+     * @return  Die Summe der ermittelten Anzahlen.
+     */
+    public double ausfuehren() {
+        long summe;
+
+        summe = 0;
+        for (int i = 0; i < teilmengen.length; i++) {
+            familie.teilmengeEntfernen(teilmengen[i]);
+            familie.teilmengeHinzufuegen(teilmengen[i]);
+            for (int k = 0; k < teilmengen.length; k++) {
+                summe += familie.anzAlleineUeberdeckt(teilmengen[k]);
+            }
+        }
+
+        return summe;
+    }
+}
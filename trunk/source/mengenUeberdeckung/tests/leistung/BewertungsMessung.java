@@ -0,0 +1,142 @@
+/*
+ * Dateiname      : BewertungsMessung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.leistung;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+import mengenUeberdeckung.heuristiken.ratings.CandidateRatings;
+
+/**
+ * Mit die Laufzeit fr die Bewertung von Teilmengen durch ein Verfahren
+ * vom Typ <CODE>CandidateRatings</CODE>. Dazu werden die Teilmengen einer
+ * berdeckung nacheinander in eine partielle berdeckung aufgenommen und
+ * vor jeder Aufnahme werden alle Teilmengen des Problems, die nicht in der
+ * berdeckung enthalten sind, zur Aufnahme bewertet. Zum Schlu werden die
+ * Teilmengen der berdeckung zur Entfernung bewertet.
+ *
+ * @author  Dietmar Lippold
+ */
+public class BewertungsMessung extends Messung {
+
+    /**
+     * Das zu messende Bewertungsverfahren.
+     */
+    private CandidateRatings bewertung;
+
+    /**
+     * Die partielle berdeckung. Sie ist vor und nach jeder Ausfhrung leer.
+     */
+    private ItmFamilie partialCover;
+
+    /**
+     * Die nacheinander aufzunehmenden Teilmengen der berdeckung.
+     */
+    private IndexTeilmenge[] coverTeilmengen;
+
+    /**
+     * Die Liste der Teilmengen der berdeckung.
+     */
+    private List coverListe;
+
+    /**
+     * Die Liste der Teilmengen des Problems, die nicht in der berdeckung
+     * enthalten sind.
+     */
+    private List kandidaten;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param name          Der Name der Messung.
+     * @param bewertung     Das zu messende Bewertungsverfahren.
+     * @param problem       Das Problem, aus dem die Teilmengen stammen.
+     * @param ueberdeckung  Eine berdeckung des Problems.
+     */
+    public BewertungsMessung(String name, CandidateRatings bewertung,
+                             ItmFamilie problem, ItmFamilie ueberdeckung) {
+        super(name);
+        Iterator       iter;
+        IndexTeilmenge teilmenge;
+
+        this.bewertung = bewertung;
+        this.partialCover = problem.neueInstanz(true);
+        this.coverTeilmengen = ueberdeckung.toArray();
+        this.coverListe = new ArrayList(ueberdeckung.toHashSet());
+
+        kandidaten = new ArrayList(problem.groesseFamilie());
+        iter = problem.iterator();
+        while (iter.hasNext()) {
+            teilmenge = (IndexTeilmenge) iter.next();
+            if (!ueberdeckung.enthaelt(teilmenge)) {
+                kandidaten.add(teilmenge);
+            }
+        }
+    }
+
+    /**
+     * Liefert die Summe der endlichen Werte des bergebenen Arrays.
+     *
+     * @param werte  Die zu summierenden Werte.
+     *
+     * @return  Die Summe der endlichen Werte.
+     */
+    private static double summe(float[] werte) {
+        double summe;
+
+        summe = 0;
+        for (int i = 0; i < werte.length; i++) {
+            if (!Float.isInfinite(werte[i]) && !Float.isNaN(werte[i])
+                    && (werte[i] != Float.MAX_VALUE)) {
+                summe += werte[i];
+            }
+        }
+
+        return summe;
+    }
+
+    /**
+     * Fhrt die Bewertungen einmal fr alle Teilmengen der berdeckung aus.
+     *
+     * @return  Die Summe der endlichen Bewertungen.
+     */
+    public double ausfuehren() {
+        double summe;
+
+        summe = 0;
+        for (int i = 0; i < coverTeilmengen.length; i++) {
+            summe += summe(bewertung.wAdd(kandidaten, partialCover));
+            partialCover.teilmengeHinzufuegen(coverTeilmengen[i]);
+        }
+        summe += summe(bewertung.wRmv(coverListe, partialCover));
+        for (int i = coverTeilmengen.length - 1; i >= 0; i--) {
+            partialCover.teilmengeEntfernen(coverTeilmengen[i]);
+        }
+
+        return summe;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Dateiname      : Konstanten.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.leistung;
+
+/**
+ * Enthlt Konstanten fr die Messung der Laufzeiten.
+ *
+ * @author  Dietmar Lippold
+ */
+public final class Konstanten {
+
+    /**
+     * Die Anzahl der Ausfhrungen jeder Messung vor der eigentlichen
+     * Messung, damit die JVM den Code bersetzen kann.
+     */
+    public static final int AUFWAERM_ANZ = 3;
+
+    /**
+     * Die Anzahl der Ausfhrungen jeder Messung, deren Laufzeit gemessen
+     * wird.
+     */
+    public static final int MESS_ANZ = 10;
+
+    /**
+     * Die Initialisierung der Zufallsgeneratoren der Verfahren.
+     */
+    public static final long SEED = 1;
+
+    /**
+     * Die Anzahl der Iterationen bei der Messung von
+     * <CODE>IterEnhancedGreedyHeuristic</CODE>.
+     */
+    public static final int ITERATIONEN = 10;
+
+    /**
+     * Die Anzahl der Elemente des zuflligen multicost-Problems.
+     */
+    public static final int MULTI_ELEMENT_ANZ = 500;
+
+    /**
+     * Die Anzahl der Teilmengen des zuflligen multicost-Problems.
+     */
+    public static final int MULTI_TEILMENGEN_ANZ = 1500;
+
+    /**
+     * Die Anzahl der Elemente des zuflligen unicost-Problems.
+     */
+    public static final int UNI_ELEMENT_ANZ = 300;
+
+    /**
+     * Die Anzahl der Teilmengen des zuflligen unicost-Problems.
+     */
+    public static final int UNI_TEILMENGEN_ANZ = 1000;
+
+    /**
+     * Die minimale Abdeckung der Elemente durch eine Teilmenge der
+     * zuflligen Probleme in Prozent.
+     */
+    public static final float MIN_ABDECKUNG = 2;
+
+    /**
+     * Die maximale Abdeckung der Elemente durch eine Teilmenge der
+     * zuflligen Probleme in Prozent.
+     */
+    public static final float MAX_ABDECKUNG = 8;
+
+    /**
+     * Die maximalen Kosten einer Teilmenge des zuflligen
+     * multicost-Problems.
+     */
+    public static final float MAX_KOSTEN = 5;
+
+    /**
+     * Die Initialisierung des Zufallsgenerators fr das multicost-Problem.
+     */
+    public static final long MULTI_SEED = 7;
+
+    /**
+     * Die Initialisierung des Zufallsgenerators fr das unicost-Problem.
+     */
+    public static final long UNI_SEED = 11;
+}
@@ -0,0 +1,347 @@
+/*
+ * Dateiname      : LeistungsMessung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.leistung;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.greedyCovering.EnhancedGreedyHeuristic;
+import mengenUeberdeckung.heuristiken.ratings.ChvatalRating;
+import mengenUeberdeckung.heuristiken.ratings.FrequencyRating;
+import mengenUeberdeckung.heuristiken.ratings.MarchSteenRating;
+import mengenUeberdeckung.heuristiken.ratings.ProbabilityRatings;
+import mengenUeberdeckung.heuristiken.ratings.ProbabilityRatings2;
+import mengenUeberdeckung.heuristiken.selection.BestRatingSelection;
+import mengenUeberdeckung.iteratedGreedyCovering.IterEnhancedGreedyHeuristic;
+import mengenUeberdeckung.optimierung.AddOneOptimization;
+import mengenUeberdeckung.optimierung.AddTwoOptimization;
+import mengenUeberdeckung.optimierung.InferiorOptimization;
+import mengenUeberdeckung.optimierung.IterRemoveOptimization;
+import mengenUeberdeckung.optimierung.LocalSearchOptimization;
+import mengenUeberdeckung.optimierung.WeightedLocalSearchOptimization;
+import mengenUeberdeckung.optimierung.SequenceOptimization;
+import mengenUeberdeckung.tests.bib.parser.IParser;
+import mengenUeberdeckung.tests.bib.parser.OrParser;
+import mengenUeberdeckung.tests.bib.parser.ParseException;
+import mengenUeberdeckung.tests.bib.parser.RailParser;
+import mengenUeberdeckung.tests.bib.parser.SimpleParser;
+import mengenUeberdeckung.tests.bib.parser.TripleParser;
+import mengenUeberdeckung.tests.bib.parser.XuBenchParser;
+import mengenUeberdeckung.tests.zufall.TestRahmen;
+
+/**
+ * Mit die Laufzeiten der wesentlichen Teile des Verfahrens zur
+ * Mengenberdeckung: die nderung einer Familie, die Ermittlung der alleine
+ * berdeckten Elemente, die Bewertungsverfahren, die Optimierungsverfahren
+ * und das vollstndige Verfahren <CODE>IterEnhancedGreedyHeuristic</CODE>.
+ * Alle Zufallsgeneratoren werden fest initialisiert, so da die Ergebnisse
+ * verschiedener Versionen verglichen werden knnen.<P>
+ *
+ * Fr jede Messung wird eine Zeile mit folgenden, durch Tabulatoren
+ * getrennten Angaben ausgegeben: Name der Messung, Name des Problems,
+ * Median und Minimum der Laufzeit einer Ausfhrung in Mikrosekunden und
+ * die Prfsumme der letzten Ausfhrung.
+ *
+ * @author  Dietmar Lippold
+ */
+public class LeistungsMessung {
+
+    /**
+     * Liefert einen Parser fr den bergebenen Typ von Problemdateien. Die
+     * zulssigen Typen sind die von <CODE>ProblemStatisticOutput</CODE>.
+     *
+     * @param problemTyp  Der Typ der Problemdateien.
+     *
+     * @return  Den Parser oder <CODE>null</CODE>, wenn der Typ unzulssig
+     *          ist.
+     */
+    private static IParser parser(String problemTyp) {
+
+        if (problemTyp.equals("or-bib")) {
+            return new OrParser();
+        } else if (problemTyp.equals("rail-bib")) {
+            return new RailParser();
+        } else if (problemTyp.equals("triple")) {
+            return new TripleParser();
+        } else if (problemTyp.equals("xu-bench")) {
+            return new XuBenchParser();
+        } else if (problemTyp.equals("setOfSets")) {
+            return new SimpleParser();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Erzeugt die Liste der Messungen fr ein Problem.
+     *
+     * @param problem  Das Problem, fr das die Messungen erzeugt werden.
+     *
+     * @return  Eine Liste von Instanzen der Klasse <CODE>Messung</CODE>.
+     */
+    private static List messungen(ItmFamilie problem) {
+        EnhancedGreedyHeuristic     greedy;
+        IterEnhancedGreedyHeuristic iterGreedy;
+        SequenceOptimization        sequenzOpt;
+        ItmFamilie                  ueberdeckung;
+        List                        messungen;
+        boolean                     unicost;
+
+        unicost = problem.teilmengenKostenGleich();
+
+        // Eine berdeckung, die nur notwendige Teilmengen enthlt.
+        greedy = new EnhancedGreedyHeuristic(new BestRatingSelection(new ChvatalRating()),
+                                             new Random(Konstanten.SEED));
+        ueberdeckung = greedy.ueberdeckung(problem);
+
+        messungen = new ArrayList();
+
+        messungen.add(new AenderungsMessung(problem, ueberdeckung, false));
+        messungen.add(new AenderungsMessung(problem, ueberdeckung, true));
+        messungen.add(new AlleineUeberdecktMessung(problem, ueberdeckung, false));
+        messungen.add(new AlleineUeberdecktMessung(problem, ueberdeckung, true));
+
+        messungen.add(new BewertungsMessung("ChvatalRating",
+                                            new ChvatalRating(),
+                                            problem, ueberdeckung));
+        messungen.add(new BewertungsMessung("FrequencyRating",
+                                            new FrequencyRating(false),
+                                            problem, ueberdeckung));
+        messungen.add(new BewertungsMessung("MarchSteenRating-1",
+                                            new MarchSteenRating(1, 1, unicost),
+                                            problem, ueberdeckung));
+        messungen.add(new BewertungsMessung("MarchSteenRating-2",
+                                            new MarchSteenRating(2, 2, unicost),
+                                            problem, ueberdeckung));
+        messungen.add(new BewertungsMessung("ProbabilityRatings",
+                                            new ProbabilityRatings(problem),
+                                            problem, ueberdeckung));
+        messungen.add(new BewertungsMessung("ProbabilityRatings2",
+                                            new ProbabilityRatings2(problem),
+                                            problem, ueberdeckung));
+
+        messungen.add(new OptimierungsMessung("InferiorOptimization",
+                                              new InferiorOptimization(),
+                                              problem, ueberdeckung));
+        messungen.add(new OptimierungsMessung("AddOneOptimization",
+                                              new AddOneOptimization(),
+                                              problem, ueberdeckung));
+        messungen.add(new OptimierungsMessung("AddTwoOptimization",
+                                              new AddTwoOptimization(),
+                                              problem, ueberdeckung));
+        messungen.add(new OptimierungsMessung("IterRemoveOptimization",
+                                              new IterRemoveOptimization(),
+                                              problem, ueberdeckung));
+        messungen.add(new OptimierungsMessung("LocalSearchOptimization",
+                                              new LocalSearchOptimization(new Random(Konstanten.SEED),
+                                                                          false),
+                                              problem, ueberdeckung));
+        messungen.add(new OptimierungsMessung("WeightedLocalSearchOptimization",
+                                              new WeightedLocalSearchOptimization(new Random(Konstanten.SEED)),
+                                              problem, ueberdeckung));
+        sequenzOpt = new SequenceOptimization();
+        sequenzOpt.addOptimization(new InferiorOptimization());
+        sequenzOpt.addOptimization(new AddOneOptimization());
+        sequenzOpt.addOptimization(new AddTwoOptimization());
+        messungen.add(new OptimierungsMessung("SequenceOptimization",
+                                              sequenzOpt, problem,
+                                              ueberdeckung));
+
+        iterGreedy = new IterEnhancedGreedyHeuristic(new Random(Konstanten.SEED),
+                                                     Konstanten.ITERATIONEN);
+        messungen.add(new UeberdeckungsMessung("IterEnhancedGreedyHeuristic",
+                                               iterGreedy, problem));
+
+        return messungen;
+    }
+
+    /**
+     * Fhrt eine Messung aus und gibt das Ergebnis aus.
+     *
+     * @param messung      Die auszufhrende Messung.
+     * @param problemName  Der Name des Problems.
+     * @param aufwaermAnz  Die Anzahl der Ausfhrungen ohne Messung.
+     * @param messAnz      Die Anzahl der gemessenen Ausfhrungen.
+     */
+    private static void messen(Messung messung, String problemName,
+                               int aufwaermAnz, int messAnz) {
+        long[] dauer;
+        double pruefSumme;
+        long   start;
+
+        pruefSumme = 0;
+        for (int i = 0; i < aufwaermAnz; i++) {
+            pruefSumme = messung.ausfuehren();
+        }
+
+        dauer = new long[messAnz];
+        for (int i = 0; i < messAnz; i++) {
+            start = System.nanoTime();
+            pruefSumme = messung.ausfuehren();
+            dauer[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(dauer);
+
+        System.out.println(messung.name() + "\t" + problemName
+                           + "\t" + (dauer[messAnz / 2] / 1000)
+                           + "\t" + (dauer[0] / 1000)
+                           + "\t" + pruefSumme);
+    }
+
+    /**
+     * Fhrt alle Messungen fr ein Problem aus.
+     *
+     * @param problem      Das Problem.
+     * @param problemName  Der Name des Problems.
+     * @param aufwaermAnz  Die Anzahl der Ausfhrungen ohne Messung.
+     * @param messAnz      Die Anzahl der gemessenen Ausfhrungen.
+     */
+    private static void problemMessen(ItmFamilie problem, String problemName,
+                                      int aufwaermAnz, int messAnz) {
+        Iterator iter;
+
+        iter = messungen(problem).iterator();
+        while (iter.hasNext()) {
+            messen((Messung) iter.next(), problemName, aufwaermAnz, messAnz);
+        }
+    }
+
+    /**
+     * Fhrt die Messungen aus.<P>
+     *
+     * Die Parameter sind optional. Als erste zwei Parameter knnen die
+     * Anzahl der Ausfhrungen ohne Messung und die Anzahl der gemessenen
+     * Ausfhrungen angegeben werden. Als weitere zwei Parameter knnen
+     * der Name eines Verzeichnisses mit Problemdateien und deren Typ
+     * angegeben werden (wie bei <CODE>ProblemStatisticOutput</CODE>, z.B.
+     * <CODE>or-bib</CODE> oder <CODE>rail-bib</CODE>). Ohne die Angabe
+     * eines Verzeichnisses werden ein zuflliges multicost-Problem und ein
+     * zuflliges unicost-Problem mit fester Initialisierung verwendet.
+     *
+     * @param args  Ein Array der Befehlszeilenparameter.
+     */
+    public static void main(String[] args) {
+        FileInputStream stream;
+        File[]          problems;
+        IParser         parser;
+        ItmFamilie      problem;
+        int             aufwaermAnz;
+        int             messAnz;
+
+        if ((args.length != 0) && (args.length != 2) && (args.length != 4)) {
+            System.err.println("Aufruf: LeistungsMessung [aufwaermAnz messAnz"
+                               + " [verzeichnis typ]]");
+            System.exit(-1);
+        }
+
+        aufwaermAnz = Konstanten.AUFWAERM_ANZ;
+        messAnz = Konstanten.MESS_ANZ;
+        if (args.length >= 2) {
+            aufwaermAnz = Integer.parseInt(args[0]);
+            messAnz = Integer.parseInt(args[1]);
+        }
+        if ((aufwaermAnz < 0) || (messAnz <= 0)) {
+            System.err.println("Unzulssige Anzahl von Ausfhrungen.");
+            System.exit(-1);
+        }
+
+        System.out.println("Messung\tProblem\tMedian[us]\tMinimum[us]"
+                           + "\tPruefsumme");
+
+        if (args.length < 4) {
+            problem = TestRahmen.aufbau(Konstanten.MULTI_ELEMENT_ANZ,
+                                        Konstanten.MULTI_TEILMENGEN_ANZ,
+                                        Konstanten.MIN_ABDECKUNG,
+                                        Konstanten.MAX_ABDECKUNG,
+                                        1, Konstanten.MAX_KOSTEN,
+                                        Konstanten.MULTI_SEED);
+            problemMessen(problem, "zufall-multicost", aufwaermAnz, messAnz);
+
+            problem = TestRahmen.aufbau(Konstanten.UNI_ELEMENT_ANZ,
+                                        Konstanten.UNI_TEILMENGEN_ANZ,
+                                        Konstanten.MIN_ABDECKUNG,
+                                        Konstanten.MAX_ABDECKUNG,
+                                        1, 1, Konstanten.UNI_SEED);
+            problemMessen(problem, "zufall-unicost", aufwaermAnz, messAnz);
+            return;
+        }
+
+        parser = parser(args[3]);
+        if (parser == null) {
+            System.err.println("Keine zulssige Typangabe fr die"
+                               + " Problemdateien");
+            System.exit(-1);
+        }
+
+        problems = (new File(args[2])).listFiles();
+        if (problems == null) {
+            System.err.println("Verzeichnis kann nicht gelesen werden.");
+            System.exit(-1);
+        }
+        Arrays.sort(problems);
+
+        for (int i = 0; i < problems.length; i++) {
+            stream = null;
+            try {
+                stream = new FileInputStream(problems[i]);
+                problem = parser.doParse(stream);
+                stream.close();
+                stream = null;
+                problemMessen(problem, problems[i].getName(), aufwaermAnz,
+                              messAnz);
+
+            } catch (FileNotFoundException e) {
+                e.printStackTrace();
+                System.exit(-1);
+
+            } catch (ParseException e) {
+                System.err.println("Fehler beim Parsen eines Problems.");
+                e.printStackTrace();
+                System.exit(-1);
+
+            } catch (IOException e) {
+                e.printStackTrace();
+                System.exit(-1);
+
+            } finally {
+                // Die Datei auch bei einem Fehler schlieen.
+                if (stream != null) {
+                    try {
+                        stream.close();
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Dateiname      : Messung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.leistung;
+
+/**
+ * Oberklasse fr eine einzelne Messung der Laufzeit eines Teils des
+ * Verfahrens zur Mengenberdeckung. Eine Messung wird mehrfach ausgefhrt
+ * und jede Ausfhrung liefert eine Prfsumme. Die Prfsumme verhindert, da
+ * die Berechnung wegoptimiert wird, und ermglicht einen Vergleich der
+ * Ergebnisse zwischen verschiedenen Versionen.
+ *
+ * @author  Dietmar Lippold
+ */
+public abstract class Messung {
+
+    /**
+     * Der Name der Messung.
+     */
+    private String name;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param name  Der Name der Messung.
+     */
+    public Messung(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Liefert den Name der Messung.
+     *
+     * @return  Den Name der Messung.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Fhrt die zu messende Berechnung einmal aus.
+     *
+     * @return  Eine Prfsumme der Berechnung.
+     */
+    public abstract double ausfuehren();
+}
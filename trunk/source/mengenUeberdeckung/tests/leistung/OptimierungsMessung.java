@@ -0,0 +1,104 @@
+/*
+ * Dateiname      : OptimierungsMessung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.leistung;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.heuristiken.creation.CandidatesCreation;
+import mengenUeberdeckung.heuristiken.creation.MostCandidatesCreation;
+import mengenUeberdeckung.heuristiken.ratings.ChvatalRating;
+import mengenUeberdeckung.heuristiken.selection.BestRatingSelection;
+import mengenUeberdeckung.heuristiken.selection.CandidateSelection;
+import mengenUeberdeckung.optimierung.Optimization;
+
+/**
+ * Mit die Laufzeit fr die Optimierung einer berdeckung durch ein
+ * Verfahren vom Typ <CODE>Optimization</CODE>. Bei jeder Ausfhrung wird
+ * eine Kopie derselben berdeckung optimiert.
+ *
+ * @author  Dietmar Lippold
+ */
+public class OptimierungsMessung extends Messung {
+
+    /**
+     * Das zu messende Optimierungsverfahren.
+     */
+    private Optimization optimierung;
+
+    /**
+     * Das Problem, dessen berdeckung optimiert wird.
+     */
+    private ItmFamilie problem;
+
+    /**
+     * Die zu optimierende berdeckung.
+     */
+    private ItmFamilie ueberdeckung;
+
+    /**
+     * Das Verfahren zur Erzeugung der Kandidaten.
+     */
+    private CandidatesCreation candidatesCreation;
+
+    /**
+     * Das Verfahren zur Auswahl der Kandidaten.
+     */
+    private CandidateSelection candidateSelection;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param name          Der Name der Messung.
+     * @param optimierung   Das zu messende Optimierungsverfahren.
+     * @param problem       Das Problem, dessen berdeckung optimiert wird.
+     * @param ueberdeckung  Die zu optimierende berdeckung. Diese darf nur
+     *                      notwendige Teilmengen enthalten.
+     */
+    public OptimierungsMessung(String name, Optimization optimierung,
+                               ItmFamilie problem, ItmFamilie ueberdeckung) {
+        super(name);
+
+        this.optimierung = optimierung;
+        this.problem = problem;
+        this.ueberdeckung = problem.neueInstanz(true);
+        this.ueberdeckung.teilmengenHinzufuegen(ueberdeckung.toHashSet());
+        this.candidatesCreation = new MostCandidatesCreation();
+        this.candidateSelection = new BestRatingSelection(new ChvatalRating());
+    }
+
+    /**
+     * Optimiert eine Kopie der berdeckung.
+     *
+     * @return  Die Kosten der optimierten berdeckung.
+     */
+    public double ausfuehren() {
+        ItmFamilie optimiert;
+
+        optimiert = optimierung.optimize(problem,
+                                         (ItmFamilie) ueberdeckung.clone(),
+                                         null, candidatesCreation,
+                                         candidateSelection);
+
+        return optimiert.kostenFamilie();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Dateiname      : UeberdeckungsMessung.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.leistung;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
+
+/**
+ * Mit die Laufzeit fr die Ermittlung einer vollstndigen berdeckung
+ * durch ein Verfahren vom Typ <CODE>UeberdeckungsOptimierung</CODE>.
+ *
+ * @author  Dietmar Lippold
+ */
+public class UeberdeckungsMessung extends Messung {
+
+    /**
+     * Das zu messende berdeckungsverfahren.
+     */
+    private UeberdeckungsOptimierung verfahren;
+
+    /**
+     * Das zu berdeckende Problem.
+     */
+    private ItmFamilie problem;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param name       Der Name der Messung.
+     * @param verfahren  Das zu messende berdeckungsverfahren.
+     * @param problem    Das zu berdeckende Problem.
+     */
+    public UeberdeckungsMessung(String name,
+                                UeberdeckungsOptimierung verfahren,
+                                ItmFamilie problem) {
+        super(name);
+
+        this.verfahren = verfahren;
+        this.problem = problem;
+    }
+
+    /**
+     * Ermittelt eine berdeckung des Problems.
+     *
+     * @return  Die Kosten der berdeckung.
+     */
+    public double ausfuehren() {
+        return verfahren.ueberdeckung(problem).kostenFamilie();
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Dateiname      : DominanzReduktionTest.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.zufall;
+
+import java.util.Random;
+import java.util.HashSet;
+import java.util.Iterator;
+
+import mengenUeberdeckung.allgemein.IndexTeilmenge;
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
+import mengenUeberdeckung.reduktion.DominanzReduktion;
+
+/**
+ * Prft die <CODE>DominanzReduktion</CODE> an zufllig erzeugten kleinen
+ * Problemen. Fr jedes berdeckbare Problem wird eine optimale berdeckung
+ * einmal direkt und einmal nach der Reduktion des Problems erzeugt. Die
+ * zweite berdeckung mu gltig sein und dieselben Kosten wie die erste
+ * haben.
+ *
+ * @author  Dietmar Lippold
+ */
+public class DominanzReduktionTest {
+
+    /**
+     * Die Anzahl der erzeugten Probleme, wenn kein Parameter angegeben wird.
+     */
+    private static final int STD_PROBLEM_ANZ = 400;
+
+    /**
+     * Erzeugt eine optimale berdeckung durch die Prfung aller Teilfamilien.
+     * Die Klasse ist daher nur fr Probleme mit wenigen Teilmengen geeignet.
+     */
+    static class Exakt implements UeberdeckungsOptimierung {
+
+        /**
+         * Liefert eine optimale berdeckung der bergebenen Familie. Die
+         * bergebene bekannte berdeckung wird nicht verwendet.
+         *
+         * @param familie               Die Familie, zu der eine berdeckung
+         *                              erzeugt werden soll.
+         * @param bekannteUeberdeckung  Eine bekannte berdeckung. Sie wird
+         *                              nicht verwendet.
+         *
+         * @return  Eine optimale berdeckung oder <CODE>null</CODE>, wenn
+         *          keine berdeckung existiert.
+         */
+        public ItmFamilie ueberdeckung(ItmFamilie familie,
+                                       ItmFamilie bekannteUeberdeckung) {
+            IndexTeilmenge[] teilmengen;
+            ItmFamilie       besteUeberdeckung, teilfamilie;
+            int              maske, index;
+
+            teilmengen = familie.toArray();
+            besteUeberdeckung = null;
+            for (maske = 0; maske < (1 << teilmengen.length); maske++) {
+                teilfamilie = new ItmFamilie(familie.groesseGesamtmenge());
+                for (index = 0; index < teilmengen.length; index++) {
+                    if ((maske & (1 << index)) != 0) {
+                        teilfamilie.teilmengeHinzufuegen(teilmengen[index]);
+                    }
+                }
+                if ((teilfamilie.anzNichtUeberdeckt() == 0)
+                    && ((besteUeberdeckung == null)
+                        || (teilfamilie.kostenFamilie()
+                            < besteUeberdeckung.kostenFamilie()))) {
+                    besteUeberdeckung = teilfamilie;
+                }
+            }
+
+            return besteUeberdeckung;
+        }
+
+        /**
+         * Liefert eine optimale berdeckung der bergebenen Familie.
+         *
+         * @param familie  Die Familie, zu der eine berdeckung erzeugt werden
+         *                 soll.
+         *
+         * @return  Eine optimale berdeckung oder <CODE>null</CODE>, wenn
+         *          keine berdeckung existiert.
+         */
+        public ItmFamilie ueberdeckung(ItmFamilie familie) {
+            return ueberdeckung(familie, null);
+        }
+
+        /**
+         * Liefert eine leere Statistik.
+         *
+         * @return  Einen leeren String.
+         */
+        public String statistik() {
+            return "";
+        }
+    }
+
+    /**
+     * Erzeugt ein zuflliges Problem.
+     *
+     * @param random     Der zu verwendende Zufallsgenerator.
+     * @param elemAnz    Die Gre der Gesamtmenge.
+     * @param tmAnz      Die Anzahl der zu erzeugenden Teilmengen.
+     * @param dichte     Die Wahrscheinlichkeit, mit der ein Element in eine
+     *                   Teilmenge aufgenommen wird.
+     * @param maxKosten  Die maximalen ganzzahligen Kosten einer Teilmenge.
+     *
+     * @return  Die erzeugte Familie. Sie mu nicht berdeckbar sein.
+     */
+    static ItmFamilie problem(Random random, int elemAnz, int tmAnz,
+                              float dichte, int maxKosten) {
+        ItmFamilie     problem;
+        IndexTeilmenge teilmenge;
+        int            tmNr, element;
+
+        problem = new ItmFamilie(elemAnz);
+        for (tmNr = 0; tmNr < tmAnz; tmNr++) {
+            teilmenge = new IndexTeilmenge(elemAnz, 1 + random.nextInt(maxKosten));
+            for (element = 0; element < elemAnz; element++) {
+                if (random.nextFloat() < dichte) {
+                    teilmenge.indexAufnehmen(element);
+                }
+            }
+            if (teilmenge.groesseTeilmenge() == 0) {
+                teilmenge.indexAufnehmen(random.nextInt(elemAnz));
+            }
+            problem.teilmengeHinzufuegen(teilmenge);
+        }
+
+        return problem;
+    }
+
+    /**
+     * Ermittelt, ob eine berdeckung zu einem Problem gltig ist, d.h. ob sie
+     * alle Elemente berdeckt und nur Teilmengen des Problems enthlt.
+     *
+     * @param problem       Die Familie des Problems.
+     * @param ueberdeckung  Die zu prfende berdeckung.
+     *
+     * @return  <CODE>true</CODE>, wenn die berdeckung gltig ist, sonst
+     *          <CODE>false</CODE>.
+     */
+    static boolean gueltig(ItmFamilie problem, ItmFamilie ueberdeckung) {
+        HashSet  problemTeilmengen;
+        Iterator iter;
+
+        if ((ueberdeckung == null) || (ueberdeckung.anzNichtUeberdeckt() != 0)) {
+            return false;
+        }
+
+        problemTeilmengen = problem.toHashSet();
+        iter = ueberdeckung.iterator();
+        while (iter.hasNext()) {
+            if (!problemTeilmengen.contains(iter.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Erzeugt die Probleme, vergleicht fr jedes berdeckbare Problem die
+     * berdeckungen mit und ohne Reduktion und gibt die Anzahl der geprften
+     * Probleme und der Fehler aus.
+     *
+     * @param args  Optional die Anzahl der zu erzeugenden Probleme.
+     */
+    public static void main(String[] args) {
+        Random     random;
+        ItmFamilie problem, ohneReduktion, mitReduktion;
+        int        problemAnz, problemNr, faelle, fehler;
+
+        if (args.length > 0) {
+            problemAnz = Integer.parseInt(args[0]);
+        } else {
+            problemAnz = STD_PROBLEM_ANZ;
+        }
+
+        faelle = 0;
+        fehler = 0;
+        for (problemNr = 0; problemNr < problemAnz; problemNr++) {
+            random = new Random(problemNr);
+            problem = problem(random, 4 + random.nextInt(12),
+                              3 + random.nextInt(12),
+                              0.1f + random.nextFloat() * 0.4f,
+                              1 + random.nextInt(4));
+            if (problem.anzNichtUeberdeckt() > 0) {
+                continue;
+            }
+
+            faelle++;
+            ohneReduktion = new Exakt().ueberdeckung(problem);
+            mitReduktion = new DominanzReduktion(new Exakt()).ueberdeckung(problem);
+            if (!gueltig(problem, mitReduktion)
+                || (ohneReduktion.kostenFamilie() != mitReduktion.kostenFamilie())) {
+                fehler++;
+                System.out.println("Fehler bei Problem " + problemNr
+                                   + ": Kosten ohne Reduktion = "
+                                   + ohneReduktion.kostenFamilie()
+                                   + ", mit Reduktion = "
+                                   + (mitReduktion == null ? "-"
+                                      : String.valueOf(mitReduktion.kostenFamilie())));
+            }
+        }
+
+        System.out.println("Geprfte Probleme: " + faelle);
+        System.out.println("Fehler           : " + fehler);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Dateiname      : LazyGreedyUeberdeck.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.zufall;
+
+import java.io.IOException;
+
+import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
+import mengenUeberdeckung.greedyCovering.LazyGreedyHeuristic;
+
+/**
+ * Implementiert einen Test fr das Greedy-Verfahren mit verzgerter
+ * Bewertung.
+ *
+ * @author  Dietmar Lippold
+ */
+public class LazyGreedyUeberdeck {
+
+    /**
+     * Fhrt den Test aus.
+     *
+     * @param args  Ein Array der Befehlszeilenparameter. Dieses kann einige
+     *              der einzulesenden Parameter enthalten oder leer sein.
+     *
+     * @exception IOException  Exception bei einem Ein-/Ausgabefehler.
+     */
+    public static void main(String[] args) throws IOException {
+        UeberdeckungsOptimierung ueberdeckVerfahren;
+        String                   verfahrensName;
+
+        verfahrensName = "LazyGreedyHeuristic";
+        ueberdeckVerfahren = new LazyGreedyHeuristic();
+
+        ZufaelligeUeberdeckung.ausfuehrung(args, verfahrensName,
+                                           ueberdeckVerfahren);
+    }
+}
+
@@ -0,0 +1,260 @@
+/*
+ * Dateiname      : PortfolioUeberdeckungTest.java
+ * Letzte nderung: 18. Oktober 2026
+ * Autoren        : Dietmar Lippold
+ * Copyright (C)  : Dietmar Lippold, 2026
+ *
+ * This file is part of Lascer (http://lascer.berlios.de/).
+ *
+ * Lascer is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Lascer is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Lascer; if not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package mengenUeberdeckung.tests.zufall;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+
+import mengenUeberdeckung.allgemein.ItmFamilie;
+import mengenUeberdeckung.allgemein.UeberdeckungsOptimierung;
+import mengenUeberdeckung.greedyCovering.LazyGreedyHeuristic;
+import mengenUeberdeckung.iteratedGreedyCovering.IterEnhancedGreedyHeuristic;
+import mengenUeberdeckung.konvertierung.Konstanten;
+import mengenUeberdeckung.konvertierung.PortfolioUeberdeckung;
+
+/**
+ * Prft die <CODE>PortfolioUeberdeckung</CODE> mit einer maximalen Dauer.
+ * Das Portfolio enthlt ein Verfahren, das den Status der Unterbrechung
+ * seines Threads nicht prft und lnger als die maximale Dauer luft. Bei
+ * mehreren aufeinander folgenden Aufrufen darf dieses Verfahren nie
+ * gleichzeitig in mehreren Threads ausgefhrt werden. Auerdem mu jeder
+ * Aufruf nach der maximalen Dauer und der Wartezeit auf die unterbrochenen
+ * Verfahren eine gltige berdeckung liefern.
+ *
+ * @author  Dietmar Lippold
+ */
+public class PortfolioUeberdeckungTest {
+
+    /**
+     * Die maximale Dauer eines Aufrufs des Portfolios in Millisekunden.
+     */
+    private static final long MAX_DAUER = 100;
+
+    /**
+     * Die Dauer in Millisekunden, die das nicht unterbrechbare Verfahren
+     * mindestens luft.
+     */
+    private static final long LANGSAM_DAUER = 700;
+
+    /**
+     * Die Dauer in Millisekunden, um die ein Aufruf des Portfolios lnger
+     * dauern darf als die maximale Dauer und die Wartezeit zusammen.
+     */
+    private static final long TOLERANZ = 500;
+
+    /**
+     * Die Anzahl der aufeinander folgenden Aufrufe des Portfolios.
+     */
+    private static final int AUFRUF_ANZ = 8;
+
+    /**
+     * Ein Verfahren, das den Status der Unterbrechung seines Threads nicht
+     * prft. Es wartet eine vorgegebene Dauer und erzeugt danach eine
+     * berdeckung mit einem Greedy-Verfahren. Dabei wird die grte Anzahl
+     * der gleichzeitigen Ausfhrungen ermittelt.
+     */
+    static class Langsam implements UeberdeckungsOptimierung {
+
+        /**
+         * Das Verfahren, das die berdeckung erzeugt.
+         */
+        private UeberdeckungsOptimierung verfahren = new LazyGreedyHeuristic();
+
+        /**
+         * Die Anzahl der laufenden Ausfhrungen.
+         */
+        private int laufendAnz = 0;
+
+        /**
+         * Die grte Anzahl der gleichzeitig laufenden Ausfhrungen.
+         */
+        private int maxLaufendAnz = 0;
+
+        /**
+         * Vermerkt den Beginn oder das Ende einer Ausfhrung.
+         *
+         * @param aenderung  Der Wert 1 beim Beginn und der Wert -1 beim Ende
+         *                   einer Ausfhrung.
+         */
+        private synchronized void laufendAendern(int aenderung) {
+            laufendAnz += aenderung;
+            maxLaufendAnz = Math.max(maxLaufendAnz, laufendAnz);
+        }
+
+        /**
+         * Liefert die grte Anzahl der gleichzeitig laufenden Ausfhrungen.
+         *
+         * @return  Die grte Anzahl der gleichzeitig laufenden Ausfhrungen.
+         */
+        public synchronized int maxLaufendAnz() {
+            return maxLaufendAnz;
+        }
+
+        /**
+         * Wartet ohne Beachtung einer Unterbrechung und liefert dann eine
+         * berdeckung des Greedy-Verfahrens.
+         *
+         * @param familie               Die Familie, zu der eine berdeckung
+         *                              erzeugt werden soll.
+         * @param bekannteUeberdeckung  Eine bekannte berdeckung. Sie wird
+         *                              nicht verwendet.
+         *
+         * @return  Die erzeugte berdeckung.
+         */
+        public ItmFamilie ueberdeckung(ItmFamilie familie,
+                                       ItmFamilie bekannteUeberdeckung) {
+            ItmFamilie ueberdeckung;
+            long       endZeit;
+            boolean    unterbrochen;
+
+            laufendAendern(1);
+            try {
+                unterbrochen = false;
+                endZeit = System.currentTimeMillis() + LANGSAM_DAUER;
+                while (System.currentTimeMillis() < endZeit) {
+                    try {
+                        Thread.sleep(Math.max(endZeit - System.currentTimeMillis(), 1));
+                    } catch (InterruptedException e) {
+                        unterbrochen = true;
+                    }
+                }
+                ueberdeckung = verfahren.ueberdeckung(familie);
+                if (unterbrochen) {
+                    Thread.currentThread().interrupt();
+                }
+            } finally {
+                laufendAendern(-1);
+            }
+
+            return ueberdeckung;
+        }
+
+        /**
+         * Liefert eine berdeckung des Greedy-Verfahrens.
+         *
+         * @param familie  Die Familie, zu der eine berdeckung erzeugt werden
+         *                 soll.
+         *
+         * @return  Die erzeugte berdeckung.
+         */
+        public ItmFamilie ueberdeckung(ItmFamilie familie) {
+            return ueberdeckung(familie, null);
+        }
+
+        /**
+         * Liefert eine leere Statistik.
+         *
+         * @return  Einen leeren String.
+         */
+        public String statistik() {
+            return "";
+        }
+    }
+
+    /**
+     * Ermittelt, ob eine berdeckung zu einem Problem gltig ist, d.h. ob sie
+     * alle Elemente berdeckt und nur Teilmengen des Problems enthlt.
+     *
+     * @param problem       Die Familie des Problems.
+     * @param ueberdeckung  Die zu prfende berdeckung.
+     *
+     * @return  <CODE>true</CODE>, wenn die berdeckung gltig ist, sonst
+     *          <CODE>false</CODE>.
+     */
+    static boolean gueltig(ItmFamilie problem, ItmFamilie ueberdeckung) {
+        HashSet  problemTeilmengen;
+        Iterator iter;
+
+        if ((ueberdeckung == null) || (ueberdeckung.anzNichtUeberdeckt() != 0)) {
+            return false;
+        }
+
+        problemTeilmengen = problem.toHashSet();
+        iter = ueberdeckung.iterator();
+        while (iter.hasNext()) {
+            if (!problemTeilmengen.contains(iter.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Ruft das Portfolio mehrfach mit zuflligen Problemen auf und gibt die
+     * Anzahl der Fehler aus.
+     *
+     * @param args  Die Befehlszeilenparameter. Sie werden nicht verwendet.
+     */
+    public static void main(String[] args) {
+        PortfolioUeberdeckung portfolio;
+        ArrayList             verfahrenListe;
+        Langsam               langsam;
+        ItmFamilie            problem, ueberdeckung;
+        long                  startZeit, dauer, maxAufrufDauer;
+        int                   aufrufNr, fehler;
+
+        langsam = new Langsam();
+        verfahrenListe = new ArrayList();
+        verfahrenListe.add(langsam);
+        verfahrenListe.add(new IterEnhancedGreedyHeuristic(new Random(1), 5));
+        portfolio = new PortfolioUeberdeckung(verfahrenListe, MAX_DAUER, 2);
+
+        maxAufrufDauer = MAX_DAUER + Konstanten.PORTFOLIO_NACHLAUF_DAUER + TOLERANZ;
+        fehler = 0;
+        for (aufrufNr = 0; aufrufNr < AUFRUF_ANZ; aufrufNr++) {
+            problem = TestRahmen.aufbau(100, 300, 5, 15, 1, 10, aufrufNr + 1);
+            if (problem.anzNichtUeberdeckt() > 0) {
+                System.out.println("Problem " + aufrufNr + " ist nicht berdeckbar.");
+                continue;
+            }
+
+            startZeit = System.currentTimeMillis();
+            ueberdeckung = portfolio.ueberdeckung(problem);
+            dauer = System.currentTimeMillis() - startZeit;
+
+            if (!gueltig(problem, ueberdeckung)) {
+                fehler++;
+                System.out.println("Fehler bei Aufruf " + aufrufNr
+                                   + ": keine gltige berdeckung");
+            }
+            if (dauer > maxAufrufDauer) {
+                fehler++;
+                System.out.println("Fehler bei Aufruf " + aufrufNr
+                                   + ": Dauer " + dauer + " ms");
+            }
+        }
+
+        if (langsam.maxLaufendAnz() > 1) {
+            fehler++;
+            System.out.println("Fehler: Das langsame Verfahren lief "
+                               + langsam.maxLaufendAnz() + "-mal gleichzeitig.");
+        }
+
+        System.out.println(portfolio.statistik());
+        System.out.println("Fehler: " + fehler);
+    }
+}